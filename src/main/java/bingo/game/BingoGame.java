@@ -1,5 +1,18 @@
 package bingo.game;
 
+import bingo.game.events.BingoGameEvent;
+import bingo.game.events.BingoGameEventListener;
+import bingo.game.events.impl.AddShipUsedEvent;
+import bingo.game.events.impl.ConfirmResultEvent;
+import bingo.game.events.impl.EndChallengeEvent;
+import bingo.game.events.impl.PerformResetEvent;
+import bingo.game.events.impl.RemoveShipRestrictionEvent;
+import bingo.game.events.impl.RemoveShipUsedEvent;
+import bingo.game.events.impl.SetRetryingIsAllowedEvent;
+import bingo.game.events.impl.SetShipRestrictionEvent;
+import bingo.game.events.impl.SubmitBingoResultEvent;
+import bingo.game.events.impl.SubmitResultsOfAllPlayersEvent;
+import bingo.game.events.impl.SubmitSharedDivisionAchievementsEvent;
 import bingo.game.input.UserInputException;
 import bingo.game.math.terms.Term;
 import bingo.game.math.terms.impl.Addition;
@@ -17,34 +30,73 @@ import bingo.game.results.BingoResultBars;
 import bingo.game.results.division.SharedDivisionAchievements;
 import bingo.game.ships.MainArmamentType;
 import bingo.game.ships.Ship;
+import bingo.game.ships.ShipRegistry;
 import bingo.game.tokens.TokenCounter;
 import bingo.game.utility.BingoGameDependencyInjector;
-
+import bingo.game.utility.ChatMessageSink;
+import bingo.game.utility.CompactDataInput;
+import bingo.game.utility.CompactDataOutput;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serial;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 public class BingoGame implements Serializable {
     @Serial
     private static final long serialVersionUID = -6697185137194220209L;
-    private static final int START_LEVEL = 1;
-    private static final int MAX_LEVEL = 7;
+    public static final int START_LEVEL = 1;
+    public static final int MAX_LEVEL = 7;
+    public static final int SUBS_PER_EXTRA_LIFE = 6;
     private static final String SENTENCE_END = ". ";
     private static final String WHITESPACE = " ";
-
-    private final List<Ship> shipsUsed;
-    private final List<Player> players;
-    private final List<ChallengeModifier> challengeModifiers;
-    private final Map<Player, ShipRestriction> shipRestrictionByPlayer;
-    private final Map<Player, BingoResult> bingoResultByPlayer;
-    private final BingoGameStateMachine bingoGameStateMachine;
-    private final BingoResultBars bingoResultBars;
-    private final TokenCounter tokenCounter;
+    private static final String SHIPS_USED_FIELD = "shipsUsed";
+    private static final String PLAYERS_FIELD = "players";
+    private static final String CHALLENGE_MODIFIERS_FIELD = "challengeModifiers";
+    private static final String SHIP_RESTRICTION_BY_PLAYER_FIELD = "shipRestrictionByPlayer";
+    private static final String BINGO_RESULT_BY_PLAYER_FIELD = "bingoResultByPlayer";
+    private static final String BINGO_GAME_STATE_MACHINE_FIELD = "bingoGameStateMachine";
+    private static final String BINGO_RESULT_BARS_FIELD = "bingoResultBars";
+    private static final String TOKEN_COUNTER_FIELD = "tokenCounter";
+    private static final String SHARED_DIVISION_ACHIEVEMENTS_FIELD = "sharedDivisionAchievements";
+    private static final String RETRYING_IS_ALLOWED_FIELD = "retryingIsAllowed";
+    private static final String CURRENT_LEVEL_FIELD = "currentLevel";
+    @Serial
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField(SHIPS_USED_FIELD, List.class),
+            new ObjectStreamField(PLAYERS_FIELD, List.class),
+            new ObjectStreamField(CHALLENGE_MODIFIERS_FIELD, List.class),
+            new ObjectStreamField(SHIP_RESTRICTION_BY_PLAYER_FIELD, Map.class),
+            new ObjectStreamField(BINGO_RESULT_BY_PLAYER_FIELD, Map.class),
+            new ObjectStreamField(BINGO_GAME_STATE_MACHINE_FIELD, BingoGameStateMachine.class),
+            new ObjectStreamField(BINGO_RESULT_BARS_FIELD, BingoResultBars.class),
+            new ObjectStreamField(TOKEN_COUNTER_FIELD, TokenCounter.class),
+            new ObjectStreamField(SHARED_DIVISION_ACHIEVEMENTS_FIELD, SharedDivisionAchievements.class),
+            new ObjectStreamField(RETRYING_IS_ALLOWED_FIELD, boolean.class),
+            new ObjectStreamField(CURRENT_LEVEL_FIELD, int.class)};
+
+    private transient ShipRegistry shipRegistry;
+    private transient List<BingoGameEventListener> eventListeners;
+    private transient volatile BingoGameSnapshot snapshot;
+    private List<Player> players;
+    private List<ChallengeModifier> challengeModifiers;
+    private Map<Player, ShipRestriction> shipRestrictionByPlayer;
+    private Map<Player, BingoResult> bingoResultByPlayer;
+    private BingoGameStateMachine bingoGameStateMachine;
+    private BingoResultBars bingoResultBars;
+    private TokenCounter tokenCounter;
     private SharedDivisionAchievements sharedDivisionAchievements;
     private boolean retryingIsAllowed;
     private int currentLevel;
@@ -55,7 +107,8 @@ public class BingoGame implements Serializable {
         if (players.isEmpty() || players.size() > 3) {
             throw exceptionWithMessage("The number of players must be between 1 and 3");
         }
-        this.shipsUsed = new LinkedList<>();
+        this.shipRegistry = new ShipRegistry();
+        this.eventListeners = new CopyOnWriteArrayList<>();
         this.players = new LinkedList<>(players);
         this.challengeModifiers = filterDisallowedModifiers(challengeModifiers, players.size());
         this.shipRestrictionByPlayer = new HashMap<>();
@@ -65,17 +118,20 @@ public class BingoGame implements Serializable {
                         shipRestrictionsAreEnabled(),
                         endingVoluntarilyIsAllowed());
         this.bingoResultBars =
-                bingoGameDependencyInjector.createBingoResultBars(getPointRequirementModifier(), MAX_LEVEL);
+                bingoGameDependencyInjector.createBingoResultBars(
+                        getPointRequirementModifier(players.size(), this.challengeModifiers),
+                        MAX_LEVEL);
         this.tokenCounter = bingoGameDependencyInjector.createTokenCounter(extraLivesAreEnabled());
         this.retryingIsAllowed = false;
         this.currentLevel = START_LEVEL;
+        this.snapshot = createSnapshot(List.copyOf(this.players), this.challengeModifiers, List.of());
     }
 
     public BingoGame(List<Player> players, List<ChallengeModifier> challengeModifiers) throws UserInputException {
         this(players, challengeModifiers, new BingoGameDependencyInjector());
     }
 
-    private List<ChallengeModifier> filterDisallowedModifiers(
+    public static List<ChallengeModifier> filterDisallowedModifiers(
             List<ChallengeModifier> challengeModifiers, int numberOfPlayers) {
         return challengeModifiers.stream()
                 .filter(challengeModifier -> challengeModifier.allowsNumberOfPlayers(numberOfPlayers))
@@ -86,15 +142,77 @@ public class BingoGame implements Serializable {
         return bingoGameStateMachine.actionIsAllowed(action);
     }
 
+    public Set<BingoGameAction> getAllowedActions() {
+        return bingoGameStateMachine.getAllowedActions();
+    }
+
+    BingoGameState getCurrentState() {
+        return bingoGameStateMachine.getCurrentState();
+    }
+
     private void ensureActionIsAllowed(BingoGameAction action) throws UserInputException {
         bingoGameStateMachine.ensureActionIsAllowed(action);
     }
 
+    /**
+     * Adds a listener which is notified after each successful change to this game. Listeners are notified in the order
+     * in which they were added.
+     */
+    public void addEventListener(BingoGameEventListener eventListener) {
+        eventListeners.add(eventListener);
+    }
+
+    public void removeEventListener(BingoGameEventListener eventListener) {
+        eventListeners.remove(eventListener);
+    }
+
+    /**
+     * Returns the snapshot which was published after the latest change to this game, so it is safe to call this method
+     * on any thread.
+     */
+    public BingoGameSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    private void publishEvent(BingoGameEvent event) {
+        publishSnapshot(event);
+        eventListeners.forEach(eventListener -> eventListener.eventOccurred(event));
+    }
+
+    private void publishSnapshot(BingoGameEvent event) {
+        BingoGameSnapshot previousSnapshot = snapshot;
+        if (event instanceof AddShipUsedEvent || event instanceof RemoveShipUsedEvent) {
+            snapshot = previousSnapshot.withShipsUsed(shipRegistry.getShips());
+        } else {
+            snapshot = createSnapshot(
+                    previousSnapshot.players(),
+                    previousSnapshot.challengeModifiers(),
+                    previousSnapshot.shipsUsed());
+        }
+    }
+
+    private BingoGameSnapshot createSnapshot(
+            List<Player> players, List<ChallengeModifier> challengeModifiers, List<Ship> shipsUsed) {
+        return new BingoGameSnapshot(
+                players,
+                challengeModifiers,
+                shipsUsed,
+                Map.copyOf(shipRestrictionByPlayer),
+                Map.copyOf(bingoResultByPlayer),
+                getSharedDivisionAchievements(),
+                retryingIsAllowed,
+                currentLevel,
+                bingoGameStateMachine.copy(),
+                bingoResultBars,
+                tokenCounter.copy());
+    }
+
     public void doResetForCurrentLevel() throws UserInputException {
         ensureActionIsAllowed(BingoGameAction.PERFORM_RESET);
         removeSubmittedMatchResults();
         tokenCounter.cancelMatchResult();
         bingoGameStateMachine.processPerformResetAction();
+        publishEvent(new PerformResetEvent());
     }
 
     private void removeSubmittedMatchResults() {
@@ -103,10 +221,6 @@ public class BingoGame implements Serializable {
         retryingIsAllowed = false;
     }
 
-    private boolean anyResultIsSubmitted() {
-        return sharedDivisionAchievementsAreSubmitted() || !bingoResultByPlayer.isEmpty();
-    }
-
     private boolean sharedDivisionAchievementsAreSubmitted() {
         return getSharedDivisionAchievements().isPresent();
     }
@@ -114,9 +228,10 @@ public class BingoGame implements Serializable {
     public void submitSharedDivisionAchievements(SharedDivisionAchievements sharedDivisionAchievements)
             throws UserInputException {
         ensureActionIsAllowed(BingoGameAction.SUBMIT_RESULT);
-        this.sharedDivisionAchievements = sharedDivisionAchievements;
+        this.sharedDivisionAchievements = sharedDivisionAchievements.immutableCopy();
         updateTokenCounterWithCurrentResults();
         submitResultActionToBingoGameStateMachine();
+        publishEvent(new SubmitSharedDivisionAchievementsEvent(this.sharedDivisionAchievements));
     }
 
     public Optional<SharedDivisionAchievements> getSharedDivisionAchievements() {
@@ -142,6 +257,18 @@ public class BingoGame implements Serializable {
     }
 
     public void submitBingoResultForPlayer(Player player, BingoResult bingoResult) throws UserInputException {
+        ensureBingoResultCanBeSubmitted(player, bingoResult);
+        BingoResult submittedBingoResult = bingoResult.immutableCopy();
+        bingoResultByPlayer.put(player, submittedBingoResult);
+        updateTokenCounterWithCurrentResults();
+        submitResultActionToBingoGameStateMachine();
+        publishEvent(new SubmitBingoResultEvent(player, submittedBingoResult));
+    }
+
+    /**
+     * Only reads the state of this game, so it may be called concurrently as long as the game is not changed.
+     */
+    void ensureBingoResultCanBeSubmitted(Player player, BingoResult bingoResult) throws UserInputException {
         ensureActionIsAllowed(BingoGameAction.SUBMIT_RESULT);
         ensurePlayerIsParticipatingInTheGame(player);
         if (shipRestrictionForPlayerProhibitsMainArmamentType(bingoResult.getMainArmamentType(), player)) {
@@ -150,9 +277,32 @@ public class BingoGame implements Serializable {
                             bingoResult.getMainArmamentType().getDisplayText().toLowerCase(),
                             player.name()));
         }
-        bingoResultByPlayer.put(player, bingoResult);
+    }
+
+    /**
+     * Submits the results of all players at once, which moves the game to one of the unconfirmed states with a single
+     * transition of the state machine, and publishes a single event for all of them. Used by
+     * {@link ConcurrentResultSubmission} once the last result has arrived.
+     */
+    public void submitResultsOfAllPlayers(
+            Map<Player, BingoResult> bingoResults, SharedDivisionAchievements sharedDivisionAchievements)
+            throws UserInputException {
+        ensureActionIsAllowed(BingoGameAction.SUBMIT_RESULT);
+        if (!bingoResults.keySet().containsAll(players)) {
+            throw exceptionWithMessage("A result must be submitted for every player");
+        }
+        for (Map.Entry<Player, BingoResult> entry : bingoResults.entrySet()) {
+            ensureBingoResultCanBeSubmitted(entry.getKey(), entry.getValue());
+        }
+        Map<Player, BingoResult> submittedBingoResults = new HashMap<>();
+        bingoResults.forEach((player, bingoResult) -> submittedBingoResults.put(player, bingoResult.immutableCopy()));
+        Optional<SharedDivisionAchievements> submittedAchievements =
+                Optional.ofNullable(sharedDivisionAchievements).map(SharedDivisionAchievements::immutableCopy);
+        bingoResultByPlayer.putAll(submittedBingoResults);
+        submittedAchievements.ifPresent(achievements -> this.sharedDivisionAchievements = achievements);
         updateTokenCounterWithCurrentResults();
         submitResultActionToBingoGameStateMachine();
+        publishEvent(new SubmitResultsOfAllPlayersEvent(submittedBingoResults, submittedAchievements));
     }
 
     public Optional<BingoResult> getBingoResultForPlayer(Player player) throws UserInputException {
@@ -179,18 +329,21 @@ public class BingoGame implements Serializable {
         bingoGameStateMachine.processConfirmResultAction(hasNextLevel(), retryingIsAllowedForAnyReason());
         BingoGameState newState = bingoGameStateMachine.getCurrentState();
         if (bingoGameIsInInitialState(newState)) {
-            if (requirementOfCurrentResultBarIsMet()) {
+            int nextLevel = getLevelAfterConfirmedMatch(currentLevel, requirementOfCurrentResultBarIsMet());
+            if (nextLevel != currentLevel) {
                 removeAllShipRestrictions();
-                currentLevel++;
+                currentLevel = nextLevel;
             }
             removeSubmittedMatchResults();
         }
         tokenCounter.confirmMatchResult();
+        publishEvent(new ConfirmResultEvent());
     }
 
     public void endChallenge() throws UserInputException {
         ensureActionIsAllowed(BingoGameAction.END_CHALLENGE_VOLUNTARILY);
         bingoGameStateMachine.processEndChallengeVoluntarilyAction();
+        publishEvent(new EndChallengeEvent());
     }
 
     private boolean retryingIsAllowedForAnyReason() {
@@ -198,25 +351,31 @@ public class BingoGame implements Serializable {
     }
 
     private boolean requirementOfCurrentResultBarIsMet() {
-        return getPointValueOfTotalResult() >= bingoResultBars.getPointRequirementOfLevel(currentLevel);
+        return requirementOfLevelIsMet(bingoResultBars, currentLevel, getPointValueOfTotalResult());
     }
 
     private long getPointValueOfTotalResult() {
-        return Math.round(getTotalResultAsTerm().getValue());
-    }
-
-    private String getTotalResultAsString() {
-        return getTotalResultAsTerm().getAsString();
+        long pointValueOfTotalResult = 0;
+        for (BingoResult bingoResult : bingoResultByPlayer.values()) {
+            pointValueOfTotalResult += bingoResult.getPointValue();
+        }
+        if (sharedDivisionAchievementsAreSubmitted()) {
+            pointValueOfTotalResult += sharedDivisionAchievements.getPointValue();
+        }
+        return pointValueOfTotalResult;
     }
 
-    private Term getTotalResultAsTerm() {
-        Term calculationTerm = bingoResultByPlayer.values()
+    private Term getTotalResultAsTerm(BingoGameSnapshot bingoGameSnapshot) {
+        Term calculationTerm = bingoGameSnapshot.players()
                 .stream()
+                .map(bingoGameSnapshot::getBingoResultForPlayer)
+                .flatMap(Optional::stream)
                 .map(bingoResult -> getAsTerm(bingoResult.getPointValue()))
                 .reduce(Addition::new)
                 .orElse(getAsTerm(0));
-        if (sharedDivisionAchievementsAreSubmitted()) {
-            calculationTerm = new Addition(calculationTerm, getAsTerm(sharedDivisionAchievements.getPointValue()));
+        Optional<SharedDivisionAchievements> submittedAchievements = bingoGameSnapshot.sharedDivisionAchievements();
+        if (submittedAchievements.isPresent()) {
+            calculationTerm = new Addition(calculationTerm, getAsTerm(submittedAchievements.get().getPointValue()));
         }
         Term calculationAsEquation = new TermWithPoints(new Equation(calculationTerm));
         return new LabeledTerm("Total result", calculationAsEquation);
@@ -226,21 +385,21 @@ public class BingoGame implements Serializable {
         return new TermWithPoints(new Literal((int) pointValue));
     }
 
-    private String getTotalRewardAsString(int unlockedReward) {
-        Term baseReward = getBaseRewardAsTerm(unlockedReward);
+    private Term getTotalRewardAsTerm(BingoGameSnapshot bingoGameSnapshot, int unlockedReward) {
+        Term baseReward = getBaseRewardAsTerm(bingoGameSnapshot.tokenCounter(), unlockedReward);
         Term totalMultiplier = getTotalMultiplierAsTerm();
         Multiplication calculation = new Multiplication(baseReward, totalMultiplier);
         Term totalReward = new LabeledTerm("Total reward", new TermWithSubs(new Equation(calculation)));
         if (baseReward.getValue() == 1) {
             calculation.displayIdentity();
         }
-        return totalReward.getAsString();
+        return totalReward;
     }
 
-    private Term getBaseRewardAsTerm(int unlockedReward) {
+    private Term getBaseRewardAsTerm(TokenCounter tokenCounter, int unlockedReward) {
         Term unlockedRewardAsTerm = new TermWithSubs(new Literal(unlockedReward));
         Term extraLives = new LabeledTerm("unused extra lives", new Literal(tokenCounter.getCurrentExtraLives()));
-        Term conversionFactor = new TermWithSubs(new Literal(6));
+        Term conversionFactor = new TermWithSubs(new Literal(SUBS_PER_EXTRA_LIFE));
         Multiplication convertedExtraLives = new Multiplication(extraLives, conversionFactor);
         convertedExtraLives.displayIdentity();
         return new Addition(unlockedRewardAsTerm, convertedExtraLives);
@@ -254,33 +413,79 @@ public class BingoGame implements Serializable {
         return new LabeledTerm("challenge modifiers", new Addition(new Literal(1), bonusMultiplier));
     }
 
-    private double getPointRequirementModifier() {
-        double rawModifier = 1 + getModifierIncreaseForPlayers() + getModifierIncreaseForChallengeModifiers();
+    public static double getPointRequirementModifier(
+            int numberOfPlayers, List<ChallengeModifier> challengeModifiers) {
+        double rawModifier = 1 + getModifierIncreaseForPlayers(numberOfPlayers) +
+                getModifierIncreaseForChallengeModifiers(challengeModifiers);
         return roundedDoubleOf(rawModifier);
     }
 
-    private double getModifierIncreaseForPlayers() {
-        if (players.size() == 3) {
+    private static double getModifierIncreaseForPlayers(int numberOfPlayers) {
+        if (numberOfPlayers == 3) {
             return 1;
-        } else if (players.size() == 2) {
+        } else if (numberOfPlayers == 2) {
             return 0.6;
         } else {
             return 0;
         }
     }
 
-    private double getModifierIncreaseForChallengeModifiers() {
+    private static double getModifierIncreaseForChallengeModifiers(List<ChallengeModifier> challengeModifiers) {
         return challengeModifiers.stream()
                 .map(ChallengeModifier::getPointRequirementModifier)
                 .reduce(Double::sum)
                 .orElse(0.0);
     }
 
-    private double roundedDoubleOf(double rawModifier) {
+    private static double roundedDoubleOf(double rawModifier) {
         return Math.round(rawModifier * 100) / 100.0;
     }
 
-    private String getPointRequirementOfLevelAsString(int level) {
+    public static double getRewardMultiplier(List<ChallengeModifier> challengeModifiers) {
+        double bonusModifier = challengeModifiers.stream()
+                .map(ChallengeModifier::getBonusModifier)
+                .reduce(Double::sum)
+                .orElse(0.0);
+        return 1 + bonusModifier;
+    }
+
+    /**
+     * Returns the number of subs paid at the end of a challenge, which is the same value as the total reward shown
+     * by this game.
+     */
+    public static int getTotalReward(int unlockedReward, int extraLives, double rewardMultiplier) {
+        int baseReward = unlockedReward + extraLives * SUBS_PER_EXTRA_LIFE;
+        return (int) Math.round(baseReward * rewardMultiplier);
+    }
+
+    public static boolean requirementOfLevelIsMet(BingoResultBars bingoResultBars, int level, long pointValue) {
+        return pointValue >= bingoResultBars.getPointRequirementOfLevel(level);
+    }
+
+    /**
+     * Returns the level which the challenge continues on once a match on the given level was confirmed.
+     */
+    public static int getLevelAfterConfirmedMatch(int level, boolean requirementIsMet) {
+        if (requirementIsMet && hasNextLevel(level)) {
+            return level + 1;
+        }
+        return level;
+    }
+
+    /**
+     * Returns the level whose reward is unlocked in the given state on the given level: the previous level when the
+     * challenge is ended voluntarily, the level itself after a successful match, and level 0 for participating
+     * otherwise.
+     */
+    public static int getRewardLevel(BingoGameState bingoGameState, int level) {
+        return switch (bingoGameState) {
+            case UNCONFIRMED_VOLUNTARY_END, CHALLENGE_ENDED_VOLUNTARILY -> level - 1;
+            case UNCONFIRMED_SUCCESSFUL_MATCH, CHALLENGE_ENDED_SUCCESSFULLY -> level;
+            default -> 0;
+        };
+    }
+
+    private String getPointRequirementOfLevelAsString(BingoResultBars bingoResultBars, int level) {
         return "Requirement of level %s: %s points".formatted(level, bingoResultBars.getPointRequirementOfLevel(level));
     }
 
@@ -289,13 +494,18 @@ public class BingoGame implements Serializable {
     }
 
     private boolean hasNextLevel() {
-        return currentLevel < MAX_LEVEL;
+        return hasNextLevel(currentLevel);
+    }
+
+    public static boolean hasNextLevel(int level) {
+        return level < MAX_LEVEL;
     }
 
     public void setRetryingIsAllowed(boolean retryingIsAllowed) throws UserInputException {
         ensureActionIsAllowed(BingoGameAction.OTHER_ACTION);
         this.retryingIsAllowed = retryingIsAllowed;
         updateTokenCounterWithCurrentResults();
+        publishEvent(new SetRetryingIsAllowedEvent(retryingIsAllowed));
     }
 
     public boolean retryingIsAllowed() {
@@ -324,6 +534,7 @@ public class BingoGame implements Serializable {
         }
         shipRestrictionByPlayer.put(player, shipRestriction);
         bingoGameStateMachine.processChangeShipRestrictionAction(shipRestrictionIsSetForAllPlayers());
+        publishEvent(new SetShipRestrictionEvent(player, shipRestriction));
     }
 
     public Optional<ShipRestriction> getShipRestrictionForPlayer(Player player) throws UserInputException {
@@ -340,6 +551,7 @@ public class BingoGame implements Serializable {
         ensurePlayerIsParticipatingInTheGame(player);
         shipRestrictionByPlayer.remove(player);
         bingoGameStateMachine.processChangeShipRestrictionAction(shipRestrictionIsSetForAllPlayers());
+        publishEvent(new RemoveShipRestrictionEvent(player));
     }
 
     private void removeAllShipRestrictions() {
@@ -348,25 +560,24 @@ public class BingoGame implements Serializable {
 
     public void addShipUsed(Ship shipUsed) throws UserInputException {
         ensureActionIsAllowed(BingoGameAction.OTHER_ACTION);
-        String nameOfShipUsed = shipUsed.name();
-        for (Ship previouslyUsedShip : shipsUsed) {
-            if (nameOfShipUsed.equalsIgnoreCase(previouslyUsedShip.name())) {
-                throw exceptionWithMessage("%s was already used".formatted(nameOfShipUsed));
-            }
+        boolean shipWasAlreadyUsed = !shipRegistry.add(shipUsed);
+        if (shipWasAlreadyUsed) {
+            throw exceptionWithMessage("%s was already used".formatted(shipUsed.name()));
         }
-        shipsUsed.add(shipUsed);
+        publishEvent(new AddShipUsedEvent(shipUsed));
     }
 
     public List<Ship> getShipsUsed() {
-        return new LinkedList<>(shipsUsed);
+        return snapshot.shipsUsed();
     }
 
     public void removeShipUsed(Ship shipUsed) throws UserInputException {
         ensureActionIsAllowed(BingoGameAction.OTHER_ACTION);
-        boolean shipWasNotFound = !shipsUsed.remove(shipUsed);
+        boolean shipWasNotFound = !shipRegistry.remove(shipUsed);
         if (shipWasNotFound) {
             throw exceptionWithMessage("%s is not in the list of ships used, so it cannot be removed".formatted(shipUsed.name()));
         }
+        publishEvent(new RemoveShipUsedEvent(shipUsed));
     }
 
     private UserInputException exceptionWithMessage(String message) {
@@ -378,35 +589,70 @@ public class BingoGame implements Serializable {
     }
 
     public List<Player> getPlayers() {
-        return new LinkedList<>(players);
+        return snapshot.players();
     }
 
     public List<ChallengeModifier> getChallengeModifiers() {
-        return new LinkedList<>(challengeModifiers);
+        return snapshot.challengeModifiers();
     }
 
     @Override
     public String toString() {
         StringBuilder stringBuilder = new StringBuilder();
-        BingoGameState bingoGameState = bingoGameStateMachine.getCurrentState();
+        render(snapshot, stringBuilder, () -> {});
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Renders the text of {@link #toString()} into the sink and closes it. The text is passed to the sink one part at a
+     * time, so the first chat messages are passed on before the rest of the text is rendered. Like {@link #toString()},
+     * the text is rendered from the latest snapshot, so it may be called on any thread.
+     */
+    public void renderTo(ChatMessageSink chatMessageSink) {
+        renderTo(snapshot, chatMessageSink);
+    }
+
+    /**
+     * Renders the given snapshot of this game like {@link #renderTo(ChatMessageSink)}.
+     */
+    public void renderTo(BingoGameSnapshot bingoGameSnapshot, ChatMessageSink chatMessageSink) {
+        StringBuilder stringBuilder = new StringBuilder();
+        Runnable endOfPart = () -> {
+            chatMessageSink.append(stringBuilder);
+            stringBuilder.setLength(0);
+        };
+        render(bingoGameSnapshot, stringBuilder, endOfPart);
+        endOfPart.run();
+        chatMessageSink.close();
+    }
+
+    private void render(BingoGameSnapshot bingoGameSnapshot, StringBuilder stringBuilder, Runnable endOfPart) {
+        BingoGameState bingoGameState = bingoGameSnapshot.state();
         if (bingoGameIsInVoluntaryEndState(bingoGameState)) {
-            appendTextForVoluntaryEndOfChallenge(stringBuilder);
+            appendTextForVoluntaryEndOfChallenge(bingoGameSnapshot, stringBuilder);
         } else {
-            appendTextForBingoResults(stringBuilder);
-            appendTextForSharedDivisionAchievements(stringBuilder);
-            appendTextForTotalResult(stringBuilder);
-            stringBuilder.append(getPointRequirementOfLevelAsString(currentLevel));
+            for (Player player : bingoGameSnapshot.players()) {
+                bingoGameSnapshot.getBingoResultForPlayer(player)
+                        .ifPresent(appendTextForBingoResult(stringBuilder, player));
+                endOfPart.run();
+            }
+            appendTextForSharedDivisionAchievements(bingoGameSnapshot, stringBuilder);
+            endOfPart.run();
+            appendTextForTotalResult(bingoGameSnapshot, stringBuilder);
+            endOfPart.run();
+            stringBuilder.append(getPointRequirementOfLevelAsString(
+                    bingoGameSnapshot.bingoResultBars(),
+                    bingoGameSnapshot.currentLevel()));
             if (bingoGameIsInSuccessfulMatchState(bingoGameState)) {
-                appendTextForSuccessfulMatch(stringBuilder);
+                appendTextForSuccessfulMatch(bingoGameSnapshot, stringBuilder);
             } else if (bingoGameIsInUnsuccessfulMatchState(bingoGameState)) {
-                appendTextForUnsuccessfulMatch(stringBuilder);
+                appendTextForUnsuccessfulMatch(bingoGameSnapshot, stringBuilder);
             } else {
-                appendTextForShipRestrictions(stringBuilder);
-                appendTextForTokenCounterWithPrefix(SENTENCE_END, stringBuilder);
+                appendTextForShipRestrictions(bingoGameSnapshot, stringBuilder);
+                appendTextForTokenCounterWithPrefix(bingoGameSnapshot.tokenCounter(), SENTENCE_END, stringBuilder);
             }
         }
-        appendTextIfBingoGameIsInFinalState(stringBuilder);
-        return stringBuilder.toString();
+        appendTextIfBingoGameIsInFinalState(bingoGameState, stringBuilder);
     }
 
     private boolean bingoGameIsInInitialState(BingoGameState bingoGameState) {
@@ -429,37 +675,40 @@ public class BingoGame implements Serializable {
                 bingoGameState.equals(BingoGameState.CHALLENGE_ENDED_UNSUCCESSFULLY);
     }
 
-    private void appendTextForBingoResults(StringBuilder stringBuilder) {
-        for (Player player : players) {
-            Optional<BingoResult> bingoResult = internalGetBingoResultForPlayer(player);
-            bingoResult.ifPresent(appendTextForBingoResult(stringBuilder, player));
-        }
-    }
-
     private Consumer<BingoResult> appendTextForBingoResult(StringBuilder stringBuilder, Player player) {
         return bingoResult -> {
             if (moreThanOnePlayerIsRegistered()) {
                 stringBuilder.append(player.name()).append("'s ");
             }
-            stringBuilder.append(bingoResult).append(SENTENCE_END);
+            bingoResult.appendTo(stringBuilder);
+            stringBuilder.append(SENTENCE_END);
         };
     }
 
-    private void appendTextForSharedDivisionAchievements(StringBuilder stringBuilder) {
-        if (moreThanOnePlayerIsRegistered() && sharedDivisionAchievementsAreSubmitted()) {
-            stringBuilder.append(sharedDivisionAchievements).append(SENTENCE_END);
+    private void appendTextForSharedDivisionAchievements(
+            BingoGameSnapshot bingoGameSnapshot, StringBuilder stringBuilder) {
+        Optional<SharedDivisionAchievements> submittedAchievements = bingoGameSnapshot.sharedDivisionAchievements();
+        if (moreThanOnePlayerIsRegistered() && submittedAchievements.isPresent()) {
+            submittedAchievements.get().appendTo(stringBuilder);
+            stringBuilder.append(SENTENCE_END);
         }
     }
 
-    private void appendTextForTotalResult(StringBuilder stringBuilder) {
-        if (moreThanOnePlayerIsRegistered() && anyResultIsSubmitted()) {
-            stringBuilder.append(getTotalResultAsString()).append(SENTENCE_END);
+    private void appendTextForTotalResult(BingoGameSnapshot bingoGameSnapshot, StringBuilder stringBuilder) {
+        if (moreThanOnePlayerIsRegistered() && anyResultIsSubmitted(bingoGameSnapshot)) {
+            getTotalResultAsTerm(bingoGameSnapshot).appendTo(stringBuilder);
+            stringBuilder.append(SENTENCE_END);
         }
     }
 
-    private void appendTextForShipRestrictions(StringBuilder stringBuilder) {
-        for (Player player : players) {
-            Optional<ShipRestriction> shipRestriction = internalGetShipRestrictionForPlayer(player);
+    private boolean anyResultIsSubmitted(BingoGameSnapshot bingoGameSnapshot) {
+        return bingoGameSnapshot.sharedDivisionAchievements().isPresent() ||
+                !bingoGameSnapshot.bingoResultByPlayer().isEmpty();
+    }
+
+    private void appendTextForShipRestrictions(BingoGameSnapshot bingoGameSnapshot, StringBuilder stringBuilder) {
+        for (Player player : bingoGameSnapshot.players()) {
+            Optional<ShipRestriction> shipRestriction = bingoGameSnapshot.getShipRestrictionForPlayer(player);
             shipRestriction.ifPresent(appendTextForShipRestriction(stringBuilder, player));
         }
     }
@@ -476,60 +725,80 @@ public class BingoGame implements Serializable {
         };
     }
 
-    private void appendTextForVoluntaryEndOfChallenge(StringBuilder stringBuilder) {
-        int previousLevel = currentLevel - 1;
+    private void appendTextForVoluntaryEndOfChallenge(
+            BingoGameSnapshot bingoGameSnapshot, StringBuilder stringBuilder) {
+        BingoResultBars bingoResultBars = bingoGameSnapshot.bingoResultBars();
+        int rewardLevel = getRewardLevel(bingoGameSnapshot.state(), bingoGameSnapshot.currentLevel());
         stringBuilder.append("Challenge ended voluntarily on level ")
-                .append(currentLevel)
+                .append(bingoGameSnapshot.currentLevel())
                 .append(". Your reward from the previous level: ")
-                .append(bingoResultBars.getNumberOfSubsAsStringForLevel(previousLevel));
-        appendTextForTotalReward(bingoResultBars.getNumberOfSubsAsRewardForLevel(previousLevel), stringBuilder);
+                .append(bingoResultBars.getNumberOfSubsAsStringForLevel(rewardLevel));
+        appendTextForTotalReward(
+                bingoGameSnapshot,
+                bingoResultBars.getNumberOfSubsAsRewardForLevel(rewardLevel),
+                stringBuilder);
     }
 
-    private void appendTextForSuccessfulMatch(StringBuilder stringBuilder) {
+    private void appendTextForSuccessfulMatch(BingoGameSnapshot bingoGameSnapshot, StringBuilder stringBuilder) {
+        BingoResultBars bingoResultBars = bingoGameSnapshot.bingoResultBars();
+        int level = bingoGameSnapshot.currentLevel();
         stringBuilder.append(" ✅ Unlocked reward: ")
-                .append(bingoResultBars.getNumberOfSubsAsStringForLevel(currentLevel));
-        if (hasNextLevel()) {
-            appendTextForTokenCounterWithPrefix(WHITESPACE, stringBuilder);
-            stringBuilder.append(" ➡️ ").append(getPointRequirementOfLevelAsString(currentLevel + 1));
+                .append(bingoResultBars.getNumberOfSubsAsStringForLevel(level));
+        if (hasNextLevel(level)) {
+            appendTextForTokenCounterWithPrefix(bingoGameSnapshot.tokenCounter(), WHITESPACE, stringBuilder);
+            stringBuilder.append(" ➡️ ").append(getPointRequirementOfLevelAsString(bingoResultBars, level + 1));
         } else {
             stringBuilder.append(" This is the highest reward you can get. Congratulations! 🎊");
-            appendTextForTotalReward(bingoResultBars.getNumberOfSubsAsRewardForLevel(currentLevel), stringBuilder);
+            appendTextForTotalReward(
+                    bingoGameSnapshot,
+                    bingoResultBars.getNumberOfSubsAsRewardForLevel(getRewardLevel(bingoGameSnapshot.state(), level)),
+                    stringBuilder);
         }
     }
 
-    private void appendTextForUnsuccessfulMatch(StringBuilder stringBuilder) {
+    private void appendTextForUnsuccessfulMatch(BingoGameSnapshot bingoGameSnapshot, StringBuilder stringBuilder) {
+        TokenCounter tokenCounter = bingoGameSnapshot.tokenCounter();
         stringBuilder.append(" ❌ ");
-        if (retryingIsAllowedForAnyReason()) {
+        if (bingoGameSnapshot.retryingIsAllowed() || tokenCounter.hasExtraLife()) {
             stringBuilder.append("Retrying is allowed because ");
-            if (retryingIsAllowed) {
+            if (bingoGameSnapshot.retryingIsAllowed()) {
                 stringBuilder.append("5 or more retry conditions apply (rule 8)");
             } else if (tokenCounter.hasExtraLife()) {
                 stringBuilder.append("you have an extra life (rule 9)");
             }
             stringBuilder.append(" 🔄");
-            appendTextForTokenCounterWithPrefix(WHITESPACE, stringBuilder);
+            appendTextForTokenCounterWithPrefix(tokenCounter, WHITESPACE, stringBuilder);
         } else {
+            BingoResultBars bingoResultBars = bingoGameSnapshot.bingoResultBars();
             stringBuilder.append(
                     "Retrying is not allowed ❌ The challenge is over and you lose any unlocked rewards. Your reward for participating: ");
-            stringBuilder.append(bingoResultBars.getNumberOfSubsAsStringForLevel(0));
-            appendTextForTotalReward(bingoResultBars.getNumberOfSubsAsRewardForLevel(0), stringBuilder);
+            int rewardLevel = getRewardLevel(bingoGameSnapshot.state(), bingoGameSnapshot.currentLevel());
+            stringBuilder.append(bingoResultBars.getNumberOfSubsAsStringForLevel(rewardLevel));
+            appendTextForTotalReward(
+                    bingoGameSnapshot,
+                    bingoResultBars.getNumberOfSubsAsRewardForLevel(rewardLevel),
+                    stringBuilder);
         }
     }
 
-    private void appendTextForTotalReward(int unlockedReward, StringBuilder stringBuilder) {
-        if (tokenCounter.hasExtraLife() || anyChallengeModifierIsActive()) {
-            stringBuilder.append(WHITESPACE).append(getTotalRewardAsString(unlockedReward)).append(" 🎁");
+    private void appendTextForTotalReward(
+            BingoGameSnapshot bingoGameSnapshot, int unlockedReward, StringBuilder stringBuilder) {
+        if (bingoGameSnapshot.tokenCounter().hasExtraLife() || anyChallengeModifierIsActive()) {
+            stringBuilder.append(WHITESPACE);
+            getTotalRewardAsTerm(bingoGameSnapshot, unlockedReward).appendTo(stringBuilder);
+            stringBuilder.append(" 🎁");
         }
     }
 
-    private void appendTextForTokenCounterWithPrefix(String prefix, StringBuilder stringBuilder) {
+    private void appendTextForTokenCounterWithPrefix(
+            TokenCounter tokenCounter, String prefix, StringBuilder stringBuilder) {
         if (extraLivesAreEnabled()) {
             stringBuilder.append(prefix).append(tokenCounter);
         }
     }
 
-    private void appendTextIfBingoGameIsInFinalState(StringBuilder stringBuilder) {
-        if (bingoGameStateMachine.getCurrentState().isFinal()) {
+    private void appendTextIfBingoGameIsInFinalState(BingoGameState bingoGameState, StringBuilder stringBuilder) {
+        if (bingoGameState.isFinal()) {
             stringBuilder.append("\n\nEnd of challenge confirmed. Changes are no longer allowed.");
         }
     }
@@ -549,4 +818,183 @@ public class BingoGame implements Serializable {
     private boolean extraLivesAreEnabled() {
         return !challengeModifiers.contains(ChallengeModifier.NO_SAFETY_NET);
     }
+
+    public void writeTo(CompactDataOutput output) throws IOException {
+        output.writeVarInt(players.size());
+        for (Player player : players) {
+            output.writeString(player.name());
+        }
+        output.writeVarInt(challengeModifiers.size());
+        for (ChallengeModifier challengeModifier : challengeModifiers) {
+            output.writeEnum(challengeModifier);
+        }
+        writeStateTo(output);
+    }
+
+    /**
+     * Writes everything which may change during the game, but not its players and challenge modifiers. The state is
+     * taken from the latest snapshot, so the game may already be changed again while it is written.
+     */
+    public void writeStateTo(CompactDataOutput output) throws IOException {
+        BingoGameSnapshot bingoGameSnapshot = snapshot;
+        List<Player> snapshotPlayers = bingoGameSnapshot.players();
+        output.writeVarInt(bingoGameSnapshot.shipsUsed().size());
+        for (Ship ship : bingoGameSnapshot.shipsUsed()) {
+            output.writeString(ship.name());
+        }
+        output.writeVarInt(bingoGameSnapshot.shipRestrictionByPlayer().size());
+        for (int index = 0; index < snapshotPlayers.size(); index++) {
+            Optional<ShipRestriction> shipRestriction =
+                    bingoGameSnapshot.getShipRestrictionForPlayer(snapshotPlayers.get(index));
+            if (shipRestriction.isPresent()) {
+                output.writeVarInt(index);
+                shipRestriction.get().writeTo(output);
+            }
+        }
+        output.writeVarInt(bingoGameSnapshot.bingoResultByPlayer().size());
+        for (int index = 0; index < snapshotPlayers.size(); index++) {
+            Optional<BingoResult> bingoResult = bingoGameSnapshot.getBingoResultForPlayer(snapshotPlayers.get(index));
+            if (bingoResult.isPresent()) {
+                output.writeVarInt(index);
+                bingoResult.get().writeTo(output);
+            }
+        }
+        Optional<SharedDivisionAchievements> submittedAchievements = bingoGameSnapshot.sharedDivisionAchievements();
+        output.writeBoolean(submittedAchievements.isPresent());
+        if (submittedAchievements.isPresent()) {
+            submittedAchievements.get().writeTo(output);
+        }
+        output.writeBoolean(bingoGameSnapshot.retryingIsAllowed());
+        output.writeVarInt(bingoGameSnapshot.currentLevel());
+        bingoGameSnapshot.bingoGameStateMachine().writeStateTo(output);
+        bingoGameSnapshot.tokenCounter().writeStateTo(output);
+    }
+
+    public static BingoGame readFrom(CompactDataInput input) throws IOException {
+        return readFrom(input, new BingoGameDependencyInjector());
+    }
+
+    static BingoGame readFrom(CompactDataInput input, BingoGameDependencyInjector bingoGameDependencyInjector)
+            throws IOException {
+        List<Player> players = new LinkedList<>();
+        int numberOfPlayers = input.readSize();
+        for (int index = 0; index < numberOfPlayers; index++) {
+            players.add(new Player(input.readString()));
+        }
+        List<ChallengeModifier> challengeModifiers = new LinkedList<>();
+        int numberOfChallengeModifiers = input.readSize();
+        for (int index = 0; index < numberOfChallengeModifiers; index++) {
+            challengeModifiers.add(input.readEnum(ChallengeModifier.class));
+        }
+        try {
+            BingoGame bingoGame = new BingoGame(players, challengeModifiers, bingoGameDependencyInjector);
+            bingoGame.readStateFrom(input);
+            return bingoGame;
+        } catch (UserInputException exception) {
+            throw new InvalidObjectException(exception.getMessage());
+        }
+    }
+
+    /**
+     * Replaces the current state of this game with a state which was written by {@link #writeStateTo} for a game with
+     * the same players and challenge modifiers. No event is published for this change, but all listeners are told that
+     * the state was restored.
+     */
+    public void restoreStateFrom(CompactDataInput input) throws IOException {
+        shipRegistry = new ShipRegistry();
+        shipRestrictionByPlayer.clear();
+        bingoResultByPlayer.clear();
+        sharedDivisionAchievements = null;
+        readStateFrom(input);
+        eventListeners.forEach(BingoGameEventListener::stateRestored);
+    }
+
+    private void readStateFrom(CompactDataInput input) throws IOException {
+        int numberOfShipsUsed = input.readSize();
+        for (int index = 0; index < numberOfShipsUsed; index++) {
+            shipRegistry.add(new Ship(input.readString()));
+        }
+        int numberOfShipRestrictions = input.readSize();
+        for (int index = 0; index < numberOfShipRestrictions; index++) {
+            shipRestrictionByPlayer.put(readPlayer(input), ShipRestriction.readFrom(input));
+        }
+        int numberOfBingoResults = input.readSize();
+        for (int index = 0; index < numberOfBingoResults; index++) {
+            bingoResultByPlayer.put(readPlayer(input), BingoResult.readFrom(input).immutableCopy());
+        }
+        if (input.readBoolean()) {
+            sharedDivisionAchievements = SharedDivisionAchievements.readFrom(input).immutableCopy();
+        }
+        retryingIsAllowed = input.readBoolean();
+        currentLevel = checkLevel(input.readVarInt());
+        bingoGameStateMachine.readStateFrom(input);
+        tokenCounter.readStateFrom(input);
+        snapshot = createSnapshot(snapshot.players(), challengeModifiers, shipRegistry.getShips());
+    }
+
+    private static int checkLevel(int level) throws InvalidObjectException {
+        if (level < START_LEVEL || level > MAX_LEVEL) {
+            throw new InvalidObjectException("Invalid level %s, which must be between %s and %s".formatted(
+                    level,
+                    START_LEVEL,
+                    MAX_LEVEL));
+        }
+        return level;
+    }
+
+    private Player readPlayer(CompactDataInput input) throws IOException {
+        int playerIndex = input.readVarInt();
+        if (playerIndex < 0 || playerIndex >= players.size()) {
+            throw new StreamCorruptedException("Invalid player index %s".formatted(playerIndex));
+        }
+        return players.get(playerIndex);
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream outputStream) throws IOException {
+        BingoGameSnapshot bingoGameSnapshot = snapshot;
+        ObjectOutputStream.PutField fields = outputStream.putFields();
+        fields.put(SHIPS_USED_FIELD, new LinkedList<>(bingoGameSnapshot.shipsUsed()));
+        fields.put(PLAYERS_FIELD, new LinkedList<>(bingoGameSnapshot.players()));
+        fields.put(CHALLENGE_MODIFIERS_FIELD, bingoGameSnapshot.challengeModifiers());
+        fields.put(SHIP_RESTRICTION_BY_PLAYER_FIELD, new HashMap<>(bingoGameSnapshot.shipRestrictionByPlayer()));
+        fields.put(BINGO_RESULT_BY_PLAYER_FIELD, new HashMap<>(bingoGameSnapshot.bingoResultByPlayer()));
+        fields.put(BINGO_GAME_STATE_MACHINE_FIELD, bingoGameSnapshot.bingoGameStateMachine());
+        fields.put(BINGO_RESULT_BARS_FIELD, bingoGameSnapshot.bingoResultBars());
+        fields.put(TOKEN_COUNTER_FIELD, bingoGameSnapshot.tokenCounter());
+        fields.put(
+                SHARED_DIVISION_ACHIEVEMENTS_FIELD,
+                bingoGameSnapshot.sharedDivisionAchievements().orElse(null));
+        fields.put(RETRYING_IS_ALLOWED_FIELD, bingoGameSnapshot.retryingIsAllowed());
+        fields.put(CURRENT_LEVEL_FIELD, bingoGameSnapshot.currentLevel());
+        outputStream.writeFields();
+    }
+
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream inputStream) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = inputStream.readFields();
+        players = (List<Player>) fields.get(PLAYERS_FIELD, null);
+        challengeModifiers = (List<ChallengeModifier>) fields.get(CHALLENGE_MODIFIERS_FIELD, null);
+        shipRestrictionByPlayer = (Map<Player, ShipRestriction>) fields.get(SHIP_RESTRICTION_BY_PLAYER_FIELD, null);
+        bingoResultByPlayer = (Map<Player, BingoResult>) fields.get(BINGO_RESULT_BY_PLAYER_FIELD, null);
+        bingoResultByPlayer.replaceAll((player, bingoResult) -> bingoResult.immutableCopy());
+        bingoGameStateMachine = (BingoGameStateMachine) fields.get(BINGO_GAME_STATE_MACHINE_FIELD, null);
+        bingoResultBars = (BingoResultBars) fields.get(BINGO_RESULT_BARS_FIELD, null);
+        tokenCounter = (TokenCounter) fields.get(TOKEN_COUNTER_FIELD, null);
+        sharedDivisionAchievements =
+                (SharedDivisionAchievements) fields.get(SHARED_DIVISION_ACHIEVEMENTS_FIELD, null);
+        if (sharedDivisionAchievements != null) {
+            sharedDivisionAchievements = sharedDivisionAchievements.immutableCopy();
+        }
+        retryingIsAllowed = fields.get(RETRYING_IS_ALLOWED_FIELD, false);
+        currentLevel = checkLevel(fields.get(CURRENT_LEVEL_FIELD, START_LEVEL));
+        shipRegistry = new ShipRegistry();
+        eventListeners = new CopyOnWriteArrayList<>();
+        ((List<Ship>) fields.get(SHIPS_USED_FIELD, List.of())).forEach(shipRegistry::add);
+        snapshot = createSnapshot(
+                List.copyOf(players),
+                List.copyOf(challengeModifiers),
+                shipRegistry.getShips());
+    }
 }
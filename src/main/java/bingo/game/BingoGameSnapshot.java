@@ -0,0 +1,72 @@
+package bingo.game;
+
+import bingo.game.modifiers.ChallengeModifier;
+import bingo.game.players.Player;
+import bingo.game.restrictions.ShipRestriction;
+import bingo.game.results.BingoResult;
+import bingo.game.results.BingoResultBars;
+import bingo.game.results.division.SharedDivisionAchievements;
+import bingo.game.ships.Ship;
+import bingo.game.tokens.TokenCounter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * An immutable view of a game after one of its changes, which may be read on any thread. Parts of the game which were
+ * not affected by a change are shared with the previous snapshot instead of being copied, and the list of ships used
+ * shares its elements with the list of the previous snapshot. The results are immutable copies which the game took
+ * when they were submitted, so they are shared with the game. The result bars are shared with the game as well, and
+ * the state machine and the token counter are copies taken when the snapshot was published, so none of them must be
+ * changed.
+ */
+public record BingoGameSnapshot(
+        List<Player> players,
+        List<ChallengeModifier> challengeModifiers,
+        List<Ship> shipsUsed,
+        Map<Player, ShipRestriction> shipRestrictionByPlayer,
+        Map<Player, BingoResult> bingoResultByPlayer,
+        Optional<SharedDivisionAchievements> sharedDivisionAchievements,
+        boolean retryingIsAllowed,
+        int currentLevel,
+        BingoGameStateMachine bingoGameStateMachine,
+        BingoResultBars bingoResultBars,
+        TokenCounter tokenCounter) {
+
+    public BingoGameState state() {
+        return bingoGameStateMachine.getCurrentState();
+    }
+
+    public Set<BingoGameAction> allowedActions() {
+        return bingoGameStateMachine.getAllowedActions();
+    }
+
+    public Optional<ShipRestriction> getShipRestrictionForPlayer(Player player) {
+        return Optional.ofNullable(shipRestrictionByPlayer.get(player));
+    }
+
+    public Optional<BingoResult> getBingoResultForPlayer(Player player) {
+        return Optional.ofNullable(bingoResultByPlayer.get(player));
+    }
+
+    public boolean actionIsAllowed(BingoGameAction action) {
+        return bingoGameStateMachine.actionIsAllowed(action);
+    }
+
+    BingoGameSnapshot withShipsUsed(List<Ship> shipsUsed) {
+        return new BingoGameSnapshot(
+                players,
+                challengeModifiers,
+                shipsUsed,
+                shipRestrictionByPlayer,
+                bingoResultByPlayer,
+                sharedDivisionAchievements,
+                retryingIsAllowed,
+                currentLevel,
+                bingoGameStateMachine,
+                bingoResultBars,
+                tokenCounter);
+    }
+}
@@ -1,14 +1,32 @@
 package bingo.game;
 
 import bingo.game.input.UserInputException;
+import bingo.game.utility.CompactDataInput;
+import bingo.game.utility.CompactDataOutput;
 
+import java.io.IOException;
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class BingoGameStateMachine implements Serializable {
     @Serial
     private static final long serialVersionUID = -2884018232777089835L;
 
+    private static final List<Map<BingoGameState, Set<BingoGameAction>>> ALLOWED_ACTIONS_BY_STATE =
+            setUpAllowedActionsForAllConfigurations();
+    private static final long[][] ALLOWED_ACTION_MASKS = setUpAllowedActionMasks();
+
     private final boolean shipRestrictionsAreEnabled;
     private final boolean endingVoluntarilyIsAllowed;
     private boolean shipRestrictionIsSetForAllPlayers;
@@ -21,59 +39,43 @@ public class BingoGameStateMachine implements Serializable {
         this.bingoGameState = determineInitialState();
     }
 
+    private BingoGameStateMachine(BingoGameStateMachine bingoGameStateMachine) {
+        this.shipRestrictionsAreEnabled = bingoGameStateMachine.shipRestrictionsAreEnabled;
+        this.endingVoluntarilyIsAllowed = bingoGameStateMachine.endingVoluntarilyIsAllowed;
+        this.shipRestrictionIsSetForAllPlayers = bingoGameStateMachine.shipRestrictionIsSetForAllPlayers;
+        this.bingoGameState = bingoGameStateMachine.bingoGameState;
+    }
+
+    /**
+     * @return a state machine in the same state, which is independent of this one.
+     */
+    public BingoGameStateMachine copy() {
+        return new BingoGameStateMachine(this);
+    }
+
     public BingoGameState getCurrentState() {
         return bingoGameState;
     }
 
     public boolean actionIsAllowed(BingoGameAction action) {
-        return switch (bingoGameState) {
-            case LEVEL_INITIALIZED -> actionIsAllowedForLevelInitializedState(action);
-            case PREREQUISITE_SETUP_DONE -> actionIsAllowedForPrerequisiteSetupDoneState(action);
-            case PARTIAL_RESULT_SUBMITTED -> actionIsAllowedForPartialResultSubmittedState(action);
-            case UNCONFIRMED_VOLUNTARY_END -> actionIsAllowedForUnconfirmedVoluntaryEndState(action);
-            case UNCONFIRMED_SUCCESSFUL_MATCH, UNCONFIRMED_UNSUCCESSFUL_MATCH ->
-                    actionIsAllowedForUnconfirmedMatchResultState(action);
-            case CHALLENGE_ENDED_VOLUNTARILY, CHALLENGE_ENDED_SUCCESSFULLY, CHALLENGE_ENDED_UNSUCCESSFULLY -> false;
-        };
-    }
-
-    private boolean actionIsAllowedForLevelInitializedState(BingoGameAction action) {
-        return switch (action) {
-            case SUBMIT_RESULT, CONFIRM_RESULT -> false;
-            case END_CHALLENGE_VOLUNTARILY -> endingVoluntarilyIsAllowed;
-            case CHANGE_SHIP_RESTRICTION -> shipRestrictionsAreEnabled;
-            case PERFORM_RESET, OTHER_ACTION -> true;
-        };
+        long allowedActionsMask = ALLOWED_ACTION_MASKS[getConfigurationIndex()][bingoGameState.ordinal()];
+        return (allowedActionsMask & (1L << action.ordinal())) != 0;
     }
 
-    private boolean actionIsAllowedForPrerequisiteSetupDoneState(BingoGameAction action) {
-        return switch (action) {
-            case CONFIRM_RESULT -> false;
-            case END_CHALLENGE_VOLUNTARILY -> endingVoluntarilyIsAllowed;
-            case CHANGE_SHIP_RESTRICTION -> shipRestrictionsAreEnabled;
-            case SUBMIT_RESULT, PERFORM_RESET, OTHER_ACTION -> true;
-        };
+    public Set<BingoGameAction> getAllowedActions() {
+        return getAllowedActionsByState().get(bingoGameState);
     }
 
-    private boolean actionIsAllowedForPartialResultSubmittedState(BingoGameAction action) {
-        return switch (action) {
-            case CONFIRM_RESULT, END_CHALLENGE_VOLUNTARILY, CHANGE_SHIP_RESTRICTION -> false;
-            case SUBMIT_RESULT, PERFORM_RESET, OTHER_ACTION -> true;
-        };
+    public Map<BingoGameState, Set<BingoGameAction>> getAllowedActionsByState() {
+        return ALLOWED_ACTIONS_BY_STATE.get(getConfigurationIndex());
     }
 
-    private boolean actionIsAllowedForUnconfirmedVoluntaryEndState(BingoGameAction action) {
-        return switch (action) {
-            case END_CHALLENGE_VOLUNTARILY, CHANGE_SHIP_RESTRICTION, OTHER_ACTION -> false;
-            case SUBMIT_RESULT, CONFIRM_RESULT, PERFORM_RESET -> true;
-        };
+    private int getConfigurationIndex() {
+        return getConfigurationIndex(shipRestrictionsAreEnabled, endingVoluntarilyIsAllowed);
     }
 
-    private boolean actionIsAllowedForUnconfirmedMatchResultState(BingoGameAction action) {
-        return switch (action) {
-            case END_CHALLENGE_VOLUNTARILY, CHANGE_SHIP_RESTRICTION -> false;
-            case SUBMIT_RESULT, CONFIRM_RESULT, PERFORM_RESET, OTHER_ACTION -> true;
-        };
+    private static int getConfigurationIndex(boolean shipRestrictionsAreEnabled, boolean endingVoluntarilyIsAllowed) {
+        return (shipRestrictionsAreEnabled ? 2 : 0) + (endingVoluntarilyIsAllowed ? 1 : 0);
     }
 
     public void ensureActionIsAllowed(BingoGameAction action) throws UserInputException {
@@ -140,6 +142,16 @@ public class BingoGameStateMachine implements Serializable {
         bingoGameState = determineStateBasedOnSetup();
     }
 
+    public void writeStateTo(CompactDataOutput output) throws IOException {
+        output.writeBoolean(shipRestrictionIsSetForAllPlayers);
+        output.writeEnum(bingoGameState);
+    }
+
+    public void readStateFrom(CompactDataInput input) throws IOException {
+        shipRestrictionIsSetForAllPlayers = input.readBoolean();
+        bingoGameState = input.readEnum(BingoGameState.class);
+    }
+
     private BingoGameState determineInitialState() {
         return shipRestrictionsAreEnabled ? determineStateBasedOnSetup() : BingoGameState.PREREQUISITE_SETUP_DONE;
     }
@@ -149,4 +161,155 @@ public class BingoGameStateMachine implements Serializable {
                 BingoGameState.PREREQUISITE_SETUP_DONE :
                 BingoGameState.LEVEL_INITIALIZED;
     }
+
+    /**
+     * Collects every transition which can occur from the initial state onwards, by exploring all allowed actions
+     * with all possible inputs in every reachable state.
+     */
+    public Set<BingoGameTransition> getReachableTransitions() {
+        Set<BingoGameTransition> transitions = new LinkedHashSet<>();
+        List<BingoGameStateMachine> visitedStateMachines = new LinkedList<>();
+        Deque<BingoGameStateMachine> stateMachinesToExplore = new ArrayDeque<>();
+        stateMachinesToExplore.add(new BingoGameStateMachine(shipRestrictionsAreEnabled, endingVoluntarilyIsAllowed));
+        while (!stateMachinesToExplore.isEmpty()) {
+            BingoGameStateMachine stateMachine = stateMachinesToExplore.poll();
+            if (visitedStateMachines.stream().anyMatch(stateMachine::hasSameStateAs)) {
+                continue;
+            }
+            visitedStateMachines.add(stateMachine);
+            for (BingoGameAction action : stateMachine.getAllowedActions()) {
+                for (BingoGameStateMachine successor : stateMachine.getAllSuccessors(action)) {
+                    transitions.add(new BingoGameTransition(
+                            stateMachine.bingoGameState,
+                            action,
+                            successor.bingoGameState));
+                    stateMachinesToExplore.add(successor);
+                }
+            }
+        }
+        return transitions;
+    }
+
+    public String getReachableTransitionsInTableFormat() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("| Source state | Action | Target state |\n");
+        stringBuilder.append("|---|---|---|\n");
+        for (BingoGameTransition transition : getReachableTransitions()) {
+            stringBuilder.append("| %s | %s | %s |\n".formatted(
+                    transition.sourceState(),
+                    transition.action(),
+                    transition.targetState()));
+        }
+        return stringBuilder.toString();
+    }
+
+    private boolean hasSameStateAs(BingoGameStateMachine other) {
+        return bingoGameState.equals(other.bingoGameState)
+                && shipRestrictionIsSetForAllPlayers == other.shipRestrictionIsSetForAllPlayers;
+    }
+
+    private List<BingoGameStateMachine> getAllSuccessors(BingoGameAction action) {
+        List<BingoGameStateMachine> successors = new LinkedList<>();
+        for (boolean firstInput : List.of(false, true)) {
+            for (boolean secondInput : List.of(false, true)) {
+                BingoGameStateMachine successor = new BingoGameStateMachine(this);
+                try {
+                    successor.processAction(action, firstInput, secondInput);
+                } catch (UserInputException exception) {
+                    throw new IllegalStateException("Allowed action %s was rejected".formatted(action), exception);
+                }
+                successors.add(successor);
+            }
+        }
+        return successors;
+    }
+
+    private void processAction(BingoGameAction action, boolean firstInput, boolean secondInput)
+            throws UserInputException {
+        switch (action) {
+            case SUBMIT_RESULT -> processSubmitResultAction(firstInput, secondInput);
+            case CONFIRM_RESULT -> processConfirmResultAction(firstInput, secondInput);
+            case PERFORM_RESET -> processPerformResetAction();
+            case END_CHALLENGE_VOLUNTARILY -> processEndChallengeVoluntarilyAction();
+            case CHANGE_SHIP_RESTRICTION -> processChangeShipRestrictionAction(firstInput);
+            case OTHER_ACTION -> ensureActionIsAllowed(action);
+        }
+    }
+
+    private static List<Map<BingoGameState, Set<BingoGameAction>>> setUpAllowedActionsForAllConfigurations() {
+        List<Map<BingoGameState, Set<BingoGameAction>>> allowedActionsByState = new ArrayList<>();
+        for (boolean shipRestrictionsAreEnabled : List.of(false, true)) {
+            for (boolean endingVoluntarilyIsAllowed : List.of(false, true)) {
+                allowedActionsByState.add(setUpAllowedActions(shipRestrictionsAreEnabled, endingVoluntarilyIsAllowed));
+            }
+        }
+        return allowedActionsByState;
+    }
+
+    private static Map<BingoGameState, Set<BingoGameAction>> setUpAllowedActions(
+            boolean shipRestrictionsAreEnabled, boolean endingVoluntarilyIsAllowed) {
+        Set<BingoGameAction> setupActions = EnumSet.noneOf(BingoGameAction.class);
+        if (endingVoluntarilyIsAllowed) {
+            setupActions.add(BingoGameAction.END_CHALLENGE_VOLUNTARILY);
+        }
+        if (shipRestrictionsAreEnabled) {
+            setupActions.add(BingoGameAction.CHANGE_SHIP_RESTRICTION);
+        }
+        Map<BingoGameState, Set<BingoGameAction>> allowedActions = new EnumMap<>(BingoGameState.class);
+        allowedActions.put(
+                BingoGameState.LEVEL_INITIALIZED,
+                withActions(setupActions, BingoGameAction.PERFORM_RESET, BingoGameAction.OTHER_ACTION));
+        allowedActions.put(
+                BingoGameState.PREREQUISITE_SETUP_DONE,
+                withActions(
+                        setupActions,
+                        BingoGameAction.SUBMIT_RESULT,
+                        BingoGameAction.PERFORM_RESET,
+                        BingoGameAction.OTHER_ACTION));
+        allowedActions.put(
+                BingoGameState.PARTIAL_RESULT_SUBMITTED,
+                EnumSet.of(BingoGameAction.SUBMIT_RESULT, BingoGameAction.PERFORM_RESET, BingoGameAction.OTHER_ACTION));
+        allowedActions.put(
+                BingoGameState.UNCONFIRMED_VOLUNTARY_END,
+                EnumSet.of(
+                        BingoGameAction.SUBMIT_RESULT,
+                        BingoGameAction.CONFIRM_RESULT,
+                        BingoGameAction.PERFORM_RESET));
+        for (BingoGameState state : List.of(
+                BingoGameState.UNCONFIRMED_SUCCESSFUL_MATCH,
+                BingoGameState.UNCONFIRMED_UNSUCCESSFUL_MATCH)) {
+            allowedActions.put(
+                    state,
+                    EnumSet.of(
+                            BingoGameAction.SUBMIT_RESULT,
+                            BingoGameAction.CONFIRM_RESULT,
+                            BingoGameAction.PERFORM_RESET,
+                            BingoGameAction.OTHER_ACTION));
+        }
+        for (BingoGameState state : BingoGameState.values()) {
+            allowedActions.computeIfAbsent(state, ignoredState -> EnumSet.noneOf(BingoGameAction.class));
+            allowedActions.put(state, Collections.unmodifiableSet(allowedActions.get(state)));
+        }
+        return Collections.unmodifiableMap(allowedActions);
+    }
+
+    private static Set<BingoGameAction> withActions(
+            Set<BingoGameAction> actions, BingoGameAction... additionalActions) {
+        Set<BingoGameAction> combinedActions = EnumSet.copyOf(List.of(additionalActions));
+        combinedActions.addAll(actions);
+        return combinedActions;
+    }
+
+    private static long[][] setUpAllowedActionMasks() {
+        long[][] allowedActionMasks = new long[ALLOWED_ACTIONS_BY_STATE.size()][BingoGameState.values().length];
+        for (int configurationIndex = 0; configurationIndex < allowedActionMasks.length; configurationIndex++) {
+            for (Map.Entry<BingoGameState, Set<BingoGameAction>> entry :
+                    ALLOWED_ACTIONS_BY_STATE.get(configurationIndex).entrySet()) {
+                for (BingoGameAction action : entry.getValue()) {
+                    allowedActionMasks[configurationIndex][entry.getKey().ordinal()] |= 1L << action.ordinal();
+                }
+            }
+        }
+        return allowedActionMasks;
+    }
 }
@@ -0,0 +1,4 @@
+package bingo.game;
+
+public record BingoGameTransition(BingoGameState sourceState, BingoGameAction action, BingoGameState targetState) {
+}
@@ -0,0 +1,192 @@
+package bingo.game;
+
+import bingo.game.input.UserInputException;
+import bingo.game.players.Player;
+import bingo.game.results.BingoResult;
+import bingo.game.results.division.SharedDivisionAchievements;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Collects the results of one match from the players of a division, which may submit them concurrently. The slots of
+ * all results, the number of missing results and the phase of the collection are kept in one immutable value, which
+ * each call replaces with a single compare-and-set, so no call can observe or overwrite a partial change of another
+ * one. The results are handed to the game in a single step once the last one has arrived. The game must not be changed
+ * by other means while results are being collected.
+ */
+public class ConcurrentResultSubmission {
+    private final BingoGame bingoGame;
+    private final List<Player> players;
+    private final AtomicReference<CollectedResults> collectedResults;
+
+    public ConcurrentResultSubmission(BingoGame bingoGame) throws UserInputException {
+        if (!bingoGame.actionIsAllowed(BingoGameAction.SUBMIT_RESULT)) {
+            throw new UserInputException("Results cannot be submitted in the current state of the game");
+        }
+        this.bingoGame = bingoGame;
+        this.players = List.copyOf(bingoGame.getPlayers());
+        this.collectedResults = new AtomicReference<>(CollectedResults.empty(players.size()));
+    }
+
+    /**
+     * Submits the result of the player. The slot of the player is taken before the result is checked against the game,
+     * and a result only counts as arrived once it was checked, so the game is never handed the results while it is
+     * being read. Only the call which submits the last missing result hands the results to the game, and it alone
+     * receives the state which the game is in afterwards.
+     */
+    public Optional<BingoGameState> submitBingoResultForPlayer(Player player, BingoResult bingoResult)
+            throws UserInputException {
+        int playerIndex = players.indexOf(player);
+        if (playerIndex < 0) {
+            throw new UserInputException("%s is not participating in the game".formatted(player.name()));
+        }
+        CollectedResults current;
+        do {
+            current = collectedResults.get();
+            ensureResultsAreBeingCollected(current);
+            if (current.bingoResults()[playerIndex] != null) {
+                throw new UserInputException("A result was already submitted for %s".formatted(player.name()));
+            }
+        } while (!collectedResults.compareAndSet(current, current.withReservedSlot(playerIndex, bingoResult)));
+        try {
+            bingoGame.ensureBingoResultCanBeSubmitted(player, bingoResult);
+        } catch (UserInputException exception) {
+            collectedResults.updateAndGet(reserved -> reserved.withReleasedSlot(playerIndex));
+            throw exception;
+        }
+        CollectedResults arrived = collectedResults.updateAndGet(CollectedResults::withArrivedResult);
+        if (arrived.phase() != Phase.HANDING_OVER) {
+            return Optional.empty();
+        }
+        try {
+            bingoGame.submitResultsOfAllPlayers(
+                    arrived.getBingoResultByPlayer(players),
+                    arrived.sharedDivisionAchievements());
+        } catch (UserInputException exception) {
+            collectedResults.set(resumeCollecting(arrived, playerIndex));
+            throw exception;
+        }
+        collectedResults.set(arrived.withPhase(Phase.COMPLETE));
+        return Optional.of(bingoGame.getCurrentState());
+    }
+
+    /**
+     * Takes back the result which completed the results, as well as every result which the game no longer accepts, so
+     * that these players can submit their results again. The shared division achievements are kept. No other call can
+     * change the collected results while they are handed to the game, so they are replaced without compare-and-set.
+     */
+    private CollectedResults resumeCollecting(CollectedResults handedOver, int lastPlayerIndex) {
+        CollectedResults resumed = handedOver.withTakenBackResult(lastPlayerIndex);
+        for (int index = 0; index < players.size(); index++) {
+            BingoResult bingoResult = resumed.bingoResults()[index];
+            if (bingoResult != null && !bingoResultCanBeSubmitted(players.get(index), bingoResult)) {
+                resumed = resumed.withTakenBackResult(index);
+            }
+        }
+        return resumed.withPhase(Phase.COLLECTING);
+    }
+
+    private boolean bingoResultCanBeSubmitted(Player player, BingoResult bingoResult) {
+        try {
+            bingoGame.ensureBingoResultCanBeSubmitted(player, bingoResult);
+            return true;
+        } catch (UserInputException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Submits the shared division achievements, which are only taken into account if they arrive before the last result
+     * of a player.
+     */
+    public void submitSharedDivisionAchievements(SharedDivisionAchievements sharedDivisionAchievements)
+            throws UserInputException {
+        CollectedResults current;
+        do {
+            current = collectedResults.get();
+            ensureResultsAreBeingCollected(current);
+            if (current.sharedDivisionAchievements() != null) {
+                throw new UserInputException("Shared division achievements were already submitted");
+            }
+        } while (!collectedResults.compareAndSet(
+                current,
+                current.withSharedDivisionAchievements(sharedDivisionAchievements)));
+    }
+
+    private void ensureResultsAreBeingCollected(CollectedResults current) throws UserInputException {
+        if (current.phase() != Phase.COLLECTING) {
+            throw new UserInputException("All results were already submitted");
+        }
+    }
+
+    public boolean isComplete() {
+        return collectedResults.get().phase() == Phase.COMPLETE;
+    }
+
+    private enum Phase {
+        COLLECTING,
+        HANDING_OVER,
+        COMPLETE
+    }
+
+    /**
+     * The slots of the results, where a result counts as missing until it was checked against the game. The array is
+     * never changed once the value was created.
+     */
+    private record CollectedResults(
+            BingoResult[] bingoResults, SharedDivisionAchievements sharedDivisionAchievements,
+            int numberOfMissingResults, Phase phase) {
+
+        static CollectedResults empty(int numberOfPlayers) {
+            return new CollectedResults(new BingoResult[numberOfPlayers], null, numberOfPlayers, Phase.COLLECTING);
+        }
+
+        CollectedResults withReservedSlot(int playerIndex, BingoResult bingoResult) {
+            return withSlot(playerIndex, bingoResult, numberOfMissingResults);
+        }
+
+        CollectedResults withReleasedSlot(int playerIndex) {
+            return withSlot(playerIndex, null, numberOfMissingResults);
+        }
+
+        CollectedResults withTakenBackResult(int playerIndex) {
+            return withSlot(playerIndex, null, numberOfMissingResults + 1);
+        }
+
+        private CollectedResults withSlot(int playerIndex, BingoResult bingoResult, int numberOfMissingResults) {
+            BingoResult[] updatedBingoResults = bingoResults.clone();
+            updatedBingoResults[playerIndex] = bingoResult;
+            return new CollectedResults(updatedBingoResults, sharedDivisionAchievements, numberOfMissingResults, phase);
+        }
+
+        CollectedResults withArrivedResult() {
+            int updatedNumberOfMissingResults = numberOfMissingResults - 1;
+            Phase updatedPhase = updatedNumberOfMissingResults == 0 ? Phase.HANDING_OVER : phase;
+            return new CollectedResults(
+                    bingoResults,
+                    sharedDivisionAchievements,
+                    updatedNumberOfMissingResults,
+                    updatedPhase);
+        }
+
+        CollectedResults withSharedDivisionAchievements(SharedDivisionAchievements sharedDivisionAchievements) {
+            return new CollectedResults(bingoResults, sharedDivisionAchievements, numberOfMissingResults, phase);
+        }
+
+        CollectedResults withPhase(Phase phase) {
+            return new CollectedResults(bingoResults, sharedDivisionAchievements, numberOfMissingResults, phase);
+        }
+
+        Map<Player, BingoResult> getBingoResultByPlayer(List<Player> players) {
+            Map<Player, BingoResult> bingoResultByPlayer = new HashMap<>();
+            for (int index = 0; index < players.size(); index++) {
+                bingoResultByPlayer.put(players.get(index), bingoResults[index]);
+            }
+            return bingoResultByPlayer;
+        }
+    }
+}
@@ -8,6 +8,8 @@ import bingo.game.ribbons.Ribbon;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -34,7 +36,7 @@ public enum Achievement implements Serializable {
 
     @Serial
     private static final long serialVersionUID = 8667639193335488476L;
-    private static final Map<Achievement, List<PointValueModifier>> POINT_VALUE_MODIFIERS = setUpModifiers();
+    private static final PointValueModifier[][] POINT_VALUE_MODIFIERS = setUpModifiers();
 
     private final String displayText;
     private final int flatPointValue;
@@ -53,7 +55,11 @@ public enum Achievement implements Serializable {
     }
 
     public List<PointValueModifier> getPointValueModifiers() {
-        return new LinkedList<>(POINT_VALUE_MODIFIERS.get(this));
+        return Collections.unmodifiableList(Arrays.asList(getPointValueModifierArray()));
+    }
+
+    PointValueModifier[] getPointValueModifierArray() {
+        return POINT_VALUE_MODIFIERS[ordinal()];
     }
 
     @Override
@@ -65,16 +71,15 @@ public enum Achievement implements Serializable {
         StringBuilder stringBuilder = new StringBuilder();
         for (Achievement achievement : Achievement.values()) {
             stringBuilder.append("- ").append(achievement.toString());
-            POINT_VALUE_MODIFIERS.get(achievement)
-                    .stream()
-                    .map(PointValueModifier::toString)
-                    .forEach(stringBuilder::append);
+            for (PointValueModifier pointValueModifier : achievement.getPointValueModifierArray()) {
+                stringBuilder.append(pointValueModifier.toString());
+            }
             stringBuilder.append("\n");
         }
         return stringBuilder.toString();
     }
 
-    private static Map<Achievement, List<PointValueModifier>> setUpModifiers() {
+    private static PointValueModifier[][] setUpModifiers() {
         Map<Achievement, List<PointValueModifier>> pointValueModifiers = new HashMap<>();
         for (Achievement achievement : Achievement.values()) {
             pointValueModifiers.put(achievement, new LinkedList<>());
@@ -86,6 +91,11 @@ public enum Achievement implements Serializable {
         pointValueModifiers.get(COMBAT_SCOUT).add(new PointValueModifier(Ribbon.SPOTTED, 0.6));
         pointValueModifiers.get(WITHERER).add(new PointValueModifier(Ribbon.SET_ON_FIRE, 0.3));
         pointValueModifiers.get(WITHERER).add(new PointValueModifier(Ribbon.CAUSED_FLOODING, 0.3));
-        return pointValueModifiers;
+        PointValueModifier[][] pointValueModifierArrays = new PointValueModifier[Achievement.values().length][];
+        for (Achievement achievement : Achievement.values()) {
+            pointValueModifierArrays[achievement.ordinal()] =
+                    pointValueModifiers.get(achievement).toArray(new PointValueModifier[0]);
+        }
+        return pointValueModifierArrays;
     }
 }
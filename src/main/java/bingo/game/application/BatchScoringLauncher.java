@@ -0,0 +1,27 @@
+package bingo.game.application;
+
+import bingo.game.input.UserInputException;
+import bingo.game.scoring.BatchScorer;
+import bingo.game.scoring.BatchScoringReport;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Scores a CSV or JSON-lines file of match results without starting the user interface.
+ */
+public class BatchScoringLauncher {
+    static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: BatchScoringLauncher <input file (.csv, .jsonl or .ndjson)> <output file>");
+            System.exit(2);
+        }
+        try {
+            BatchScoringReport report = new BatchScorer().score(Path.of(args[0]), Path.of(args[1]));
+            System.out.println(report);
+        } catch (IOException | UserInputException exception) {
+            System.err.println("Scoring failed: " + exception.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -1,21 +1,53 @@
 package bingo.game.application;
 
+import bingo.game.BingoGame;
 import bingo.game.application.gui.PlayerRegistrationUserInterface;
 import bingo.game.application.gui.constants.UserInterfaceConstants;
+import bingo.game.service.ScoringHttpService;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
+import java.io.IOException;
+
+/**
+ * Shows the user interface and serves the rules and the game which is being played on the local scoring service, so
+ * chat bots and overlays can show the game while it is played.
+ */
 public class BingoGameApplication extends Application {
+    private ScoringHttpService scoringHttpService;
 
     @Override
     public void start(Stage primaryStage) {
         primaryStage.setTitle(UserInterfaceConstants.APPLICATION_TITLE);
+        startScoringService();
         PlayerRegistrationUserInterface playerRegistrationUserInterface =
-                new PlayerRegistrationUserInterface(primaryStage);
+                new PlayerRegistrationUserInterface(primaryStage, this::serveGame);
         playerRegistrationUserInterface.setScene();
         primaryStage.show();
     }
 
+    private void startScoringService() {
+        try {
+            scoringHttpService = new ScoringHttpService(ScoringHttpService.DEFAULT_PORT);
+            scoringHttpService.start();
+        } catch (IOException exception) {
+            System.err.println("Scoring service could not be started: " + exception.getMessage());
+        }
+    }
+
+    private void serveGame(BingoGame bingoGame) {
+        if (scoringHttpService != null) {
+            scoringHttpService.serveGame(bingoGame);
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (scoringHttpService != null) {
+            scoringHttpService.stop();
+        }
+    }
+
     static void main(String[] args) {
         Application.launch(args);
     }
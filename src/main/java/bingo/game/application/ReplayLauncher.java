@@ -0,0 +1,47 @@
+package bingo.game.application;
+
+import bingo.game.replay.BingoGameLog;
+import bingo.game.replay.BingoGameReplayReport;
+import bingo.game.replay.BingoGameReplayResult;
+import bingo.game.replay.BingoGameReplayer;
+import bingo.game.utility.BingoGameLogSerializer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Replays all game logs (.wrbl) in a directory, e.g. the ones recorded next to the autosaves, and reports the
+ * throughput and every log whose replay diverged.
+ */
+public class ReplayLauncher {
+    static void main(String[] args) {
+        if (args.length != 1) {
+            System.err.println("Usage: ReplayLauncher <directory with game logs (.wrbl)>");
+            System.exit(2);
+        }
+        List<BingoGameLog> bingoGameLogs = new ArrayList<>();
+        BingoGameLogSerializer bingoGameLogSerializer = new BingoGameLogSerializer();
+        try (Stream<Path> filePaths = Files.list(Path.of(args[0]))) {
+            for (Path filePath : filePaths.filter(filePath -> filePath.toString().endsWith(".wrbl")).toList()) {
+                bingoGameLogs.add(bingoGameLogSerializer.loadLog(filePath));
+            }
+        } catch (IOException exception) {
+            System.err.println("Game logs could not be loaded: " + exception.getMessage());
+            System.exit(1);
+        }
+        BingoGameReplayReport report = new BingoGameReplayer().replayAll(bingoGameLogs);
+        System.out.println(report);
+        for (BingoGameReplayResult result : report.getDivergentResults()) {
+            System.out.println("%s diverged: %s".formatted(
+                    result.logName(),
+                    result.divergence().orElseThrow().description()));
+        }
+        if (!report.getDivergentResults().isEmpty()) {
+            System.exit(1);
+        }
+    }
+}
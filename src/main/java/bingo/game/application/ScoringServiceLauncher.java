@@ -0,0 +1,32 @@
+package bingo.game.application;
+
+import bingo.game.service.ScoringHttpService;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+/**
+ * Starts the scoring service on the loopback address without starting the user interface.
+ */
+public class ScoringServiceLauncher {
+    static void main(String[] args) {
+        int port = ScoringHttpService.DEFAULT_PORT;
+        if (args.length > 0) {
+            try {
+                port = Integer.parseInt(args[0]);
+            } catch (NumberFormatException exception) {
+                System.err.println("Usage: ScoringServiceLauncher [port]");
+                System.exit(2);
+            }
+        }
+        try {
+            ScoringHttpService scoringHttpService = new ScoringHttpService(port);
+            scoringHttpService.start();
+            InetSocketAddress address = scoringHttpService.getAddress();
+            System.out.printf("Scoring service listening on http://%s:%s%n", address.getHostString(), address.getPort());
+        } catch (IOException exception) {
+            System.err.println("Scoring service could not be started: " + exception.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -2,14 +2,17 @@ package bingo.game.application.gui;
 
 import bingo.game.BingoGame;
 import bingo.game.BingoGameAction;
+import bingo.game.BingoGameSnapshot;
 import bingo.game.achievements.Achievement;
 import bingo.game.achievements.AchievementResult;
 import bingo.game.achievements.division.DivisionAchievement;
 import bingo.game.application.gui.constants.UserInterfaceConstants;
 import bingo.game.application.gui.utility.UserInterfaceUtility;
+import bingo.game.history.BingoGameHistory;
 import bingo.game.input.UserInputException;
 import bingo.game.modifiers.ChallengeModifier;
 import bingo.game.players.Player;
+import bingo.game.replay.BingoGameLogRecorder;
 import bingo.game.restrictions.ShipRestriction;
 import bingo.game.restrictions.generator.RandomShipRestrictionGenerator;
 import bingo.game.results.BingoResult;
@@ -18,8 +21,12 @@ import bingo.game.ribbons.Ribbon;
 import bingo.game.ribbons.RibbonResult;
 import bingo.game.ships.MainArmamentType;
 import bingo.game.ships.Ship;
+import bingo.game.utility.BingoGameAutosaver;
+import bingo.game.utility.BingoGameJournal;
+import bingo.game.utility.BingoGameLogSerializer;
 import bingo.game.utility.BingoGameOutputSplitter;
-import bingo.game.utility.BingoGameSerializer;
+import bingo.game.utility.ChatMessageSink;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
@@ -38,26 +45,35 @@ import javafx.stage.Stage;
 import javafx.util.StringConverter;
 
 import java.io.IOException;
-import java.time.LocalDate;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
-public class BingoGameUserInterface {
+public class BingoGameUserInterface implements BingoGameAutosaver.AutosaveListener {
+    private static final String JOURNAL_FILE_EXTENSION = ".wrb";
+    private static final String LOG_FILE_EXTENSION = ".wrbl";
+
     private final BingoGame bingoGame;
     private final Stage primaryStage;
     private final boolean autosaveIsEnabled;
+    private final BingoGameHistory bingoGameHistory;
     private final RandomShipRestrictionGenerator randomShipRestrictionGenerator;
     private final ComboBox<Player> playerComboBox;
     private final ComboBox<MainArmamentType> mainArmamentTypeComboBox;
     private final BingoGameOutputSplitter bingoGameOutputSplitter;
-    private final BingoGameSerializer bingoGameSerializer;
     private final UserInterfaceUtility userInterfaceUtility;
     private final Map<Ribbon, TextField> textFieldsByRibbon;
     private final Map<Achievement, TextField> textFieldsByAchievement;
@@ -69,6 +85,8 @@ public class BingoGameUserInterface {
     private final Button confirmButton;
     private final Button endChallengeButton;
     private final Button resetButton;
+    private final Button undoButton;
+    private final Button redoButton;
     private final Button clearInputButton;
     private final Button resetTextAreaButton;
     private final Button addShipButton;
@@ -87,11 +105,11 @@ public class BingoGameUserInterface {
         this.bingoGame = bingoGame;
         this.primaryStage = primaryStage;
         this.autosaveIsEnabled = autosaveIsEnabled;
+        this.bingoGameHistory = new BingoGameHistory(bingoGame);
         this.randomShipRestrictionGenerator = new RandomShipRestrictionGenerator();
         this.playerComboBox = new ComboBox<>();
         this.mainArmamentTypeComboBox = new ComboBox<>();
         this.bingoGameOutputSplitter = new BingoGameOutputSplitter();
-        this.bingoGameSerializer = new BingoGameSerializer();
         this.userInterfaceUtility = new UserInterfaceUtility();
         this.textFieldsByRibbon = new HashMap<>();
         this.textFieldsByAchievement = new HashMap<>();
@@ -103,6 +121,8 @@ public class BingoGameUserInterface {
         this.confirmButton = new Button("Confirm result");
         this.endChallengeButton = new Button("End challenge");
         this.resetButton = new Button("Reset current level");
+        this.undoButton = new Button("Undo");
+        this.redoButton = new Button("Redo");
         this.clearInputButton = new Button("Clear input fields");
         this.resetTextAreaButton = new Button("Reset text area");
         this.addShipButton = new Button("Add ship from input field");
@@ -121,7 +141,14 @@ public class BingoGameUserInterface {
         setUpGridWithComboBoxesAndRetryingIsAllowedCheckBox();
         setUpGridWithButtons();
         setUpGridWithLargeTextAreaAndTableView();
+        bingoGameHistory.start();
+        bingoGame.addEventListener(event -> updateUndoAndRedoButtons());
         performResetOnUserInterface();
+        if (autosaveIsEnabled) {
+            String fileBaseName = generateUniqueFileBaseName();
+            startJournal(fileBaseName + JOURNAL_FILE_EXTENSION);
+            startRecordingLog(fileBaseName + LOG_FILE_EXTENSION);
+        }
     }
 
     public void setScene() {
@@ -205,6 +232,8 @@ public class BingoGameUserInterface {
         userInterfaceUtility.setEventHandlers(confirmButton, this::confirmResult);
         userInterfaceUtility.setEventHandlers(endChallengeButton, this::endChallenge);
         userInterfaceUtility.setEventHandlers(resetButton, this::resetCurrentLevel);
+        userInterfaceUtility.setEventHandlers(undoButton, this::undoChange);
+        userInterfaceUtility.setEventHandlers(redoButton, this::redoChange);
         userInterfaceUtility.setEventHandlers(clearInputButton, this::clearAllInputFields);
         userInterfaceUtility.setEventHandlers(resetTextAreaButton, this::resetTextArea);
         GridPane gridPane = createNewGridPane();
@@ -212,9 +241,11 @@ public class BingoGameUserInterface {
         gridPane.add(confirmButton, 1, 0);
         gridPane.add(endChallengeButton, 2, 0);
         gridPane.add(resetButton, 3, 0);
-        gridPane.add(clearInputButton, 4, 0);
-        gridPane.add(resetTextAreaButton, 5, 0);
-        gridPane.add(lastAutosaveLabel, 6, 0);
+        gridPane.add(undoButton, 4, 0);
+        gridPane.add(redoButton, 5, 0);
+        gridPane.add(clearInputButton, 6, 0);
+        gridPane.add(resetTextAreaButton, 7, 0);
+        gridPane.add(lastAutosaveLabel, 8, 0);
         goToNextMainGridRow();
     }
 
@@ -292,37 +323,41 @@ public class BingoGameUserInterface {
     }
 
     private void updateComboBoxWithAllowedMainArmamentTypes() {
-        try {
-            Optional<ShipRestriction> optionalRestriction = bingoGame.getShipRestrictionForPlayer(getSelectedPlayer());
-            final List<MainArmamentType> allowedMainArmamentTypes;
-            if (optionalRestriction.isPresent()) {
-                ShipRestriction shipRestriction = optionalRestriction.get();
-                allowedMainArmamentTypes =
-                        Stream.of(MainArmamentType.values()).filter(shipRestriction::allowsMainArmamentType).toList();
-            } else {
-                allowedMainArmamentTypes = List.of(MainArmamentType.values());
-            }
-            mainArmamentTypeComboBox.getItems().clear();
-            mainArmamentTypeComboBox.getItems().addAll(allowedMainArmamentTypes);
-            mainArmamentTypeComboBox.setValue(allowedMainArmamentTypes.getFirst());
-        } catch (UserInputException exception) {
-            showMessageOfUserInputExceptionInTextArea(exception);
+        Optional<ShipRestriction> optionalRestriction =
+                bingoGame.getSnapshot().getShipRestrictionForPlayer(getSelectedPlayer());
+        final List<MainArmamentType> allowedMainArmamentTypes;
+        if (optionalRestriction.isPresent()) {
+            ShipRestriction shipRestriction = optionalRestriction.get();
+            allowedMainArmamentTypes =
+                    Stream.of(MainArmamentType.values()).filter(shipRestriction::allowsMainArmamentType).toList();
+        } else {
+            allowedMainArmamentTypes = List.of(MainArmamentType.values());
         }
+        mainArmamentTypeComboBox.getItems().clear();
+        mainArmamentTypeComboBox.getItems().addAll(allowedMainArmamentTypes);
+        mainArmamentTypeComboBox.setValue(allowedMainArmamentTypes.getFirst());
     }
 
     private void updateButtonVisibility() {
-        submitButton.setDisable(actionIsProhibited(BingoGameAction.SUBMIT_RESULT));
-        confirmButton.setDisable(actionIsProhibited(BingoGameAction.CONFIRM_RESULT));
-        endChallengeButton.setDisable(actionIsProhibited(BingoGameAction.END_CHALLENGE_VOLUNTARILY));
-        resetButton.setDisable(actionIsProhibited(BingoGameAction.PERFORM_RESET));
-        addShipButton.setDisable(actionIsProhibited(BingoGameAction.OTHER_ACTION));
-        removeShipButton.setDisable(actionIsProhibited(BingoGameAction.OTHER_ACTION));
-        setRestrictionButton.setDisable(actionIsProhibited(BingoGameAction.CHANGE_SHIP_RESTRICTION));
-        removeRestrictionButton.setDisable(actionIsProhibited(BingoGameAction.CHANGE_SHIP_RESTRICTION));
+        Set<BingoGameAction> allowedActions = bingoGame.getSnapshot().allowedActions();
+        submitButton.setDisable(actionIsProhibited(allowedActions, BingoGameAction.SUBMIT_RESULT));
+        confirmButton.setDisable(actionIsProhibited(allowedActions, BingoGameAction.CONFIRM_RESULT));
+        endChallengeButton.setDisable(actionIsProhibited(allowedActions, BingoGameAction.END_CHALLENGE_VOLUNTARILY));
+        resetButton.setDisable(actionIsProhibited(allowedActions, BingoGameAction.PERFORM_RESET));
+        addShipButton.setDisable(actionIsProhibited(allowedActions, BingoGameAction.OTHER_ACTION));
+        removeShipButton.setDisable(actionIsProhibited(allowedActions, BingoGameAction.OTHER_ACTION));
+        setRestrictionButton.setDisable(actionIsProhibited(allowedActions, BingoGameAction.CHANGE_SHIP_RESTRICTION));
+        removeRestrictionButton.setDisable(actionIsProhibited(allowedActions, BingoGameAction.CHANGE_SHIP_RESTRICTION));
+        updateUndoAndRedoButtons();
     }
 
-    private boolean actionIsProhibited(BingoGameAction action) {
-        return !bingoGame.actionIsAllowed(action);
+    private void updateUndoAndRedoButtons() {
+        undoButton.setDisable(!bingoGameHistory.canUndo());
+        redoButton.setDisable(!bingoGameHistory.canRedo());
+    }
+
+    private boolean actionIsProhibited(Set<BingoGameAction> allowedActions, BingoGameAction action) {
+        return !allowedActions.contains(action);
     }
 
     private GridPane createGridPaneForTableInputFieldAndButtons() {
@@ -428,30 +463,70 @@ public class BingoGameUserInterface {
             bingoGame.confirmCurrentResult();
             updateComboBoxWithAllowedMainArmamentTypes();
             performResetOnUserInterface();
-            if (autosaveIsEnabled) {
-                createAutosaveFile();
-            }
         } catch (UserInputException exception) {
             showMessageOfUserInputExceptionInTextArea(exception);
         }
     }
 
-    private void createAutosaveFile() {
-        String fileName = generateFileNameForAutosave();
-        String filePath = "%s/%s".formatted(UserInterfaceConstants.AUTOSAVE_DIRECTORY, fileName);
+    private void startJournal(String fileName) {
+        Path filePath = Path.of(UserInterfaceConstants.AUTOSAVE_DIRECTORY, fileName);
+        BingoGameJournal bingoGameJournal = new BingoGameJournal(bingoGame, new BingoGameAutosaver(filePath, this));
         try {
-            bingoGameSerializer.saveGame(bingoGame, filePath);
-            updateLastAutosaveLabel();
+            bingoGameJournal.start();
         } catch (IOException exception) {
-            textArea.setText("Failed to create autosave file: " + exception.getMessage());
+            showAutosaveFailureInTextArea(exception);
         }
     }
 
-    private String generateFileNameForAutosave() {
-        LocalDate today = LocalDate.now();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy_MM_dd");
-        String dateString = today.format(formatter);
-        return "%s_%s.wrb".formatted(getPlayerNamesAsString(), dateString);
+    private void startRecordingLog(String fileName) {
+        BingoGameLogRecorder bingoGameLogRecorder = new BingoGameLogRecorder(fileName, bingoGame);
+        bingoGameLogRecorder.recordCurrentState();
+        bingoGameLogRecorder.start();
+        primaryStage.setOnHidden(ignoredEvent -> saveLog(bingoGameLogRecorder, fileName));
+    }
+
+    private void saveLog(BingoGameLogRecorder bingoGameLogRecorder, String fileName) {
+        bingoGameLogRecorder.stop();
+        Path filePath = Path.of(UserInterfaceConstants.AUTOSAVE_DIRECTORY, fileName);
+        try {
+            new BingoGameLogSerializer().saveLog(bingoGameLogRecorder.getLog(), filePath);
+        } catch (IOException exception) {
+            System.err.println("Game log could not be saved: " + exception.getMessage());
+        }
+    }
+
+    @Override
+    public void autosaveSucceeded(Path filePath, Duration latency) {
+        Platform.runLater(() -> updateLastAutosaveLabel(latency));
+    }
+
+    @Override
+    public void autosaveFailed(Path filePath, IOException exception) {
+        Platform.runLater(() -> showAutosaveFailureInTextArea(exception));
+    }
+
+    private void showAutosaveFailureInTextArea(IOException exception) {
+        textArea.setText("Failed to create autosave file: " + exception.getMessage());
+    }
+
+    /**
+     * Names the autosave and the game log after the players and the time at which the game window was opened, and adds
+     * a counter while an autosave or a game log of another game already has that name, so it is never overwritten.
+     */
+    private String generateUniqueFileBaseName() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy_MM_dd_HH_mm_ss");
+        String fileBaseName = "%s_%s".formatted(getPlayerNamesAsString(), LocalDateTime.now().format(formatter));
+        String uniqueFileBaseName = fileBaseName;
+        for (int counter = 2; autosaveFileExists(uniqueFileBaseName); counter++) {
+            uniqueFileBaseName = "%s_%s".formatted(fileBaseName, counter);
+        }
+        return uniqueFileBaseName;
+    }
+
+    private boolean autosaveFileExists(String fileBaseName) {
+        return Stream.of(JOURNAL_FILE_EXTENSION, LOG_FILE_EXTENSION)
+                .map(fileExtension -> Path.of(UserInterfaceConstants.AUTOSAVE_DIRECTORY, fileBaseName + fileExtension))
+                .anyMatch(Files::exists);
     }
 
     private String getPlayerNamesAsString() {
@@ -474,11 +549,39 @@ public class BingoGameUserInterface {
         return autosaveIsEnabled ? "Game not autosaved yet" : "Game will not be autosaved";
     }
 
-    private void updateLastAutosaveLabel() {
+    private void updateLastAutosaveLabel(Duration latency) {
         LocalTime currentTime = LocalTime.now();
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm");
         String timeString = currentTime.format(formatter);
-        lastAutosaveLabel.setText("Last successful autosave at " + timeString);
+        String labelText = "Last successful autosave at %s (took %s ms)".formatted(timeString, latency.toMillis());
+        lastAutosaveLabel.setText(labelText);
+    }
+
+    private void undoChange(InputEvent ignoredEvent) {
+        try {
+            bingoGameHistory.undo();
+            updateUserInterfaceFromGame();
+        } catch (UserInputException exception) {
+            showMessageOfUserInputExceptionInTextArea(exception);
+        }
+    }
+
+    private void redoChange(InputEvent ignoredEvent) {
+        try {
+            bingoGameHistory.redo();
+            updateUserInterfaceFromGame();
+        } catch (UserInputException exception) {
+            showMessageOfUserInputExceptionInTextArea(exception);
+        }
+    }
+
+    private void updateUserInterfaceFromGame() {
+        BingoGameSnapshot bingoGameSnapshot = bingoGame.getSnapshot();
+        tableView.getItems().setAll(bingoGameSnapshot.shipsUsed());
+        retryingIsAllowedCheckBox.setSelected(bingoGameSnapshot.retryingIsAllowed());
+        onPlayerSelectionChange(null);
+        setTextInTextArea();
+        updateButtonVisibility();
     }
 
     private void resetCurrentLevel(InputEvent ignoredEvent) {
@@ -533,14 +636,10 @@ public class BingoGameUserInterface {
     }
 
     private void setTextInTextArea() {
-        try {
-            String bingoGameOutput = bingoGame.toString();
-            List<String> splitOutput = bingoGameOutputSplitter.process(bingoGameOutput);
-            String splitOutputAsString = bingoGameOutputSplitter.combineAsStringWithDoubleLineBreaks(splitOutput);
-            textArea.setText(splitOutputAsString);
-        } catch (UserInputException exception) {
-            showMessageOfUserInputExceptionInTextArea(exception);
-        }
+        List<String> splitOutput = new ArrayList<>();
+        bingoGame.renderTo(new ChatMessageSink(splitOutput::add));
+        String splitOutputAsString = bingoGameOutputSplitter.combineAsStringWithDoubleLineBreaks(splitOutput);
+        textArea.setText(splitOutputAsString);
     }
 
     private void showMessageOfUserInputExceptionInTextArea(UserInputException exception) {
@@ -623,30 +722,27 @@ public class BingoGameUserInterface {
     }
 
     private void onPlayerSelectionChange(ActionEvent ignoredEvent) {
-        try {
-            Optional<BingoResult> optionalBingoResult = bingoGame.getBingoResultForPlayer(getSelectedPlayer());
-            updateComboBoxWithAllowedMainArmamentTypes();
-            clearPlayerDependentInputFields();
-            if (optionalBingoResult.isPresent()) {
-                BingoResult bingoResult = optionalBingoResult.get();
-                mainArmamentTypeComboBox.setValue(bingoResult.getMainArmamentType());
-                updateRibbonAmountsFromPlayerData(bingoResult.getRibbonResultList());
-                updateAchievementAmountsFromPlayerData(bingoResult.getAchievementResultList());
-            }
-        } catch (UserInputException exception) {
-            showMessageOfUserInputExceptionInTextArea(exception);
+        Optional<BingoResult> optionalBingoResult =
+                bingoGame.getSnapshot().getBingoResultForPlayer(getSelectedPlayer());
+        updateComboBoxWithAllowedMainArmamentTypes();
+        clearPlayerDependentInputFields();
+        if (optionalBingoResult.isPresent()) {
+            BingoResult bingoResult = optionalBingoResult.get();
+            mainArmamentTypeComboBox.setValue(bingoResult.getMainArmamentType());
+            updateRibbonAmountsFromPlayerData(bingoResult.getRibbonResults());
+            updateAchievementAmountsFromPlayerData(bingoResult.getAchievementResults());
         }
     }
 
-    private void updateRibbonAmountsFromPlayerData(List<RibbonResult> ribbonResultList) {
-        for (RibbonResult ribbonResult : ribbonResultList) {
+    private void updateRibbonAmountsFromPlayerData(Collection<RibbonResult> ribbonResults) {
+        for (RibbonResult ribbonResult : ribbonResults) {
             TextField textField = textFieldsByRibbon.get(ribbonResult.ribbon());
             textField.setText(String.valueOf(ribbonResult.amount()));
         }
     }
 
-    private void updateAchievementAmountsFromPlayerData(List<AchievementResult> achievementResultList) {
-        for (AchievementResult achievementResult : achievementResultList) {
+    private void updateAchievementAmountsFromPlayerData(Collection<AchievementResult> achievementResults) {
+        for (AchievementResult achievementResult : achievementResults) {
             TextField textField = textFieldsByAchievement.get(achievementResult.achievement());
             textField.setText(String.valueOf(achievementResult.amount()));
         }
@@ -31,6 +31,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public class PlayerRegistrationUserInterface {
     private static final String CREATE_AUTOSAVE_FAILURE_HEADER = "Failed to create autosave directory";
@@ -41,6 +42,7 @@ public class PlayerRegistrationUserInterface {
             "The save file may be from a previous version of the game. Either start a new game, or try loading the save file with a previous version of the application.";
 
     private final Stage primaryStage;
+    private final Consumer<BingoGame> gameStartListener;
     private final Map<ChallengeModifier, CheckBox> checkBoxesByChallengeModifier;
     private final UserInterfaceUtility userInterfaceUtility;
     private final BingoGameSerializer bingoGameSerializer;
@@ -53,8 +55,12 @@ public class PlayerRegistrationUserInterface {
     private final GridPane mainGrid;
     private boolean autosaveIsEnabled;
 
-    public PlayerRegistrationUserInterface(Stage primaryStage) {
+    /**
+     * Creates the registration, which passes every game that is started or loaded to the given listener.
+     */
+    public PlayerRegistrationUserInterface(Stage primaryStage, Consumer<BingoGame> gameStartListener) {
         this.primaryStage = primaryStage;
+        this.gameStartListener = gameStartListener;
         this.checkBoxesByChallengeModifier = new LinkedHashMap<>();
         this.userInterfaceUtility = new UserInterfaceUtility();
         this.bingoGameSerializer = new BingoGameSerializer();
@@ -220,6 +226,7 @@ public class PlayerRegistrationUserInterface {
         BingoGameUserInterface bingoGameUserInterface =
                 new BingoGameUserInterface(bingoGame, primaryStage, autosaveIsEnabled);
         bingoGameUserInterface.setScene();
+        gameStartListener.accept(bingoGame);
         primaryStage.show();
     }
 
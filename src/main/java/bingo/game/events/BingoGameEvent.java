@@ -0,0 +1,15 @@
+package bingo.game.events;
+
+import bingo.game.BingoGame;
+import bingo.game.BingoGameAction;
+import bingo.game.input.UserInputException;
+
+/**
+ * A single successful change made to a bingo game, which can be applied to another game in the same state.
+ */
+public interface BingoGameEvent {
+
+    BingoGameAction getAction();
+
+    void applyTo(BingoGame bingoGame) throws UserInputException;
+}
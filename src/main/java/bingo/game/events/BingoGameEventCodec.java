@@ -0,0 +1,160 @@
+package bingo.game.events;
+
+import bingo.game.events.impl.AddShipUsedEvent;
+import bingo.game.events.impl.ConfirmResultEvent;
+import bingo.game.events.impl.EndChallengeEvent;
+import bingo.game.events.impl.PerformResetEvent;
+import bingo.game.events.impl.RemoveShipRestrictionEvent;
+import bingo.game.events.impl.RemoveShipUsedEvent;
+import bingo.game.events.impl.SetRetryingIsAllowedEvent;
+import bingo.game.events.impl.SetShipRestrictionEvent;
+import bingo.game.events.impl.SubmitBingoResultEvent;
+import bingo.game.events.impl.SubmitResultsOfAllPlayersEvent;
+import bingo.game.events.impl.SubmitSharedDivisionAchievementsEvent;
+import bingo.game.players.Player;
+import bingo.game.restrictions.ShipRestriction;
+import bingo.game.results.BingoResult;
+import bingo.game.results.division.SharedDivisionAchievements;
+import bingo.game.ships.Ship;
+import bingo.game.utility.CompactDataInput;
+import bingo.game.utility.CompactDataOutput;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.StreamCorruptedException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Encodes events for the players of one game. Players are written as their index, so an event never grows with the
+ * length of the session.
+ */
+public class BingoGameEventCodec {
+    private static final int SUBMIT_BINGO_RESULT_TAG = 0;
+    private static final int SUBMIT_SHARED_DIVISION_ACHIEVEMENTS_TAG = 1;
+    private static final int CONFIRM_RESULT_TAG = 2;
+    private static final int PERFORM_RESET_TAG = 3;
+    private static final int END_CHALLENGE_TAG = 4;
+    private static final int SET_RETRYING_IS_ALLOWED_TAG = 5;
+    private static final int SET_SHIP_RESTRICTION_TAG = 6;
+    private static final int REMOVE_SHIP_RESTRICTION_TAG = 7;
+    private static final int ADD_SHIP_USED_TAG = 8;
+    private static final int REMOVE_SHIP_USED_TAG = 9;
+    private static final int SUBMIT_RESULTS_OF_ALL_PLAYERS_TAG = 10;
+
+    private final List<Player> players;
+
+    public BingoGameEventCodec(List<Player> players) {
+        this.players = List.copyOf(players);
+    }
+
+    public void writeEvent(BingoGameEvent event, CompactDataOutput output) throws IOException {
+        switch (event) {
+            case SubmitBingoResultEvent(Player player, BingoResult bingoResult) -> {
+                output.writeVarInt(SUBMIT_BINGO_RESULT_TAG);
+                writePlayer(player, output);
+                bingoResult.writeTo(output);
+            }
+            case SubmitSharedDivisionAchievementsEvent(SharedDivisionAchievements sharedDivisionAchievements) -> {
+                output.writeVarInt(SUBMIT_SHARED_DIVISION_ACHIEVEMENTS_TAG);
+                sharedDivisionAchievements.writeTo(output);
+            }
+            case ConfirmResultEvent() -> output.writeVarInt(CONFIRM_RESULT_TAG);
+            case PerformResetEvent() -> output.writeVarInt(PERFORM_RESET_TAG);
+            case EndChallengeEvent() -> output.writeVarInt(END_CHALLENGE_TAG);
+            case SetRetryingIsAllowedEvent(boolean retryingIsAllowed) -> {
+                output.writeVarInt(SET_RETRYING_IS_ALLOWED_TAG);
+                output.writeBoolean(retryingIsAllowed);
+            }
+            case SetShipRestrictionEvent(Player player, ShipRestriction shipRestriction) -> {
+                output.writeVarInt(SET_SHIP_RESTRICTION_TAG);
+                writePlayer(player, output);
+                shipRestriction.writeTo(output);
+            }
+            case RemoveShipRestrictionEvent(Player player) -> {
+                output.writeVarInt(REMOVE_SHIP_RESTRICTION_TAG);
+                writePlayer(player, output);
+            }
+            case AddShipUsedEvent(Ship ship) -> {
+                output.writeVarInt(ADD_SHIP_USED_TAG);
+                output.writeString(ship.name());
+            }
+            case RemoveShipUsedEvent(Ship ship) -> {
+                output.writeVarInt(REMOVE_SHIP_USED_TAG);
+                output.writeString(ship.name());
+            }
+            case SubmitResultsOfAllPlayersEvent submitResultsOfAllPlayersEvent -> {
+                output.writeVarInt(SUBMIT_RESULTS_OF_ALL_PLAYERS_TAG);
+                writeResultsOfAllPlayers(submitResultsOfAllPlayersEvent, output);
+            }
+            default -> throw new InvalidObjectException("Unsupported event %s".formatted(event));
+        }
+    }
+
+    public BingoGameEvent readEvent(CompactDataInput input) throws IOException {
+        int tag = input.readVarInt();
+        return switch (tag) {
+            case SUBMIT_BINGO_RESULT_TAG -> new SubmitBingoResultEvent(readPlayer(input), BingoResult.readFrom(input));
+            case SUBMIT_SHARED_DIVISION_ACHIEVEMENTS_TAG ->
+                    new SubmitSharedDivisionAchievementsEvent(SharedDivisionAchievements.readFrom(input));
+            case CONFIRM_RESULT_TAG -> new ConfirmResultEvent();
+            case PERFORM_RESET_TAG -> new PerformResetEvent();
+            case END_CHALLENGE_TAG -> new EndChallengeEvent();
+            case SET_RETRYING_IS_ALLOWED_TAG -> new SetRetryingIsAllowedEvent(input.readBoolean());
+            case SET_SHIP_RESTRICTION_TAG ->
+                    new SetShipRestrictionEvent(readPlayer(input), ShipRestriction.readFrom(input));
+            case REMOVE_SHIP_RESTRICTION_TAG -> new RemoveShipRestrictionEvent(readPlayer(input));
+            case ADD_SHIP_USED_TAG -> new AddShipUsedEvent(new Ship(input.readString()));
+            case REMOVE_SHIP_USED_TAG -> new RemoveShipUsedEvent(new Ship(input.readString()));
+            case SUBMIT_RESULTS_OF_ALL_PLAYERS_TAG -> readResultsOfAllPlayers(input);
+            default -> throw new StreamCorruptedException("Invalid event tag %s".formatted(tag));
+        };
+    }
+
+    private void writeResultsOfAllPlayers(SubmitResultsOfAllPlayersEvent event, CompactDataOutput output)
+            throws IOException {
+        Map<Player, BingoResult> bingoResultByPlayer = event.bingoResultByPlayer();
+        output.writeVarInt(bingoResultByPlayer.size());
+        for (Player player : players) {
+            BingoResult bingoResult = bingoResultByPlayer.get(player);
+            if (bingoResult != null) {
+                writePlayer(player, output);
+                bingoResult.writeTo(output);
+            }
+        }
+        output.writeBoolean(event.sharedDivisionAchievements().isPresent());
+        if (event.sharedDivisionAchievements().isPresent()) {
+            event.sharedDivisionAchievements().get().writeTo(output);
+        }
+    }
+
+    private SubmitResultsOfAllPlayersEvent readResultsOfAllPlayers(CompactDataInput input) throws IOException {
+        Map<Player, BingoResult> bingoResultByPlayer = new HashMap<>();
+        int numberOfResults = input.readSize();
+        for (int index = 0; index < numberOfResults; index++) {
+            bingoResultByPlayer.put(readPlayer(input), BingoResult.readFrom(input));
+        }
+        Optional<SharedDivisionAchievements> sharedDivisionAchievements = input.readBoolean() ?
+                Optional.of(SharedDivisionAchievements.readFrom(input)) :
+                Optional.empty();
+        return new SubmitResultsOfAllPlayersEvent(bingoResultByPlayer, sharedDivisionAchievements);
+    }
+
+    public void writePlayer(Player player, CompactDataOutput output) throws IOException {
+        int playerIndex = players.indexOf(player);
+        if (playerIndex < 0) {
+            throw new InvalidObjectException("%s is not participating in the game".formatted(player.name()));
+        }
+        output.writeVarInt(playerIndex);
+    }
+
+    public Player readPlayer(CompactDataInput input) throws IOException {
+        int playerIndex = input.readVarInt();
+        if (playerIndex < 0 || playerIndex >= players.size()) {
+            throw new StreamCorruptedException("Invalid player index %s".formatted(playerIndex));
+        }
+        return players.get(playerIndex);
+    }
+}
@@ -0,0 +1,12 @@
+package bingo.game.events;
+
+public interface BingoGameEventListener {
+
+    void eventOccurred(BingoGameEvent event);
+
+    /**
+     * Called after the state of the game was replaced without publishing events, e.g. when a change was undone.
+     */
+    default void stateRestored() {
+    }
+}
@@ -0,0 +1,20 @@
+package bingo.game.events.impl;
+
+import bingo.game.BingoGame;
+import bingo.game.BingoGameAction;
+import bingo.game.events.BingoGameEvent;
+import bingo.game.input.UserInputException;
+import bingo.game.ships.Ship;
+
+public record AddShipUsedEvent(Ship ship) implements BingoGameEvent {
+
+    @Override
+    public BingoGameAction getAction() {
+        return BingoGameAction.OTHER_ACTION;
+    }
+
+    @Override
+    public void applyTo(BingoGame bingoGame) throws UserInputException {
+        bingoGame.addShipUsed(ship);
+    }
+}
@@ -0,0 +1,19 @@
+package bingo.game.events.impl;
+
+import bingo.game.BingoGame;
+import bingo.game.BingoGameAction;
+import bingo.game.events.BingoGameEvent;
+import bingo.game.input.UserInputException;
+
+public record ConfirmResultEvent() implements BingoGameEvent {
+
+    @Override
+    public BingoGameAction getAction() {
+        return BingoGameAction.CONFIRM_RESULT;
+    }
+
+    @Override
+    public void applyTo(BingoGame bingoGame) throws UserInputException {
+        bingoGame.confirmCurrentResult();
+    }
+}
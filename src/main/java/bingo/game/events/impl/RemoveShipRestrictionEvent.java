@@ -0,0 +1,20 @@
+package bingo.game.events.impl;
+
+import bingo.game.BingoGame;
+import bingo.game.BingoGameAction;
+import bingo.game.events.BingoGameEvent;
+import bingo.game.input.UserInputException;
+import bingo.game.players.Player;
+
+public record RemoveShipRestrictionEvent(Player player) implements BingoGameEvent {
+
+    @Override
+    public BingoGameAction getAction() {
+        return BingoGameAction.CHANGE_SHIP_RESTRICTION;
+    }
+
+    @Override
+    public void applyTo(BingoGame bingoGame) throws UserInputException {
+        bingoGame.removeShipRestrictionForPlayer(player);
+    }
+}
@@ -0,0 +1,21 @@
+package bingo.game.events.impl;
+
+import bingo.game.BingoGame;
+import bingo.game.BingoGameAction;
+import bingo.game.events.BingoGameEvent;
+import bingo.game.input.UserInputException;
+import bingo.game.players.Player;
+import bingo.game.restrictions.ShipRestriction;
+
+public record SetShipRestrictionEvent(Player player, ShipRestriction shipRestriction) implements BingoGameEvent {
+
+    @Override
+    public BingoGameAction getAction() {
+        return BingoGameAction.CHANGE_SHIP_RESTRICTION;
+    }
+
+    @Override
+    public void applyTo(BingoGame bingoGame) throws UserInputException {
+        bingoGame.setShipRestrictionForPlayer(player, shipRestriction);
+    }
+}
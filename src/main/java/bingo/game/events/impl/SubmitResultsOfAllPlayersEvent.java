@@ -0,0 +1,31 @@
+package bingo.game.events.impl;
+
+import bingo.game.BingoGame;
+import bingo.game.BingoGameAction;
+import bingo.game.events.BingoGameEvent;
+import bingo.game.input.UserInputException;
+import bingo.game.players.Player;
+import bingo.game.results.BingoResult;
+import bingo.game.results.division.SharedDivisionAchievements;
+
+import java.util.Map;
+import java.util.Optional;
+
+public record SubmitResultsOfAllPlayersEvent(
+        Map<Player, BingoResult> bingoResultByPlayer,
+        Optional<SharedDivisionAchievements> sharedDivisionAchievements) implements BingoGameEvent {
+
+    public SubmitResultsOfAllPlayersEvent {
+        bingoResultByPlayer = Map.copyOf(bingoResultByPlayer);
+    }
+
+    @Override
+    public BingoGameAction getAction() {
+        return BingoGameAction.SUBMIT_RESULT;
+    }
+
+    @Override
+    public void applyTo(BingoGame bingoGame) throws UserInputException {
+        bingoGame.submitResultsOfAllPlayers(bingoResultByPlayer, sharedDivisionAchievements.orElse(null));
+    }
+}
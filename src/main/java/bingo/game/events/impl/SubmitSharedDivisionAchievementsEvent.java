@@ -0,0 +1,21 @@
+package bingo.game.events.impl;
+
+import bingo.game.BingoGame;
+import bingo.game.BingoGameAction;
+import bingo.game.events.BingoGameEvent;
+import bingo.game.input.UserInputException;
+import bingo.game.results.division.SharedDivisionAchievements;
+
+public record SubmitSharedDivisionAchievementsEvent(SharedDivisionAchievements sharedDivisionAchievements)
+        implements BingoGameEvent {
+
+    @Override
+    public BingoGameAction getAction() {
+        return BingoGameAction.SUBMIT_RESULT;
+    }
+
+    @Override
+    public void applyTo(BingoGame bingoGame) throws UserInputException {
+        bingoGame.submitSharedDivisionAchievements(sharedDivisionAchievements);
+    }
+}
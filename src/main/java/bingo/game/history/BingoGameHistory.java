@@ -0,0 +1,233 @@
+package bingo.game.history;
+
+import bingo.game.BingoGame;
+import bingo.game.events.BingoGameEvent;
+import bingo.game.events.BingoGameEventCodec;
+import bingo.game.events.BingoGameEventListener;
+import bingo.game.input.UserInputException;
+import bingo.game.utility.CompactDataInput;
+import bingo.game.utility.CompactDataOutput;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Allows every change to a game to be undone and redone. Each change is kept as its encoded event, and the encoded
+ * state of the game is kept as a checkpoint once at least a minimum number of changes has happened since the previous
+ * checkpoint and their encoded events take up at least as many bytes as that checkpoint. The checkpoints therefore
+ * take up no more memory than the events since the first checkpoint plus the latest checkpoint, even when the state
+ * keeps growing, and each change costs the history its encoded event plus at most a share of a checkpoint. A change
+ * is undone by restoring the latest checkpoint before it and reapplying the changes in between.
+ * <p>
+ * The history should be the first listener of the game. Undoing a change restores the state of the game, which the
+ * other listeners are told about, and then reapplies changes, which they receive like any other change. If undoing
+ * fails, the game is restored to the state it had before.
+ */
+public class BingoGameHistory implements BingoGameEventListener {
+    private static final int DEFAULT_MINIMUM_CHECKPOINT_INTERVAL = 32;
+
+    private final BingoGame bingoGame;
+    private final BingoGameEventCodec bingoGameEventCodec;
+    private final int minimumCheckpointInterval;
+    private final List<byte[]> encodedEvents;
+    private final List<Checkpoint> checkpoints;
+    private int position;
+    private long encodedSizeSinceCheckpoint;
+    private boolean isRestoring;
+
+    /**
+     * Creates a history which starts with the current state of the game.
+     */
+    public BingoGameHistory(BingoGame bingoGame) {
+        this(bingoGame, DEFAULT_MINIMUM_CHECKPOINT_INTERVAL);
+    }
+
+    BingoGameHistory(BingoGame bingoGame, int minimumCheckpointInterval) {
+        this.bingoGame = bingoGame;
+        this.bingoGameEventCodec = new BingoGameEventCodec(bingoGame.getPlayers());
+        this.minimumCheckpointInterval = minimumCheckpointInterval;
+        this.encodedEvents = new ArrayList<>();
+        this.checkpoints = new ArrayList<>();
+        this.checkpoints.add(new Checkpoint(0, encodeState()));
+    }
+
+    public void start() {
+        bingoGame.addEventListener(this);
+    }
+
+    public void stop() {
+        bingoGame.removeEventListener(this);
+    }
+
+    @Override
+    public void eventOccurred(BingoGameEvent event) {
+        if (isRestoring) {
+            return;
+        }
+        discardUndoneChanges();
+        byte[] encodedEvent = encode(event);
+        encodedEvents.add(encodedEvent);
+        position++;
+        encodedSizeSinceCheckpoint += encodedEvent.length;
+        Checkpoint latestCheckpoint = checkpoints.getLast();
+        if (position - latestCheckpoint.position() >= minimumCheckpointInterval &&
+                encodedSizeSinceCheckpoint >= latestCheckpoint.encodedState().length) {
+            checkpoints.add(new Checkpoint(position, encodeState()));
+            encodedSizeSinceCheckpoint = 0;
+        }
+    }
+
+    private void discardUndoneChanges() {
+        if (!canRedo()) {
+            return;
+        }
+        encodedEvents.subList(position, encodedEvents.size()).clear();
+        while (checkpoints.getLast().position() > position) {
+            checkpoints.removeLast();
+        }
+        encodedSizeSinceCheckpoint = 0;
+        for (int index = checkpoints.getLast().position(); index < position; index++) {
+            encodedSizeSinceCheckpoint += encodedEvents.get(index).length;
+        }
+    }
+
+    public boolean canUndo() {
+        return position > 0;
+    }
+
+    public boolean canRedo() {
+        return position < encodedEvents.size();
+    }
+
+    public void undo() throws UserInputException {
+        if (!canUndo()) {
+            throw new UserInputException("There is no change which can be undone");
+        }
+        int targetPosition = position - 1;
+        isRestoring = true;
+        try {
+            restore(targetPosition);
+        } catch (IOException exception) {
+            rollBack(exception);
+            throw new UncheckedIOException(exception);
+        } catch (RuntimeException exception) {
+            rollBack(exception);
+            throw exception;
+        } finally {
+            isRestoring = false;
+        }
+        position = targetPosition;
+    }
+
+    private void restore(int targetPosition) throws IOException {
+        Checkpoint checkpoint = getLatestCheckpointAt(targetPosition);
+        bingoGame.restoreStateFrom(inputOf(checkpoint.encodedState()));
+        for (int index = checkpoint.position(); index < targetPosition; index++) {
+            applyEncodedEvent(index);
+        }
+    }
+
+    private Checkpoint getLatestCheckpointAt(int targetPosition) {
+        int lowerIndex = 0;
+        int upperIndex = checkpoints.size() - 1;
+        while (lowerIndex < upperIndex) {
+            int middleIndex = (lowerIndex + upperIndex + 1) >>> 1;
+            if (checkpoints.get(middleIndex).position() <= targetPosition) {
+                lowerIndex = middleIndex;
+            } else {
+                upperIndex = middleIndex - 1;
+            }
+        }
+        return checkpoints.get(lowerIndex);
+    }
+
+    private void rollBack(Exception failure) {
+        try {
+            restore(position);
+        } catch (IOException | RuntimeException exception) {
+            failure.addSuppressed(exception);
+        }
+    }
+
+    public void redo() throws UserInputException {
+        if (!canRedo()) {
+            throw new UserInputException("There is no change which can be redone");
+        }
+        isRestoring = true;
+        try {
+            applyEncodedEvent(position);
+        } finally {
+            isRestoring = false;
+        }
+        position++;
+    }
+
+    private void applyEncodedEvent(int index) {
+        BingoGameEvent event;
+        try {
+            event = bingoGameEventCodec.readEvent(inputOf(encodedEvents.get(index)));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        try {
+            event.applyTo(bingoGame);
+        } catch (UserInputException exception) {
+            throw new IllegalStateException("Cannot reapply %s".formatted(event), exception);
+        }
+    }
+
+    public int getNumberOfChanges() {
+        return encodedEvents.size();
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns the number of bytes of all encoded events and checkpoints, which is what the history adds to the heap.
+     */
+    public long getEncodedSize() {
+        long encodedSize = 0;
+        for (byte[] encodedEvent : encodedEvents) {
+            encodedSize += encodedEvent.length;
+        }
+        for (Checkpoint checkpoint : checkpoints) {
+            encodedSize += checkpoint.encodedState().length;
+        }
+        return encodedSize;
+    }
+
+    private byte[] encode(BingoGameEvent event) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            bingoGameEventCodec.writeEvent(event, new CompactDataOutput(new DataOutputStream(outputStream)));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private byte[] encodeState() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            bingoGame.writeStateTo(new CompactDataOutput(new DataOutputStream(outputStream)));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static CompactDataInput inputOf(byte[] bytes) {
+        return new CompactDataInput(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    private record Checkpoint(int position, byte[] encodedState) {
+    }
+}
@@ -6,5 +6,11 @@ public interface Term {
 
     boolean isLiteral();
 
-    String getAsString();
+    void appendTo(StringBuilder stringBuilder);
+
+    default String getAsString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        appendTo(stringBuilder);
+        return stringBuilder.toString();
+    }
 }
@@ -15,7 +15,7 @@ public final class Addition extends TermWithOperator {
     }
 
     @Override
-    protected String subTermAsString(Term term) {
-        return term.getAsString();
+    protected void appendSubTermTo(StringBuilder stringBuilder, Term term) {
+        term.appendTo(stringBuilder);
     }
 }
@@ -14,20 +14,15 @@ public final class Equation extends DelegateTerm {
     }
 
     @Override
-    public String getAsString() {
-        String valueAsString = Long.toString(getRoundedValue());
-        if (term.isLiteral()) {
-            return valueAsString;
-        } else {
-            return formattedAsEquation(valueAsString);
+    public void appendTo(StringBuilder stringBuilder) {
+        if (!term.isLiteral()) {
+            term.appendTo(stringBuilder);
+            stringBuilder.append(" = ");
         }
+        stringBuilder.append(getRoundedValue());
     }
 
     private long getRoundedValue() {
         return Math.round(term.getValue());
     }
-
-    private String formattedAsEquation(String valueAsString) {
-        return "%s = %s".formatted(term.getAsString(), valueAsString);
-    }
 }
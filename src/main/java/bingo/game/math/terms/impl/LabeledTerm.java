@@ -11,7 +11,8 @@ public final class LabeledTerm extends DelegateTerm {
     }
 
     @Override
-    public String getAsString() {
-        return label + ": " + term.getAsString();
+    public void appendTo(StringBuilder stringBuilder) {
+        stringBuilder.append(label).append(": ");
+        term.appendTo(stringBuilder);
     }
 }
@@ -27,11 +27,11 @@ public final class Literal implements Term {
     }
 
     @Override
-    public String getAsString() {
+    public void appendTo(StringBuilder stringBuilder) {
         if (isInteger) {
-            return Long.toString(Math.round(value));
+            stringBuilder.append(Math.round(value));
         } else {
-            return Double.toString(value);
+            stringBuilder.append(value);
         }
     }
 }
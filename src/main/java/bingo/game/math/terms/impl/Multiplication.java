@@ -15,16 +15,17 @@ public final class Multiplication extends TermWithOperator {
     }
 
     @Override
-    protected String subTermAsString(Term term) {
-        String termAsString = term.getAsString();
+    protected void appendSubTermTo(StringBuilder stringBuilder, Term term) {
         if (term.isLiteral() || term instanceof Multiplication) {
-            return termAsString;
+            term.appendTo(stringBuilder);
         } else {
-            return parenthesize(termAsString);
+            appendParenthesizedTo(stringBuilder, term);
         }
     }
 
-    private String parenthesize(String termAsString) {
-        return "(%s)".formatted(termAsString);
+    private void appendParenthesizedTo(StringBuilder stringBuilder, Term term) {
+        stringBuilder.append("(");
+        term.appendTo(stringBuilder);
+        stringBuilder.append(")");
     }
 }
@@ -8,6 +8,9 @@ public abstract class TermWithOperator implements Term {
     private final Term right;
     private final Operator operator;
     private final double value;
+    private final boolean leftIsIdentity;
+    private final boolean rightIsIdentity;
+    private final boolean isLiteral;
     private boolean displayIdentity;
 
     protected TermWithOperator(Term left, Term right, Operator operator) {
@@ -15,6 +18,10 @@ public abstract class TermWithOperator implements Term {
         this.right = right;
         this.operator = operator;
         this.value = operator.apply(left.getValue(), right.getValue());
+        this.leftIsIdentity = isIdentity(left);
+        this.rightIsIdentity = isIdentity(right);
+        this.isLiteral = (left.isLiteral() && rightIsIdentity) || (leftIsIdentity && right.isLiteral()) ||
+                (leftIsIdentity && rightIsIdentity);
         this.displayIdentity = false;
     }
 
@@ -29,32 +36,23 @@ public abstract class TermWithOperator implements Term {
 
     @Override
     public boolean isLiteral() {
-        return (left.isLiteral() && rightIsIdentity()) || (leftIsIdentity() && right.isLiteral()) ||
-                (leftIsIdentity() && rightIsIdentity());
+        return isLiteral;
     }
 
     @Override
-    public String getAsString() {
-        if (!displayIdentity) {
-            if (leftIsIdentity()) {
-                return right.getAsString();
-            }
-            if (rightIsIdentity()) {
-                return left.getAsString();
-            }
+    public void appendTo(StringBuilder stringBuilder) {
+        if (!displayIdentity && leftIsIdentity) {
+            right.appendTo(stringBuilder);
+        } else if (!displayIdentity && rightIsIdentity) {
+            left.appendTo(stringBuilder);
+        } else {
+            appendSubTermTo(stringBuilder, left);
+            stringBuilder.append(operator.getAsString());
+            appendSubTermTo(stringBuilder, right);
         }
-        return subTermAsString(left) + operator.getAsString() + subTermAsString(right);
-    }
-
-    private boolean leftIsIdentity() {
-        return isIdentity(left);
-    }
-
-    private boolean rightIsIdentity() {
-        return isIdentity(right);
     }
 
     protected abstract boolean isIdentity(Term term);
 
-    protected abstract String subTermAsString(Term term);
+    protected abstract void appendSubTermTo(StringBuilder stringBuilder, Term term);
 }
@@ -10,7 +10,8 @@ public final class TermWithPoints extends DelegateTerm {
     }
 
     @Override
-    public String getAsString() {
-        return term.getAsString() + TextUtility.getSuffixForPoints(term.getValue());
+    public void appendTo(StringBuilder stringBuilder) {
+        term.appendTo(stringBuilder);
+        stringBuilder.append(TextUtility.getSuffixForPoints(term.getValue()));
     }
 }
@@ -10,7 +10,8 @@ public final class TermWithSubs extends DelegateTerm {
     }
 
     @Override
-    public String getAsString() {
-        return term.getAsString() + TextUtility.getSuffixForSubs(term.getValue());
+    public void appendTo(StringBuilder stringBuilder) {
+        term.appendTo(stringBuilder);
+        stringBuilder.append(TextUtility.getSuffixForSubs(term.getValue()));
     }
 }
@@ -0,0 +1,21 @@
+package bingo.game.replay;
+
+import bingo.game.modifiers.ChallengeModifier;
+import bingo.game.players.Player;
+
+import java.util.List;
+
+/**
+ * A recorded challenge: the players and challenge modifiers it started with, and every step taken since then together
+ * with the output of the game after that step.
+ */
+public record BingoGameLog(
+        String name, List<Player> players, List<ChallengeModifier> challengeModifiers,
+        List<BingoGameLogEntry> entries) {
+
+    public BingoGameLog {
+        players = List.copyOf(players);
+        challengeModifiers = List.copyOf(challengeModifiers);
+        entries = List.copyOf(entries);
+    }
+}
@@ -0,0 +1,10 @@
+package bingo.game.replay;
+
+import java.util.Optional;
+
+/**
+ * A step of a recorded game, and the output of the game after that step if the output was recorded for it. A replay
+ * only compares the output of steps for which it was recorded.
+ */
+public record BingoGameLogEntry(BingoGameReplayStep step, Optional<String> recordedOutput) {
+}
@@ -0,0 +1,121 @@
+package bingo.game.replay;
+
+import bingo.game.BingoGame;
+import bingo.game.BingoGameAction;
+import bingo.game.events.BingoGameEvent;
+import bingo.game.events.BingoGameEventListener;
+import bingo.game.input.UserInputException;
+import bingo.game.players.Player;
+import bingo.game.replay.impl.RecordedEventStep;
+import bingo.game.replay.impl.RestoredStateStep;
+import bingo.game.replay.impl.ShipRestrictionDrawStep;
+import bingo.game.restrictions.ShipRestriction;
+import bingo.game.utility.CompactDataOutput;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Records a log of a game. If the game was changed before the recording was started, e.g. because it was loaded from a
+ * save file, {@link #recordCurrentState} must be called first. The output of the game is only
+ * recorded after steps which end a level or the challenge, and after the last step, since rendering it after every
+ * step would cost more than the step itself. A restored state, e.g. after a change was undone, is recorded as a step
+ * of its own.
+ */
+public class BingoGameLogRecorder implements BingoGameEventListener {
+    private static final Set<BingoGameAction> ACTIONS_WITH_RECORDED_OUTPUT = EnumSet.of(
+            BingoGameAction.CONFIRM_RESULT,
+            BingoGameAction.PERFORM_RESET,
+            BingoGameAction.END_CHALLENGE_VOLUNTARILY);
+
+    private final String name;
+    private final BingoGame bingoGame;
+    private final Random seedGenerator;
+    private final List<BingoGameLogEntry> entries;
+    private BingoGameReplayStep pendingStep;
+
+    public BingoGameLogRecorder(String name, BingoGame bingoGame) {
+        this(name, bingoGame, new Random());
+    }
+
+    BingoGameLogRecorder(String name, BingoGame bingoGame, Random seedGenerator) {
+        this.name = name;
+        this.bingoGame = bingoGame;
+        this.seedGenerator = seedGenerator;
+        this.entries = new LinkedList<>();
+    }
+
+    public void start() {
+        bingoGame.addEventListener(this);
+    }
+
+    public void stop() {
+        bingoGame.removeEventListener(this);
+    }
+
+    /**
+     * Sets a ship restriction chosen by number with a freshly seeded random generator, and records the seed so that
+     * the same restriction is chosen when the log is replayed.
+     */
+    public ShipRestriction drawShipRestriction(Player player, int number) throws UserInputException {
+        ShipRestrictionDrawStep shipRestrictionDrawStep =
+                new ShipRestrictionDrawStep(player, number, seedGenerator.nextLong());
+        ShipRestriction shipRestriction = shipRestrictionDrawStep.drawShipRestriction();
+        pendingStep = shipRestrictionDrawStep;
+        try {
+            bingoGame.setShipRestrictionForPlayer(player, shipRestriction);
+        } finally {
+            pendingStep = null;
+        }
+        return shipRestriction;
+    }
+
+    @Override
+    public void eventOccurred(BingoGameEvent event) {
+        BingoGameReplayStep step = pendingStep != null ? pendingStep : new RecordedEventStep(event);
+        Optional<String> recordedOutput = ACTIONS_WITH_RECORDED_OUTPUT.contains(event.getAction()) ?
+                Optional.of(bingoGame.toString()) :
+                Optional.empty();
+        entries.add(new BingoGameLogEntry(step, recordedOutput));
+    }
+
+    @Override
+    public void stateRestored() {
+        recordCurrentState();
+    }
+
+    /**
+     * Records the current state of the game as a step, so that a replay continues from this state.
+     */
+    public void recordCurrentState() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            bingoGame.writeStateTo(new CompactDataOutput(new DataOutputStream(outputStream)));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        entries.add(new BingoGameLogEntry(new RestoredStateStep(outputStream.toByteArray()), Optional.empty()));
+    }
+
+    /**
+     * Returns the log with the current output of the game recorded for the last step, so the game must not have been
+     * changed since the recording was stopped.
+     */
+    public BingoGameLog getLog() {
+        List<BingoGameLogEntry> recordedEntries = new ArrayList<>(entries);
+        if (!recordedEntries.isEmpty()) {
+            BingoGameReplayStep lastStep = recordedEntries.removeLast().step();
+            recordedEntries.add(new BingoGameLogEntry(lastStep, Optional.of(bingoGame.toString())));
+        }
+        return new BingoGameLog(name, bingoGame.getPlayers(), bingoGame.getChallengeModifiers(), recordedEntries);
+    }
+}
@@ -0,0 +1,4 @@
+package bingo.game.replay;
+
+public record BingoGameReplayDivergence(int stepIndex, String description) {
+}
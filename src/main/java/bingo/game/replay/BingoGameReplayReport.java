@@ -0,0 +1,43 @@
+package bingo.game.replay;
+
+import java.time.Duration;
+import java.util.List;
+
+public record BingoGameReplayReport(List<BingoGameReplayResult> results, Duration elapsedTime) {
+
+    public BingoGameReplayReport {
+        results = List.copyOf(results);
+    }
+
+    public long getNumberOfStepsReplayed() {
+        return results.stream().mapToLong(BingoGameReplayResult::numberOfStepsReplayed).sum();
+    }
+
+    public List<BingoGameReplayResult> getDivergentResults() {
+        return results.stream().filter(result -> !result.isConsistent()).toList();
+    }
+
+    public double getLogsPerSecond() {
+        return perSecond(results.size());
+    }
+
+    public double getStepsPerSecond() {
+        return perSecond(getNumberOfStepsReplayed());
+    }
+
+    private double perSecond(long amount) {
+        long elapsedNanos = Math.max(elapsedTime.toNanos(), 1);
+        return amount * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "Replayed %s logs with %s steps in %s ms (%.1f logs/s, %.1f steps/s), %s diverged".formatted(
+                results.size(),
+                getNumberOfStepsReplayed(),
+                elapsedTime.toMillis(),
+                getLogsPerSecond(),
+                getStepsPerSecond(),
+                getDivergentResults().size());
+    }
+}
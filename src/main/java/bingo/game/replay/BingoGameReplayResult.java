@@ -0,0 +1,11 @@
+package bingo.game.replay;
+
+import java.util.Optional;
+
+public record BingoGameReplayResult(
+        String logName, int numberOfStepsReplayed, Optional<BingoGameReplayDivergence> divergence) {
+
+    public boolean isConsistent() {
+        return divergence.isEmpty();
+    }
+}
@@ -0,0 +1,11 @@
+package bingo.game.replay;
+
+import bingo.game.BingoGame;
+import bingo.game.input.UserInputException;
+
+public interface BingoGameReplayStep {
+
+    boolean isAllowedIn(BingoGame bingoGame);
+
+    void applyTo(BingoGame bingoGame) throws UserInputException;
+}
@@ -0,0 +1,68 @@
+package bingo.game.replay;
+
+import bingo.game.BingoGame;
+import bingo.game.input.UserInputException;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Replays logs on new games and compares the output after each step for which it was recorded with the recorded
+ * output. A replay stops at the first step which diverges from the log.
+ */
+public class BingoGameReplayer {
+
+    public BingoGameReplayResult replay(BingoGameLog bingoGameLog) {
+        BingoGame bingoGame;
+        try {
+            bingoGame = new BingoGame(bingoGameLog.players(), bingoGameLog.challengeModifiers());
+        } catch (UserInputException exception) {
+            return divergentResult(bingoGameLog, 0, "Game cannot be created: " + exception.getMessage());
+        }
+        List<BingoGameLogEntry> entries = bingoGameLog.entries();
+        for (int stepIndex = 0; stepIndex < entries.size(); stepIndex++) {
+            Optional<String> divergence = replayStep(bingoGame, entries.get(stepIndex));
+            if (divergence.isPresent()) {
+                return divergentResult(bingoGameLog, stepIndex, divergence.get());
+            }
+        }
+        return new BingoGameReplayResult(bingoGameLog.name(), entries.size(), Optional.empty());
+    }
+
+    /**
+     * Replays the logs in parallel, using all available processors.
+     */
+    public BingoGameReplayReport replayAll(Collection<BingoGameLog> bingoGameLogs) {
+        long startTime = System.nanoTime();
+        List<BingoGameReplayResult> results = bingoGameLogs.parallelStream().map(this::replay).toList();
+        return new BingoGameReplayReport(results, Duration.ofNanos(System.nanoTime() - startTime));
+    }
+
+    private Optional<String> replayStep(BingoGame bingoGame, BingoGameLogEntry entry) {
+        BingoGameReplayStep step = entry.step();
+        if (!step.isAllowedIn(bingoGame)) {
+            return Optional.of("%s is not allowed in the current state".formatted(step));
+        }
+        try {
+            step.applyTo(bingoGame);
+        } catch (UserInputException exception) {
+            return Optional.of("%s failed: %s".formatted(step, exception.getMessage()));
+        }
+        if (entry.recordedOutput().isEmpty()) {
+            return Optional.empty();
+        }
+        String recordedOutput = entry.recordedOutput().get();
+        String output = bingoGame.toString();
+        if (!output.equals(recordedOutput)) {
+            return Optional.of("Output differs. Recorded: %s Replayed: %s".formatted(recordedOutput, output));
+        }
+        return Optional.empty();
+    }
+
+    private BingoGameReplayResult divergentResult(BingoGameLog bingoGameLog, int stepIndex, String description) {
+        BingoGameReplayDivergence divergence = new BingoGameReplayDivergence(stepIndex, description);
+        return new BingoGameReplayResult(bingoGameLog.name(), stepIndex, Optional.of(divergence));
+    }
+}
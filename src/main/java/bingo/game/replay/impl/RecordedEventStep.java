@@ -0,0 +1,19 @@
+package bingo.game.replay.impl;
+
+import bingo.game.BingoGame;
+import bingo.game.events.BingoGameEvent;
+import bingo.game.input.UserInputException;
+import bingo.game.replay.BingoGameReplayStep;
+
+public record RecordedEventStep(BingoGameEvent event) implements BingoGameReplayStep {
+
+    @Override
+    public boolean isAllowedIn(BingoGame bingoGame) {
+        return bingoGame.actionIsAllowed(event.getAction());
+    }
+
+    @Override
+    public void applyTo(BingoGame bingoGame) throws UserInputException {
+        event.applyTo(bingoGame);
+    }
+}
@@ -0,0 +1,49 @@
+package bingo.game.replay.impl;
+
+import bingo.game.BingoGame;
+import bingo.game.input.UserInputException;
+import bingo.game.replay.BingoGameReplayStep;
+import bingo.game.utility.CompactDataInput;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A state which replaced the state of the game without an event, e.g. when a change was undone. The state is encoded
+ * like by {@link BingoGame#writeStateTo}.
+ */
+public record RestoredStateStep(byte[] encodedState) implements BingoGameReplayStep {
+
+    @Override
+    public boolean isAllowedIn(BingoGame bingoGame) {
+        return true;
+    }
+
+    @Override
+    public void applyTo(BingoGame bingoGame) throws UserInputException {
+        try {
+            DataInputStream dataInputStream = new DataInputStream(new ByteArrayInputStream(encodedState));
+            bingoGame.restoreStateFrom(new CompactDataInput(dataInputStream));
+        } catch (IOException exception) {
+            throw new UserInputException("Restored state cannot be read: " + exception.getMessage(), exception);
+        }
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        return object instanceof RestoredStateStep restoredStateStep &&
+                Arrays.equals(encodedState, restoredStateStep.encodedState);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(encodedState);
+    }
+
+    @Override
+    public String toString() {
+        return "RestoredStateStep[%s bytes]".formatted(encodedState.length);
+    }
+}
@@ -0,0 +1,30 @@
+package bingo.game.replay.impl;
+
+import bingo.game.BingoGame;
+import bingo.game.BingoGameAction;
+import bingo.game.input.UserInputException;
+import bingo.game.players.Player;
+import bingo.game.replay.BingoGameReplayStep;
+import bingo.game.restrictions.ShipRestriction;
+import bingo.game.restrictions.generator.RandomShipRestrictionGenerator;
+
+/**
+ * A ship restriction chosen by number, like in the user interface. The random generator is seeded with the recorded
+ * seed, so the step always results in the same restriction, no matter which steps were replayed before.
+ */
+public record ShipRestrictionDrawStep(Player player, int number, long seed) implements BingoGameReplayStep {
+
+    @Override
+    public boolean isAllowedIn(BingoGame bingoGame) {
+        return bingoGame.actionIsAllowed(BingoGameAction.CHANGE_SHIP_RESTRICTION);
+    }
+
+    @Override
+    public void applyTo(BingoGame bingoGame) throws UserInputException {
+        bingoGame.setShipRestrictionForPlayer(player, drawShipRestriction());
+    }
+
+    public ShipRestriction drawShipRestriction() throws UserInputException {
+        return new RandomShipRestrictionGenerator(seed).getForNumber(number);
+    }
+}
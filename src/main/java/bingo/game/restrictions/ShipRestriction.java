@@ -1,12 +1,30 @@
 package bingo.game.restrictions;
 
+import bingo.game.restrictions.impl.BannedMainArmamentType;
+import bingo.game.restrictions.impl.ForcedMainArmamentType;
 import bingo.game.ships.MainArmamentType;
+import bingo.game.utility.CompactDataInput;
+import bingo.game.utility.CompactDataOutput;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
 
 public interface ShipRestriction extends Serializable {
 
     String getDisplayText();
 
     boolean allowsMainArmamentType(MainArmamentType mainArmamentType);
+
+    void writeTo(CompactDataOutput output) throws IOException;
+
+    static ShipRestriction readFrom(CompactDataInput input) throws IOException {
+        int tag = input.readVarInt();
+        MainArmamentType mainArmamentType = input.readEnum(MainArmamentType.class);
+        return switch (tag) {
+            case BannedMainArmamentType.TAG -> new BannedMainArmamentType(mainArmamentType);
+            case ForcedMainArmamentType.TAG -> new ForcedMainArmamentType(mainArmamentType);
+            default -> throw new StreamCorruptedException("Invalid ship restriction tag %s".formatted(tag));
+        };
+    }
 }
@@ -8,28 +8,58 @@ import bingo.game.ships.MainArmamentType;
 
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
+/**
+ * Chooses ship restrictions by number from a random order of all possible restrictions. The order is kept in an array
+ * and only shuffled up to the chosen position, so choosing a restriction takes no more steps than there are possible
+ * restrictions and allocates nothing. A generator is not thread-safe, but can be split into independent generators.
+ */
 public class RandomShipRestrictionGenerator {
-    private final List<ShipRestriction> allPossibleRestrictions;
-    private final Random random;
+    private final ShipRestriction[] restrictionsInRandomOrder;
+    private final RandomGenerator.SplittableGenerator randomGenerator;
 
-    RandomShipRestrictionGenerator(Random random) {
+    /**
+     * @param possibleRestrictions all restrictions which can be chosen, at least one.
+     * @param randomGenerator the random number generator which determines the order of the restrictions.
+     */
+    public RandomShipRestrictionGenerator(
+            List<? extends ShipRestriction> possibleRestrictions, RandomGenerator.SplittableGenerator randomGenerator) {
+        if (possibleRestrictions.isEmpty()) {
+            throw new IllegalArgumentException("There must be at least one possible restriction");
+        }
+        this.restrictionsInRandomOrder = possibleRestrictions.toArray(new ShipRestriction[0]);
+        this.randomGenerator = randomGenerator;
+    }
+
+    RandomShipRestrictionGenerator(RandomGenerator.SplittableGenerator randomGenerator) {
+        this(getAllMainArmamentTypeRestrictions(), randomGenerator);
+    }
+
+    public RandomShipRestrictionGenerator() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * @param seed the seed of the random number generator, so that the same seed always yields the same restrictions.
+     */
+    public RandomShipRestrictionGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private static List<ShipRestriction> getAllMainArmamentTypeRestrictions() {
         List<MainArmamentType> allPossibleMainArmamentTypes = List.of(
                 MainArmamentType.SMALL_CALIBER_GUNS,
                 MainArmamentType.MEDIUM_CALIBER_GUNS,
                 MainArmamentType.LARGE_CALIBER_GUNS,
                 MainArmamentType.EXTRA_LARGE_CALIBER_GUNS);
-        this.allPossibleRestrictions = new LinkedList<>();
+        List<ShipRestriction> allPossibleRestrictions = new LinkedList<>();
         for (MainArmamentType mainArmamentType : allPossibleMainArmamentTypes) {
             allPossibleRestrictions.add(new BannedMainArmamentType(mainArmamentType));
             allPossibleRestrictions.add(new ForcedMainArmamentType(mainArmamentType));
         }
-        this.random = random;
-    }
-
-    public RandomShipRestrictionGenerator() {
-        this(new Random());
+        return allPossibleRestrictions;
     }
 
     /**
@@ -42,19 +72,29 @@ public class RandomShipRestrictionGenerator {
             String message = "The number %s is outside the allowed range (not a positive number)".formatted(number);
             throw new UserInputException(message);
         }
-        List<ShipRestriction> restrictionsInRandomOrder = getAllPossibleRestrictionsInRandomOrder();
-        int index = number % restrictionsInRandomOrder.size();
-        return restrictionsInRandomOrder.get(index);
-    }
-
-    private List<ShipRestriction> getAllPossibleRestrictionsInRandomOrder() {
-        List<ShipRestriction> copyOfAllRestrictions = new LinkedList<>(allPossibleRestrictions);
-        List<ShipRestriction> restrictionsInRandomOrder = new LinkedList<>();
-        while (!copyOfAllRestrictions.isEmpty()) {
-            int randomIndex = random.nextInt(0, copyOfAllRestrictions.size());
-            ShipRestriction shipRestriction = copyOfAllRestrictions.remove(randomIndex);
-            restrictionsInRandomOrder.add(shipRestriction);
+        int index = number % restrictionsInRandomOrder.length;
+        shuffleUpTo(index);
+        return restrictionsInRandomOrder[index];
+    }
+
+    /**
+     * Shuffles the restrictions up to the given index with a partial Fisher-Yates shuffle. No matter which order the
+     * previous call left behind, the restriction at the index is then chosen uniformly at random.
+     */
+    private void shuffleUpTo(int lastIndex) {
+        for (int index = 0; index <= lastIndex; index++) {
+            int randomIndex = randomGenerator.nextInt(index, restrictionsInRandomOrder.length);
+            ShipRestriction shipRestriction = restrictionsInRandomOrder[randomIndex];
+            restrictionsInRandomOrder[randomIndex] = restrictionsInRandomOrder[index];
+            restrictionsInRandomOrder[index] = shipRestriction;
         }
-        return restrictionsInRandomOrder;
+    }
+
+    /**
+     * @return a new generator with the same possible restrictions, whose random number generator is split off from
+     * this one, e.g. to choose restrictions on another thread.
+     */
+    public RandomShipRestrictionGenerator split() {
+        return new RandomShipRestrictionGenerator(List.of(restrictionsInRandomOrder), randomGenerator.split());
     }
 }
@@ -2,10 +2,13 @@ package bingo.game.restrictions.impl;
 
 import bingo.game.restrictions.ShipRestriction;
 import bingo.game.ships.MainArmamentType;
+import bingo.game.utility.CompactDataOutput;
 
+import java.io.IOException;
 import java.io.Serial;
 
 public record ForcedMainArmamentType(MainArmamentType mainArmamentType) implements ShipRestriction {
+    public static final int TAG = 1;
     @Serial
     private static final long serialVersionUID = -4254381769352003990L;
 
@@ -19,4 +22,10 @@ public record ForcedMainArmamentType(MainArmamentType mainArmamentType) implemen
     public boolean allowsMainArmamentType(MainArmamentType mainArmamentType) {
         return mainArmamentType.equals(this.mainArmamentType);
     }
+
+    @Override
+    public void writeTo(CompactDataOutput output) throws IOException {
+        output.writeVarInt(TAG);
+        output.writeEnum(mainArmamentType);
+    }
 }
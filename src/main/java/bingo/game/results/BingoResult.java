@@ -11,67 +11,105 @@ import bingo.game.math.terms.impl.TermWithPoints;
 import bingo.game.ribbons.Ribbon;
 import bingo.game.ribbons.RibbonResult;
 import bingo.game.ships.MainArmamentType;
+import bingo.game.utility.CompactDataInput;
+import bingo.game.utility.CompactDataOutput;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
 
 public class BingoResult implements Serializable {
     @Serial
     private static final long serialVersionUID = -4747703773714476437L;
+    private static final String MAIN_ARMAMENT_TYPE_FIELD = "mainArmamentType";
+    private static final String RIBBON_RESULT_LIST_FIELD = "ribbonResultList";
+    private static final String ACHIEVEMENT_RESULT_LIST_FIELD = "achievementResultList";
+    @Serial
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField(MAIN_ARMAMENT_TYPE_FIELD, MainArmamentType.class),
+            new ObjectStreamField(RIBBON_RESULT_LIST_FIELD, List.class),
+            new ObjectStreamField(ACHIEVEMENT_RESULT_LIST_FIELD, List.class)};
 
-    private final MainArmamentType mainArmamentType;
-    private final List<RibbonResult> ribbonResultList;
-    private final List<AchievementResult> achievementResultList;
+    private MainArmamentType mainArmamentType;
+    private transient Map<Ribbon, RibbonResult> ribbonResults;
+    private transient Map<Achievement, AchievementResult> achievementResults;
+    private transient IncrementalPointValue incrementalPointValue;
+    private transient Term term;
 
     public BingoResult(MainArmamentType mainArmamentType) {
         this.mainArmamentType = mainArmamentType;
-        this.ribbonResultList = new LinkedList<>();
-        this.achievementResultList = new LinkedList<>();
+        this.ribbonResults = new EnumMap<>(Ribbon.class);
+        this.achievementResults = new EnumMap<>(Achievement.class);
+        this.incrementalPointValue = new IncrementalPointValue(mainArmamentType);
     }
 
     public void addRibbonResult(Ribbon ribbon, int amount) {
-        RibbonResult ribbonResult = new RibbonResult(ribbon, amount);
-        addResult(ribbonResult, amount, ribbonResultList, RibbonResult::ribbon);
+        addResult(ribbon, new RibbonResult(ribbon, amount), amount, ribbonResults);
+        incrementalPointValue.setAmount(ribbon, amount);
+        term = null;
     }
 
     public void addAchievementResult(Achievement achievement, int amount) {
-        AchievementResult achievementResult = new AchievementResult(achievement, amount);
-        addResult(achievementResult, amount, achievementResultList, AchievementResult::achievement);
+        addResult(achievement, new AchievementResult(achievement, amount), amount, achievementResults);
+        incrementalPointValue.setAmount(achievement, amount);
+        term = null;
     }
 
-    private <T, R> void addResult(T result, int amount, List<T> resultList, Function<T, R> keyGetter) {
-        removeExistingResultIfPresent(result, resultList, keyGetter);
+    private <K, T> void addResult(K key, T result, int amount, Map<K, T> results) {
         if (amount > 0) {
-            resultList.add(result);
+            results.put(key, result);
+        } else {
+            results.remove(key);
         }
     }
 
-    private <T, R> void removeExistingResultIfPresent(T result, List<T> resultList, Function<T, R> keyGetter) {
-        R key = keyGetter.apply(result);
-        Optional<T> matchingResult =
-                resultList.stream().filter(existingResult -> keyGetter.apply(existingResult).equals(key)).findAny();
-        matchingResult.ifPresent(resultList::remove);
+    /**
+     * Returns a copy of this result which throws {@link UnsupportedOperationException} when it is changed, and whose
+     * text is created right away, so the copy may be read on any thread once it was published safely.
+     */
+    public BingoResult immutableCopy() {
+        BingoResult copy = new BingoResult(mainArmamentType);
+        ribbonResults.values().forEach(result -> copy.addRibbonResult(result.ribbon(), result.amount()));
+        achievementResults.values().forEach(result -> copy.addAchievementResult(result.achievement(), result.amount()));
+        copy.ribbonResults = Collections.unmodifiableMap(copy.ribbonResults);
+        copy.achievementResults = Collections.unmodifiableMap(copy.achievementResults);
+        copy.term = copy.createTerm();
+        return copy;
     }
 
     public MainArmamentType getMainArmamentType() {
         return mainArmamentType;
     }
 
-    public List<RibbonResult> getRibbonResultList() {
-        return new LinkedList<>(ribbonResultList);
+    public Optional<RibbonResult> getRibbonResult(Ribbon ribbon) {
+        return Optional.ofNullable(ribbonResults.get(ribbon));
+    }
+
+    public Optional<AchievementResult> getAchievementResult(Achievement achievement) {
+        return Optional.ofNullable(achievementResults.get(achievement));
     }
 
-    public List<AchievementResult> getAchievementResultList() {
-        return new LinkedList<>(achievementResultList);
+    public Collection<RibbonResult> getRibbonResults() {
+        return Collections.unmodifiableCollection(ribbonResults.values());
+    }
+
+    public Collection<AchievementResult> getAchievementResults() {
+        return Collections.unmodifiableCollection(achievementResults.values());
     }
 
     public long getPointValue() {
-        return Math.round(getAsTerm().getValue());
+        return incrementalPointValue.getPointValue();
     }
 
     @Override
@@ -79,7 +117,18 @@ public class BingoResult implements Serializable {
         return getAsTerm().getAsString();
     }
 
+    public void appendTo(StringBuilder stringBuilder) {
+        getAsTerm().appendTo(stringBuilder);
+    }
+
     private Term getAsTerm() {
+        if (term == null) {
+            term = createTerm();
+        }
+        return term;
+    }
+
+    private Term createTerm() {
         Term calculationTerm = getAllResultsCombinedAsTerms().stream()
                 .sorted(Comparator.comparingDouble(Term::getValue))
                 .toList()
@@ -93,12 +142,66 @@ public class BingoResult implements Serializable {
 
     private List<Term> getAllResultsCombinedAsTerms() {
         List<Term> combinedResults = new LinkedList<>();
-        ribbonResultList.stream()
+        ribbonResults.values()
+                .stream()
                 .map(ribbonResult -> ribbonResult.getAsTerm(mainArmamentType))
                 .forEach(combinedResults::add);
-        achievementResultList.stream()
-                .map(achievementResult -> achievementResult.getAsTerm(ribbonResultList, mainArmamentType))
+        int[] ribbonAmounts = RibbonResult.getRibbonAmounts(ribbonResults.values());
+        achievementResults.values()
+                .stream()
+                .map(achievementResult -> achievementResult.getAsTerm(ribbonAmounts, mainArmamentType))
                 .forEach(combinedResults::add);
         return combinedResults;
     }
+
+    public void writeTo(CompactDataOutput output) throws IOException {
+        output.writeEnum(mainArmamentType);
+        output.writeVarInt(ribbonResults.size());
+        for (RibbonResult ribbonResult : ribbonResults.values()) {
+            output.writeEnum(ribbonResult.ribbon());
+            output.writeVarInt(ribbonResult.amount());
+        }
+        output.writeVarInt(achievementResults.size());
+        for (AchievementResult achievementResult : achievementResults.values()) {
+            output.writeEnum(achievementResult.achievement());
+            output.writeVarInt(achievementResult.amount());
+        }
+    }
+
+    public static BingoResult readFrom(CompactDataInput input) throws IOException {
+        BingoResult bingoResult = new BingoResult(input.readEnum(MainArmamentType.class));
+        int numberOfRibbonResults = input.readSize();
+        for (int index = 0; index < numberOfRibbonResults; index++) {
+            bingoResult.addRibbonResult(input.readEnum(Ribbon.class), input.readVarInt());
+        }
+        int numberOfAchievementResults = input.readSize();
+        for (int index = 0; index < numberOfAchievementResults; index++) {
+            bingoResult.addAchievementResult(input.readEnum(Achievement.class), input.readVarInt());
+        }
+        return bingoResult;
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream outputStream) throws IOException {
+        ObjectOutputStream.PutField fields = outputStream.putFields();
+        fields.put(MAIN_ARMAMENT_TYPE_FIELD, mainArmamentType);
+        fields.put(RIBBON_RESULT_LIST_FIELD, new LinkedList<>(ribbonResults.values()));
+        fields.put(ACHIEVEMENT_RESULT_LIST_FIELD, new LinkedList<>(achievementResults.values()));
+        outputStream.writeFields();
+    }
+
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream inputStream) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = inputStream.readFields();
+        mainArmamentType = (MainArmamentType) fields.get(MAIN_ARMAMENT_TYPE_FIELD, null);
+        ribbonResults = new EnumMap<>(Ribbon.class);
+        achievementResults = new EnumMap<>(Achievement.class);
+        incrementalPointValue = new IncrementalPointValue(mainArmamentType);
+        List<RibbonResult> ribbonResultList = (List<RibbonResult>) fields.get(RIBBON_RESULT_LIST_FIELD, List.of());
+        List<AchievementResult> achievementResultList =
+                (List<AchievementResult>) fields.get(ACHIEVEMENT_RESULT_LIST_FIELD, List.of());
+        ribbonResultList.forEach(result -> addRibbonResult(result.ribbon(), result.amount()));
+        achievementResultList.forEach(result -> addAchievementResult(result.achievement(), result.amount()));
+    }
 }
@@ -10,25 +10,19 @@ public record BingoResultBar(int level) implements Serializable {
     private static final long serialVersionUID = 350820194486527459L;
 
     public int getPointRequirement() {
-        return getPointRequirement(this.level);
-    }
-
-    private int getPointRequirement(int currentLevel) {
-        final int pointRequirementForCurrentLevel;
-        if (currentLevel > 4) {
-            pointRequirementForCurrentLevel = 300;
-        } else if (currentLevel > 1) {
-            pointRequirementForCurrentLevel = 200;
-        } else if (currentLevel > 0) {
-            pointRequirementForCurrentLevel = 300;
+        if (level > 4) {
+            return 900 + 300 * (level - 4);
+        } else if (level > 1) {
+            return 300 + 200 * (level - 1);
+        } else if (level > 0) {
+            return 300;
         } else {
             return 0;
         }
-        return pointRequirementForCurrentLevel + getPointRequirement(currentLevel - 1);
     }
 
     public int getNumberOfSubsAsReward() {
-        return (int) Math.pow(2, this.level);
+        return 1 << level;
     }
 
     public String getNumberOfSubsAsString() {
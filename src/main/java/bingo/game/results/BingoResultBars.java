@@ -1,40 +1,64 @@
 package bingo.game.results;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 public class BingoResultBars implements Serializable {
     @Serial
     private static final long serialVersionUID = 2043542897462699748L;
+    private static final int HIGHEST_SUPPORTED_LEVEL = Integer.SIZE - 2;
 
     private final List<BingoResultBar> resultBars;
     private final double pointRequirementModifier;
+    private transient long[] pointRequirements;
+    private transient int[] numberOfSubsAsRewards;
+    private transient String[] numberOfSubsAsStrings;
 
     public BingoResultBars(double pointRequirementModifier, int maxLevel) {
-        this.resultBars = new LinkedList<>();
+        if (maxLevel < 0 || maxLevel > HIGHEST_SUPPORTED_LEVEL) {
+            throw new IllegalArgumentException("The max level must be between 0 and %s, but was %s".formatted(
+                    HIGHEST_SUPPORTED_LEVEL,
+                    maxLevel));
+        }
+        this.resultBars = new ArrayList<>(maxLevel + 1);
         this.pointRequirementModifier = pointRequirementModifier;
         for (int level = 0; level <= maxLevel; level++) {
             resultBars.add(new BingoResultBar(level));
         }
+        setUpTables();
+    }
+
+    private void setUpTables() {
+        int numberOfLevels = resultBars.size();
+        pointRequirements = new long[numberOfLevels];
+        numberOfSubsAsRewards = new int[numberOfLevels];
+        numberOfSubsAsStrings = new String[numberOfLevels];
+        for (BingoResultBar resultBar : resultBars) {
+            int level = resultBar.level();
+            pointRequirements[level] = Math.round(resultBar.getPointRequirement() * pointRequirementModifier);
+            numberOfSubsAsRewards[level] = resultBar.getNumberOfSubsAsReward();
+            numberOfSubsAsStrings[level] = resultBar.getNumberOfSubsAsString();
+        }
     }
 
-    private BingoResultBar getResultBarOfLevel(int level) {
-        return resultBars.get(level);
+    public int getMaxLevel() {
+        return resultBars.size() - 1;
     }
 
     public long getPointRequirementOfLevel(int level) {
-        int baseRequirement = getResultBarOfLevel(level).getPointRequirement();
-        return Math.round(baseRequirement * pointRequirementModifier);
+        return pointRequirements[level];
     }
 
     public int getNumberOfSubsAsRewardForLevel(int level) {
-        return getResultBarOfLevel(level).getNumberOfSubsAsReward();
+        return numberOfSubsAsRewards[level];
     }
 
     public String getNumberOfSubsAsStringForLevel(int level) {
-        return getResultBarOfLevel(level).getNumberOfSubsAsString();
+        return numberOfSubsAsStrings[level];
     }
 
     public String getAllResultBarsAndRewardsInTableFormat() {
@@ -46,8 +70,14 @@ public class BingoResultBars implements Serializable {
                     resultBar.level(),
                     resultBar.getPointRequirement(),
                     resultBar.level(),
-                    resultBar.getNumberOfSubsAsString()));
+                    numberOfSubsAsStrings[resultBar.level()]));
         }
         return stringBuilder.toString();
     }
+
+    @Serial
+    private void readObject(ObjectInputStream inputStream) throws IOException, ClassNotFoundException {
+        inputStream.defaultReadObject();
+        setUpTables();
+    }
 }
@@ -0,0 +1,70 @@
+package bingo.game.results;
+
+import bingo.game.achievements.Achievement;
+import bingo.game.achievements.modifiers.PointValueModifier;
+import bingo.game.ribbons.Ribbon;
+import bingo.game.ships.MainArmamentType;
+
+/**
+ * Keeps the point value of a single result up to date by applying only the change caused by each new amount.
+ * Values are tracked in fixed-point arithmetic, so the total stays exact no matter how often amounts change.
+ */
+public class IncrementalPointValue {
+    private static final long SCALE = 1000;
+    private static final Ribbon[] RIBBONS = Ribbon.values();
+    private static final Achievement[] ACHIEVEMENTS = Achievement.values();
+    private static final long[][] SCALED_BONUS_MODIFIERS = setUpScaledBonusModifiers();
+
+    private final long[] ribbonPointValues;
+    private final int[] ribbonAmounts;
+    private final int[] achievementAmounts;
+    private long scaledPointValue;
+
+    public IncrementalPointValue(MainArmamentType mainArmamentType) {
+        this.ribbonPointValues = new long[RIBBONS.length];
+        this.ribbonAmounts = new int[RIBBONS.length];
+        this.achievementAmounts = new int[ACHIEVEMENTS.length];
+        for (Ribbon ribbon : RIBBONS) {
+            ribbonPointValues[ribbon.ordinal()] = ribbon.getPointValue(mainArmamentType);
+        }
+    }
+
+    public void setAmount(Ribbon ribbon, int amount) {
+        int ribbonIndex = ribbon.ordinal();
+        int delta = Math.max(amount, 0) - ribbonAmounts[ribbonIndex];
+        long scaledValueOfSingleRibbon = ribbonPointValues[ribbonIndex] * SCALE;
+        for (int achievementIndex = 0; achievementIndex < ACHIEVEMENTS.length; achievementIndex++) {
+            scaledValueOfSingleRibbon += achievementAmounts[achievementIndex] * ribbonPointValues[ribbonIndex]
+                    * SCALED_BONUS_MODIFIERS[achievementIndex][ribbonIndex];
+        }
+        scaledPointValue += delta * scaledValueOfSingleRibbon;
+        ribbonAmounts[ribbonIndex] += delta;
+    }
+
+    public void setAmount(Achievement achievement, int amount) {
+        int achievementIndex = achievement.ordinal();
+        int delta = Math.max(amount, 0) - achievementAmounts[achievementIndex];
+        long scaledValueOfSingleAchievement = achievement.getFlatPointValue() * SCALE;
+        for (int ribbonIndex = 0; ribbonIndex < RIBBONS.length; ribbonIndex++) {
+            scaledValueOfSingleAchievement += ribbonAmounts[ribbonIndex] * ribbonPointValues[ribbonIndex]
+                    * SCALED_BONUS_MODIFIERS[achievementIndex][ribbonIndex];
+        }
+        scaledPointValue += delta * scaledValueOfSingleAchievement;
+        achievementAmounts[achievementIndex] += delta;
+    }
+
+    public long getPointValue() {
+        return Math.floorDiv(scaledPointValue + SCALE / 2, SCALE);
+    }
+
+    private static long[][] setUpScaledBonusModifiers() {
+        long[][] scaledBonusModifiers = new long[ACHIEVEMENTS.length][RIBBONS.length];
+        for (Achievement achievement : ACHIEVEMENTS) {
+            for (PointValueModifier pointValueModifier : achievement.getPointValueModifiers()) {
+                scaledBonusModifiers[achievement.ordinal()][pointValueModifier.ribbon().ordinal()] +=
+                        Math.round(pointValueModifier.bonusModifier() * SCALE);
+            }
+        }
+        return scaledBonusModifiers;
+    }
+}
@@ -8,7 +8,10 @@ import bingo.game.math.terms.impl.Equation;
 import bingo.game.math.terms.impl.LabeledTerm;
 import bingo.game.math.terms.impl.Literal;
 import bingo.game.math.terms.impl.TermWithPoints;
+import bingo.game.utility.CompactDataInput;
+import bingo.game.utility.CompactDataOutput;
 
+import java.io.IOException;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.Comparator;
@@ -24,8 +27,20 @@ public class SharedDivisionAchievements implements Serializable {
     private final List<DivisionAchievementResult> achievementResultList;
 
     public SharedDivisionAchievements(int numberOfPlayers) {
+        this(numberOfPlayers, new LinkedList<>());
+    }
+
+    private SharedDivisionAchievements(int numberOfPlayers, List<DivisionAchievementResult> achievementResultList) {
         this.numberOfPlayers = numberOfPlayers;
-        this.achievementResultList = new LinkedList<>();
+        this.achievementResultList = achievementResultList;
+    }
+
+    /**
+     * Returns a copy of these achievements which throws {@link UnsupportedOperationException} when it is changed, so
+     * the copy may be read on any thread once it was published safely.
+     */
+    public SharedDivisionAchievements immutableCopy() {
+        return new SharedDivisionAchievements(numberOfPlayers, List.copyOf(achievementResultList));
     }
 
     public void addAchievementResult(DivisionAchievement achievement, int amount) {
@@ -52,6 +67,30 @@ public class SharedDivisionAchievements implements Serializable {
         return getAsTerm().getAsString();
     }
 
+    public void appendTo(StringBuilder stringBuilder) {
+        getAsTerm().appendTo(stringBuilder);
+    }
+
+    public void writeTo(CompactDataOutput output) throws IOException {
+        output.writeVarInt(numberOfPlayers);
+        output.writeVarInt(achievementResultList.size());
+        for (DivisionAchievementResult achievementResult : achievementResultList) {
+            output.writeEnum(achievementResult.achievement());
+            output.writeVarInt(achievementResult.amount());
+        }
+    }
+
+    public static SharedDivisionAchievements readFrom(CompactDataInput input) throws IOException {
+        SharedDivisionAchievements sharedDivisionAchievements = new SharedDivisionAchievements(input.readVarInt());
+        int numberOfAchievementResults = input.readSize();
+        for (int index = 0; index < numberOfAchievementResults; index++) {
+            sharedDivisionAchievements.addAchievementResult(
+                    input.readEnum(DivisionAchievement.class),
+                    input.readVarInt());
+        }
+        return sharedDivisionAchievements;
+    }
+
     private Term getAsTerm() {
         Term calculationTerm = achievementResultList.stream()
                 .map(achievementResult -> achievementResult.getAsTerm(numberOfPlayers))
@@ -8,11 +8,11 @@ import bingo.game.ships.MainArmamentType;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.Consumer;
 
 public enum Ribbon implements Serializable {
@@ -40,6 +40,7 @@ public enum Ribbon implements Serializable {
     @Serial
     private static final long serialVersionUID = 6166813751001367167L;
     private static final Map<Ribbon, List<PointValueOverride>> POINT_VALUE_OVERRIDES = setUpOverrides();
+    private static final int[][] POINT_VALUES = setUpPointValues();
 
     private final String displayText;
     private final int pointValue;
@@ -54,15 +55,7 @@ public enum Ribbon implements Serializable {
     }
 
     public int getPointValue(MainArmamentType mainArmamentType) {
-        return getPointValueOverride(mainArmamentType).orElse(pointValue);
-    }
-
-    private Optional<Integer> getPointValueOverride(MainArmamentType mainArmamentType) {
-        return POINT_VALUE_OVERRIDES.get(this)
-                .stream()
-                .filter(pointValueOverride -> pointValueOverride.mainArmamentType().equals(mainArmamentType))
-                .map(PointValueOverride::pointValue)
-                .findAny();
+        return POINT_VALUES[ordinal()][mainArmamentType.ordinal()];
     }
 
     @Override
@@ -103,4 +96,16 @@ public enum Ribbon implements Serializable {
         pointValueOverrides.get(SPOTTED).add(new PointValueOverride(MainArmamentType.AIRCRAFT, 15));
         return pointValueOverrides;
     }
+
+    private static int[][] setUpPointValues() {
+        int[][] pointValues = new int[Ribbon.values().length][MainArmamentType.values().length];
+        for (Ribbon ribbon : Ribbon.values()) {
+            Arrays.fill(pointValues[ribbon.ordinal()], ribbon.pointValue);
+            for (PointValueOverride pointValueOverride : POINT_VALUE_OVERRIDES.get(ribbon)) {
+                pointValues[ribbon.ordinal()][pointValueOverride.mainArmamentType().ordinal()] =
+                        pointValueOverride.pointValue();
+            }
+        }
+        return pointValues;
+    }
 }
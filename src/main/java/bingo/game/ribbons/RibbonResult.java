@@ -9,6 +9,7 @@ import bingo.game.ships.MainArmamentType;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Collection;
 
 public record RibbonResult(Ribbon ribbon, int amount) implements Serializable {
     @Serial
@@ -19,4 +20,15 @@ public record RibbonResult(Ribbon ribbon, int amount) implements Serializable {
         Term multiplicationTerm = new Multiplication(new Literal(amount), pointValueTerm);
         return new LabeledTerm(ribbon.getDisplayText(), new TermWithPoints(multiplicationTerm));
     }
+
+    /**
+     * @return the amount of each ribbon indexed by its ordinal, with 0 for ribbons without a result.
+     */
+    public static int[] getRibbonAmounts(Collection<RibbonResult> ribbonResults) {
+        int[] ribbonAmounts = new int[Ribbon.values().length];
+        for (RibbonResult ribbonResult : ribbonResults) {
+            ribbonAmounts[ribbonResult.ribbon().ordinal()] = ribbonResult.amount();
+        }
+        return ribbonAmounts;
+    }
 }
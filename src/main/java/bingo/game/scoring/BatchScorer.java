@@ -0,0 +1,167 @@
+package bingo.game.scoring;
+
+import bingo.game.input.UserInputException;
+import bingo.game.scoring.impl.CsvMatchResultFormat;
+import bingo.game.scoring.impl.JsonLinesMatchResultFormat;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Scores files of match results line by line. Lines are scored in batches on a fork-join pool while the calling
+ * thread keeps reading, and the scores are written in the order of the input. Only a bounded number of batches is in
+ * flight at any time, so files of any size are scored with constant memory.
+ */
+public class BatchScorer {
+    private static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private final ForkJoinPool forkJoinPool;
+    private final MatchResultScorer matchResultScorer;
+    private final int batchSize;
+    private final int maxPendingBatches;
+
+    public BatchScorer() {
+        this(ForkJoinPool.commonPool(), new MatchResultScorer(), DEFAULT_BATCH_SIZE);
+    }
+
+    BatchScorer(ForkJoinPool forkJoinPool, MatchResultScorer matchResultScorer, int batchSize) {
+        this.forkJoinPool = forkJoinPool;
+        this.matchResultScorer = matchResultScorer;
+        this.batchSize = batchSize;
+        this.maxPendingBatches = 2 * forkJoinPool.getParallelism() + 1;
+    }
+
+    /**
+     * Scores a CSV file or a JSON-lines file, depending on the file extension, and writes the scores in the same
+     * format. The output file is only opened once the input file is known to be readable in one of these formats.
+     */
+    public BatchScoringReport score(Path inputPath, Path outputPath) throws IOException, UserInputException {
+        String fileName = inputPath.getFileName().toString().toLowerCase(Locale.ROOT);
+        boolean isCsvFile = fileName.endsWith(".csv");
+        if (!isCsvFile && !fileName.endsWith(".jsonl") && !fileName.endsWith(".ndjson")) {
+            throw new UserInputException("Unsupported file type: %s".formatted(inputPath));
+        }
+        try (BufferedReader reader = Files.newBufferedReader(inputPath, StandardCharsets.UTF_8)) {
+            MatchResultFormat matchResultFormat = new JsonLinesMatchResultFormat();
+            long linesAlreadyRead = 0;
+            if (isCsvFile) {
+                String headerLine = reader.readLine();
+                if (headerLine == null) {
+                    throw new UserInputException("The file %s does not contain a header".formatted(inputPath));
+                }
+                matchResultFormat = new CsvMatchResultFormat(headerLine);
+                linesAlreadyRead = 1;
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(outputPath, StandardCharsets.UTF_8)) {
+                return score(reader, matchResultFormat, linesAlreadyRead, writer);
+            }
+        }
+    }
+
+    /**
+     * Scores every line which is not blank. The line numbers in the scores start after the given number of lines
+     * already read.
+     */
+    public BatchScoringReport score(
+            BufferedReader reader, MatchResultFormat matchResultFormat, long linesAlreadyRead, Writer writer)
+            throws IOException {
+        long startTime = System.nanoTime();
+        BatchWriter batchWriter = new BatchWriter(matchResultFormat, writer);
+        Optional<String> outputHeader = matchResultFormat.getOutputHeader();
+        if (outputHeader.isPresent()) {
+            batchWriter.writeLine(outputHeader.get());
+        }
+        Deque<ForkJoinTask<List<MatchScore>>> pendingBatches = new ArrayDeque<>();
+        List<NumberedLine> batch = new ArrayList<>(batchSize);
+        long lineNumber = linesAlreadyRead;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            batch.add(new NumberedLine(lineNumber, line));
+            if (batch.size() == batchSize) {
+                pendingBatches.addLast(submit(matchResultFormat, batch));
+                batch = new ArrayList<>(batchSize);
+                if (pendingBatches.size() >= maxPendingBatches) {
+                    batchWriter.write(pendingBatches.removeFirst().join());
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            pendingBatches.addLast(submit(matchResultFormat, batch));
+        }
+        while (!pendingBatches.isEmpty()) {
+            batchWriter.write(pendingBatches.removeFirst().join());
+        }
+        writer.flush();
+        return new BatchScoringReport(
+                batchWriter.numberOfRowsScored,
+                batchWriter.numberOfRowsFailed,
+                Duration.ofNanos(System.nanoTime() - startTime));
+    }
+
+    private ForkJoinTask<List<MatchScore>> submit(MatchResultFormat matchResultFormat, List<NumberedLine> batch) {
+        return forkJoinPool.submit(() -> scoreBatch(matchResultFormat, batch));
+    }
+
+    private List<MatchScore> scoreBatch(MatchResultFormat matchResultFormat, List<NumberedLine> batch) {
+        List<MatchScore> matchScores = new ArrayList<>(batch.size());
+        for (NumberedLine numberedLine : batch) {
+            try {
+                matchScores.add(matchResultScorer.score(
+                        numberedLine.lineNumber(),
+                        matchResultFormat.parseFields(numberedLine.line())));
+            } catch (UserInputException exception) {
+                matchScores.add(MatchScore.failed(numberedLine.lineNumber(), "", exception.getMessage()));
+            }
+        }
+        return matchScores;
+    }
+
+    private record NumberedLine(long lineNumber, String line) {
+    }
+
+    private static class BatchWriter {
+        private final MatchResultFormat matchResultFormat;
+        private final Writer writer;
+        private long numberOfRowsScored;
+        private long numberOfRowsFailed;
+
+        private BatchWriter(MatchResultFormat matchResultFormat, Writer writer) {
+            this.matchResultFormat = matchResultFormat;
+            this.writer = writer;
+        }
+
+        private void write(List<MatchScore> matchScores) throws IOException {
+            for (MatchScore matchScore : matchScores) {
+                if (matchScore.isScored()) {
+                    numberOfRowsScored++;
+                } else {
+                    numberOfRowsFailed++;
+                }
+                writeLine(matchResultFormat.formatScore(matchScore));
+            }
+        }
+
+        private void writeLine(String line) throws IOException {
+            writer.write(line);
+            writer.write('\n');
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package bingo.game.scoring;
+
+import java.time.Duration;
+
+public record BatchScoringReport(long numberOfRowsScored, long numberOfRowsFailed, Duration elapsedTime) {
+
+    public long getNumberOfRows() {
+        return numberOfRowsScored + numberOfRowsFailed;
+    }
+
+    public double getRowsPerSecond() {
+        long elapsedNanos = Math.max(elapsedTime.toNanos(), 1);
+        return getNumberOfRows() * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "Scored %s rows in %s ms (%.1f rows/s), %s failed".formatted(
+                getNumberOfRows(),
+                elapsedTime.toMillis(),
+                getRowsPerSecond(),
+                numberOfRowsFailed);
+    }
+}
@@ -0,0 +1,19 @@
+package bingo.game.scoring;
+
+import bingo.game.input.UserInputException;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads the fields of a row and writes its score, with one row per line. Implementations are immutable, so a format
+ * can be shared by all threads scoring a file.
+ */
+public interface MatchResultFormat {
+
+    Map<String, String> parseFields(String line) throws UserInputException;
+
+    Optional<String> getOutputHeader();
+
+    String formatScore(MatchScore matchScore);
+}
@@ -0,0 +1,129 @@
+package bingo.game.scoring;
+
+import bingo.game.achievements.Achievement;
+import bingo.game.achievements.division.DivisionAchievement;
+import bingo.game.input.UserInputException;
+import bingo.game.results.BingoResult;
+import bingo.game.results.division.SharedDivisionAchievements;
+import bingo.game.ribbons.Ribbon;
+import bingo.game.ships.MainArmamentType;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Scores the fields of a row through {@link BingoResult} and {@link SharedDivisionAchievements}. Ribbons,
+ * achievements and division achievements are given as amounts in fields named after their constants. All field names,
+ * including the ones for the id, the main armament type and the number of players, are matched case insensitively.
+ * Division achievements are only scored if any of them is present in the row.
+ */
+public class MatchResultScorer {
+    public static final String ID_FIELD = "id";
+    public static final String MAIN_ARMAMENT_TYPE_FIELD = "mainArmamentType";
+    public static final String NUMBER_OF_PLAYERS_FIELD = "numberOfPlayers";
+    private static final Map<String, Enum<?>> RESULT_TYPE_BY_FIELD_NAME = setUpResultTypeByFieldName();
+
+    public MatchScore score(long lineNumber, Map<String, String> fields) {
+        Map<String, String> valueByNormalizedFieldName = new HashMap<>();
+        String duplicateFieldName = null;
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            if (valueByNormalizedFieldName.put(normalize(field.getKey()), field.getValue()) != null) {
+                duplicateFieldName = field.getKey();
+            }
+        }
+        String id = getValue(valueByNormalizedFieldName, ID_FIELD);
+        try {
+            if (duplicateFieldName != null) {
+                throw new UserInputException("Field '%s' is given twice".formatted(duplicateFieldName));
+            }
+            BingoResult bingoResult = new BingoResult(getMainArmamentType(valueByNormalizedFieldName));
+            SharedDivisionAchievements sharedDivisionAchievements = new SharedDivisionAchievements(getAmount(
+                    NUMBER_OF_PLAYERS_FIELD, getValue(valueByNormalizedFieldName, NUMBER_OF_PLAYERS_FIELD), 1));
+            boolean divisionAchievementsArePresent = false;
+            for (Map.Entry<String, String> field : fields.entrySet()) {
+                String fieldName = field.getKey();
+                String normalizedFieldName = normalize(fieldName);
+                if (normalizedFieldName.equals(normalize(ID_FIELD)) ||
+                        normalizedFieldName.equals(normalize(MAIN_ARMAMENT_TYPE_FIELD)) ||
+                        normalizedFieldName.equals(normalize(NUMBER_OF_PLAYERS_FIELD))) {
+                    continue;
+                }
+                int amount = getAmount(fieldName, field.getValue(), 0);
+                switch (RESULT_TYPE_BY_FIELD_NAME.get(normalizedFieldName)) {
+                    case Ribbon ribbon -> bingoResult.addRibbonResult(ribbon, amount);
+                    case Achievement achievement -> bingoResult.addAchievementResult(achievement, amount);
+                    case DivisionAchievement divisionAchievement -> {
+                        sharedDivisionAchievements.addAchievementResult(divisionAchievement, amount);
+                        divisionAchievementsArePresent = true;
+                    }
+                    case null, default -> throw new UserInputException("Unknown field: %s".formatted(fieldName));
+                }
+            }
+            if (divisionAchievementsArePresent) {
+                return MatchScore.scored(
+                        lineNumber,
+                        id,
+                        bingoResult.getPointValue() + sharedDivisionAchievements.getPointValue(),
+                        bingoResult + "; " + sharedDivisionAchievements);
+            }
+            return MatchScore.scored(lineNumber, id, bingoResult.getPointValue(), bingoResult.toString());
+        } catch (UserInputException exception) {
+            return MatchScore.failed(lineNumber, id, exception.getMessage());
+        }
+    }
+
+    private static String normalize(String fieldName) {
+        return fieldName.toUpperCase(Locale.ROOT);
+    }
+
+    private static String getValue(Map<String, String> valueByNormalizedFieldName, String fieldName) {
+        String value = valueByNormalizedFieldName.get(normalize(fieldName));
+        return value == null ? "" : value;
+    }
+
+    private MainArmamentType getMainArmamentType(Map<String, String> valueByNormalizedFieldName)
+            throws UserInputException {
+        String value = getValue(valueByNormalizedFieldName, MAIN_ARMAMENT_TYPE_FIELD).trim();
+        if (value.isEmpty()) {
+            throw new UserInputException("Field '%s' is missing".formatted(MAIN_ARMAMENT_TYPE_FIELD));
+        }
+        try {
+            return MainArmamentType.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            throw new UserInputException("Unknown main armament type: %s".formatted(value), exception);
+        }
+    }
+
+    private int getAmount(String fieldName, String value, int defaultAmount) throws UserInputException {
+        String trimmedValue = value == null ? "" : value.trim();
+        if (trimmedValue.isEmpty()) {
+            return defaultAmount;
+        }
+        int amount;
+        try {
+            amount = Integer.parseInt(trimmedValue);
+        } catch (NumberFormatException exception) {
+            String message = "Field '%s' does not contain an integer: %s".formatted(fieldName, trimmedValue);
+            throw new UserInputException(message, exception);
+        }
+        if (amount < 0) {
+            throw new UserInputException("Field '%s' must not be negative: %s".formatted(fieldName, trimmedValue));
+        }
+        return amount;
+    }
+
+    private static Map<String, Enum<?>> setUpResultTypeByFieldName() {
+        Map<String, Enum<?>> resultTypeByFieldName = new HashMap<>();
+        for (Ribbon ribbon : Ribbon.values()) {
+            resultTypeByFieldName.put(ribbon.name(), ribbon);
+        }
+        for (Achievement achievement : Achievement.values()) {
+            resultTypeByFieldName.put(achievement.name(), achievement);
+        }
+        for (DivisionAchievement divisionAchievement : DivisionAchievement.values()) {
+            resultTypeByFieldName.put(divisionAchievement.name(), divisionAchievement);
+        }
+        return Map.copyOf(resultTypeByFieldName);
+    }
+}
@@ -0,0 +1,22 @@
+package bingo.game.scoring;
+
+import java.util.Optional;
+
+/**
+ * The score of a single row, or the reason why the row could not be scored.
+ */
+public record MatchScore(
+        long lineNumber, String id, long pointValue, String explanation, Optional<String> errorMessage) {
+
+    public static MatchScore scored(long lineNumber, String id, long pointValue, String explanation) {
+        return new MatchScore(lineNumber, id, pointValue, explanation, Optional.empty());
+    }
+
+    public static MatchScore failed(long lineNumber, String id, String errorMessage) {
+        return new MatchScore(lineNumber, id, 0, "", Optional.of(errorMessage));
+    }
+
+    public boolean isScored() {
+        return errorMessage.isEmpty();
+    }
+}
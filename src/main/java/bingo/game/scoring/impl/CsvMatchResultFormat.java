@@ -0,0 +1,107 @@
+package bingo.game.scoring.impl;
+
+import bingo.game.input.UserInputException;
+import bingo.game.scoring.MatchResultFormat;
+import bingo.game.scoring.MatchScore;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Comma-separated values with a header line naming the fields. Values may be quoted, with quotes inside quoted values
+ * doubled, but a value must not span several lines.
+ */
+public class CsvMatchResultFormat implements MatchResultFormat {
+    private static final String OUTPUT_HEADER = "line,id,points,explanation,error";
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private final List<String> fieldNames;
+
+    public CsvMatchResultFormat(String headerLine) throws UserInputException {
+        this.fieldNames = splitValues(headerLine).stream().map(String::trim).toList();
+        if (fieldNames.stream().anyMatch(String::isEmpty)) {
+            throw new UserInputException("The header contains an empty field name: %s".formatted(headerLine));
+        }
+        if (fieldNames.stream().distinct().count() < fieldNames.size()) {
+            throw new UserInputException("The header contains a field name twice: %s".formatted(headerLine));
+        }
+    }
+
+    @Override
+    public Map<String, String> parseFields(String line) throws UserInputException {
+        List<String> values = splitValues(line);
+        if (values.size() != fieldNames.size()) {
+            throw new UserInputException(
+                    "Expected %s values, but found %s".formatted(fieldNames.size(), values.size()));
+        }
+        Map<String, String> fields = HashMap.newHashMap(values.size());
+        for (int index = 0; index < values.size(); index++) {
+            fields.put(fieldNames.get(index), values.get(index));
+        }
+        return fields;
+    }
+
+    private static List<String> splitValues(String line) throws UserInputException {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean isQuoted = false;
+        for (int index = 0; index < line.length(); index++) {
+            char character = line.charAt(index);
+            if (isQuoted) {
+                if (character != QUOTE) {
+                    value.append(character);
+                } else if (index + 1 < line.length() && line.charAt(index + 1) == QUOTE) {
+                    value.append(QUOTE);
+                    index++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (character == QUOTE) {
+                isQuoted = true;
+            } else if (character == SEPARATOR) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(character);
+            }
+        }
+        if (isQuoted) {
+            throw new UserInputException("A quoted value is not closed: %s".formatted(line));
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    @Override
+    public Optional<String> getOutputHeader() {
+        return Optional.of(OUTPUT_HEADER);
+    }
+
+    @Override
+    public String formatScore(MatchScore matchScore) {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append(matchScore.lineNumber()).append(SEPARATOR);
+        appendValue(matchScore.id(), stringBuilder);
+        stringBuilder.append(SEPARATOR);
+        if (matchScore.isScored()) {
+            stringBuilder.append(matchScore.pointValue());
+        }
+        stringBuilder.append(SEPARATOR);
+        appendValue(matchScore.explanation(), stringBuilder);
+        stringBuilder.append(SEPARATOR);
+        appendValue(matchScore.errorMessage().orElse(""), stringBuilder);
+        return stringBuilder.toString();
+    }
+
+    private static void appendValue(String value, StringBuilder stringBuilder) {
+        if (value.indexOf(SEPARATOR) < 0 && value.indexOf(QUOTE) < 0 && value.indexOf('\n') < 0) {
+            stringBuilder.append(value);
+        } else {
+            stringBuilder.append(QUOTE).append(value.replace("\"", "\"\"")).append(QUOTE);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package bingo.game.scoring.impl;
+
+import bingo.game.input.UserInputException;
+import bingo.game.scoring.MatchResultFormat;
+import bingo.game.scoring.MatchScore;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * One flat JSON object per line. Values may be strings, numbers, booleans or null, where null fields are left out.
+ */
+public class JsonLinesMatchResultFormat implements MatchResultFormat {
+
+    @Override
+    public Map<String, String> parseFields(String line) throws UserInputException {
+        return new ObjectParser(line).parseObject();
+    }
+
+    @Override
+    public Optional<String> getOutputHeader() {
+        return Optional.empty();
+    }
+
+    @Override
+    public String formatScore(MatchScore matchScore) {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("{\"line\":").append(matchScore.lineNumber()).append(",\"id\":");
+        appendString(matchScore.id(), stringBuilder);
+        if (matchScore.isScored()) {
+            stringBuilder.append(",\"points\":").append(matchScore.pointValue()).append(",\"explanation\":");
+            appendString(matchScore.explanation(), stringBuilder);
+        } else {
+            stringBuilder.append(",\"error\":");
+            appendString(matchScore.errorMessage().orElseThrow(), stringBuilder);
+        }
+        return stringBuilder.append('}').toString();
+    }
+
+    private static void appendString(String value, StringBuilder stringBuilder) {
+        stringBuilder.append('"');
+        for (int index = 0; index < value.length(); index++) {
+            char character = value.charAt(index);
+            switch (character) {
+                case '"' -> stringBuilder.append("\\\"");
+                case '\\' -> stringBuilder.append("\\\\");
+                case '\n' -> stringBuilder.append("\\n");
+                case '\r' -> stringBuilder.append("\\r");
+                case '\t' -> stringBuilder.append("\\t");
+                default -> {
+                    if (character < 0x20) {
+                        stringBuilder.append("\\u%04x".formatted((int) character));
+                    } else {
+                        stringBuilder.append(character);
+                    }
+                }
+            }
+        }
+        stringBuilder.append('"');
+    }
+
+    private static class ObjectParser {
+        private final String line;
+        private int position;
+
+        private ObjectParser(String line) {
+            this.line = line;
+        }
+
+        private Map<String, String> parseObject() throws UserInputException {
+            Map<String, String> fields = new HashMap<>();
+            expect('{');
+            if (peek() == '}') {
+                position++;
+            } else {
+                do {
+                    String fieldName = parseString();
+                    expect(':');
+                    Optional<String> value = parseValue();
+                    if (value.isPresent() && fields.put(fieldName, value.get()) != null) {
+                        throw exceptionWithMessage("Field '%s' is given twice".formatted(fieldName));
+                    }
+                } while (consumeIf(','));
+                expect('}');
+            }
+            if (peek() != 0) {
+                throw exceptionWithMessage("Unexpected content after the object");
+            }
+            return fields;
+        }
+
+        private Optional<String> parseValue() throws UserInputException {
+            char character = peek();
+            if (character == '"') {
+                return Optional.of(parseString());
+            } else if (character == '-' || Character.isDigit(character)) {
+                int start = position;
+                while (position < line.length() && "+-.eE0123456789".indexOf(line.charAt(position)) >= 0) {
+                    position++;
+                }
+                return Optional.of(line.substring(start, position));
+            } else if (consumeWord("true")) {
+                return Optional.of("true");
+            } else if (consumeWord("false")) {
+                return Optional.of("false");
+            } else if (consumeWord("null")) {
+                return Optional.empty();
+            }
+            throw exceptionWithMessage("Unsupported value");
+        }
+
+        private String parseString() throws UserInputException {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            while (position < line.length()) {
+                char character = line.charAt(position++);
+                if (character == '"') {
+                    return value.toString();
+                } else if (character != '\\') {
+                    value.append(character);
+                } else if (position < line.length()) {
+                    char escapedCharacter = line.charAt(position++);
+                    switch (escapedCharacter) {
+                        case '"', '\\', '/' -> value.append(escapedCharacter);
+                        case 'b' -> value.append('\b');
+                        case 'f' -> value.append('\f');
+                        case 'n' -> value.append('\n');
+                        case 'r' -> value.append('\r');
+                        case 't' -> value.append('\t');
+                        case 'u' -> value.append(parseUnicodeEscape());
+                        default -> throw exceptionWithMessage("Invalid escape sequence");
+                    }
+                }
+            }
+            throw exceptionWithMessage("A string is not closed");
+        }
+
+        private char parseUnicodeEscape() throws UserInputException {
+            if (position + 4 > line.length()) {
+                throw exceptionWithMessage("Invalid escape sequence");
+            }
+            try {
+                char character = (char) Integer.parseInt(line, position, position + 4, 16);
+                position += 4;
+                return character;
+            } catch (NumberFormatException exception) {
+                throw exceptionWithMessage("Invalid escape sequence");
+            }
+        }
+
+        private boolean consumeWord(String word) {
+            if (line.startsWith(word, position)) {
+                position += word.length();
+                return true;
+            }
+            return false;
+        }
+
+        private boolean consumeIf(char expectedCharacter) {
+            if (peek() == expectedCharacter) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char expectedCharacter) throws UserInputException {
+            if (!consumeIf(expectedCharacter)) {
+                throw exceptionWithMessage("Expected '%s'".formatted(expectedCharacter));
+            }
+        }
+
+        private char peek() {
+            while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+                position++;
+            }
+            return position < line.length() ? line.charAt(position) : 0;
+        }
+
+        private UserInputException exceptionWithMessage(String message) {
+            return new UserInputException("%s at position %s".formatted(message, position));
+        }
+    }
+}
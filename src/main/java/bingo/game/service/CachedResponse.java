@@ -0,0 +1,44 @@
+package bingo.game.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * An encoded response body together with its entity tag, which is derived from the content of the body.
+ */
+public record CachedResponse(byte[] body, String contentType, String entityTag) {
+    private static final int ENTITY_TAG_BYTES = 12;
+
+    public static CachedResponse of(String text, String contentType) {
+        byte[] body = text.getBytes(StandardCharsets.UTF_8);
+        return new CachedResponse(body, contentType, createEntityTag(body));
+    }
+
+    private static String createEntityTag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, ENTITY_TAG_BYTES) + "\"";
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+
+    /**
+     * Checks the value of an If-None-Match header against the entity tag of this response.
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String entityTag : ifNoneMatch.split(",")) {
+            String trimmedEntityTag = entityTag.trim();
+            if (trimmedEntityTag.equals("*") || trimmedEntityTag.equals(this.entityTag) ||
+                    trimmedEntityTag.equals("W/" + this.entityTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
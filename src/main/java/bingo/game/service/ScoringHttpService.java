@@ -0,0 +1,318 @@
+package bingo.game.service;
+
+import bingo.game.BingoGame;
+import bingo.game.BingoGameSnapshot;
+import bingo.game.achievements.Achievement;
+import bingo.game.achievements.division.DivisionAchievement;
+import bingo.game.input.UserInputException;
+import bingo.game.modifiers.ChallengeModifier;
+import bingo.game.results.BingoResultBars;
+import bingo.game.ribbons.Ribbon;
+import bingo.game.scoring.MatchResultScorer;
+import bingo.game.scoring.MatchScore;
+import bingo.game.scoring.impl.JsonLinesMatchResultFormat;
+import bingo.game.utility.BingoGameOutputSplitter;
+import bingo.game.utility.ChatMessageSink;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves scores and rule tables over HTTP, bound to the loopback address only. Every request is handled on its own
+ * virtual thread. Rule tables never change while the service is running, so they are encoded once and served with
+ * entity tags, which allows clients to revalidate them without transferring the body again.
+ * <p>
+ * Endpoints:
+ * <ul>
+ *     <li>{@code GET /ribbons}, {@code /achievements}, {@code /division-achievements} and
+ *     {@code /challenge-modifiers} list the rules as text</li>
+ *     <li>{@code GET /result-bars?players=2&modifiers=INCREASED_DIFFICULTY} shows the point requirements and rewards
+ *     of each level, where both parameters are optional</li>
+ *     <li>{@code POST /score} scores a flat JSON object in the format of the batch scorer</li>
+ *     <li>{@code GET /game} shows the output of the game which is being served, as chat messages separated by empty
+ *     lines. It is rendered from the latest snapshot of the game and only rendered again once the snapshot changes,
+ *     so its entity tag changes with every change to the game</li>
+ * </ul>
+ */
+public class ScoringHttpService {
+    public static final int DEFAULT_PORT = 8080;
+    private static final String TEXT = "text/plain; charset=utf-8";
+    private static final String MARKDOWN = "text/markdown; charset=utf-8";
+    private static final String JSON = "application/json; charset=utf-8";
+    private static final String GET = "GET";
+    private static final String HEAD = "HEAD";
+    private static final String POST = "POST";
+    private static final int MAX_REQUEST_BODY_BYTES = 64 * 1024;
+    private static final int BACKLOG = 1024;
+
+    private final HttpServer httpServer;
+    private final ExecutorService executorService;
+    private final Map<String, CachedResponse> ruleTableByPath;
+    private final Map<ResultBarsQuery, CachedResponse> resultBarsByQuery;
+    private final MatchResultScorer matchResultScorer;
+    private final JsonLinesMatchResultFormat jsonFormat;
+    private final BingoGameOutputSplitter bingoGameOutputSplitter;
+    private volatile BingoGame bingoGame;
+    private volatile RenderedGame renderedGame;
+
+    /**
+     * Creates the service on the given port of the loopback address. Port 0 selects a free port.
+     */
+    public ScoringHttpService(int port) throws IOException {
+        this.httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        this.executorService = Executors.newVirtualThreadPerTaskExecutor();
+        this.ruleTableByPath = Map.of(
+                "/ribbons", CachedResponse.of(Ribbon.getAllRibbonsListedAsString(), MARKDOWN),
+                "/achievements", CachedResponse.of(Achievement.getAllAchievementsListedAsString(), MARKDOWN),
+                "/division-achievements",
+                CachedResponse.of(DivisionAchievement.getAllAchievementsListedAsString(), MARKDOWN),
+                "/challenge-modifiers",
+                CachedResponse.of(ChallengeModifier.getAllChallengeModifiersListedAsString(), MARKDOWN));
+        this.resultBarsByQuery = new ConcurrentHashMap<>();
+        this.matchResultScorer = new MatchResultScorer();
+        this.jsonFormat = new JsonLinesMatchResultFormat();
+        this.bingoGameOutputSplitter = new BingoGameOutputSplitter();
+        httpServer.setExecutor(executorService);
+        httpServer.createContext("/", this::handle);
+    }
+
+    public void start() {
+        httpServer.start();
+    }
+
+    public void stop() {
+        httpServer.stop(0);
+        executorService.close();
+    }
+
+    public InetSocketAddress getAddress() {
+        return httpServer.getAddress();
+    }
+
+    /**
+     * Serves the given game under {@code /game} from now on. Requests only read the snapshots of the game, so they
+     * never wait for the thread which changes it.
+     */
+    public void serveGame(BingoGame bingoGame) {
+        this.bingoGame = bingoGame;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            URI requestUri = exchange.getRequestURI();
+            String path = requestUri.getPath();
+            CachedResponse ruleTable = ruleTableByPath.get(path);
+            if (ruleTable != null) {
+                handleGet(exchange, ruleTable);
+            } else if (path.equals("/result-bars")) {
+                handleResultBars(exchange, requestUri.getRawQuery());
+            } else if (path.equals("/game")) {
+                handleGame(exchange);
+            } else if (path.equals("/score")) {
+                handleScore(exchange);
+            } else {
+                sendError(exchange, 404, "Not found: %s".formatted(path));
+            }
+        }
+    }
+
+    private void handleResultBars(HttpExchange exchange, String rawQuery) throws IOException {
+        if (methodIsNotAllowed(exchange, GET, HEAD)) {
+            return;
+        }
+        ResultBarsQuery resultBarsQuery;
+        try {
+            resultBarsQuery = parseResultBarsQuery(parseQuery(rawQuery));
+        } catch (UserInputException exception) {
+            sendError(exchange, 400, exception.getMessage());
+            return;
+        }
+        handleGet(exchange, resultBarsByQuery.computeIfAbsent(resultBarsQuery, this::createResultBarsTable));
+    }
+
+    private void handleGame(HttpExchange exchange) throws IOException {
+        BingoGame servedGame = bingoGame;
+        if (servedGame == null) {
+            sendError(exchange, 404, "No game is being played");
+            return;
+        }
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        handleGet(exchange, renderGame(servedGame));
+    }
+
+    private CachedResponse renderGame(BingoGame servedGame) {
+        BingoGameSnapshot bingoGameSnapshot = servedGame.getSnapshot();
+        RenderedGame latestRenderedGame = renderedGame;
+        if (latestRenderedGame != null && latestRenderedGame.bingoGameSnapshot() == bingoGameSnapshot) {
+            return latestRenderedGame.response();
+        }
+        List<String> chatMessages = new ArrayList<>();
+        servedGame.renderTo(bingoGameSnapshot, new ChatMessageSink(chatMessages::add));
+        String output = bingoGameOutputSplitter.combineAsStringWithDoubleLineBreaks(chatMessages);
+        CachedResponse response = CachedResponse.of(output, TEXT);
+        renderedGame = new RenderedGame(bingoGameSnapshot, response);
+        return response;
+    }
+
+    private void handleGet(HttpExchange exchange, CachedResponse cachedResponse) throws IOException {
+        if (methodIsNotAllowed(exchange, GET, HEAD)) {
+            return;
+        }
+        exchange.getResponseHeaders().set("ETag", cachedResponse.entityTag());
+        if (cachedResponse.matches(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", cachedResponse.contentType());
+        if (exchange.getRequestMethod().equals(HEAD)) {
+            exchange.sendResponseHeaders(200, -1);
+        } else {
+            sendBody(exchange, 200, cachedResponse.body());
+        }
+    }
+
+    private void handleScore(HttpExchange exchange) throws IOException {
+        if (methodIsNotAllowed(exchange, POST)) {
+            return;
+        }
+        byte[] requestBody = readRequestBody(exchange.getRequestBody());
+        if (requestBody == null) {
+            sendError(exchange, 413, "The request body must not exceed %s bytes".formatted(MAX_REQUEST_BODY_BYTES));
+            return;
+        }
+        MatchScore matchScore;
+        try {
+            String requestText = new String(requestBody, StandardCharsets.UTF_8);
+            matchScore = matchResultScorer.score(1, jsonFormat.parseFields(requestText));
+        } catch (UserInputException exception) {
+            matchScore = MatchScore.failed(1, "", exception.getMessage());
+        }
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        byte[] responseBody = jsonFormat.formatScore(matchScore).getBytes(StandardCharsets.UTF_8);
+        sendBody(exchange, matchScore.isScored() ? 200 : 400, responseBody);
+    }
+
+    private byte[] readRequestBody(InputStream inputStream) throws IOException {
+        byte[] requestBody = inputStream.readNBytes(MAX_REQUEST_BODY_BYTES + 1);
+        return requestBody.length > MAX_REQUEST_BODY_BYTES ? null : requestBody;
+    }
+
+    private boolean methodIsNotAllowed(HttpExchange exchange, String... allowedMethods) throws IOException {
+        String requestMethod = exchange.getRequestMethod();
+        for (String allowedMethod : allowedMethods) {
+            if (allowedMethod.equals(requestMethod)) {
+                return false;
+            }
+        }
+        exchange.getResponseHeaders().set("Allow", String.join(", ", allowedMethods));
+        sendError(exchange, 405, "Method %s is not allowed".formatted(requestMethod));
+        return true;
+    }
+
+    private void sendError(HttpExchange exchange, int statusCode, String message) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", TEXT);
+        sendBody(exchange, statusCode, message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void sendBody(HttpExchange exchange, int statusCode, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(statusCode, body.length == 0 ? -1 : body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            int separatorIndex = parameter.indexOf('=');
+            String name = separatorIndex < 0 ? parameter : parameter.substring(0, separatorIndex);
+            String value = separatorIndex < 0 ? "" : parameter.substring(separatorIndex + 1);
+            parameters.put(decode(name), decode(value));
+        }
+        return parameters;
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Validates the parameters and brings them into a canonical form, so that equal tables share one cache entry.
+     */
+    private static ResultBarsQuery parseResultBarsQuery(Map<String, String> parameters) throws UserInputException {
+        int numberOfPlayers = 1;
+        String players = parameters.getOrDefault("players", "").trim();
+        if (!players.isEmpty()) {
+            try {
+                numberOfPlayers = Integer.parseInt(players);
+            } catch (NumberFormatException exception) {
+                throw new UserInputException("Parameter 'players' is not an integer: %s".formatted(players), exception);
+            }
+        }
+        if (numberOfPlayers < 1 || numberOfPlayers > 3) {
+            throw new UserInputException("The number of players must be between 1 and 3");
+        }
+        EnumSet<ChallengeModifier> challengeModifiers = EnumSet.noneOf(ChallengeModifier.class);
+        for (String modifier : parameters.getOrDefault("modifiers", "").split(",")) {
+            String trimmedModifier = modifier.trim();
+            if (!trimmedModifier.isEmpty()) {
+                challengeModifiers.add(parseChallengeModifier(trimmedModifier));
+            }
+        }
+        List<ChallengeModifier> allowedModifiers =
+                BingoGame.filterDisallowedModifiers(List.copyOf(challengeModifiers), numberOfPlayers);
+        return new ResultBarsQuery(numberOfPlayers, allowedModifiers);
+    }
+
+    private static ChallengeModifier parseChallengeModifier(String modifier) throws UserInputException {
+        try {
+            return ChallengeModifier.valueOf(modifier.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            throw new UserInputException("Unknown challenge modifier: %s".formatted(modifier), exception);
+        }
+    }
+
+    private CachedResponse createResultBarsTable(ResultBarsQuery resultBarsQuery) {
+        BingoResultBars bingoResultBars = new BingoResultBars(
+                BingoGame.getPointRequirementModifier(
+                        resultBarsQuery.numberOfPlayers(),
+                        resultBarsQuery.challengeModifiers()),
+                BingoGame.MAX_LEVEL);
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("| Level | Points required | Number of subs as reward |\n");
+        stringBuilder.append("|---|---:|---:|\n");
+        for (int level = 0; level <= bingoResultBars.getMaxLevel(); level++) {
+            stringBuilder.append("| %s | %s | %s |\n".formatted(
+                    level,
+                    bingoResultBars.getPointRequirementOfLevel(level),
+                    bingoResultBars.getNumberOfSubsAsStringForLevel(level)));
+        }
+        return CachedResponse.of(stringBuilder.toString(), MARKDOWN);
+    }
+
+    private record ResultBarsQuery(int numberOfPlayers, List<ChallengeModifier> challengeModifiers) {
+    }
+
+    private record RenderedGame(BingoGameSnapshot bingoGameSnapshot, CachedResponse response) {
+    }
+}
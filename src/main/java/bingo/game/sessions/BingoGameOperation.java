@@ -0,0 +1,10 @@
+package bingo.game.sessions;
+
+import bingo.game.BingoGame;
+import bingo.game.input.UserInputException;
+
+@FunctionalInterface
+public interface BingoGameOperation<T> {
+
+    T applyTo(BingoGame bingoGame) throws UserInputException;
+}
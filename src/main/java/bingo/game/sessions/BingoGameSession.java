@@ -0,0 +1,122 @@
+package bingo.game.sessions;
+
+import bingo.game.BingoGame;
+import bingo.game.input.UserInputException;
+import bingo.game.utility.BingoGameSerializer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A game hosted by {@link BingoGameSessionHost}. All access to the game is serialized by the lock of its session, so
+ * sessions never contend with each other. An evicted game only exists in its save file until it is accessed again. The
+ * encoded size is the length of the state when the game was last created, loaded or saved.
+ */
+class BingoGameSession {
+    private final String sessionId;
+    private final Path filePath;
+    private final BingoGameSerializer bingoGameSerializer;
+    private final ReentrantLock lock;
+    private volatile BingoGame bingoGame;
+    private volatile long lastAccessTime;
+    private volatile long encodedSize;
+    private boolean isRemoved;
+
+    BingoGameSession(
+            String sessionId, Path filePath, BingoGameSerializer bingoGameSerializer, BingoGame bingoGame,
+            long encodedSize, long lastAccessTime) {
+        this.sessionId = sessionId;
+        this.filePath = filePath;
+        this.bingoGameSerializer = bingoGameSerializer;
+        this.lock = new ReentrantLock();
+        this.bingoGame = bingoGame;
+        this.encodedSize = encodedSize;
+        this.lastAccessTime = lastAccessTime;
+    }
+
+    <T> T execute(BingoGameOperation<T> operation, long currentTime) throws UserInputException, IOException {
+        lock.lock();
+        try {
+            if (isRemoved) {
+                throw new UserInputException("Session %s does not exist".formatted(sessionId));
+            }
+            if (bingoGame == null) {
+                bingoGame = loadGame();
+            }
+            lastAccessTime = currentTime;
+            return operation.applyTo(bingoGame);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private BingoGame loadGame() throws IOException {
+        encodedSize = Files.size(filePath);
+        try {
+            return bingoGameSerializer.loadGame(filePath.toString());
+        } catch (ClassNotFoundException exception) {
+            throw new IOException("Session %s cannot be loaded".formatted(sessionId), exception);
+        }
+    }
+
+    /**
+     * Saves and unloads the game if it was not accessed since the given time. A session which is currently in use is
+     * left alone.
+     */
+    boolean evictIfIdleSince(long idleSince) throws IOException {
+        if (bingoGame == null || lastAccessTime > idleSince || !lock.tryLock()) {
+            return false;
+        }
+        try {
+            if (isRemoved || bingoGame == null || lastAccessTime > idleSince) {
+                return false;
+            }
+            save();
+            bingoGame = null;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean unload() throws IOException {
+        lock.lock();
+        try {
+            if (isRemoved || bingoGame == null) {
+                return false;
+            }
+            save();
+            bingoGame = null;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void save() throws IOException {
+        byte[] snapshot = bingoGameSerializer.createSnapshot(bingoGame);
+        bingoGameSerializer.saveSnapshot(snapshot, filePath);
+        encodedSize = snapshot.length;
+    }
+
+    void remove() throws IOException {
+        lock.lock();
+        try {
+            isRemoved = true;
+            bingoGame = null;
+            Files.deleteIfExists(filePath);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean isLoaded() {
+        return bingoGame != null;
+    }
+
+    long getEncodedSize() {
+        return encodedSize;
+    }
+}
@@ -0,0 +1,208 @@
+package bingo.game.sessions;
+
+import bingo.game.BingoGame;
+import bingo.game.input.UserInputException;
+import bingo.game.modifiers.ChallengeModifier;
+import bingo.game.players.Player;
+import bingo.game.utility.BingoGameSerializer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * Hosts many independent games, keyed by session id. Each session has its own lock, so operations on different
+ * sessions run in parallel without contention. Sessions which are idle for longer than the timeout are saved to a file
+ * in the session directory and unloaded, and they are loaded again as soon as they are accessed. Sessions saved by an
+ * earlier host in the same directory are picked up on access as well.
+ */
+public class BingoGameSessionHost implements AutoCloseable {
+    private static final Pattern SESSION_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final String FILE_EXTENSION = ".wrb";
+
+    private final BingoGameSerializer bingoGameSerializer;
+    private final Path sessionDirectory;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoTime;
+    private final ConcurrentMap<String, BingoGameSession> sessionById;
+    private final LongAdder operationCounter;
+    private final LongAdder failedEvictionCounter;
+    private final ScheduledExecutorService evictionScheduler;
+    private final Object metricsLock;
+    private long numberOfOperationsAtLastMetrics;
+    private long timeOfLastMetrics;
+
+    public BingoGameSessionHost(Path sessionDirectory, Duration idleTimeout) {
+        this(
+                new BingoGameSerializer(),
+                sessionDirectory,
+                idleTimeout,
+                System::nanoTime,
+                Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("session-eviction").factory()));
+        long evictionPeriodNanos = Math.max(idleTimeoutNanos / 2, 1);
+        evictionScheduler.scheduleWithFixedDelay(
+                this::evictIdleSessionsQuietly,
+                evictionPeriodNanos,
+                evictionPeriodNanos,
+                TimeUnit.NANOSECONDS);
+    }
+
+    BingoGameSessionHost(
+            BingoGameSerializer bingoGameSerializer, Path sessionDirectory, Duration idleTimeout,
+            LongSupplier nanoTime, ScheduledExecutorService evictionScheduler) {
+        this.bingoGameSerializer = bingoGameSerializer;
+        this.sessionDirectory = sessionDirectory;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.nanoTime = nanoTime;
+        this.sessionById = new ConcurrentHashMap<>();
+        this.operationCounter = new LongAdder();
+        this.failedEvictionCounter = new LongAdder();
+        this.evictionScheduler = evictionScheduler;
+        this.metricsLock = new Object();
+        this.timeOfLastMetrics = nanoTime.getAsLong();
+    }
+
+    public void createSession(String sessionId, List<Player> players, List<ChallengeModifier> challengeModifiers)
+            throws UserInputException, IOException {
+        Path filePath = getFilePath(sessionId);
+        BingoGame bingoGame = new BingoGame(players, challengeModifiers);
+        int encodedSize = bingoGameSerializer.createSnapshot(bingoGame).length;
+        BingoGameSession session = new BingoGameSession(
+                sessionId, filePath, bingoGameSerializer, bingoGame, encodedSize, nanoTime.getAsLong());
+        if (Files.exists(filePath) || sessionById.putIfAbsent(sessionId, session) != null) {
+            throw new UserInputException("Session %s already exists".formatted(sessionId));
+        }
+    }
+
+    /**
+     * Applies the operation to the game of the session, while no other thread can access that game.
+     */
+    public <T> T execute(String sessionId, BingoGameOperation<T> operation) throws UserInputException, IOException {
+        T result = getSession(sessionId).execute(operation, nanoTime.getAsLong());
+        operationCounter.increment();
+        return result;
+    }
+
+    public void removeSession(String sessionId) throws UserInputException, IOException {
+        BingoGameSession session = getSession(sessionId);
+        session.remove();
+        sessionById.remove(sessionId, session);
+    }
+
+    private BingoGameSession getSession(String sessionId) throws UserInputException {
+        BingoGameSession session = sessionById.get(sessionId);
+        if (session != null) {
+            return session;
+        }
+        Path filePath = getFilePath(sessionId);
+        if (!Files.exists(filePath)) {
+            throw new UserInputException("Session %s does not exist".formatted(sessionId));
+        }
+        return sessionById.computeIfAbsent(
+                sessionId,
+                ignoredSessionId -> new BingoGameSession(
+                        sessionId, filePath, bingoGameSerializer, null, 0, nanoTime.getAsLong()));
+    }
+
+    private Path getFilePath(String sessionId) throws UserInputException {
+        if (!SESSION_ID_PATTERN.matcher(sessionId).matches()) {
+            throw new UserInputException(
+                    "Session ids must consist of 1 to 64 letters, digits, dashes or underscores: %s".formatted(
+                            sessionId));
+        }
+        return sessionDirectory.resolve(sessionId + FILE_EXTENSION);
+    }
+
+    /**
+     * Saves and unloads all sessions which were not accessed within the idle timeout.
+     *
+     * @return the number of evicted sessions
+     */
+    public int evictIdleSessions() throws IOException {
+        long idleSince = nanoTime.getAsLong() - idleTimeoutNanos;
+        return evictSessions(session -> session.evictIfIdleSince(idleSince));
+    }
+
+    /**
+     * A session which cannot be saved stays loaded, so the scheduled eviction simply tries again on its next run. Any
+     * exception is counted as a failed eviction instead of being thrown, since it would cancel all further runs.
+     */
+    void evictIdleSessionsQuietly() {
+        try {
+            evictIdleSessions();
+        } catch (IOException | RuntimeException exception) {
+            failedEvictionCounter.increment();
+        }
+    }
+
+    private int evictSessions(SessionEviction sessionEviction) throws IOException {
+        int numberOfEvictedSessions = 0;
+        IOException firstException = null;
+        for (BingoGameSession session : sessionById.values()) {
+            try {
+                if (sessionEviction.evict(session)) {
+                    numberOfEvictedSessions++;
+                }
+            } catch (IOException exception) {
+                firstException = firstException == null ? exception : firstException;
+            }
+        }
+        if (firstException != null) {
+            throw firstException;
+        }
+        return numberOfEvictedSessions;
+    }
+
+    public BingoGameSessionMetrics getMetrics() {
+        int numberOfActiveSessions = 0;
+        long totalEncodedSize = 0;
+        for (BingoGameSession session : sessionById.values()) {
+            if (session.isLoaded()) {
+                numberOfActiveSessions++;
+                totalEncodedSize += session.getEncodedSize();
+            }
+        }
+        long numberOfOperations = operationCounter.sum();
+        double operationsPerSecond;
+        synchronized (metricsLock) {
+            long currentTime = nanoTime.getAsLong();
+            long elapsedNanos = Math.max(currentTime - timeOfLastMetrics, 1);
+            long operationsSinceLastMetrics = numberOfOperations - numberOfOperationsAtLastMetrics;
+            operationsPerSecond = operationsSinceLastMetrics * 1_000_000_000.0 / elapsedNanos;
+            numberOfOperationsAtLastMetrics = numberOfOperations;
+            timeOfLastMetrics = currentTime;
+        }
+        return new BingoGameSessionMetrics(
+                sessionById.size(),
+                numberOfActiveSessions,
+                numberOfActiveSessions == 0 ? 0 : totalEncodedSize / numberOfActiveSessions,
+                numberOfOperations,
+                operationsPerSecond,
+                failedEvictionCounter.sum());
+    }
+
+    /**
+     * Stops the eviction and saves all sessions which are still loaded.
+     */
+    @Override
+    public void close() throws IOException {
+        if (evictionScheduler != null) {
+            evictionScheduler.close();
+        }
+        evictSessions(BingoGameSession::unload);
+    }
+
+    private interface SessionEviction {
+        boolean evict(BingoGameSession session) throws IOException;
+    }
+}
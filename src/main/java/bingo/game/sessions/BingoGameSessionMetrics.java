@@ -0,0 +1,24 @@
+package bingo.game.sessions;
+
+/**
+ * The size per active session is the average length of the encoded state of the loaded games, as measured when each of
+ * them was last created, loaded or saved. Failed evictions count the scheduled eviction runs which ended with an
+ * exception.
+ */
+public record BingoGameSessionMetrics(
+        int numberOfSessions, int numberOfActiveSessions, long encodedSizePerActiveSession, long numberOfOperations,
+        double operationsPerSecond, long numberOfFailedEvictions) {
+
+    @Override
+    public String toString() {
+        String format = "%s sessions, %s active (about %s bytes encoded each), %s operations (%.1f operations/s), " +
+                "%s failed evictions";
+        return format.formatted(
+                numberOfSessions,
+                numberOfActiveSessions,
+                encodedSizePerActiveSession,
+                numberOfOperations,
+                operationsPerSecond,
+                numberOfFailedEvictions);
+    }
+}
@@ -0,0 +1,50 @@
+package bingo.game.ships;
+
+import bingo.game.utility.AppendOnlyList;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class ShipRegistry {
+    private final Map<String, Ship> shipsByFoldedName;
+    private AppendOnlyList<Ship> ships;
+
+    public ShipRegistry() {
+        this.shipsByFoldedName = new HashMap<>();
+        this.ships = AppendOnlyList.of();
+    }
+
+    public boolean add(Ship ship) {
+        boolean shipWasAdded = shipsByFoldedName.putIfAbsent(foldCase(ship.name()), ship) == null;
+        if (shipWasAdded) {
+            ships = ships.withAdded(ship);
+        }
+        return shipWasAdded;
+    }
+
+    public boolean remove(Ship ship) {
+        boolean shipWasRemoved = shipsByFoldedName.remove(foldCase(ship.name()), ship);
+        if (shipWasRemoved) {
+            ships = ships.withRemoved(ship);
+        }
+        return shipWasRemoved;
+    }
+
+    public boolean contains(Ship ship) {
+        return shipsByFoldedName.containsKey(foldCase(ship.name()));
+    }
+
+    /**
+     * Returns the ships in the order in which they were added. The list is immutable and does not reflect later
+     * changes, and it shares its elements with the list returned after the next ship was added.
+     */
+    public List<Ship> getShips() {
+        return ships;
+    }
+
+    private static String foldCase(String shipName) {
+        return shipName.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,123 @@
+package bingo.game.simulation;
+
+import bingo.game.BingoGame;
+import bingo.game.BingoGameState;
+
+import java.util.Arrays;
+
+/**
+ * Counts simulated challenges by the final state, the level on which they ended and the total number of subs paid.
+ * Distributions of independent simulation threads are combined with {@link #merge(ChallengeOutcomeDistribution)}.
+ */
+public class ChallengeOutcomeDistribution {
+    private static final int INITIAL_SUBS_CAPACITY = 256;
+
+    private final long[] challengesByFinalState;
+    private final long[] challengesByFinalLevel;
+    private long[] challengesBySubsPaid;
+    private long numberOfChallenges;
+    private long numberOfMatches;
+    private long totalSubsPaid;
+
+    public ChallengeOutcomeDistribution() {
+        this.challengesByFinalState = new long[BingoGameState.values().length];
+        this.challengesByFinalLevel = new long[BingoGame.MAX_LEVEL + 1];
+        this.challengesBySubsPaid = new long[INITIAL_SUBS_CAPACITY];
+    }
+
+    void record(BingoGameState finalState, int finalLevel, int subsPaid, int matchesPlayed) {
+        if (subsPaid >= challengesBySubsPaid.length) {
+            challengesBySubsPaid = Arrays.copyOf(challengesBySubsPaid, Math.max(subsPaid + 1, 2 * subsPaid));
+        }
+        challengesByFinalState[finalState.ordinal()]++;
+        challengesByFinalLevel[finalLevel]++;
+        challengesBySubsPaid[subsPaid]++;
+        numberOfChallenges++;
+        numberOfMatches += matchesPlayed;
+        totalSubsPaid += subsPaid;
+    }
+
+    public ChallengeOutcomeDistribution merge(ChallengeOutcomeDistribution other) {
+        if (other.challengesBySubsPaid.length > challengesBySubsPaid.length) {
+            challengesBySubsPaid = Arrays.copyOf(challengesBySubsPaid, other.challengesBySubsPaid.length);
+        }
+        for (int index = 0; index < challengesByFinalState.length; index++) {
+            challengesByFinalState[index] += other.challengesByFinalState[index];
+        }
+        for (int level = 0; level < challengesByFinalLevel.length; level++) {
+            challengesByFinalLevel[level] += other.challengesByFinalLevel[level];
+        }
+        for (int subsPaid = 0; subsPaid < other.challengesBySubsPaid.length; subsPaid++) {
+            challengesBySubsPaid[subsPaid] += other.challengesBySubsPaid[subsPaid];
+        }
+        numberOfChallenges += other.numberOfChallenges;
+        numberOfMatches += other.numberOfMatches;
+        totalSubsPaid += other.totalSubsPaid;
+        return this;
+    }
+
+    public long getNumberOfChallenges() {
+        return numberOfChallenges;
+    }
+
+    public long getNumberOfMatches() {
+        return numberOfMatches;
+    }
+
+    public long getNumberOfChallengesWithFinalState(BingoGameState finalState) {
+        return challengesByFinalState[finalState.ordinal()];
+    }
+
+    public long getNumberOfChallengesEndingOnLevel(int level) {
+        return challengesByFinalLevel[level];
+    }
+
+    public long getNumberOfChallengesPaying(int subsPaid) {
+        return subsPaid < challengesBySubsPaid.length ? challengesBySubsPaid[subsPaid] : 0;
+    }
+
+    public double getMeanSubsPaid() {
+        return numberOfChallenges == 0 ? 0 : (double) totalSubsPaid / numberOfChallenges;
+    }
+
+    public double getMeanMatchesPlayed() {
+        return numberOfChallenges == 0 ? 0 : (double) numberOfMatches / numberOfChallenges;
+    }
+
+    /**
+     * Returns the smallest number of subs which at least the given fraction of all challenges did not exceed.
+     */
+    public int getSubsPaidPercentile(double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("The fraction must be between 0 and 1, but was %s".formatted(fraction));
+        }
+        long threshold = Math.max((long) Math.ceil(fraction * numberOfChallenges), 1);
+        long cumulativeChallenges = 0;
+        for (int subsPaid = 0; subsPaid < challengesBySubsPaid.length; subsPaid++) {
+            cumulativeChallenges += challengesBySubsPaid[subsPaid];
+            if (cumulativeChallenges >= threshold) {
+                return subsPaid;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("%s challenges, %.2f matches and %.2f subs on average".formatted(
+                numberOfChallenges,
+                getMeanMatchesPlayed(),
+                getMeanSubsPaid()));
+        stringBuilder.append(", median %s subs, 99th percentile %s subs".formatted(
+                getSubsPaidPercentile(0.5),
+                getSubsPaidPercentile(0.99)));
+        stringBuilder.append(". Final levels:");
+        for (int level = 0; level < challengesByFinalLevel.length; level++) {
+            if (challengesByFinalLevel[level] > 0) {
+                stringBuilder.append(" %s: %s".formatted(level, challengesByFinalLevel[level]));
+            }
+        }
+        return stringBuilder.toString();
+    }
+}
@@ -0,0 +1,238 @@
+package bingo.game.simulation;
+
+import bingo.game.BingoGame;
+import bingo.game.BingoGameState;
+import bingo.game.modifiers.ChallengeModifier;
+import bingo.game.results.BingoResultBars;
+import bingo.game.tokens.TokenCounter;
+import bingo.game.utility.BingoGameDependencyInjector;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs synthetic challenges through the rules of {@link BingoGame} on a fork-join pool. The challenges are split into
+ * independent tasks, each with its own random generator split off from the seed, so the result for a given seed does
+ * not depend on the number of threads.
+ */
+public class ChallengeSimulator {
+    private static final int DEFAULT_CHALLENGES_PER_TASK = 4096;
+    private static final ChallengeModifier[] CHALLENGE_MODIFIERS = ChallengeModifier.values();
+
+    private final ForkJoinPool forkJoinPool;
+    private final BingoGameDependencyInjector bingoGameDependencyInjector;
+    private final long challengesPerTask;
+
+    public ChallengeSimulator() {
+        this(ForkJoinPool.commonPool(), new BingoGameDependencyInjector(), DEFAULT_CHALLENGES_PER_TASK);
+    }
+
+    ChallengeSimulator(
+            ForkJoinPool forkJoinPool, BingoGameDependencyInjector bingoGameDependencyInjector,
+            long challengesPerTask) {
+        this.forkJoinPool = forkJoinPool;
+        this.bingoGameDependencyInjector = bingoGameDependencyInjector;
+        this.challengesPerTask = challengesPerTask;
+    }
+
+    public ChallengeOutcomeDistribution simulate(
+            SimulationSettings settings, List<ChallengeModifier> challengeModifiers, long numberOfChallenges,
+            long seed) {
+        return forkJoinPool.invoke(createTask(settings, challengeModifiers, numberOfChallenges, seed));
+    }
+
+    /**
+     * Simulates every combination of challenge modifiers which is allowed for the number of players. All
+     * combinations are simulated concurrently.
+     */
+    public Map<List<ChallengeModifier>, ChallengeOutcomeDistribution> simulateAllModifierCombinations(
+            SimulationSettings settings, long challengesPerCombination, long seed) {
+        SplittableRandom seedGenerator = new SplittableRandom(seed);
+        Map<List<ChallengeModifier>, ForkJoinTask<ChallengeOutcomeDistribution>> taskByCombination =
+                new LinkedHashMap<>();
+        for (List<ChallengeModifier> combination : getAllModifierCombinations(settings.numberOfPlayers())) {
+            ChallengeSimulationTask task =
+                    createTask(settings, combination, challengesPerCombination, seedGenerator.nextLong());
+            taskByCombination.put(combination, forkJoinPool.submit(task));
+        }
+        Map<List<ChallengeModifier>, ChallengeOutcomeDistribution> distributionByCombination = new LinkedHashMap<>();
+        taskByCombination.forEach((combination, task) -> distributionByCombination.put(combination, task.join()));
+        return distributionByCombination;
+    }
+
+    public static List<List<ChallengeModifier>> getAllModifierCombinations(int numberOfPlayers) {
+        List<ChallengeModifier> allowedModifiers =
+                BingoGame.filterDisallowedModifiers(List.of(CHALLENGE_MODIFIERS), numberOfPlayers);
+        List<List<ChallengeModifier>> combinations = new ArrayList<>(1 << allowedModifiers.size());
+        for (int bitMask = 0; bitMask < 1 << allowedModifiers.size(); bitMask++) {
+            List<ChallengeModifier> combination = new ArrayList<>(Integer.bitCount(bitMask));
+            for (int index = 0; index < allowedModifiers.size(); index++) {
+                if ((bitMask & 1 << index) != 0) {
+                    combination.add(allowedModifiers.get(index));
+                }
+            }
+            combinations.add(List.copyOf(combination));
+        }
+        return combinations;
+    }
+
+    private ChallengeSimulationTask createTask(
+            SimulationSettings settings, List<ChallengeModifier> challengeModifiers, long numberOfChallenges,
+            long seed) {
+        if (numberOfChallenges < 0) {
+            throw new IllegalArgumentException(
+                    "The number of challenges must not be negative, but was %s".formatted(numberOfChallenges));
+        }
+        List<ChallengeModifier> allowedModifiers =
+                BingoGame.filterDisallowedModifiers(challengeModifiers, settings.numberOfPlayers());
+        ChallengeRules rules = new ChallengeRules(
+                bingoGameDependencyInjector.createBingoResultBars(
+                        BingoGame.getPointRequirementModifier(settings.numberOfPlayers(), allowedModifiers),
+                        BingoGame.MAX_LEVEL),
+                BingoGame.getRewardMultiplier(allowedModifiers),
+                !allowedModifiers.contains(ChallengeModifier.NO_SAFETY_NET),
+                !allowedModifiers.contains(ChallengeModifier.NO_GIVING_UP));
+        return new ChallengeSimulationTask(
+                settings,
+                rules,
+                bingoGameDependencyInjector,
+                challengesPerTask,
+                numberOfChallenges,
+                new SplittableRandom(seed));
+    }
+
+    private record ChallengeRules(
+            BingoResultBars bingoResultBars, double rewardMultiplier, boolean extraLivesAreEnabled,
+            boolean endingVoluntarilyIsAllowed) {
+    }
+
+    /**
+     * Simulates challenges with the same rules as {@link BingoGame}, whose static methods decide whether a match is
+     * successful, which level the challenge continues on and which reward is paid. The point value of a match includes
+     * the shared division achievements drawn by the sampler.
+     */
+    private static class ChallengeSimulationTask extends RecursiveTask<ChallengeOutcomeDistribution> {
+        private final SimulationSettings settings;
+        private final ChallengeRules rules;
+        private final BingoGameDependencyInjector bingoGameDependencyInjector;
+        private final long challengesPerTask;
+        private final long numberOfChallenges;
+        private final SplittableRandom random;
+
+        private ChallengeSimulationTask(
+                SimulationSettings settings, ChallengeRules rules,
+                BingoGameDependencyInjector bingoGameDependencyInjector, long challengesPerTask,
+                long numberOfChallenges, SplittableRandom random) {
+            this.settings = settings;
+            this.rules = rules;
+            this.bingoGameDependencyInjector = bingoGameDependencyInjector;
+            this.challengesPerTask = challengesPerTask;
+            this.numberOfChallenges = numberOfChallenges;
+            this.random = random;
+        }
+
+        @Override
+        protected ChallengeOutcomeDistribution compute() {
+            if (numberOfChallenges <= challengesPerTask) {
+                return simulateChallenges();
+            }
+            long half = numberOfChallenges / 2;
+            ChallengeSimulationTask firstHalf = withChallenges(half, random.split());
+            ChallengeSimulationTask secondHalf = withChallenges(numberOfChallenges - half, random);
+            firstHalf.fork();
+            return secondHalf.compute().merge(firstHalf.join());
+        }
+
+        private ChallengeSimulationTask withChallenges(long numberOfChallenges, SplittableRandom random) {
+            return new ChallengeSimulationTask(
+                    settings,
+                    rules,
+                    bingoGameDependencyInjector,
+                    challengesPerTask,
+                    numberOfChallenges,
+                    random);
+        }
+
+        private ChallengeOutcomeDistribution simulateChallenges() {
+            MatchPointSampler matchPointSampler = settings.matchPointSamplerSupplier().get();
+            ChallengeOutcomeDistribution distribution = new ChallengeOutcomeDistribution();
+            for (long challenge = 0; challenge < numberOfChallenges; challenge++) {
+                simulateChallenge(matchPointSampler, distribution);
+            }
+            return distribution;
+        }
+
+        private void simulateChallenge(MatchPointSampler matchPointSampler, ChallengeOutcomeDistribution distribution) {
+            TokenCounter tokenCounter = bingoGameDependencyInjector.createTokenCounter(rules.extraLivesAreEnabled());
+            int currentLevel = BingoGame.START_LEVEL;
+            int matchesPlayed = 0;
+            while (true) {
+                if (rules.endingVoluntarilyIsAllowed() && currentLevel >= settings.voluntaryEndLevel()) {
+                    recordOutcome(
+                            distribution,
+                            BingoGameState.CHALLENGE_ENDED_VOLUNTARILY,
+                            currentLevel,
+                            tokenCounter,
+                            matchesPlayed);
+                    return;
+                }
+                boolean hasNextLevel = BingoGame.hasNextLevel(currentLevel);
+                boolean retryingIsAllowed = random.nextDouble() < settings.retryProbability();
+                boolean isSuccessfulMatch = BingoGame.requirementOfLevelIsMet(
+                        rules.bingoResultBars(),
+                        currentLevel,
+                        sampleTotalPointValue(matchPointSampler));
+                matchesPlayed++;
+                tokenCounter.calculateMatchResult(isSuccessfulMatch, hasNextLevel, retryingIsAllowed);
+                boolean retryingIsAllowedForAnyReason = retryingIsAllowed || tokenCounter.hasExtraLife();
+                tokenCounter.confirmMatchResult();
+                if (isSuccessfulMatch && !hasNextLevel) {
+                    recordOutcome(
+                            distribution,
+                            BingoGameState.CHALLENGE_ENDED_SUCCESSFULLY,
+                            currentLevel,
+                            tokenCounter,
+                            matchesPlayed);
+                    return;
+                } else if (!isSuccessfulMatch && !retryingIsAllowedForAnyReason) {
+                    recordOutcome(
+                            distribution,
+                            BingoGameState.CHALLENGE_ENDED_UNSUCCESSFULLY,
+                            currentLevel,
+                            tokenCounter,
+                            matchesPlayed);
+                    return;
+                }
+                currentLevel = BingoGame.getLevelAfterConfirmedMatch(currentLevel, isSuccessfulMatch);
+            }
+        }
+
+        private long sampleTotalPointValue(MatchPointSampler matchPointSampler) {
+            long totalPointValue = 0;
+            for (int player = 0; player < settings.numberOfPlayers(); player++) {
+                totalPointValue += matchPointSampler.samplePointValue(random);
+            }
+            return totalPointValue + matchPointSampler.sampleSharedDivisionPointValue(
+                    random,
+                    settings.numberOfPlayers());
+        }
+
+        private void recordOutcome(
+                ChallengeOutcomeDistribution distribution, BingoGameState finalState, int level,
+                TokenCounter tokenCounter, int matchesPlayed) {
+            int unlockedReward = rules.bingoResultBars().getNumberOfSubsAsRewardForLevel(
+                    BingoGame.getRewardLevel(finalState, level));
+            int subsPaid = BingoGame.getTotalReward(
+                    unlockedReward,
+                    tokenCounter.getCurrentExtraLives(),
+                    rules.rewardMultiplier());
+            distribution.record(finalState, level, subsPaid, matchesPlayed);
+        }
+    }
+}
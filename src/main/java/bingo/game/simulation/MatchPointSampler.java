@@ -0,0 +1,20 @@
+package bingo.game.simulation;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws the point value of a single player's result in a synthetic match. Implementations may reuse internal state
+ * between calls, so each simulation thread uses its own sampler.
+ */
+public interface MatchPointSampler {
+
+    long samplePointValue(RandomGenerator randomGenerator);
+
+    /**
+     * Draws the point value of the shared division achievements of a synthetic match, which is drawn once per match in
+     * addition to the results of the players. No division achievements are drawn unless this method is overridden.
+     */
+    default long sampleSharedDivisionPointValue(RandomGenerator randomGenerator, int numberOfPlayers) {
+        return 0;
+    }
+}
@@ -0,0 +1,30 @@
+package bingo.game.simulation;
+
+import bingo.game.BingoGame;
+
+import java.util.function.Supplier;
+
+/**
+ * Describes the players of the simulated challenges. Retrying is allowed for a match with the given probability, which
+ * must be lower than 1 so that every challenge ends. Players end the challenge voluntarily as soon as they reach the
+ * given level, unless a challenge modifier prohibits it.
+ */
+public record SimulationSettings(
+        int numberOfPlayers, Supplier<MatchPointSampler> matchPointSamplerSupplier, double retryProbability,
+        int voluntaryEndLevel) {
+    public static final int NO_VOLUNTARY_END = BingoGame.MAX_LEVEL + 1;
+
+    public SimulationSettings {
+        if (numberOfPlayers < 1 || numberOfPlayers > 3) {
+            throw new IllegalArgumentException("The number of players must be between 1 and 3");
+        }
+        if (retryProbability < 0 || retryProbability >= 1) {
+            throw new IllegalArgumentException("The retry probability must be at least 0 and lower than 1, but was %s"
+                    .formatted(retryProbability));
+        }
+    }
+
+    public SimulationSettings(int numberOfPlayers, Supplier<MatchPointSampler> matchPointSamplerSupplier) {
+        this(numberOfPlayers, matchPointSamplerSupplier, 0, NO_VOLUNTARY_END);
+    }
+}
@@ -0,0 +1,103 @@
+package bingo.game.simulation.impl;
+
+import bingo.game.achievements.Achievement;
+import bingo.game.achievements.division.DivisionAchievement;
+import bingo.game.results.IncrementalPointValue;
+import bingo.game.ribbons.Ribbon;
+import bingo.game.ships.MainArmamentType;
+import bingo.game.simulation.MatchPointSampler;
+
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws the amount of each ribbon and achievement from a Poisson distribution with the configured mean, and scores the
+ * amounts with the same fixed-point arithmetic as {@link bingo.game.results.BingoResult}. The point value is updated
+ * in place, so sampling a match does not allocate. Shared division achievements are drawn the same way and scored
+ * with the point values of {@link DivisionAchievement}, but only if a mean was configured for any of them.
+ */
+public class RibbonCountSampler implements MatchPointSampler {
+    private static final Ribbon[] RIBBONS = Ribbon.values();
+    private static final Achievement[] ACHIEVEMENTS = Achievement.values();
+    private static final DivisionAchievement[] DIVISION_ACHIEVEMENTS = DivisionAchievement.values();
+
+    private final IncrementalPointValue incrementalPointValue;
+    private final double[] ribbonLimits;
+    private final double[] achievementLimits;
+    private final double[] divisionAchievementLimits;
+    private final boolean divisionAchievementsAreSampled;
+
+    public RibbonCountSampler(
+            MainArmamentType mainArmamentType, Map<Ribbon, Double> meanAmountByRibbon,
+            Map<Achievement, Double> meanAmountByAchievement) {
+        this(mainArmamentType, meanAmountByRibbon, meanAmountByAchievement, Map.of());
+    }
+
+    public RibbonCountSampler(
+            MainArmamentType mainArmamentType, Map<Ribbon, Double> meanAmountByRibbon,
+            Map<Achievement, Double> meanAmountByAchievement,
+            Map<DivisionAchievement, Double> meanAmountByDivisionAchievement) {
+        this.incrementalPointValue = new IncrementalPointValue(mainArmamentType);
+        this.ribbonLimits = new double[RIBBONS.length];
+        this.achievementLimits = new double[ACHIEVEMENTS.length];
+        this.divisionAchievementLimits = new double[DIVISION_ACHIEVEMENTS.length];
+        this.divisionAchievementsAreSampled = !meanAmountByDivisionAchievement.isEmpty();
+        for (Ribbon ribbon : RIBBONS) {
+            ribbonLimits[ribbon.ordinal()] = limitForMean(meanAmountByRibbon.getOrDefault(ribbon, 0.0));
+        }
+        for (Achievement achievement : ACHIEVEMENTS) {
+            achievementLimits[achievement.ordinal()] =
+                    limitForMean(meanAmountByAchievement.getOrDefault(achievement, 0.0));
+        }
+        for (DivisionAchievement divisionAchievement : DIVISION_ACHIEVEMENTS) {
+            divisionAchievementLimits[divisionAchievement.ordinal()] =
+                    limitForMean(meanAmountByDivisionAchievement.getOrDefault(divisionAchievement, 0.0));
+        }
+    }
+
+    private static double limitForMean(double meanAmount) {
+        if (meanAmount < 0) {
+            throw new IllegalArgumentException(
+                    "The mean amount must not be negative, but was %s".formatted(meanAmount));
+        }
+        return Math.exp(-meanAmount);
+    }
+
+    @Override
+    public long samplePointValue(RandomGenerator randomGenerator) {
+        for (int ribbonIndex = 0; ribbonIndex < RIBBONS.length; ribbonIndex++) {
+            incrementalPointValue.setAmount(
+                    RIBBONS[ribbonIndex],
+                    samplePoissonAmount(ribbonLimits[ribbonIndex], randomGenerator));
+        }
+        for (int achievementIndex = 0; achievementIndex < ACHIEVEMENTS.length; achievementIndex++) {
+            incrementalPointValue.setAmount(
+                    ACHIEVEMENTS[achievementIndex],
+                    samplePoissonAmount(achievementLimits[achievementIndex], randomGenerator));
+        }
+        return incrementalPointValue.getPointValue();
+    }
+
+    @Override
+    public long sampleSharedDivisionPointValue(RandomGenerator randomGenerator, int numberOfPlayers) {
+        if (!divisionAchievementsAreSampled) {
+            return 0;
+        }
+        long pointValue = 0;
+        for (int achievementIndex = 0; achievementIndex < DIVISION_ACHIEVEMENTS.length; achievementIndex++) {
+            int amount = samplePoissonAmount(divisionAchievementLimits[achievementIndex], randomGenerator);
+            pointValue += (long) amount * DIVISION_ACHIEVEMENTS[achievementIndex].getPointValue(numberOfPlayers);
+        }
+        return pointValue;
+    }
+
+    private static int samplePoissonAmount(double limit, RandomGenerator randomGenerator) {
+        int amount = 0;
+        double product = randomGenerator.nextDouble();
+        while (product > limit) {
+            amount++;
+            product *= randomGenerator.nextDouble();
+        }
+        return amount;
+    }
+}
@@ -1,5 +1,9 @@
 package bingo.game.tokens;
 
+import bingo.game.utility.CompactDataInput;
+import bingo.game.utility.CompactDataOutput;
+
+import java.io.IOException;
 import java.io.Serializable;
 
 public interface TokenCounter extends Serializable {
@@ -13,4 +17,13 @@ public interface TokenCounter extends Serializable {
     boolean hasExtraLife();
 
     int getCurrentExtraLives();
+
+    /**
+     * @return a token counter with the same state, which is independent of this one.
+     */
+    TokenCounter copy();
+
+    void writeStateTo(CompactDataOutput output) throws IOException;
+
+    void readStateFrom(CompactDataInput input) throws IOException;
 }
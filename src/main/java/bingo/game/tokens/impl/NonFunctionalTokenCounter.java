@@ -1,6 +1,8 @@
 package bingo.game.tokens.impl;
 
 import bingo.game.tokens.TokenCounter;
+import bingo.game.utility.CompactDataInput;
+import bingo.game.utility.CompactDataOutput;
 
 import java.io.Serial;
 
@@ -33,6 +35,21 @@ public class NonFunctionalTokenCounter implements TokenCounter {
         return 0;
     }
 
+    @Override
+    public TokenCounter copy() {
+        return this;
+    }
+
+    @Override
+    public void writeStateTo(CompactDataOutput output) {
+
+    }
+
+    @Override
+    public void readStateFrom(CompactDataInput input) {
+
+    }
+
     @Override
     public String toString() {
         return "Not a token counter";
@@ -1,7 +1,10 @@
 package bingo.game.tokens.impl;
 
 import bingo.game.tokens.TokenCounter;
+import bingo.game.utility.CompactDataInput;
+import bingo.game.utility.CompactDataOutput;
 
+import java.io.IOException;
 import java.io.Serial;
 
 public class TokenCounterImpl implements TokenCounter {
@@ -23,6 +26,14 @@ public class TokenCounterImpl implements TokenCounter {
         resetMatchTokenCounters();
     }
 
+    private TokenCounterImpl(TokenCounterImpl tokenCounter) {
+        currentTokens = tokenCounter.currentTokens;
+        extraLivesLostForUnsuccessfulMatch = tokenCounter.extraLivesLostForUnsuccessfulMatch;
+        tokensGainedForSuccessfulMatch = tokenCounter.tokensGainedForSuccessfulMatch;
+        tokensGainedForRetry = tokenCounter.tokensGainedForRetry;
+        tokensAfterMatch = tokenCounter.tokensAfterMatch;
+    }
+
     @Override
     public void calculateMatchResult(boolean isSuccessfulMatch, boolean hasNextLevel, boolean retryingIsAllowed) {
         resetMatchTokenCounters();
@@ -51,6 +62,24 @@ public class TokenCounterImpl implements TokenCounter {
         resetMatchTokenCounters();
     }
 
+    @Override
+    public void writeStateTo(CompactDataOutput output) throws IOException {
+        output.writeVarInt(currentTokens);
+        output.writeVarInt(extraLivesLostForUnsuccessfulMatch);
+        output.writeVarInt(tokensGainedForSuccessfulMatch);
+        output.writeVarInt(tokensGainedForRetry);
+        output.writeVarInt(tokensAfterMatch);
+    }
+
+    @Override
+    public void readStateFrom(CompactDataInput input) throws IOException {
+        currentTokens = input.readVarInt();
+        extraLivesLostForUnsuccessfulMatch = input.readVarInt();
+        tokensGainedForSuccessfulMatch = input.readVarInt();
+        tokensGainedForRetry = input.readVarInt();
+        tokensAfterMatch = input.readVarInt();
+    }
+
     @Override
     public String toString() {
         StringBuilder stringBuilder = new StringBuilder();
@@ -114,6 +143,11 @@ public class TokenCounterImpl implements TokenCounter {
         return getExtraLivesForTokens(currentTokens);
     }
 
+    @Override
+    public TokenCounter copy() {
+        return new TokenCounterImpl(this);
+    }
+
     private int getExtraLivesAfterMatch() {
         return getExtraLivesForTokens(tokensAfterMatch);
     }
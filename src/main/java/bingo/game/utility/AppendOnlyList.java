@@ -0,0 +1,89 @@
+package bingo.game.utility;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list which shares its elements with the list it was created from, so appending an element takes
+ * constant time on average instead of copying all elements. Lists created from one another share one array, which is
+ * only written beyond the end of the longest of them, so no list can observe the elements of another one. Removing an
+ * element copies the remaining elements. Appending and removing must not happen concurrently, while reading is safe on
+ * any thread once a list was published safely.
+ */
+public final class AppendOnlyList<E> extends AbstractList<E> implements RandomAccess {
+    private static final int MINIMUM_CAPACITY = 8;
+    private static final AppendOnlyList<?> EMPTY = new AppendOnlyList<>(new Storage(new Object[0], 0), 0);
+
+    private final Storage storage;
+    private final int size;
+
+    private AppendOnlyList(Storage storage, int size) {
+        this.storage = storage;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> AppendOnlyList<E> of() {
+        return (AppendOnlyList<E>) EMPTY;
+    }
+
+    public static <E> AppendOnlyList<E> copyOf(Collection<? extends E> elements) {
+        Object[] copiedElements = elements.toArray();
+        for (Object element : copiedElements) {
+            Objects.requireNonNull(element);
+        }
+        return new AppendOnlyList<>(new Storage(copiedElements, copiedElements.length), copiedElements.length);
+    }
+
+    public AppendOnlyList<E> withAdded(E element) {
+        Objects.requireNonNull(element);
+        Storage targetStorage = storage;
+        if (storage.length != size || size == storage.elements.length) {
+            Object[] copiedElements = Arrays.copyOf(storage.elements, Math.max(MINIMUM_CAPACITY, size * 2));
+            targetStorage = new Storage(copiedElements, size);
+        }
+        targetStorage.elements[size] = element;
+        targetStorage.length = size + 1;
+        return new AppendOnlyList<>(targetStorage, size + 1);
+    }
+
+    public AppendOnlyList<E> withRemoved(Object element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return this;
+        }
+        Object[] remainingElements = new Object[size - 1];
+        System.arraycopy(storage.elements, 0, remainingElements, 0, index);
+        System.arraycopy(storage.elements, index + 1, remainingElements, index, size - index - 1);
+        return new AppendOnlyList<>(new Storage(remainingElements, remainingElements.length), remainingElements.length);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) storage.elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The array shared by lists created from one another, together with the number of elements which were written to
+     * it so far.
+     */
+    private static final class Storage {
+        private final Object[] elements;
+        private int length;
+
+        private Storage(Object[] elements, int length) {
+            this.elements = elements;
+            this.length = length;
+        }
+    }
+}
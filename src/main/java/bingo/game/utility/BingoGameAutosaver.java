@@ -0,0 +1,187 @@
+package bingo.game.utility;
+
+import bingo.game.BingoGame;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Saves a game to a single file in the background. Snapshots and appended records are prepared on the calling thread,
+ * while they are written to disk by a separate thread. A snapshot requested while a write is in progress replaces
+ * everything which is still pending, so only the latest snapshot is written afterwards.
+ * <p>
+ * Records only make sense on top of everything written before them. After a failed write, pending records are
+ * therefore discarded and no record is accepted until the next snapshot has been requested.
+ */
+public class BingoGameAutosaver {
+    private final BingoGameSerializer bingoGameSerializer;
+    private final Path filePath;
+    private final Executor executor;
+    private final AutosaveListener autosaveListener;
+    private final Object lock;
+    private final ByteArrayOutputStream pendingRecords;
+    private byte[] pendingSnapshot;
+    private boolean snapshotIsRequired;
+    private boolean writerIsRunning;
+
+    public BingoGameAutosaver(Path filePath, AutosaveListener autosaveListener) {
+        this(
+                new BingoGameSerializer(),
+                filePath,
+                runnable -> Thread.ofVirtual().name("autosave").start(runnable),
+                autosaveListener);
+    }
+
+    BingoGameAutosaver(
+            BingoGameSerializer bingoGameSerializer, Path filePath, Executor executor,
+            AutosaveListener autosaveListener) {
+        this.bingoGameSerializer = bingoGameSerializer;
+        this.filePath = filePath;
+        this.executor = executor;
+        this.autosaveListener = autosaveListener;
+        this.lock = new Object();
+        this.pendingRecords = new ByteArrayOutputStream();
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    public void requestSave(BingoGame bingoGame) throws IOException {
+        byte[] snapshot = bingoGameSerializer.createSnapshot(bingoGame);
+        synchronized (lock) {
+            pendingSnapshot = snapshot;
+            pendingRecords.reset();
+            snapshotIsRequired = false;
+            startWriterIfNecessary();
+        }
+    }
+
+    /**
+     * Requests the record to be appended to the file, after the snapshot which was last requested.
+     *
+     * @return false if the record was not accepted, because a snapshot must be requested first after a failed write.
+     */
+    public boolean requestAppend(byte[] record) {
+        synchronized (lock) {
+            if (snapshotIsRequired) {
+                return false;
+            }
+            pendingRecords.writeBytes(record);
+            startWriterIfNecessary();
+            return true;
+        }
+    }
+
+    /**
+     * Reports a failure which happened while a save was prepared, and makes sure the next save is a snapshot, since the
+     * changes of the failed save are missing from the file.
+     */
+    void reportFailure(IOException exception) {
+        requireSnapshot(false);
+        autosaveListener.autosaveFailed(filePath, exception);
+    }
+
+    private void requireSnapshot(boolean pendingSnapshotCanBeKept) {
+        synchronized (lock) {
+            if (pendingSnapshotCanBeKept && pendingSnapshot != null) {
+                return;
+            }
+            pendingRecords.reset();
+            snapshotIsRequired = true;
+        }
+    }
+
+    private void startWriterIfNecessary() {
+        if (!writerIsRunning) {
+            writerIsRunning = true;
+            executor.execute(this::writePendingRequests);
+        }
+    }
+
+    public void awaitPendingSaves() throws InterruptedException {
+        synchronized (lock) {
+            while (writerIsRunning) {
+                lock.wait();
+            }
+        }
+    }
+
+    /**
+     * Writes requests until none are pending. If a listener throws, the writer still stops cleanly, so the next request
+     * starts a new writer and nobody waits for this one forever.
+     */
+    private void writePendingRequests() {
+        boolean allRequestsAreWritten = false;
+        try {
+            AutosaveRequest autosaveRequest;
+            while ((autosaveRequest = takePendingRequest()) != null) {
+                write(autosaveRequest);
+            }
+            allRequestsAreWritten = true;
+        } finally {
+            if (!allRequestsAreWritten) {
+                stopWriter();
+            }
+        }
+    }
+
+    private void stopWriter() {
+        synchronized (lock) {
+            writerIsRunning = false;
+            lock.notifyAll();
+        }
+    }
+
+    private AutosaveRequest takePendingRequest() {
+        synchronized (lock) {
+            if (pendingSnapshot == null && pendingRecords.size() == 0) {
+                stopWriter();
+                return null;
+            }
+            AutosaveRequest autosaveRequest = new AutosaveRequest(pendingSnapshot, pendingRecords.toByteArray());
+            pendingSnapshot = null;
+            pendingRecords.reset();
+            return autosaveRequest;
+        }
+    }
+
+    private void write(AutosaveRequest autosaveRequest) {
+        long startTime = System.nanoTime();
+        try {
+            if (autosaveRequest.snapshot() != null) {
+                bingoGameSerializer.saveSnapshot(autosaveRequest.snapshot(), filePath);
+            }
+            if (autosaveRequest.records().length > 0) {
+                bingoGameSerializer.appendRecords(autosaveRequest.records(), filePath);
+            }
+        } catch (IOException exception) {
+            handleFailedWrite(exception);
+            return;
+        } catch (RuntimeException exception) {
+            handleFailedWrite(new IOException("Unexpected error while autosaving", exception));
+            return;
+        }
+        autosaveListener.autosaveSucceeded(filePath, Duration.ofNanos(System.nanoTime() - startTime));
+    }
+
+    /**
+     * A snapshot which is still pending replaces the file completely, so the records pending after it remain valid.
+     */
+    private void handleFailedWrite(IOException exception) {
+        requireSnapshot(true);
+        autosaveListener.autosaveFailed(filePath, exception);
+    }
+
+    public interface AutosaveListener {
+        void autosaveSucceeded(Path filePath, Duration latency);
+
+        void autosaveFailed(Path filePath, IOException exception);
+    }
+
+    private record AutosaveRequest(byte[] snapshot, byte[] records) {
+    }
+}
@@ -0,0 +1,136 @@
+package bingo.game.utility;
+
+import bingo.game.BingoGame;
+import bingo.game.events.BingoGameEvent;
+import bingo.game.events.BingoGameEventCodec;
+import bingo.game.events.BingoGameEventListener;
+import bingo.game.input.UserInputException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * Records every change to a game as a record appended to its save file. Each record holds the length of the encoded
+ * event, the event itself and its CRC-32 checksum, so a record which was only partially written before a crash is
+ * recognised and ignored when the game is loaded. After a number of events, the file is compacted by replacing it
+ * with a snapshot of the game. The file is also compacted instead of appending a record if a previous write failed,
+ * and failures are reported to the listener of the autosaver instead of being thrown into the game. A state which was
+ * restored without events, e.g. by undoing a change, is saved by compacting the file as well.
+ */
+public class BingoGameJournal implements BingoGameEventListener {
+    private static final int DEFAULT_COMPACTION_THRESHOLD = 100;
+    private static final int MAX_RECORD_LENGTH = 1 << 20;
+
+    private final BingoGame bingoGame;
+    private final BingoGameAutosaver bingoGameAutosaver;
+    private final BingoGameEventCodec bingoGameEventCodec;
+    private final int compactionThreshold;
+    private int eventsSinceCompaction;
+
+    public BingoGameJournal(BingoGame bingoGame, BingoGameAutosaver bingoGameAutosaver) {
+        this(bingoGame, bingoGameAutosaver, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    BingoGameJournal(BingoGame bingoGame, BingoGameAutosaver bingoGameAutosaver, int compactionThreshold) {
+        this.bingoGame = bingoGame;
+        this.bingoGameAutosaver = bingoGameAutosaver;
+        this.bingoGameEventCodec = new BingoGameEventCodec(bingoGame.getPlayers());
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public void start() throws IOException {
+        compact();
+        bingoGame.addEventListener(this);
+    }
+
+    public void stop() {
+        bingoGame.removeEventListener(this);
+    }
+
+    public void compact() throws IOException {
+        bingoGameAutosaver.requestSave(bingoGame);
+        eventsSinceCompaction = 0;
+    }
+
+    @Override
+    public void eventOccurred(BingoGameEvent event) {
+        try {
+            boolean recordIsAppended = bingoGameAutosaver.requestAppend(encodeRecord(event));
+            eventsSinceCompaction++;
+            if (!recordIsAppended || eventsSinceCompaction >= compactionThreshold) {
+                compact();
+            }
+        } catch (IOException exception) {
+            bingoGameAutosaver.reportFailure(exception);
+        }
+    }
+
+    @Override
+    public void stateRestored() {
+        try {
+            compact();
+        } catch (IOException exception) {
+            bingoGameAutosaver.reportFailure(exception);
+        }
+    }
+
+    private byte[] encodeRecord(BingoGameEvent event) throws IOException {
+        ByteArrayOutputStream payloadStream = new ByteArrayOutputStream();
+        bingoGameEventCodec.writeEvent(event, new CompactDataOutput(new DataOutputStream(payloadStream)));
+        byte[] payload = payloadStream.toByteArray();
+        ByteArrayOutputStream recordStream = new ByteArrayOutputStream(payload.length + 2 * Integer.BYTES);
+        DataOutputStream recordOutput = new DataOutputStream(recordStream);
+        recordOutput.writeInt(payload.length);
+        recordOutput.write(payload);
+        recordOutput.writeInt(checksumOf(payload));
+        return recordStream.toByteArray();
+    }
+
+    /**
+     * Applies the events of all complete records to the game, and returns how many events were applied.
+     */
+    public static int replayRecords(BingoGame bingoGame, DataInputStream dataInputStream) throws IOException {
+        BingoGameEventCodec bingoGameEventCodec = new BingoGameEventCodec(bingoGame.getPlayers());
+        int numberOfEvents = 0;
+        Optional<byte[]> payload;
+        while ((payload = readPayload(dataInputStream)).isPresent()) {
+            DataInputStream payloadInput = new DataInputStream(new ByteArrayInputStream(payload.get()));
+            BingoGameEvent event = bingoGameEventCodec.readEvent(new CompactDataInput(payloadInput));
+            try {
+                event.applyTo(bingoGame);
+            } catch (UserInputException exception) {
+                throw new InvalidObjectException("Cannot replay %s: %s".formatted(event, exception.getMessage()));
+            }
+            numberOfEvents++;
+        }
+        return numberOfEvents;
+    }
+
+    private static Optional<byte[]> readPayload(DataInputStream dataInputStream) throws IOException {
+        try {
+            int length = dataInputStream.readInt();
+            if (length < 0 || length > MAX_RECORD_LENGTH) {
+                return Optional.empty();
+            }
+            byte[] payload = new byte[length];
+            dataInputStream.readFully(payload);
+            int checksum = dataInputStream.readInt();
+            return checksum == checksumOf(payload) ? Optional.of(payload) : Optional.empty();
+        } catch (EOFException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private static int checksumOf(byte[] payload) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(payload);
+        return (int) crc32.getValue();
+    }
+}
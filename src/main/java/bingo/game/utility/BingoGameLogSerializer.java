@@ -0,0 +1,140 @@
+package bingo.game.utility;
+
+import bingo.game.events.BingoGameEventCodec;
+import bingo.game.modifiers.ChallengeModifier;
+import bingo.game.players.Player;
+import bingo.game.replay.BingoGameLog;
+import bingo.game.replay.BingoGameLogEntry;
+import bingo.game.replay.BingoGameReplayStep;
+import bingo.game.replay.impl.RecordedEventStep;
+import bingo.game.replay.impl.RestoredStateStep;
+import bingo.game.replay.impl.ShipRestrictionDrawStep;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+public class BingoGameLogSerializer {
+    private static final int MAGIC_NUMBER = 0x5752424C;
+    private static final int FORMAT_VERSION = 3;
+    private static final int RECORDED_EVENT_STEP_TAG = 0;
+    private static final int SHIP_RESTRICTION_DRAW_STEP_TAG = 1;
+    private static final int RESTORED_STATE_STEP_TAG = 2;
+
+    public void saveLog(BingoGameLog bingoGameLog, Path filePath) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(filePath)) {
+            writeLog(bingoGameLog, outputStream);
+        }
+    }
+
+    public void writeLog(BingoGameLog bingoGameLog, OutputStream outputStream) throws IOException {
+        DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(outputStream));
+        dataOutputStream.writeInt(MAGIC_NUMBER);
+        CompactDataOutput output = new CompactDataOutput(dataOutputStream);
+        output.writeVarInt(FORMAT_VERSION);
+        output.writeString(bingoGameLog.name());
+        output.writeVarInt(bingoGameLog.players().size());
+        for (Player player : bingoGameLog.players()) {
+            output.writeString(player.name());
+        }
+        output.writeVarInt(bingoGameLog.challengeModifiers().size());
+        for (ChallengeModifier challengeModifier : bingoGameLog.challengeModifiers()) {
+            output.writeEnum(challengeModifier);
+        }
+        BingoGameEventCodec bingoGameEventCodec = new BingoGameEventCodec(bingoGameLog.players());
+        output.writeVarInt(bingoGameLog.entries().size());
+        for (BingoGameLogEntry entry : bingoGameLog.entries()) {
+            writeStep(entry.step(), bingoGameEventCodec, output);
+            output.writeBoolean(entry.recordedOutput().isPresent());
+            if (entry.recordedOutput().isPresent()) {
+                output.writeString(entry.recordedOutput().get());
+            }
+        }
+        dataOutputStream.flush();
+    }
+
+    private void writeStep(BingoGameReplayStep step, BingoGameEventCodec bingoGameEventCodec, CompactDataOutput output)
+            throws IOException {
+        switch (step) {
+            case RecordedEventStep recordedEventStep -> {
+                output.writeVarInt(RECORDED_EVENT_STEP_TAG);
+                bingoGameEventCodec.writeEvent(recordedEventStep.event(), output);
+            }
+            case ShipRestrictionDrawStep(Player player, int number, long seed) -> {
+                output.writeVarInt(SHIP_RESTRICTION_DRAW_STEP_TAG);
+                bingoGameEventCodec.writePlayer(player, output);
+                output.writeVarInt(number);
+                output.writeLong(seed);
+            }
+            case RestoredStateStep restoredStateStep -> {
+                output.writeVarInt(RESTORED_STATE_STEP_TAG);
+                output.writeBytes(restoredStateStep.encodedState());
+            }
+            default -> throw new InvalidObjectException("Unsupported replay step %s".formatted(step));
+        }
+    }
+
+    public BingoGameLog loadLog(Path filePath) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            return readLog(inputStream);
+        }
+    }
+
+    public BingoGameLog readLog(InputStream inputStream) throws IOException {
+        DataInputStream dataInputStream = new DataInputStream(new BufferedInputStream(inputStream));
+        int magicNumber = dataInputStream.readInt();
+        if (magicNumber != MAGIC_NUMBER) {
+            throw new StreamCorruptedException("Not a game log: unknown header %08x".formatted(magicNumber));
+        }
+        CompactDataInput input = new CompactDataInput(dataInputStream);
+        int formatVersion = input.readVarInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new StreamCorruptedException("Unsupported game log format version %s".formatted(formatVersion));
+        }
+        String name = input.readString();
+        List<Player> players = new LinkedList<>();
+        int numberOfPlayers = input.readSize();
+        for (int index = 0; index < numberOfPlayers; index++) {
+            players.add(new Player(input.readString()));
+        }
+        List<ChallengeModifier> challengeModifiers = new LinkedList<>();
+        int numberOfChallengeModifiers = input.readSize();
+        for (int index = 0; index < numberOfChallengeModifiers; index++) {
+            challengeModifiers.add(input.readEnum(ChallengeModifier.class));
+        }
+        BingoGameEventCodec bingoGameEventCodec = new BingoGameEventCodec(players);
+        List<BingoGameLogEntry> entries = new LinkedList<>();
+        int numberOfEntries = input.readSize();
+        for (int index = 0; index < numberOfEntries; index++) {
+            BingoGameReplayStep step = readStep(bingoGameEventCodec, input);
+            Optional<String> recordedOutput = input.readBoolean() ? Optional.of(input.readString()) : Optional.empty();
+            entries.add(new BingoGameLogEntry(step, recordedOutput));
+        }
+        return new BingoGameLog(name, players, challengeModifiers, entries);
+    }
+
+    private BingoGameReplayStep readStep(BingoGameEventCodec bingoGameEventCodec, CompactDataInput input)
+            throws IOException {
+        int tag = input.readVarInt();
+        return switch (tag) {
+            case RECORDED_EVENT_STEP_TAG -> new RecordedEventStep(bingoGameEventCodec.readEvent(input));
+            case SHIP_RESTRICTION_DRAW_STEP_TAG -> new ShipRestrictionDrawStep(
+                    bingoGameEventCodec.readPlayer(input),
+                    input.readVarInt(),
+                    input.readLong());
+            case RESTORED_STATE_STEP_TAG -> new RestoredStateStep(input.readBytes());
+            default -> throw new StreamCorruptedException("Invalid replay step tag %s".formatted(tag));
+        };
+    }
+}
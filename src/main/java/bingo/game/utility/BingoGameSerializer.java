@@ -2,23 +2,131 @@ package bingo.game.utility;
 
 import bingo.game.BingoGame;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.io.ObjectStreamConstants;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 public class BingoGameSerializer {
+    private static final int MAGIC_NUMBER = 0x57524247;
+    private static final int FORMAT_VERSION = 1;
 
     public void saveGame(BingoGame bingoGame, String filePath) throws IOException {
-        try (ObjectOutputStream outputStream = new ObjectOutputStream(new FileOutputStream(filePath))) {
-            outputStream.writeObject(bingoGame);
+        saveSnapshot(createSnapshot(bingoGame), Path.of(filePath));
+    }
+
+    public byte[] createSnapshot(BingoGame bingoGame) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        writeGame(bingoGame, byteArrayOutputStream);
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    /**
+     * Writes the snapshot to a temporary file next to the target and then renames it, so that an interrupted save
+     * never leaves a truncated file behind.
+     */
+    public void saveSnapshot(byte[] snapshot, Path filePath) throws IOException {
+        Path absoluteFilePath = filePath.toAbsolutePath();
+        Path temporaryFilePath =
+                Files.createTempFile(absoluteFilePath.getParent(), absoluteFilePath.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel fileChannel = FileChannel.open(temporaryFilePath, StandardOpenOption.WRITE)) {
+                ByteBuffer byteBuffer = ByteBuffer.wrap(snapshot);
+                while (byteBuffer.hasRemaining()) {
+                    fileChannel.write(byteBuffer);
+                }
+                fileChannel.force(true);
+            }
+            moveReplacingExisting(temporaryFilePath, absoluteFilePath);
+        } finally {
+            Files.deleteIfExists(temporaryFilePath);
         }
     }
 
+    /**
+     * Appends the records to a file which was previously written with {@link #saveSnapshot(byte[], Path)}.
+     */
+    public void appendRecords(byte[] records, Path filePath) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.APPEND)) {
+            ByteBuffer byteBuffer = ByteBuffer.wrap(records);
+            while (byteBuffer.hasRemaining()) {
+                fileChannel.write(byteBuffer);
+            }
+            fileChannel.force(false);
+        }
+    }
+
+    private void moveReplacingExisting(Path sourcePath, Path targetPath) throws IOException {
+        try {
+            Files.move(sourcePath, targetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(sourcePath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public void writeGame(BingoGame bingoGame, OutputStream outputStream) throws IOException {
+        DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(outputStream));
+        dataOutputStream.writeInt(MAGIC_NUMBER);
+        CompactDataOutput output = new CompactDataOutput(dataOutputStream);
+        output.writeVarInt(FORMAT_VERSION);
+        bingoGame.writeTo(output);
+        dataOutputStream.flush();
+    }
+
     public BingoGame loadGame(String filePath) throws IOException, ClassNotFoundException {
-        try (ObjectInputStream inputStream = new ObjectInputStream(new FileInputStream(filePath))) {
-            return (BingoGame) inputStream.readObject();
+        try (InputStream inputStream = new FileInputStream(filePath)) {
+            return readGame(inputStream);
+        }
+    }
+
+    /**
+     * Reads a game in the compact format, or in the legacy format written with Java serialization. Journal records
+     * appended to a game in the compact format are replayed on the game.
+     */
+    public BingoGame readGame(InputStream inputStream) throws IOException, ClassNotFoundException {
+        BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream);
+        DataInputStream dataInputStream = new DataInputStream(bufferedInputStream);
+        bufferedInputStream.mark(Short.BYTES);
+        short streamMagic = dataInputStream.readShort();
+        bufferedInputStream.reset();
+        if (streamMagic == ObjectStreamConstants.STREAM_MAGIC) {
+            return readLegacyGame(bufferedInputStream);
+        }
+        return readCompactGame(dataInputStream);
+    }
+
+    private BingoGame readLegacyGame(InputStream inputStream) throws IOException, ClassNotFoundException {
+        ObjectInputStream objectInputStream = new ObjectInputStream(inputStream);
+        return (BingoGame) objectInputStream.readObject();
+    }
+
+    private BingoGame readCompactGame(DataInputStream dataInputStream) throws IOException {
+        int magicNumber = dataInputStream.readInt();
+        if (magicNumber != MAGIC_NUMBER) {
+            throw new StreamCorruptedException("Not a saved game: unknown header %08x".formatted(magicNumber));
+        }
+        CompactDataInput input = new CompactDataInput(dataInputStream);
+        int formatVersion = input.readVarInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new StreamCorruptedException("Unsupported save format version %s".formatted(formatVersion));
         }
+        BingoGame bingoGame = BingoGame.readFrom(input);
+        BingoGameJournal.replayRecords(bingoGame, dataInputStream);
+        return bingoGame;
     }
 }
@@ -0,0 +1,222 @@
+package bingo.game.utility;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+/**
+ * Cuts text into chat messages while it is being written, so each message is passed on as soon as it is complete.
+ * Messages are split at every double line break, and every paragraph which is too long is split after the last
+ * sentence end or before the last plus sign which fits into a message. Only the current paragraph is buffered.
+ * <p>
+ * The length of a message is measured in the given unit, which is counted character by character as the text arrives.
+ * Messages are only split at the spaces of sentence ends and plus signs, and never in front of a character which
+ * extends the grapheme cluster before it, so emoji and other grapheme clusters always stay in one message.
+ */
+public class ChatMessageSink {
+    public static final int DEFAULT_MAX_MESSAGE_LENGTH = 500;
+    private static final char NO_CHARACTER = '\0';
+    private static final char ZERO_WIDTH_JOINER = '\u200D';
+
+    private final int maxMessageLength;
+    private final MessageLengthUnit messageLengthUnit;
+    private final Consumer<String> messageConsumer;
+    private final StringBuilder paragraph;
+    private final Deque<BreakPoint> sentenceEnds;
+    private final Deque<BreakPoint> plusSigns;
+    private int charactersRemovedFromParagraph;
+    private int lengthOfParagraph;
+    private int lengthBeforeLastCharacter;
+    private int startOfMessage;
+    private int lengthBeforeMessage;
+    private char lastCharacter;
+    private char characterBeforeLast;
+    private int pendingLineBreaks;
+    private boolean splittingHasFailed;
+    private boolean isClosed;
+
+    public ChatMessageSink(Consumer<String> messageConsumer) {
+        this(DEFAULT_MAX_MESSAGE_LENGTH, MessageLengthUnit.UTF_16_CODE_UNITS, messageConsumer);
+    }
+
+    public ChatMessageSink(int maxMessageLength, Consumer<String> messageConsumer) {
+        this(maxMessageLength, MessageLengthUnit.UTF_16_CODE_UNITS, messageConsumer);
+    }
+
+    public ChatMessageSink(
+            int maxMessageLength, MessageLengthUnit messageLengthUnit, Consumer<String> messageConsumer) {
+        if (maxMessageLength < 2) {
+            throw new IllegalArgumentException("The maximum message length must be at least 2");
+        }
+        this.maxMessageLength = maxMessageLength;
+        this.messageLengthUnit = messageLengthUnit;
+        this.messageConsumer = messageConsumer;
+        this.paragraph = new StringBuilder();
+        this.sentenceEnds = new ArrayDeque<>();
+        this.plusSigns = new ArrayDeque<>();
+        startParagraph();
+    }
+
+    public ChatMessageSink append(CharSequence text) {
+        if (isClosed) {
+            throw new IllegalStateException("The sink is already closed");
+        }
+        for (int index = 0; index < text.length() && !splittingHasFailed; index++) {
+            append(text.charAt(index));
+        }
+        return this;
+    }
+
+    private void append(char character) {
+        if (character == '\n') {
+            pendingLineBreaks++;
+            return;
+        }
+        appendPendingLineBreaks();
+        appendToParagraph(character);
+        splitParagraphByLength(lengthBeforeLastCharacter);
+    }
+
+    /**
+     * Pairs pending line breaks from the end of their run. An odd line break belongs to the current paragraph, and each
+     * pair ends a message.
+     */
+    private void appendPendingLineBreaks() {
+        if (pendingLineBreaks % 2 == 1) {
+            appendToParagraph('\n');
+        }
+        if (pendingLineBreaks >= 2) {
+            completeParagraph();
+            for (int pair = 1; pair < pendingLineBreaks / 2 && !splittingHasFailed; pair++) {
+                messageConsumer.accept("");
+            }
+        }
+        pendingLineBreaks = 0;
+    }
+
+    private void appendToParagraph(char character) {
+        int position = charactersRemovedFromParagraph + paragraph.length();
+        if (characterBeforeLast == '.' && lastCharacter == ' ' && !extendsGraphemeCluster(character)) {
+            sentenceEnds.addLast(new BreakPoint(position - 2, position - 1, lengthBeforeLastCharacter));
+        }
+        if (lastCharacter == ' ' && character == '+') {
+            plusSigns.addLast(new BreakPoint(position - 1, position - 1, lengthBeforeLastCharacter));
+        }
+        paragraph.append(character);
+        lengthBeforeLastCharacter = lengthOfParagraph;
+        lengthOfParagraph += messageLengthUnit.getLengthOf(character);
+        characterBeforeLast = lastCharacter;
+        lastCharacter = character;
+    }
+
+    private static boolean extendsGraphemeCluster(char character) {
+        return switch (Character.getType(character)) {
+            case Character.NON_SPACING_MARK, Character.ENCLOSING_MARK, Character.COMBINING_SPACING_MARK -> true;
+            default -> character == ZERO_WIDTH_JOINER || Character.isLowSurrogate(character);
+        };
+    }
+
+    private void completeParagraph() {
+        if (characterBeforeLast == '.' && lastCharacter == ' ') {
+            int position = charactersRemovedFromParagraph + paragraph.length();
+            sentenceEnds.addLast(new BreakPoint(position - 2, position - 1, lengthBeforeLastCharacter));
+        }
+        splitParagraphByLength(lengthOfParagraph);
+        if (!splittingHasFailed) {
+            messageConsumer.accept(paragraph.substring(startOfMessage - charactersRemovedFromParagraph));
+        }
+        startParagraph();
+    }
+
+    /**
+     * Splits off messages while the given length of the paragraph is too long. Before the paragraph is complete, the
+     * length without its last character is given, so every break point which fits is already known at that point.
+     */
+    private void splitParagraphByLength(int lengthToFit) {
+        while (!splittingHasFailed && lengthToFit - lengthBeforeMessage > maxMessageLength) {
+            splitOffMessage();
+        }
+    }
+
+    private void splitOffMessage() {
+        BreakPoint breakPoint = getLastBreakPointWhichFits(sentenceEnds);
+        if (breakPoint == null) {
+            breakPoint = getLastBreakPointWhichFits(plusSigns);
+        }
+        if (breakPoint == null) {
+            splittingHasFailed = true;
+            return;
+        }
+        messageConsumer.accept(paragraph.substring(
+                startOfMessage - charactersRemovedFromParagraph,
+                breakPoint.endOfMessage() - charactersRemovedFromParagraph));
+        startOfMessage = breakPoint.endOfMessage() + 1;
+        lengthBeforeMessage = breakPoint.lengthBeforeEndOfMessage() + 1;
+        paragraph.delete(0, startOfMessage - charactersRemovedFromParagraph);
+        charactersRemovedFromParagraph = startOfMessage;
+        removeBreakPointsBeforeStartOfMessage(sentenceEnds);
+        removeBreakPointsBeforeStartOfMessage(plusSigns);
+    }
+
+    private BreakPoint getLastBreakPointWhichFits(Deque<BreakPoint> breakPoints) {
+        BreakPoint lastBreakPointWhichFits = null;
+        for (BreakPoint breakPoint : breakPoints) {
+            if (breakPoint.lengthBeforeEndOfMessage() - lengthBeforeMessage > maxMessageLength) {
+                break;
+            }
+            lastBreakPointWhichFits = breakPoint;
+        }
+        return lastBreakPointWhichFits;
+    }
+
+    private void removeBreakPointsBeforeStartOfMessage(Deque<BreakPoint> breakPoints) {
+        while (!breakPoints.isEmpty() && breakPoints.peekFirst().position() < startOfMessage) {
+            breakPoints.removeFirst();
+        }
+    }
+
+    private void startParagraph() {
+        paragraph.setLength(0);
+        sentenceEnds.clear();
+        plusSigns.clear();
+        charactersRemovedFromParagraph = 0;
+        lengthOfParagraph = 0;
+        lengthBeforeLastCharacter = 0;
+        startOfMessage = 0;
+        lengthBeforeMessage = 0;
+        lastCharacter = NO_CHARACTER;
+        characterBeforeLast = NO_CHARACTER;
+    }
+
+    /**
+     * Passes on the last message. The text of a game can always be split, so a paragraph which cannot be split is
+     * reported as an {@link IllegalStateException}.
+     */
+    public void close() {
+        if (!tryToClose()) {
+            throw new IllegalStateException("Could not find any appropriate index to split the output");
+        }
+    }
+
+    /**
+     * Passes on the last message and returns whether all text could be split. Messages which were complete before a
+     * paragraph turned out to be impossible to split have already been passed on at this point.
+     */
+    boolean tryToClose() {
+        if (!isClosed) {
+            isClosed = true;
+            if (!splittingHasFailed) {
+                appendPendingLineBreaks();
+                completeParagraph();
+            }
+        }
+        return !splittingHasFailed;
+    }
+
+    /**
+     * A position at which a message may end, together with the length of the paragraph up to the end of the message.
+     * The next message starts after the space which follows the end of the message.
+     */
+    private record BreakPoint(int position, int endOfMessage, int lengthBeforeEndOfMessage) {
+    }
+}
@@ -0,0 +1,91 @@
+package bingo.game.utility;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+
+public class CompactDataInput {
+    public static final int MAX_SIZE = 1 << 20;
+    public static final int MAX_NUMBER_OF_BYTES = 1 << 20;
+    public static final int MAX_STRING_LENGTH_IN_BYTES = 1 << 16;
+    private static final int MAX_BYTES_OF_VAR_INT = 5;
+    private static final int UNUSED_BITS_OF_LAST_VAR_INT_BYTE = 0x70;
+
+    private final DataInput dataInput;
+
+    public CompactDataInput(DataInput dataInput) {
+        this.dataInput = dataInput;
+    }
+
+    public int readVarInt() throws IOException {
+        int value = 0;
+        for (int byteIndex = 0; byteIndex < MAX_BYTES_OF_VAR_INT; byteIndex++) {
+            int currentByte = dataInput.readUnsignedByte();
+            if (byteIndex == MAX_BYTES_OF_VAR_INT - 1 && (currentByte & UNUSED_BITS_OF_LAST_VAR_INT_BYTE) != 0) {
+                throw new StreamCorruptedException("Variable-length integer does not fit into %s bits".formatted(
+                        Integer.SIZE));
+            }
+            value |= (currentByte & 0x7F) << (7 * byteIndex);
+            if ((currentByte & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Variable-length integer is longer than %s bytes".formatted(
+                MAX_BYTES_OF_VAR_INT));
+    }
+
+    /**
+     * Reads the number of elements of a collection, which is at most {@link #MAX_SIZE}, so corrupt input cannot make a
+     * reader loop or allocate for much longer than the input would last.
+     */
+    public int readSize() throws IOException {
+        return readLength(MAX_SIZE);
+    }
+
+    private int readLength(int maximum) throws IOException {
+        int length = readVarInt();
+        if (length < 0 || length > maximum) {
+            throw new StreamCorruptedException("Invalid size %s, which must be between 0 and %s".formatted(
+                    length,
+                    maximum));
+        }
+        return length;
+    }
+
+    public long readLong() throws IOException {
+        return dataInput.readLong();
+    }
+
+    public boolean readBoolean() throws IOException {
+        return dataInput.readBoolean();
+    }
+
+    public String readString() throws IOException {
+        return new String(readBytes(MAX_STRING_LENGTH_IN_BYTES), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads at most {@link #MAX_NUMBER_OF_BYTES} bytes, which are only allocated once their length was checked.
+     */
+    public byte[] readBytes() throws IOException {
+        return readBytes(MAX_NUMBER_OF_BYTES);
+    }
+
+    private byte[] readBytes(int maximumLength) throws IOException {
+        byte[] bytes = new byte[readLength(maximumLength)];
+        dataInput.readFully(bytes);
+        return bytes;
+    }
+
+    public <E extends Enum<E>> E readEnum(Class<E> enumClass) throws IOException {
+        E[] enumConstants = enumClass.getEnumConstants();
+        int ordinal = readVarInt();
+        if (ordinal < 0 || ordinal >= enumConstants.length) {
+            throw new StreamCorruptedException("Invalid ordinal %s for %s".formatted(
+                    ordinal,
+                    enumClass.getSimpleName()));
+        }
+        return enumConstants[ordinal];
+    }
+}
@@ -0,0 +1,46 @@
+package bingo.game.utility;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class CompactDataOutput {
+    private final DataOutput dataOutput;
+
+    public CompactDataOutput(DataOutput dataOutput) {
+        this.dataOutput = dataOutput;
+    }
+
+    /**
+     * Writes the value in 7-bit groups, least significant group first, so small non-negative values take one byte.
+     */
+    public void writeVarInt(int value) throws IOException {
+        int remainingValue = value;
+        while ((remainingValue & ~0x7F) != 0) {
+            dataOutput.writeByte((remainingValue & 0x7F) | 0x80);
+            remainingValue >>>= 7;
+        }
+        dataOutput.writeByte(remainingValue);
+    }
+
+    public void writeLong(long value) throws IOException {
+        dataOutput.writeLong(value);
+    }
+
+    public void writeBoolean(boolean value) throws IOException {
+        dataOutput.writeBoolean(value);
+    }
+
+    public void writeString(String value) throws IOException {
+        writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void writeBytes(byte[] value) throws IOException {
+        writeVarInt(value.length);
+        dataOutput.write(value);
+    }
+
+    public void writeEnum(Enum<?> value) throws IOException {
+        writeVarInt(value.ordinal());
+    }
+}
@@ -0,0 +1,46 @@
+package bingo.game.utility;
+
+/**
+ * The unit in which a chat platform measures the length of its messages. The length of a surrogate pair is counted
+ * entirely for its high surrogate, so the lengths of single characters add up to the length of any text.
+ */
+public enum MessageLengthUnit {
+    UTF_16_CODE_UNITS {
+        @Override
+        public int getLengthOf(char character) {
+            return 1;
+        }
+    },
+    CODE_POINTS {
+        @Override
+        public int getLengthOf(char character) {
+            return Character.isLowSurrogate(character) ? 0 : 1;
+        }
+    },
+    UTF_8_BYTES {
+        @Override
+        public int getLengthOf(char character) {
+            if (character < 0x80) {
+                return 1;
+            } else if (character < 0x800) {
+                return 2;
+            } else if (Character.isHighSurrogate(character)) {
+                return 4;
+            } else if (Character.isLowSurrogate(character)) {
+                return 0;
+            } else {
+                return 3;
+            }
+        }
+    };
+
+    public abstract int getLengthOf(char character);
+
+    public int getLengthOf(CharSequence text) {
+        int length = 0;
+        for (int index = 0; index < text.length(); index++) {
+            length += getLengthOf(text.charAt(index));
+        }
+        return length;
+    }
+}
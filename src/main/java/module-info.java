@@ -2,6 +2,7 @@ module com.github.jbuerkle.WoWsRibbonBingo {
     requires javafx.base;
     requires javafx.controls;
     requires javafx.graphics;
+    requires jdk.httpserver;
 
     exports bingo.game.application;
 }
@@ -0,0 +1,181 @@
+package bingo.game;
+
+import bingo.game.achievements.division.DivisionAchievement;
+import bingo.game.input.UserInputException;
+import bingo.game.modifiers.ChallengeModifier;
+import bingo.game.players.Player;
+import bingo.game.results.BingoResult;
+import bingo.game.results.division.SharedDivisionAchievements;
+import bingo.game.ribbons.Ribbon;
+import bingo.game.ships.MainArmamentType;
+import bingo.game.ships.Ship;
+import bingo.game.utility.CompactDataInput;
+import bingo.game.utility.CompactDataOutput;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BingoGameSnapshotTest {
+    private static final Player PLAYER_A = new Player("Player A");
+    private static final Player PLAYER_B = new Player("Player B");
+    private static final Ship SHIP_A = new Ship("Ship A");
+
+    private BingoGame bingoGame;
+
+    @BeforeEach
+    void setup() throws UserInputException {
+        bingoGame = new BingoGame(List.of(PLAYER_A, PLAYER_B), List.of(ChallengeModifier.NO_SAFETY_NET));
+    }
+
+    @Test
+    void initialSnapshotShouldDescribeTheNewGame() {
+        BingoGameSnapshot snapshot = bingoGame.getSnapshot();
+
+        assertEquals(List.of(PLAYER_A, PLAYER_B), snapshot.players());
+        assertEquals(List.of(ChallengeModifier.NO_SAFETY_NET), snapshot.challengeModifiers());
+        assertTrue(snapshot.shipsUsed().isEmpty());
+        assertTrue(snapshot.bingoResultByPlayer().isEmpty());
+        assertFalse(snapshot.sharedDivisionAchievements().isPresent());
+        assertEquals(BingoGame.START_LEVEL, snapshot.currentLevel());
+        assertEquals(BingoGameState.PREREQUISITE_SETUP_DONE, snapshot.state());
+        assertTrue(snapshot.actionIsAllowed(BingoGameAction.SUBMIT_RESULT));
+    }
+
+    @Test
+    void snapshotShouldNotChangeWhenTheGameChanges() throws UserInputException {
+        BingoGameSnapshot snapshotBeforeSubmission = bingoGame.getSnapshot();
+        BingoResult bingoResult = getBingoResult();
+
+        bingoGame.submitBingoResultForPlayer(PLAYER_A, bingoResult);
+
+        BingoGameSnapshot snapshotAfterSubmission = bingoGame.getSnapshot();
+        assertTrue(snapshotBeforeSubmission.bingoResultByPlayer().isEmpty());
+        assertEquals(BingoGameState.PREREQUISITE_SETUP_DONE, snapshotBeforeSubmission.state());
+        assertEquals(
+                Optional.of(bingoResult.toString()),
+                snapshotAfterSubmission.getBingoResultForPlayer(PLAYER_A).map(BingoResult::toString));
+        assertEquals(BingoGameState.PARTIAL_RESULT_SUBMITTED, snapshotAfterSubmission.state());
+    }
+
+    @Test
+    void snapshotShouldShareUnchangedParts() throws UserInputException {
+        bingoGame.addShipUsed(SHIP_A);
+        BingoGameSnapshot snapshotAfterAddingShip = bingoGame.getSnapshot();
+
+        bingoGame.submitBingoResultForPlayer(PLAYER_A, getBingoResult());
+        BingoGameSnapshot snapshotAfterSubmission = bingoGame.getSnapshot();
+        bingoGame.removeShipUsed(SHIP_A);
+        BingoGameSnapshot snapshotAfterRemovingShip = bingoGame.getSnapshot();
+
+        assertSame(snapshotAfterAddingShip.players(), snapshotAfterSubmission.players());
+        assertSame(snapshotAfterAddingShip.shipsUsed(), snapshotAfterSubmission.shipsUsed());
+        assertSame(snapshotAfterSubmission.bingoResultByPlayer(), snapshotAfterRemovingShip.bingoResultByPlayer());
+        assertNotSame(snapshotAfterSubmission.shipsUsed(), snapshotAfterRemovingShip.shipsUsed());
+        assertEquals(List.of(SHIP_A), snapshotAfterSubmission.shipsUsed());
+        assertTrue(snapshotAfterRemovingShip.shipsUsed().isEmpty());
+    }
+
+    @Test
+    void snapshotShouldKeepTokenCounterAndShareResultBars() throws UserInputException {
+        BingoGame gameWithExtraLives = new BingoGame(List.of(PLAYER_A), List.of());
+        BingoGameSnapshot snapshotBeforeSubmission = gameWithExtraLives.getSnapshot();
+        String tokenCounterBeforeSubmission = snapshotBeforeSubmission.tokenCounter().toString();
+
+        BingoResult bingoResult = new BingoResult(MainArmamentType.LARGE_CALIBER_GUNS);
+        bingoResult.addRibbonResult(Ribbon.MAIN_GUN_HIT, 1000);
+        gameWithExtraLives.submitBingoResultForPlayer(PLAYER_A, bingoResult);
+
+        BingoGameSnapshot snapshotAfterSubmission = gameWithExtraLives.getSnapshot();
+        assertEquals(tokenCounterBeforeSubmission, snapshotBeforeSubmission.tokenCounter().toString());
+        assertNotEquals(tokenCounterBeforeSubmission, snapshotAfterSubmission.tokenCounter().toString());
+        assertSame(snapshotBeforeSubmission.bingoResultBars(), snapshotAfterSubmission.bingoResultBars());
+    }
+
+    @Test
+    void snapshotShouldNotChangeWhenAnActionIsRejected() {
+        BingoGameSnapshot snapshot = bingoGame.getSnapshot();
+
+        assertThrows(UserInputException.class, bingoGame::confirmCurrentResult);
+
+        assertSame(snapshot, bingoGame.getSnapshot());
+    }
+
+    @Test
+    void snapshotShouldBeUnmodifiable() throws UserInputException {
+        bingoGame.addShipUsed(SHIP_A);
+        BingoGameSnapshot snapshot = bingoGame.getSnapshot();
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.shipsUsed().clear());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.players().add(PLAYER_A));
+        assertThrows(UnsupportedOperationException.class, () -> bingoGame.getPlayers().clear());
+    }
+
+    @Test
+    void snapshotShouldHoldImmutableCopiesOfSubmittedResults() throws UserInputException {
+        BingoResult bingoResult = getBingoResult();
+        SharedDivisionAchievements sharedDivisionAchievements = new SharedDivisionAchievements(2);
+        sharedDivisionAchievements.addAchievementResult(DivisionAchievement.STRIKE_TEAM, 1);
+        bingoGame.submitSharedDivisionAchievements(sharedDivisionAchievements);
+        bingoGame.submitBingoResultForPlayer(PLAYER_A, bingoResult);
+        String submittedBingoResult = bingoResult.toString();
+        String submittedAchievements = sharedDivisionAchievements.toString();
+
+        bingoResult.addRibbonResult(Ribbon.TORPEDO_HIT, 5);
+        sharedDivisionAchievements.addAchievementResult(DivisionAchievement.GENERAL_OFFENSIVE, 1);
+
+        BingoGameSnapshot snapshot = bingoGame.getSnapshot();
+        BingoResult snapshotBingoResult = snapshot.getBingoResultForPlayer(PLAYER_A).orElseThrow();
+        SharedDivisionAchievements snapshotAchievements = snapshot.sharedDivisionAchievements().orElseThrow();
+        assertEquals(submittedBingoResult, snapshotBingoResult.toString());
+        assertEquals(submittedAchievements, snapshotAchievements.toString());
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> snapshotBingoResult.addRibbonResult(Ribbon.TORPEDO_HIT, 5));
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> snapshotAchievements.addAchievementResult(DivisionAchievement.GENERAL_OFFENSIVE, 1));
+    }
+
+    @Test
+    void snapshotShouldBeRestoredWhenTheGameIsRead() throws UserInputException, IOException {
+        bingoGame.addShipUsed(SHIP_A);
+        bingoGame.submitBingoResultForPlayer(PLAYER_A, getBingoResult());
+        bingoGame.setRetryingIsAllowed(true);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        bingoGame.writeTo(new CompactDataOutput(new DataOutputStream(outputStream)));
+
+        BingoGame readGame = BingoGame.readFrom(
+                new CompactDataInput(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray()))));
+
+        BingoGameSnapshot expectedSnapshot = bingoGame.getSnapshot();
+        BingoGameSnapshot actualSnapshot = readGame.getSnapshot();
+        assertEquals(expectedSnapshot.players(), actualSnapshot.players());
+        assertEquals(expectedSnapshot.shipsUsed(), actualSnapshot.shipsUsed());
+        assertEquals(expectedSnapshot.state(), actualSnapshot.state());
+        assertTrue(actualSnapshot.retryingIsAllowed());
+        assertTrue(actualSnapshot.getBingoResultForPlayer(PLAYER_A).isPresent());
+        assertEquals(Collections.emptyMap(), actualSnapshot.shipRestrictionByPlayer());
+    }
+
+    private BingoResult getBingoResult() {
+        BingoResult bingoResult = new BingoResult(MainArmamentType.LARGE_CALIBER_GUNS);
+        bingoResult.addRibbonResult(Ribbon.MAIN_GUN_HIT, 50);
+        return bingoResult;
+    }
+}
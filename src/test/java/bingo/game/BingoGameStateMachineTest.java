@@ -1,16 +1,27 @@
 package bingo.game;
 
 import bingo.game.input.UserInputException;
+import bingo.game.utility.CompactDataInput;
+import bingo.game.utility.CompactDataOutput;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -577,6 +588,174 @@ class BingoGameStateMachineTest {
         }
     }
 
+    @Nested
+    class AllowedActionsTable {
+
+        @Test
+        void shouldMatchExpectedRulesForAllConfigurationsStatesAndActions() throws IOException {
+            for (boolean shipRestrictionsAreEnabled : List.of(false, true)) {
+                for (boolean endingVoluntarilyIsAllowed : List.of(false, true)) {
+                    bingoGameStateMachine =
+                            new BingoGameStateMachine(shipRestrictionsAreEnabled, endingVoluntarilyIsAllowed);
+                    for (BingoGameState state : BingoGameState.values()) {
+                        setCurrentState(state);
+                        for (BingoGameAction action : BingoGameAction.values()) {
+                            boolean actionIsExpectedToBeAllowed = actionIsAllowedByExpectedRules(
+                                    state, action, shipRestrictionsAreEnabled, endingVoluntarilyIsAllowed);
+                            assertEquals(actionIsExpectedToBeAllowed, bingoGameStateMachine.actionIsAllowed(action));
+                            assertEquals(
+                                    actionIsExpectedToBeAllowed,
+                                    bingoGameStateMachine.getAllowedActions().contains(action));
+                        }
+                    }
+                }
+            }
+        }
+
+        @Test
+        void shouldAllowEveryReachableTransitionForAllConfigurations() {
+            for (boolean shipRestrictionsAreEnabled : List.of(false, true)) {
+                for (boolean endingVoluntarilyIsAllowed : List.of(false, true)) {
+                    bingoGameStateMachine =
+                            new BingoGameStateMachine(shipRestrictionsAreEnabled, endingVoluntarilyIsAllowed);
+                    Map<BingoGameState, Set<BingoGameAction>> allowedActionsByState =
+                            bingoGameStateMachine.getAllowedActionsByState();
+                    for (BingoGameTransition transition : bingoGameStateMachine.getReachableTransitions()) {
+                        assertTrue(allowedActionsByState.get(transition.sourceState()).contains(transition.action()));
+                    }
+                }
+            }
+        }
+
+        @Test
+        void getAllowedActionsShouldReturnTheAllowedActionsOfTheCurrentState() throws UserInputException {
+            bingoGameStateMachine.processEndChallengeVoluntarilyAction();
+            assertEquals(
+                    EnumSet.of(
+                            BingoGameAction.SUBMIT_RESULT,
+                            BingoGameAction.CONFIRM_RESULT,
+                            BingoGameAction.PERFORM_RESET),
+                    bingoGameStateMachine.getAllowedActions());
+        }
+
+        @Test
+        void getAllowedActionsByStateShouldContainNoActionsForFinalStates() {
+            Map<BingoGameState, Set<BingoGameAction>> allowedActionsByState =
+                    bingoGameStateMachine.getAllowedActionsByState();
+            assertEquals(BingoGameState.values().length, allowedActionsByState.size());
+            for (BingoGameState state : BingoGameState.values()) {
+                assertEquals(state.isFinal(), allowedActionsByState.get(state).isEmpty());
+            }
+        }
+
+        @Test
+        void getAllowedActionsByStateShouldBeReadOnly() {
+            Map<BingoGameState, Set<BingoGameAction>> allowedActionsByState =
+                    bingoGameStateMachine.getAllowedActionsByState();
+            assertThrows(UnsupportedOperationException.class, allowedActionsByState::clear);
+            assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> allowedActionsByState.get(BingoGameState.PREREQUISITE_SETUP_DONE).clear());
+        }
+
+        private void setCurrentState(BingoGameState state) throws IOException {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            CompactDataOutput output = new CompactDataOutput(new DataOutputStream(byteArrayOutputStream));
+            output.writeBoolean(false);
+            output.writeEnum(state);
+            bingoGameStateMachine.readStateFrom(new CompactDataInput(
+                    new DataInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))));
+        }
+
+        private boolean actionIsAllowedByExpectedRules(
+                BingoGameState state, BingoGameAction action,
+                boolean shipRestrictionsAreEnabled, boolean endingVoluntarilyIsAllowed) {
+            return switch (state) {
+                case LEVEL_INITIALIZED -> switch (action) {
+                    case SUBMIT_RESULT, CONFIRM_RESULT -> false;
+                    case END_CHALLENGE_VOLUNTARILY -> endingVoluntarilyIsAllowed;
+                    case CHANGE_SHIP_RESTRICTION -> shipRestrictionsAreEnabled;
+                    case PERFORM_RESET, OTHER_ACTION -> true;
+                };
+                case PREREQUISITE_SETUP_DONE -> switch (action) {
+                    case CONFIRM_RESULT -> false;
+                    case END_CHALLENGE_VOLUNTARILY -> endingVoluntarilyIsAllowed;
+                    case CHANGE_SHIP_RESTRICTION -> shipRestrictionsAreEnabled;
+                    case SUBMIT_RESULT, PERFORM_RESET, OTHER_ACTION -> true;
+                };
+                case PARTIAL_RESULT_SUBMITTED -> switch (action) {
+                    case CONFIRM_RESULT, END_CHALLENGE_VOLUNTARILY, CHANGE_SHIP_RESTRICTION -> false;
+                    case SUBMIT_RESULT, PERFORM_RESET, OTHER_ACTION -> true;
+                };
+                case UNCONFIRMED_VOLUNTARY_END -> switch (action) {
+                    case END_CHALLENGE_VOLUNTARILY, CHANGE_SHIP_RESTRICTION, OTHER_ACTION -> false;
+                    case SUBMIT_RESULT, CONFIRM_RESULT, PERFORM_RESET -> true;
+                };
+                case UNCONFIRMED_SUCCESSFUL_MATCH, UNCONFIRMED_UNSUCCESSFUL_MATCH -> switch (action) {
+                    case END_CHALLENGE_VOLUNTARILY, CHANGE_SHIP_RESTRICTION -> false;
+                    case SUBMIT_RESULT, CONFIRM_RESULT, PERFORM_RESET, OTHER_ACTION -> true;
+                };
+                case CHALLENGE_ENDED_VOLUNTARILY, CHALLENGE_ENDED_SUCCESSFULLY, CHALLENGE_ENDED_UNSUCCESSFULLY -> false;
+            };
+        }
+    }
+
+    @Nested
+    class ReachableTransitions {
+
+        @Test
+        void shouldReachAllStatesWhenShipRestrictionsAreEnabledAndEndingVoluntarilyIsAllowed() {
+            setupBingoGameStateMachineToEnableShipRestrictions();
+            Set<BingoGameState> reachedStates = EnumSet.noneOf(BingoGameState.class);
+            for (BingoGameTransition transition : bingoGameStateMachine.getReachableTransitions()) {
+                reachedStates.add(transition.sourceState());
+                reachedStates.add(transition.targetState());
+            }
+            assertEquals(EnumSet.allOf(BingoGameState.class), reachedStates);
+        }
+
+        @Test
+        void shouldNotContainTransitionsForProhibitedActions() {
+            setupBingoGameStateMachineToProhibitEndingTheChallengeVoluntarily();
+            for (BingoGameTransition transition : bingoGameStateMachine.getReachableTransitions()) {
+                assertNotEquals(BingoGameAction.END_CHALLENGE_VOLUNTARILY, transition.action());
+                assertNotEquals(BingoGameAction.CHANGE_SHIP_RESTRICTION, transition.action());
+                assertNotEquals(BingoGameState.LEVEL_INITIALIZED, transition.targetState());
+            }
+        }
+
+        @Test
+        void shouldContainAllTargetStatesOfSubmitResultAction() {
+            Set<BingoGameTransition> transitions = bingoGameStateMachine.getReachableTransitions();
+            for (BingoGameState targetState : List.of(
+                    BingoGameState.PARTIAL_RESULT_SUBMITTED,
+                    BingoGameState.UNCONFIRMED_SUCCESSFUL_MATCH,
+                    BingoGameState.UNCONFIRMED_UNSUCCESSFUL_MATCH)) {
+                assertTrue(transitions.contains(new BingoGameTransition(
+                        BingoGameState.PREREQUISITE_SETUP_DONE,
+                        BingoGameAction.SUBMIT_RESULT,
+                        targetState)));
+            }
+        }
+
+        @Test
+        void shouldNotChangeTheStateOfTheStateMachine() throws UserInputException {
+            bingoGameStateMachine.processSubmitResultAction(false, false);
+            bingoGameStateMachine.getReachableTransitions();
+            assertBingoGameStateIs(BingoGameState.PARTIAL_RESULT_SUBMITTED);
+        }
+
+        @Test
+        void getReachableTransitionsInTableFormatShouldListEveryTransitionOnce() {
+            String table = bingoGameStateMachine.getReachableTransitionsInTableFormat();
+            String[] lines = table.split("\n");
+            assertEquals("| Source state | Action | Target state |", lines[0]);
+            assertEquals("|---|---|---|", lines[1]);
+            assertEquals(bingoGameStateMachine.getReachableTransitions().size() + 2, lines.length);
+            assertTrue(table.contains("| UNCONFIRMED_VOLUNTARY_END | CONFIRM_RESULT | CHALLENGE_ENDED_VOLUNTARILY |"));
+        }
+    }
+
     private void setupBingoGameStateMachineToDisableShipRestrictions() {
         bingoGameStateMachine = new BingoGameStateMachine(false, true);
     }
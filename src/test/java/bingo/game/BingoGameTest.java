@@ -1,5 +1,9 @@
 package bingo.game;
 
+import bingo.game.events.BingoGameEvent;
+import bingo.game.events.BingoGameEventListener;
+import bingo.game.events.impl.AddShipUsedEvent;
+import bingo.game.events.impl.RemoveShipUsedEvent;
 import bingo.game.input.UserInputException;
 import bingo.game.modifiers.ChallengeModifier;
 import bingo.game.players.Player;
@@ -19,11 +23,15 @@ import org.junit.jupiter.api.function.Executable;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -31,9 +39,11 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyBoolean;
 import static org.mockito.Mockito.anyDouble;
 import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
@@ -159,6 +169,13 @@ class BingoGameTest {
             assertFalse(bingoGame.actionIsAllowed(BingoGameAction.CONFIRM_RESULT));
         }
 
+        @Test
+        void getAllowedActionsShouldDelegateToBingoGameStateMachine() {
+            Set<BingoGameAction> allowedActions = EnumSet.of(BingoGameAction.PERFORM_RESET);
+            when(mockedBingoGameStateMachine.getAllowedActions()).thenReturn(allowedActions);
+            assertSame(allowedActions, bingoGame.getAllowedActions());
+        }
+
         private void mockSubmitResultActionIsAllowedReturns(boolean isAllowed) {
             when(mockedBingoGameStateMachine.actionIsAllowed(BingoGameAction.SUBMIT_RESULT)).thenReturn(isAllowed);
         }
@@ -455,6 +472,41 @@ class BingoGameTest {
             assertMockedUserInputExceptionIsThrown(() -> bingoGame.removeShipUsed(SHIP_B));
             assertEquals(1, bingoGame.getShipsUsed().size());
         }
+
+        @Test
+        void eventListenerShouldBeNotifiedAboutSuccessfulChanges() throws UserInputException {
+            List<BingoGameEvent> events = new ArrayList<>();
+            bingoGame.addEventListener(events::add);
+            bingoGame.addShipUsed(SHIP_A);
+            bingoGame.removeShipUsed(SHIP_A);
+            assertEquals(List.of(new AddShipUsedEvent(SHIP_A), new RemoveShipUsedEvent(SHIP_A)), events);
+        }
+
+        @Test
+        void eventListenerShouldNotBeNotifiedAboutFailedChanges() throws UserInputException {
+            List<BingoGameEvent> events = new ArrayList<>();
+            bingoGame.addShipUsed(SHIP_A);
+            bingoGame.addEventListener(events::add);
+            assertThrows(UserInputException.class, () -> bingoGame.addShipUsed(SHIP_A));
+            assertThrows(UserInputException.class, () -> bingoGame.removeShipUsed(SHIP_B));
+            assertTrue(events.isEmpty());
+        }
+
+        @Test
+        void allEventListenersShouldBeNotifiedUntilTheyAreRemoved() throws UserInputException {
+            List<BingoGameEvent> eventsOfFirstListener = new ArrayList<>();
+            List<BingoGameEvent> eventsOfSecondListener = new ArrayList<>();
+            BingoGameEventListener firstListener = eventsOfFirstListener::add;
+            bingoGame.addEventListener(firstListener);
+            bingoGame.addEventListener(eventsOfSecondListener::add);
+            bingoGame.addShipUsed(SHIP_A);
+            bingoGame.removeEventListener(firstListener);
+            bingoGame.removeShipUsed(SHIP_A);
+            assertEquals(List.of(new AddShipUsedEvent(SHIP_A)), eventsOfFirstListener);
+            assertEquals(
+                    List.of(new AddShipUsedEvent(SHIP_A), new RemoveShipUsedEvent(SHIP_A)),
+                    eventsOfSecondListener);
+        }
     }
 
     @Nested
@@ -597,7 +649,7 @@ class BingoGameTest {
         @Test
         void shouldReturnGameOverWhenSubmittedResultIsInsufficient() throws UserInputException {
             mockCurrentBingoGameStateIs(BingoGameState.UNCONFIRMED_UNSUCCESSFUL_MATCH);
-            mockBingoResultToString();
+            mockBingoResultAppendTo();
             mockInsufficientBingoResult();
             mockBingoResultBarsGetPointRequirement();
             mockBingoResultBarsGetNumberOfSubsAsString();
@@ -613,7 +665,7 @@ class BingoGameTest {
                     List.of(SINGLE_PLAYER),
                     List.of(ChallengeModifier.NO_GIVING_UP, ChallengeModifier.NO_SAFETY_NET));
             mockCurrentBingoGameStateIs(BingoGameState.UNCONFIRMED_UNSUCCESSFUL_MATCH);
-            mockBingoResultToString();
+            mockBingoResultAppendTo();
             mockInsufficientBingoResult();
             mockBingoResultBarsGetPointRequirement();
             mockBingoResultBarsGetNumberOfSubsAsReward();
@@ -628,7 +680,7 @@ class BingoGameTest {
         void shouldReturnRetryAllowedWithoutTokenCounter() throws UserInputException {
             setupBingoGame(List.of(SINGLE_PLAYER), List.of(ChallengeModifier.NO_SAFETY_NET));
             mockCurrentBingoGameStateIs(BingoGameState.UNCONFIRMED_UNSUCCESSFUL_MATCH);
-            mockBingoResultToString();
+            mockBingoResultAppendTo();
             mockInsufficientBingoResult();
             mockBingoResultBarsGetPointRequirement();
             bingoGame.setRetryingIsAllowed(true);
@@ -639,7 +691,7 @@ class BingoGameTest {
         @Test
         void shouldReturnRetryAllowedBecauseOfConditionsMet() throws UserInputException {
             mockCurrentBingoGameStateIs(BingoGameState.UNCONFIRMED_UNSUCCESSFUL_MATCH);
-            mockBingoResultToString();
+            mockBingoResultAppendTo();
             mockTokenCounterToString();
             mockInsufficientBingoResult();
             mockBingoResultBarsGetPointRequirement();
@@ -651,7 +703,7 @@ class BingoGameTest {
         @Test
         void shouldReturnRetryAllowedBecauseOfAnExtraLife() throws UserInputException {
             mockCurrentBingoGameStateIs(BingoGameState.UNCONFIRMED_UNSUCCESSFUL_MATCH);
-            mockBingoResultToString();
+            mockBingoResultAppendTo();
             mockTokenCounterToString();
             mockTokenCounterHasExtraLife();
             mockInsufficientBingoResult();
@@ -664,7 +716,7 @@ class BingoGameTest {
         void shouldReturnLevelTwoNextWithoutTokenCounter() throws UserInputException {
             setupBingoGame(List.of(SINGLE_PLAYER), List.of(ChallengeModifier.NO_SAFETY_NET));
             mockCurrentBingoGameStateIs(BingoGameState.UNCONFIRMED_SUCCESSFUL_MATCH);
-            mockBingoResultToString();
+            mockBingoResultAppendTo();
             mockSufficientBingoResult();
             mockBingoResultBarsGetPointRequirement();
             mockBingoResultBarsGetNumberOfSubsAsString();
@@ -675,7 +727,7 @@ class BingoGameTest {
         @Test
         void shouldReturnLevelTwoNextWhenSubmittedResultIsSufficient() throws UserInputException {
             mockCurrentBingoGameStateIs(BingoGameState.UNCONFIRMED_SUCCESSFUL_MATCH);
-            mockBingoResultToString();
+            mockBingoResultAppendTo();
             mockTokenCounterToString();
             mockSufficientBingoResult();
             mockBingoResultBarsGetPointRequirement();
@@ -699,7 +751,7 @@ class BingoGameTest {
             mockBingoResultBarsGetNumberOfSubsAsString();
             skipLevelsUntilReachingLevel(2);
             mockCurrentBingoGameStateIs(BingoGameState.UNCONFIRMED_SUCCESSFUL_MATCH);
-            mockBingoResultToString();
+            mockBingoResultAppendTo();
             mockTokenCounterToString();
             mockSufficientBingoResult();
             bingoGame.submitBingoResultForPlayer(SINGLE_PLAYER, mockedBingoResult);
@@ -712,7 +764,7 @@ class BingoGameTest {
             mockBingoResultBarsGetNumberOfSubsAsReward();
             mockBingoResultBarsGetNumberOfSubsAsString();
             skipLevelsUntilReachingLevel(7);
-            mockBingoResultToString();
+            mockBingoResultAppendTo();
             mockTokenCounterHasExtraLife();
             mockExtraLivesInTokenCounterAre(2);
             bingoGame.submitBingoResultForPlayer(SINGLE_PLAYER, mockedBingoResult);
@@ -734,7 +786,7 @@ class BingoGameTest {
             mockBingoResultBarsGetNumberOfSubsAsReward();
             mockBingoResultBarsGetNumberOfSubsAsString();
             skipLevelsUntilReachingLevel(7);
-            mockBingoResultToString();
+            mockBingoResultAppendTo();
             bingoGame.submitBingoResultForPlayer(SINGLE_PLAYER, mockedBingoResult);
             mockCurrentBingoGameStateIs(BingoGameState.UNCONFIRMED_SUCCESSFUL_MATCH);
             assertEquals(
@@ -784,12 +836,12 @@ class BingoGameTest {
         @Test
         void shouldUpdateStepByStepForMultiplayer() throws UserInputException {
             mockCurrentBingoGameStateIs(BingoGameState.PARTIAL_RESULT_SUBMITTED);
-            mockBingoResultToString();
+            mockBingoResultAppendTo();
             mockBingoResultGetMainArmamentType();
             mockTokenCounterToString();
             mockShipRestrictionGetDisplayText();
             mockShipRestrictionAllowsMainArmamentType();
-            mockSharedDivisionAchievementsToString();
+            mockSharedDivisionAchievementsAppendTo();
             mockInsufficientBingoResult();
             mockBingoResultBarsGetPointRequirement();
             mockBingoResultBarsGetNumberOfSubsAsString();
@@ -841,16 +893,23 @@ class BingoGameTest {
             when(mockedShipRestriction.getDisplayText()).thenReturn(DUMMY_SHIP_RESTRICTION_TEXT);
         }
 
-        private void mockSharedDivisionAchievementsToString() {
-            when(mockedDivisionAchievements.toString()).thenReturn(DUMMY_DIVISION_TEXT);
+        private void mockSharedDivisionAchievementsAppendTo() {
+            doAnswer(appendToStringBuilder(DUMMY_DIVISION_TEXT)).when(mockedDivisionAchievements).appendTo(any());
         }
 
         private void mockSharedDivisionAchievementsGetPointValue() {
             when(mockedDivisionAchievements.getPointValue()).thenReturn(600L);
         }
 
-        private void mockBingoResultToString() {
-            when(mockedBingoResult.toString()).thenReturn(DUMMY_RESULT_TEXT);
+        private void mockBingoResultAppendTo() {
+            doAnswer(appendToStringBuilder(DUMMY_RESULT_TEXT)).when(mockedBingoResult).appendTo(any());
+        }
+
+        private Answer<Void> appendToStringBuilder(String text) {
+            return invocationOnMock -> {
+                invocationOnMock.getArgument(0, StringBuilder.class).append(text);
+                return null;
+            };
         }
 
         private void mockTokenCounterToString() {
@@ -1164,6 +1223,10 @@ class BingoGameTest {
                 .thenReturn(mockedBingoResultBars);
         lenient().when(mockedBingoGameDependencyInjector.createTokenCounter(anyBoolean()))
                 .thenReturn(mockedTokenCounter);
+        lenient().when(mockedBingoGameStateMachine.copy()).thenReturn(mockedBingoGameStateMachine);
+        lenient().when(mockedTokenCounter.copy()).thenReturn(mockedTokenCounter);
+        lenient().when(mockedBingoResult.immutableCopy()).thenReturn(mockedBingoResult);
+        lenient().when(mockedDivisionAchievements.immutableCopy()).thenReturn(mockedDivisionAchievements);
     }
 
     private void mockBingoGameActionIsNotAllowed(BingoGameAction action) throws UserInputException {
@@ -0,0 +1,332 @@
+package bingo.game;
+
+import bingo.game.achievements.Achievement;
+import bingo.game.achievements.division.DivisionAchievement;
+import bingo.game.events.BingoGameEvent;
+import bingo.game.events.impl.SubmitResultsOfAllPlayersEvent;
+import bingo.game.input.UserInputException;
+import bingo.game.modifiers.ChallengeModifier;
+import bingo.game.players.Player;
+import bingo.game.restrictions.impl.BannedMainArmamentType;
+import bingo.game.results.BingoResult;
+import bingo.game.results.division.SharedDivisionAchievements;
+import bingo.game.ribbons.Ribbon;
+import bingo.game.ships.MainArmamentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentResultSubmissionTest {
+    private static final Player PLAYER_A = new Player("Player A");
+    private static final Player PLAYER_B = new Player("Player B");
+    private static final Player PLAYER_C = new Player("Player C");
+    private static final int NUMBER_OF_ROUNDS = 300;
+
+    @Test
+    void shouldHandResultsToTheGameExactlyOnceWhenPlayersSubmitConcurrently() throws Exception {
+        Random random = new Random(42);
+        try (ExecutorService executorService = Executors.newFixedThreadPool(4)) {
+            for (int round = 0; round < NUMBER_OF_ROUNDS; round++) {
+                List<Player> players = round % 2 == 0
+                        ? List.of(PLAYER_A, PLAYER_B)
+                        : List.of(PLAYER_A, PLAYER_B, PLAYER_C);
+                List<BingoResult> bingoResults = new ArrayList<>();
+                for (int index = 0; index < players.size(); index++) {
+                    bingoResults.add(random.nextBoolean() ? getSmallBingoResult() : getLargeBingoResult());
+                }
+                SharedDivisionAchievements sharedDivisionAchievements = getDivisionAchievements(players.size());
+                verifyRound(executorService, players, bingoResults, sharedDivisionAchievements);
+            }
+        }
+    }
+
+    private void verifyRound(
+            ExecutorService executorService, List<Player> players, List<BingoResult> bingoResults,
+            SharedDivisionAchievements sharedDivisionAchievements) throws Exception {
+        BingoGame bingoGame = new BingoGame(players, Collections.emptyList());
+        ConcurrentResultSubmission submission = new ConcurrentResultSubmission(bingoGame);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<Optional<BingoGameState>>> resultFutures = new ArrayList<>();
+        for (int index = 0; index < players.size(); index++) {
+            Player player = players.get(index);
+            BingoResult bingoResult = bingoResults.get(index);
+            resultFutures.add(executorService.submit(awaiting(
+                    startSignal,
+                    () -> submission.submitBingoResultForPlayer(player, bingoResult))));
+        }
+        Future<Boolean> sharedFuture = executorService.submit(awaiting(startSignal, () -> {
+            try {
+                submission.submitSharedDivisionAchievements(sharedDivisionAchievements);
+                return true;
+            } catch (UserInputException exception) {
+                return false;
+            }
+        }));
+        startSignal.countDown();
+
+        List<BingoGameState> reportedStates = new ArrayList<>();
+        for (Future<Optional<BingoGameState>> resultFuture : resultFutures) {
+            resultFuture.get().ifPresent(reportedStates::add);
+        }
+        boolean sharedAchievementsWereAccepted = sharedFuture.get();
+
+        assertEquals(1, reportedStates.size());
+        assertTrue(submission.isComplete());
+        BingoGameState reportedState = reportedStates.getFirst();
+        assertTrue(reportedState == BingoGameState.UNCONFIRMED_SUCCESSFUL_MATCH
+                || reportedState == BingoGameState.UNCONFIRMED_UNSUCCESSFUL_MATCH);
+        assertEquals(reportedState, bingoGame.getCurrentState());
+        assertEquals(sharedAchievementsWereAccepted, bingoGame.getSharedDivisionAchievements().isPresent());
+
+        BingoGame sequentialGame = new BingoGame(players, Collections.emptyList());
+        if (sharedAchievementsWereAccepted) {
+            sequentialGame.submitSharedDivisionAchievements(sharedDivisionAchievements);
+        }
+        for (int index = 0; index < players.size(); index++) {
+            sequentialGame.submitBingoResultForPlayer(players.get(index), bingoResults.get(index));
+        }
+        assertEquals(sequentialGame.toString(), bingoGame.toString());
+    }
+
+    private static <T> Callable<T> awaiting(CountDownLatch startSignal, Callable<T> action) {
+        return () -> {
+            startSignal.await();
+            return action.call();
+        };
+    }
+
+    @Test
+    void shouldRejectSecondResultForTheSamePlayer() throws UserInputException {
+        BingoGame bingoGame = new BingoGame(List.of(PLAYER_A, PLAYER_B), Collections.emptyList());
+        ConcurrentResultSubmission submission = new ConcurrentResultSubmission(bingoGame);
+
+        assertFalse(submission.submitBingoResultForPlayer(PLAYER_A, getSmallBingoResult()).isPresent());
+        UserInputException exception = assertThrows(
+                UserInputException.class,
+                () -> submission.submitBingoResultForPlayer(PLAYER_A, getLargeBingoResult()));
+
+        assertEquals("A result was already submitted for Player A", exception.getMessage());
+        assertEquals(BingoGameState.PREREQUISITE_SETUP_DONE, bingoGame.getCurrentState());
+    }
+
+    @Test
+    void shouldRejectResultOfPlayerWhoIsNotParticipating() throws UserInputException {
+        BingoGame bingoGame = new BingoGame(List.of(PLAYER_A, PLAYER_B), Collections.emptyList());
+        ConcurrentResultSubmission submission = new ConcurrentResultSubmission(bingoGame);
+
+        UserInputException exception = assertThrows(
+                UserInputException.class,
+                () -> submission.submitBingoResultForPlayer(PLAYER_C, getSmallBingoResult()));
+
+        assertEquals("Player C is not participating in the game", exception.getMessage());
+    }
+
+    @Test
+    void shouldRejectSubmissionsAfterTheLastResult() throws UserInputException {
+        BingoGame bingoGame = new BingoGame(List.of(PLAYER_A, PLAYER_B), Collections.emptyList());
+        ConcurrentResultSubmission submission = new ConcurrentResultSubmission(bingoGame);
+        submission.submitBingoResultForPlayer(PLAYER_A, getSmallBingoResult());
+
+        Optional<BingoGameState> state = submission.submitBingoResultForPlayer(PLAYER_B, getSmallBingoResult());
+
+        assertEquals(Optional.of(BingoGameState.UNCONFIRMED_SUCCESSFUL_MATCH), state);
+        UserInputException exception = assertThrows(
+                UserInputException.class,
+                () -> submission.submitSharedDivisionAchievements(getDivisionAchievements(2)));
+        assertEquals("All results were already submitted", exception.getMessage());
+        assertFalse(bingoGame.getSharedDivisionAchievements().isPresent());
+    }
+
+    @Test
+    void shouldRejectSubmissionWhenResultsCannotBeSubmitted() throws UserInputException {
+        BingoGame bingoGame = new BingoGame(
+                List.of(PLAYER_A, PLAYER_B),
+                List.of(ChallengeModifier.RANDOM_SHIP_RESTRICTIONS));
+
+        UserInputException exception = assertThrows(
+                UserInputException.class,
+                () -> new ConcurrentResultSubmission(bingoGame));
+
+        assertEquals("Results cannot be submitted in the current state of the game", exception.getMessage());
+    }
+
+    @Test
+    void shouldTakeBackResultsWhenGameRejectsThemAfterTheLastResult() throws UserInputException {
+        BingoGame bingoGame = new BingoGame(
+                List.of(PLAYER_A, PLAYER_B),
+                List.of(ChallengeModifier.RANDOM_SHIP_RESTRICTIONS));
+        bingoGame.setShipRestrictionForPlayer(PLAYER_A, new BannedMainArmamentType(MainArmamentType.TORPEDOES));
+        bingoGame.setShipRestrictionForPlayer(PLAYER_B, new BannedMainArmamentType(MainArmamentType.TORPEDOES));
+        ConcurrentResultSubmission submission = new ConcurrentResultSubmission(bingoGame);
+        submission.submitBingoResultForPlayer(PLAYER_A, getSmallBingoResult());
+        bingoGame.removeShipRestrictionForPlayer(PLAYER_A);
+        bingoGame.setShipRestrictionForPlayer(
+                PLAYER_A,
+                new BannedMainArmamentType(MainArmamentType.LARGE_CALIBER_GUNS));
+
+        assertThrows(
+                UserInputException.class,
+                () -> submission.submitBingoResultForPlayer(PLAYER_B, getSmallBingoResult()));
+
+        assertFalse(submission.isComplete());
+        assertEquals(BingoGameState.PREREQUISITE_SETUP_DONE, bingoGame.getCurrentState());
+        assertFalse(bingoGame.getBingoResultForPlayer(PLAYER_A).isPresent());
+        assertFalse(submission.submitBingoResultForPlayer(PLAYER_A, getLargeBingoResult()).isPresent());
+        Optional<BingoGameState> state = submission.submitBingoResultForPlayer(PLAYER_B, getSmallBingoResult());
+        assertTrue(state.isPresent());
+        assertTrue(submission.isComplete());
+        assertEquals(state.get(), bingoGame.getCurrentState());
+    }
+
+    @Test
+    void shouldPublishOneEventForAllResults() throws UserInputException {
+        BingoGame bingoGame = new BingoGame(List.of(PLAYER_A, PLAYER_B), Collections.emptyList());
+        List<BingoGameEvent> events = new ArrayList<>();
+        List<String> publishedOutputs = new ArrayList<>();
+        bingoGame.addEventListener(event -> {
+            events.add(event);
+            publishedOutputs.add(bingoGame.toString());
+        });
+        ConcurrentResultSubmission submission = new ConcurrentResultSubmission(bingoGame);
+        submission.submitSharedDivisionAchievements(getDivisionAchievements(2));
+        submission.submitBingoResultForPlayer(PLAYER_A, getSmallBingoResult());
+        submission.submitBingoResultForPlayer(PLAYER_B, getLargeBingoResult());
+
+        assertEquals(1, events.size());
+        SubmitResultsOfAllPlayersEvent event =
+                assertInstanceOf(SubmitResultsOfAllPlayersEvent.class, events.getFirst());
+        assertEquals(2, event.bingoResultByPlayer().size());
+        assertTrue(event.sharedDivisionAchievements().isPresent());
+        BingoGame replayedGame = new BingoGame(List.of(PLAYER_A, PLAYER_B), Collections.emptyList());
+        event.applyTo(replayedGame);
+        assertEquals(publishedOutputs.getFirst(), replayedGame.toString());
+    }
+
+    @Test
+    void shouldKeepSubmissionsWhichRaceWithResumedCollecting() throws Exception {
+        try (ExecutorService executorService = Executors.newFixedThreadPool(4)) {
+            for (int round = 0; round < NUMBER_OF_ROUNDS; round++) {
+                verifyRoundWithRejectedResult(executorService);
+            }
+        }
+    }
+
+    /**
+     * The first result of player A is no longer accepted once it would be handed to the game, so the submission which
+     * completes the results fails and collecting is resumed while the other submissions keep arriving.
+     */
+    private void verifyRoundWithRejectedResult(ExecutorService executorService) throws Exception {
+        List<Player> players = List.of(PLAYER_A, PLAYER_B, PLAYER_C);
+        BingoGame bingoGame = createGameWithRestrictionsAgainstTorpedoes(players);
+        ConcurrentResultSubmission submission = new ConcurrentResultSubmission(bingoGame);
+        submission.submitBingoResultForPlayer(PLAYER_A, getSmallBingoResult());
+        bingoGame.removeShipRestrictionForPlayer(PLAYER_A);
+        bingoGame.setShipRestrictionForPlayer(
+                PLAYER_A,
+                new BannedMainArmamentType(MainArmamentType.LARGE_CALIBER_GUNS));
+        SharedDivisionAchievements sharedDivisionAchievements = getDivisionAchievements(players.size());
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<Optional<BingoGameState>>> resultFutures = new ArrayList<>();
+        resultFutures.add(executorService.submit(awaiting(
+                startSignal,
+                () -> submitUntilAccepted(submission, PLAYER_A, getLargeBingoResult()))));
+        resultFutures.add(executorService.submit(awaiting(
+                startSignal,
+                () -> submitUntilAccepted(submission, PLAYER_B, getSmallBingoResult()))));
+        resultFutures.add(executorService.submit(awaiting(
+                startSignal,
+                () -> submitUntilAccepted(submission, PLAYER_C, getLargeBingoResult()))));
+        Future<Boolean> sharedFuture = executorService.submit(awaiting(startSignal, () -> {
+            try {
+                submission.submitSharedDivisionAchievements(sharedDivisionAchievements);
+                return true;
+            } catch (UserInputException exception) {
+                return false;
+            }
+        }));
+        startSignal.countDown();
+
+        List<BingoGameState> reportedStates = new ArrayList<>();
+        for (Future<Optional<BingoGameState>> resultFuture : resultFutures) {
+            resultFuture.get().ifPresent(reportedStates::add);
+        }
+        boolean sharedAchievementsWereAccepted = sharedFuture.get();
+
+        assertEquals(1, reportedStates.size());
+        assertTrue(submission.isComplete());
+        assertEquals(reportedStates.getFirst(), bingoGame.getCurrentState());
+        assertEquals(sharedAchievementsWereAccepted, bingoGame.getSharedDivisionAchievements().isPresent());
+        BingoGame sequentialGame = createGameWithRestrictionsAgainstTorpedoes(players);
+        sequentialGame.removeShipRestrictionForPlayer(PLAYER_A);
+        sequentialGame.setShipRestrictionForPlayer(
+                PLAYER_A,
+                new BannedMainArmamentType(MainArmamentType.LARGE_CALIBER_GUNS));
+        if (sharedAchievementsWereAccepted) {
+            sequentialGame.submitSharedDivisionAchievements(sharedDivisionAchievements);
+        }
+        sequentialGame.submitBingoResultForPlayer(PLAYER_A, getLargeBingoResult());
+        sequentialGame.submitBingoResultForPlayer(PLAYER_B, getSmallBingoResult());
+        sequentialGame.submitBingoResultForPlayer(PLAYER_C, getLargeBingoResult());
+        assertEquals(sequentialGame.toString(), bingoGame.toString());
+    }
+
+    private BingoGame createGameWithRestrictionsAgainstTorpedoes(List<Player> players) throws UserInputException {
+        BingoGame bingoGame = new BingoGame(players, List.of(ChallengeModifier.RANDOM_SHIP_RESTRICTIONS));
+        for (Player player : players) {
+            bingoGame.setShipRestrictionForPlayer(player, new BannedMainArmamentType(MainArmamentType.TORPEDOES));
+        }
+        return bingoGame;
+    }
+
+    /**
+     * Retries while the slot of the player is still taken by a result which is about to be taken back, or while the
+     * results are being handed to the game, until the result of the player is accepted.
+     */
+    private static Optional<BingoGameState> submitUntilAccepted(
+            ConcurrentResultSubmission submission, Player player, BingoResult bingoResult) {
+        while (true) {
+            try {
+                return submission.submitBingoResultForPlayer(player, bingoResult);
+            } catch (UserInputException exception) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private BingoResult getSmallBingoResult() {
+        BingoResult bingoResult = new BingoResult(MainArmamentType.LARGE_CALIBER_GUNS);
+        bingoResult.addRibbonResult(Ribbon.MAIN_GUN_HIT, 50);
+        bingoResult.addRibbonResult(Ribbon.SET_ON_FIRE, 5);
+        return bingoResult;
+    }
+
+    private BingoResult getLargeBingoResult() {
+        BingoResult bingoResult = new BingoResult(MainArmamentType.SMALL_CALIBER_GUNS);
+        bingoResult.addRibbonResult(Ribbon.MAIN_GUN_HIT, 400);
+        bingoResult.addRibbonResult(Ribbon.SET_ON_FIRE, 15);
+        bingoResult.addRibbonResult(Ribbon.DESTROYED, 2);
+        bingoResult.addAchievementResult(Achievement.ARSONIST, 2);
+        return bingoResult;
+    }
+
+    private SharedDivisionAchievements getDivisionAchievements(int numberOfPlayers) {
+        SharedDivisionAchievements divisionAchievements = new SharedDivisionAchievements(numberOfPlayers);
+        divisionAchievements.addAchievementResult(DivisionAchievement.GENERAL_OFFENSIVE, 2);
+        return divisionAchievements;
+    }
+}
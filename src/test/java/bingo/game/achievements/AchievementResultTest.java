@@ -180,4 +180,19 @@ class AchievementResultTest {
                 "AA Defense Expert: 45 points + (Aircraft shot down: 50 * 10 points) * 0.3 + (Shot down by fighter: 20 * 10 points) * 0.3",
                 term.getAsString());
     }
+
+    @Test
+    void shouldReturnSameTermForOrdinalIndexedRibbonAmounts() {
+        int[] ribbonAmounts = new int[Ribbon.values().length];
+        ribbonAmounts[Ribbon.SET_ON_FIRE.ordinal()] = 10;
+        ribbonAmounts[Ribbon.CAUSED_FLOODING.ordinal()] = 3;
+        ribbonResultList.add(new RibbonResult(Ribbon.SET_ON_FIRE, 10));
+        ribbonResultList.add(new RibbonResult(Ribbon.CAUSED_FLOODING, 3));
+        Term expectedTerm = oneWithererAchievement.getAsTerm(ribbonResultList, MainArmamentType.LARGE_CALIBER_GUNS);
+        Term term = oneWithererAchievement.getAsTerm(ribbonAmounts, MainArmamentType.LARGE_CALIBER_GUNS);
+        assertEquals(expectedTerm.getValue(), term.getValue());
+        assertEquals(
+                "Witherer: 60 points + (Set on fire: 10 * 20 points) * 0.3 + (Caused flooding: 3 * 40 points) * 0.3",
+                term.getAsString());
+    }
 }
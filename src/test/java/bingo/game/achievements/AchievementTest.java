@@ -8,6 +8,7 @@ import java.util.Iterator;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AchievementTest {
@@ -111,4 +112,11 @@ class AchievementTest {
                 """;
         assertEquals(expectedString, Achievement.getAllAchievementsListedAsString());
     }
+
+    @Test
+    void getPointValueModifiersShouldReturnReadOnlyList() {
+        List<PointValueModifier> arsonistModifiers = Achievement.ARSONIST.getPointValueModifiers();
+        assertThrows(UnsupportedOperationException.class, arsonistModifiers::clear);
+        assertEquals(1, Achievement.ARSONIST.getPointValueModifiers().size());
+    }
 }
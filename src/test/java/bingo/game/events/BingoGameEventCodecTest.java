@@ -0,0 +1,139 @@
+package bingo.game.events;
+
+import bingo.game.achievements.Achievement;
+import bingo.game.achievements.division.DivisionAchievement;
+import bingo.game.events.impl.AddShipUsedEvent;
+import bingo.game.events.impl.ConfirmResultEvent;
+import bingo.game.events.impl.EndChallengeEvent;
+import bingo.game.events.impl.PerformResetEvent;
+import bingo.game.events.impl.RemoveShipRestrictionEvent;
+import bingo.game.events.impl.RemoveShipUsedEvent;
+import bingo.game.events.impl.SetRetryingIsAllowedEvent;
+import bingo.game.events.impl.SetShipRestrictionEvent;
+import bingo.game.events.impl.SubmitBingoResultEvent;
+import bingo.game.events.impl.SubmitResultsOfAllPlayersEvent;
+import bingo.game.events.impl.SubmitSharedDivisionAchievementsEvent;
+import bingo.game.players.Player;
+import bingo.game.restrictions.impl.BannedMainArmamentType;
+import bingo.game.restrictions.impl.ForcedMainArmamentType;
+import bingo.game.results.BingoResult;
+import bingo.game.results.division.SharedDivisionAchievements;
+import bingo.game.ribbons.Ribbon;
+import bingo.game.ships.MainArmamentType;
+import bingo.game.ships.Ship;
+import bingo.game.utility.CompactDataInput;
+import bingo.game.utility.CompactDataOutput;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.StreamCorruptedException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BingoGameEventCodecTest {
+    private static final Player PLAYER_A = new Player("Player A");
+    private static final Player PLAYER_B = new Player("Player B");
+
+    private final BingoGameEventCodec bingoGameEventCodec = new BingoGameEventCodec(List.of(PLAYER_A, PLAYER_B));
+
+    @Test
+    void readEventShouldReturnEqualEvent() throws IOException {
+        List<BingoGameEvent> events = List.of(
+                new ConfirmResultEvent(),
+                new PerformResetEvent(),
+                new EndChallengeEvent(),
+                new SetRetryingIsAllowedEvent(true),
+                new SetRetryingIsAllowedEvent(false),
+                new SetShipRestrictionEvent(PLAYER_B, new BannedMainArmamentType(MainArmamentType.AIRCRAFT)),
+                new SetShipRestrictionEvent(PLAYER_A, new ForcedMainArmamentType(MainArmamentType.TORPEDOES)),
+                new RemoveShipRestrictionEvent(PLAYER_B),
+                new AddShipUsedEvent(new Ship("Yamato")),
+                new RemoveShipUsedEvent(new Ship("Shimakaze")));
+        for (BingoGameEvent event : events) {
+            assertEquals(event, roundTrip(event));
+        }
+    }
+
+    @Test
+    void readEventShouldReturnSubmittedBingoResult() throws IOException {
+        BingoResult bingoResult = new BingoResult(MainArmamentType.LARGE_CALIBER_GUNS);
+        bingoResult.addRibbonResult(Ribbon.MAIN_GUN_HIT, 110);
+        bingoResult.addAchievementResult(Achievement.ARSONIST, 1);
+        SubmitBingoResultEvent event = assertInstanceOf(
+                SubmitBingoResultEvent.class,
+                roundTrip(new SubmitBingoResultEvent(PLAYER_B, bingoResult)));
+        assertEquals(PLAYER_B, event.player());
+        assertEquals(bingoResult.toString(), event.bingoResult().toString());
+    }
+
+    @Test
+    void readEventShouldReturnSubmittedSharedDivisionAchievements() throws IOException {
+        SharedDivisionAchievements sharedDivisionAchievements = new SharedDivisionAchievements(2);
+        sharedDivisionAchievements.addAchievementResult(DivisionAchievement.STRIKE_TEAM, 1);
+        SubmitSharedDivisionAchievementsEvent event = assertInstanceOf(
+                SubmitSharedDivisionAchievementsEvent.class,
+                roundTrip(new SubmitSharedDivisionAchievementsEvent(sharedDivisionAchievements)));
+        assertEquals(sharedDivisionAchievements.toString(), event.sharedDivisionAchievements().toString());
+    }
+
+    @Test
+    void readEventShouldReturnSubmittedResultsOfAllPlayers() throws IOException {
+        BingoResult bingoResultA = new BingoResult(MainArmamentType.AIRCRAFT);
+        bingoResultA.addRibbonResult(Ribbon.TORPEDO_HIT, 3);
+        BingoResult bingoResultB = new BingoResult(MainArmamentType.TORPEDOES);
+        SharedDivisionAchievements sharedDivisionAchievements = new SharedDivisionAchievements(2);
+        sharedDivisionAchievements.addAchievementResult(DivisionAchievement.STRIKE_TEAM, 1);
+        SubmitResultsOfAllPlayersEvent event = assertInstanceOf(
+                SubmitResultsOfAllPlayersEvent.class,
+                roundTrip(new SubmitResultsOfAllPlayersEvent(
+                        Map.of(PLAYER_A, bingoResultA, PLAYER_B, bingoResultB),
+                        Optional.of(sharedDivisionAchievements))));
+        assertEquals(bingoResultA.toString(), event.bingoResultByPlayer().get(PLAYER_A).toString());
+        assertEquals(bingoResultB.toString(), event.bingoResultByPlayer().get(PLAYER_B).toString());
+        assertEquals(
+                sharedDivisionAchievements.toString(),
+                event.sharedDivisionAchievements().orElseThrow().toString());
+        SubmitResultsOfAllPlayersEvent eventWithoutAchievements = assertInstanceOf(
+                SubmitResultsOfAllPlayersEvent.class,
+                roundTrip(new SubmitResultsOfAllPlayersEvent(
+                        Map.of(PLAYER_A, bingoResultA, PLAYER_B, bingoResultB),
+                        Optional.empty())));
+        assertEquals(Optional.empty(), eventWithoutAchievements.sharedDivisionAchievements());
+    }
+
+    @Test
+    void writeEventShouldRejectPlayerWhoIsNotParticipating() {
+        BingoGameEvent event = new RemoveShipRestrictionEvent(new Player("Player C"));
+        assertThrows(InvalidObjectException.class, () -> roundTrip(event));
+    }
+
+    @Test
+    void readEventShouldRejectUnknownTag() {
+        CompactDataInput input = new CompactDataInput(new DataInputStream(new ByteArrayInputStream(new byte[]{99})));
+        assertThrows(StreamCorruptedException.class, () -> bingoGameEventCodec.readEvent(input));
+    }
+
+    @Test
+    void readEventShouldRejectUnknownPlayerIndex() {
+        byte[] bytes = {7, 2};
+        CompactDataInput input = new CompactDataInput(new DataInputStream(new ByteArrayInputStream(bytes)));
+        assertThrows(StreamCorruptedException.class, () -> bingoGameEventCodec.readEvent(input));
+    }
+
+    private BingoGameEvent roundTrip(BingoGameEvent event) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        bingoGameEventCodec.writeEvent(event, new CompactDataOutput(new DataOutputStream(byteArrayOutputStream)));
+        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+        return bingoGameEventCodec.readEvent(new CompactDataInput(new DataInputStream(byteArrayInputStream)));
+    }
+}
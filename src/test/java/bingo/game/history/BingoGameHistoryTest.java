@@ -0,0 +1,282 @@
+package bingo.game.history;
+
+import bingo.game.BingoGame;
+import bingo.game.achievements.division.DivisionAchievement;
+import bingo.game.events.BingoGameEvent;
+import bingo.game.events.BingoGameEventListener;
+import bingo.game.input.UserInputException;
+import bingo.game.modifiers.ChallengeModifier;
+import bingo.game.players.Player;
+import bingo.game.results.BingoResult;
+import bingo.game.results.division.SharedDivisionAchievements;
+import bingo.game.ribbons.Ribbon;
+import bingo.game.ships.MainArmamentType;
+import bingo.game.ships.Ship;
+import bingo.game.utility.BingoGameAutosaver;
+import bingo.game.utility.BingoGameJournal;
+import bingo.game.utility.BingoGameSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BingoGameHistoryTest {
+    private static final Player PLAYER_A = new Player("Player A");
+    private static final Player PLAYER_B = new Player("Player B");
+
+    private BingoGame bingoGame;
+    private List<BingoGameEvent> forwardedEvents;
+    private int numberOfRestoredStates;
+    private BingoGameHistory bingoGameHistory;
+
+    @BeforeEach
+    void setup() throws UserInputException {
+        bingoGame = new BingoGame(List.of(PLAYER_A, PLAYER_B), List.of(ChallengeModifier.NO_SAFETY_NET));
+        forwardedEvents = new ArrayList<>();
+        bingoGameHistory = new BingoGameHistory(bingoGame, 4);
+        bingoGameHistory.start();
+        bingoGame.addEventListener(recordingListener());
+    }
+
+    private BingoGameEventListener recordingListener() {
+        return new BingoGameEventListener() {
+            @Override
+            public void eventOccurred(BingoGameEvent event) {
+                forwardedEvents.add(event);
+            }
+
+            @Override
+            public void stateRestored() {
+                numberOfRestoredStates++;
+            }
+        };
+    }
+
+    @Test
+    void undoAndRedoShouldRestoreEveryStateOfTheGame() throws UserInputException {
+        List<String> states = new ArrayList<>();
+        states.add(describe(bingoGame));
+        for (int level = BingoGame.START_LEVEL; level <= BingoGame.MAX_LEVEL; level++) {
+            bingoGame.addShipUsed(new Ship("Ship " + level));
+            states.add(describe(bingoGame));
+            bingoGame.setRetryingIsAllowed(level % 2 == 0);
+            states.add(describe(bingoGame));
+            bingoGame.submitBingoResultForPlayer(PLAYER_A, getBingoResult(level));
+            states.add(describe(bingoGame));
+            bingoGame.submitSharedDivisionAchievements(getDivisionAchievements());
+            states.add(describe(bingoGame));
+            bingoGame.submitBingoResultForPlayer(PLAYER_B, getBingoResult(level));
+            states.add(describe(bingoGame));
+            bingoGame.confirmCurrentResult();
+            states.add(describe(bingoGame));
+        }
+
+        for (int position = states.size() - 1; position > 0; position--) {
+            assertEquals(states.get(position), describe(bingoGame));
+            bingoGameHistory.undo();
+        }
+        assertEquals(states.getFirst(), describe(bingoGame));
+        assertFalse(bingoGameHistory.canUndo());
+        for (int position = 1; position < states.size(); position++) {
+            bingoGameHistory.redo();
+            assertEquals(states.get(position), describe(bingoGame));
+        }
+        assertFalse(bingoGameHistory.canRedo());
+    }
+
+    @Test
+    void newChangeShouldDiscardUndoneChanges() throws UserInputException {
+        bingoGame.addShipUsed(new Ship("Ship A"));
+        bingoGame.addShipUsed(new Ship("Ship B"));
+        bingoGameHistory.undo();
+
+        bingoGame.addShipUsed(new Ship("Ship C"));
+
+        assertFalse(bingoGameHistory.canRedo());
+        assertEquals(2, bingoGameHistory.getNumberOfChanges());
+        assertEquals(List.of(new Ship("Ship A"), new Ship("Ship C")), bingoGame.getSnapshot().shipsUsed());
+        bingoGameHistory.undo();
+        assertEquals(List.of(new Ship("Ship A")), bingoGame.getSnapshot().shipsUsed());
+    }
+
+    @Test
+    void undoShouldRestoreTheStateBeforeCheckpointAfterDiscardedChanges() throws UserInputException {
+        for (int index = 0; index < 6; index++) {
+            bingoGame.addShipUsed(new Ship("Ship " + index));
+        }
+        bingoGameHistory.undo();
+        bingoGameHistory.undo();
+        bingoGameHistory.undo();
+        for (int index = 0; index < 3; index++) {
+            bingoGame.addShipUsed(new Ship("Other ship " + index));
+        }
+
+        for (int index = 0; index < 4; index++) {
+            bingoGameHistory.undo();
+        }
+
+        assertEquals(
+                List.of(new Ship("Ship 0"), new Ship("Ship 1")),
+                bingoGame.getSnapshot().shipsUsed());
+    }
+
+    @Test
+    void undoShouldBeRejectedWithoutChanges() {
+        UserInputException exception = assertThrows(UserInputException.class, bingoGameHistory::undo);
+
+        assertEquals("There is no change which can be undone", exception.getMessage());
+    }
+
+    @Test
+    void redoShouldBeRejectedWithoutUndoneChanges() throws UserInputException {
+        bingoGame.addShipUsed(new Ship("Ship A"));
+
+        UserInputException exception = assertThrows(UserInputException.class, bingoGameHistory::redo);
+
+        assertEquals("There is no change which can be redone", exception.getMessage());
+    }
+
+    @Test
+    void otherListenersShouldBeToldAboutRestoredStatesAndReappliedChanges() throws UserInputException {
+        bingoGame.addShipUsed(new Ship("Ship A"));
+        bingoGame.setRetryingIsAllowed(true);
+
+        bingoGameHistory.undo();
+        bingoGameHistory.undo();
+        bingoGameHistory.redo();
+
+        assertEquals(4, forwardedEvents.size());
+        assertEquals(forwardedEvents.getFirst(), forwardedEvents.get(2));
+        assertEquals(forwardedEvents.getFirst(), forwardedEvents.getLast());
+        assertEquals(2, numberOfRestoredStates);
+        assertTrue(bingoGameHistory.canRedo());
+    }
+
+    @Test
+    void journalShouldSaveUndoneAndRedoneChanges() throws Exception {
+        Path filePath = Files.createTempFile("bingo-game", ".wrb");
+        try {
+            BingoGameAutosaver bingoGameAutosaver = new BingoGameAutosaver(filePath, failingListener());
+            BingoGameJournal bingoGameJournal = new BingoGameJournal(bingoGame, bingoGameAutosaver);
+            bingoGameJournal.start();
+            bingoGame.addShipUsed(new Ship("Ship A"));
+            bingoGame.addShipUsed(new Ship("Ship B"));
+            bingoGame.setRetryingIsAllowed(true);
+
+            bingoGameHistory.undo();
+            bingoGameHistory.undo();
+            bingoGameAutosaver.awaitPendingSaves();
+            assertEquals(describe(bingoGame), describe(loadGame(filePath)));
+            bingoGameHistory.redo();
+            bingoGameAutosaver.awaitPendingSaves();
+            assertEquals(describe(bingoGame), describe(loadGame(filePath)));
+        } finally {
+            Files.delete(filePath);
+        }
+    }
+
+    @Test
+    void failedUndoShouldRollBackTheGame() throws UserInputException {
+        AtomicBoolean addingShipsFails = new AtomicBoolean();
+        bingoGame = new BingoGame(List.of(PLAYER_A, PLAYER_B), List.of(ChallengeModifier.NO_SAFETY_NET)) {
+            @Override
+            public void addShipUsed(Ship shipUsed) throws UserInputException {
+                if (addingShipsFails.getAndSet(false)) {
+                    throw new UserInputException("Cannot add %s".formatted(shipUsed.name()));
+                }
+                super.addShipUsed(shipUsed);
+            }
+        };
+        bingoGameHistory = new BingoGameHistory(bingoGame, 4);
+        bingoGameHistory.start();
+        bingoGame.setRetryingIsAllowed(true);
+        bingoGame.addShipUsed(new Ship("Ship A"));
+        bingoGame.addShipUsed(new Ship("Ship B"));
+        String stateBeforeUndo = describe(bingoGame);
+
+        addingShipsFails.set(true);
+        assertThrows(IllegalStateException.class, bingoGameHistory::undo);
+
+        assertEquals(stateBeforeUndo, describe(bingoGame));
+        assertEquals(3, bingoGameHistory.getPosition());
+        bingoGameHistory.undo();
+        assertEquals(List.of(new Ship("Ship A")), bingoGame.getSnapshot().shipsUsed());
+    }
+
+    @Test
+    void historyOfLongSessionShouldStayCompact() throws UserInputException {
+        bingoGameHistory.stop();
+        bingoGameHistory = new BingoGameHistory(bingoGame);
+        bingoGameHistory.start();
+        for (int index = 0; index < 5000; index++) {
+            Ship ship = new Ship("Ship " + index % 50);
+            bingoGame.addShipUsed(ship);
+            bingoGame.removeShipUsed(ship);
+        }
+
+        assertEquals(10000, bingoGameHistory.getNumberOfChanges());
+        assertTrue(bingoGameHistory.getEncodedSize() / bingoGameHistory.getNumberOfChanges() < 16);
+        bingoGameHistory.undo();
+        assertEquals(List.of(new Ship("Ship 49")), bingoGame.getSnapshot().shipsUsed());
+    }
+
+    @Test
+    void historyOfGrowingGameShouldStayCompact() throws UserInputException {
+        bingoGameHistory.stop();
+        bingoGameHistory = new BingoGameHistory(bingoGame);
+        bingoGameHistory.start();
+        for (int index = 0; index < 5000; index++) {
+            bingoGame.addShipUsed(new Ship("Ship " + index));
+        }
+
+        assertTrue(bingoGameHistory.getEncodedSize() / bingoGameHistory.getNumberOfChanges() < 40);
+        bingoGameHistory.undo();
+        assertEquals(4999, bingoGame.getSnapshot().shipsUsed().size());
+        assertEquals(new Ship("Ship 4998"), bingoGame.getSnapshot().shipsUsed().getLast());
+    }
+
+    private BingoGameAutosaver.AutosaveListener failingListener() {
+        return new BingoGameAutosaver.AutosaveListener() {
+            @Override
+            public void autosaveSucceeded(Path filePath, Duration latency) {
+            }
+
+            @Override
+            public void autosaveFailed(Path filePath, IOException exception) {
+                throw new AssertionError(exception);
+            }
+        };
+    }
+
+    private BingoGame loadGame(Path filePath) throws IOException, ClassNotFoundException {
+        return new BingoGameSerializer().loadGame(filePath.toString());
+    }
+
+    private String describe(BingoGame bingoGame) {
+        return bingoGame.getSnapshot().shipsUsed() + " " + bingoGame.retryingIsAllowed() + " " + bingoGame;
+    }
+
+    private BingoResult getBingoResult(int level) {
+        BingoResult bingoResult = new BingoResult(MainArmamentType.SMALL_CALIBER_GUNS);
+        bingoResult.addRibbonResult(Ribbon.MAIN_GUN_HIT, 200 * level);
+        bingoResult.addRibbonResult(Ribbon.DESTROYED, level);
+        return bingoResult;
+    }
+
+    private SharedDivisionAchievements getDivisionAchievements() {
+        SharedDivisionAchievements divisionAchievements = new SharedDivisionAchievements(2);
+        divisionAchievements.addAchievementResult(DivisionAchievement.GENERAL_OFFENSIVE, 1);
+        return divisionAchievements;
+    }
+}
@@ -13,16 +13,20 @@ import bingo.game.results.BingoResult;
 import bingo.game.results.division.SharedDivisionAchievements;
 import bingo.game.ribbons.Ribbon;
 import bingo.game.ships.MainArmamentType;
+import bingo.game.utility.BingoGameOutputSplitter;
+import bingo.game.utility.ChatMessageSink;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class BingoGameIntegrationTest {
 
@@ -230,6 +234,18 @@ class BingoGameIntegrationTest {
             assertEquals(LEVEL_ONE_WITH_SHIP_RESTRICTIONS, bingoGame.toString());
         }
 
+        @Test
+        void shouldRenderTheSameChatMessagesAsTheOutputSplitter() throws UserInputException {
+            bingoGame.submitBingoResultForPlayer(PLAYER_A, getBingoResultWithMoreThanTwoThousandPoints());
+            bingoGame.submitBingoResultForPlayer(PLAYER_B, getBingoResultWithMoreThanOneThousandPoints());
+            bingoGame.submitSharedDivisionAchievements(getDivisionAchievements());
+            bingoGame.submitBingoResultForPlayer(PLAYER_C, getBingoResultWithMoreThanTwoThousandPoints());
+            List<String> chatMessages = new ArrayList<>();
+            bingoGame.renderTo(new ChatMessageSink(chatMessages::add));
+            assertEquals(new BingoGameOutputSplitter().process(bingoGame.toString()), chatMessages);
+            assertTrue(chatMessages.size() > 1);
+        }
+
         @Test
         void shouldNotShowMatchOutcomeWhenBingoResultsAreOnlyPartiallySubmitted() throws UserInputException {
             bingoGame.submitBingoResultForPlayer(PLAYER_A, getBingoResultWithLessThanThreeHundredPoints());
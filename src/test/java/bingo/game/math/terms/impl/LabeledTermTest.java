@@ -27,4 +27,11 @@ class LabeledTermTest {
     void getAsStringShouldReturnLabeledTerm() {
         assertEquals("Test: 50", labeledFifty.getAsString());
     }
+
+    @Test
+    void appendToShouldAppendLabeledTermToExistingContent() {
+        StringBuilder stringBuilder = new StringBuilder("Prefix. ");
+        labeledFiveTimesThree.appendTo(stringBuilder);
+        assertEquals("Prefix. Multiplication: 5 * 3", stringBuilder.toString());
+    }
 }
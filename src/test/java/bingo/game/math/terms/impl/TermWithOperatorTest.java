@@ -0,0 +1,86 @@
+package bingo.game.math.terms.impl;
+
+import bingo.game.math.terms.Term;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TermWithOperatorTest {
+    private static final int NUMBER_OF_NODES = 10_000;
+    private static final long STACK_SIZE_FOR_DEEP_TREES = 512L * 1024 * 1024;
+
+    @Test
+    void getAsStringShouldQuerySubTermsLinearlyForDeepMultiplicationChain() throws InterruptedException {
+        List<CountingTerm> leaves = new LinkedList<>();
+        Term term = createLeaf(leaves);
+        while (leaves.size() < NUMBER_OF_NODES) {
+            term = new Multiplication(term, new LabeledTerm("Leaf", createLeaf(leaves)));
+        }
+        assertSubTermsAreQueriedLinearly(term, leaves);
+    }
+
+    @Test
+    void getAsStringShouldQuerySubTermsLinearlyForDeepMixedChain() throws InterruptedException {
+        List<CountingTerm> leaves = new LinkedList<>();
+        Term term = createLeaf(leaves);
+        while (leaves.size() < NUMBER_OF_NODES) {
+            if (leaves.size() % 2 == 0) {
+                term = new Multiplication(term, createLeaf(leaves));
+            } else {
+                term = new Addition(term, new TermWithPoints(createLeaf(leaves)));
+            }
+        }
+        assertSubTermsAreQueriedLinearly(new LabeledTerm("Chain", new Equation(term)), leaves);
+    }
+
+    private CountingTerm createLeaf(List<CountingTerm> leaves) {
+        CountingTerm leaf = new CountingTerm(leaves.size() % 3 + 2);
+        leaves.add(leaf);
+        return leaf;
+    }
+
+    private void assertSubTermsAreQueriedLinearly(Term term, List<CountingTerm> leaves) throws InterruptedException {
+        AtomicReference<String> termAsString = new AtomicReference<>();
+        Thread renderingThread =
+                new Thread(null, () -> termAsString.set(term.getAsString()), "render", STACK_SIZE_FOR_DEEP_TREES);
+        renderingThread.start();
+        renderingThread.join();
+        assertTrue(termAsString.get().length() > NUMBER_OF_NODES);
+        for (CountingTerm leaf : leaves) {
+            assertTrue(leaf.numberOfQueries <= 4, "Leaf was queried %s times".formatted(leaf.numberOfQueries));
+        }
+        assertEquals(NUMBER_OF_NODES, leaves.size());
+    }
+
+    private static final class CountingTerm implements Term {
+        private final Literal literal;
+        private int numberOfQueries;
+
+        private CountingTerm(int value) {
+            this.literal = new Literal(value);
+            this.numberOfQueries = 0;
+        }
+
+        @Override
+        public double getValue() {
+            numberOfQueries++;
+            return literal.getValue();
+        }
+
+        @Override
+        public boolean isLiteral() {
+            numberOfQueries++;
+            return literal.isLiteral();
+        }
+
+        @Override
+        public void appendTo(StringBuilder stringBuilder) {
+            literal.appendTo(stringBuilder);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package bingo.game.replay;
+
+import bingo.game.BingoGame;
+import bingo.game.events.impl.AddShipUsedEvent;
+import bingo.game.history.BingoGameHistory;
+import bingo.game.input.UserInputException;
+import bingo.game.modifiers.ChallengeModifier;
+import bingo.game.players.Player;
+import bingo.game.replay.impl.RecordedEventStep;
+import bingo.game.replay.impl.RestoredStateStep;
+import bingo.game.replay.impl.ShipRestrictionDrawStep;
+import bingo.game.restrictions.ShipRestriction;
+import bingo.game.restrictions.generator.RandomShipRestrictionGenerator;
+import bingo.game.ships.Ship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BingoGameLogRecorderTest {
+    private static final Player PLAYER_A = new Player("Player A");
+    private static final Player PLAYER_B = new Player("Player B");
+    private static final Ship SHIP = new Ship("Yamato");
+
+    private BingoGame bingoGame;
+    private BingoGameLogRecorder bingoGameLogRecorder;
+
+    @BeforeEach
+    void setup() throws UserInputException {
+        bingoGame = new BingoGame(List.of(PLAYER_A, PLAYER_B), List.of(ChallengeModifier.RANDOM_SHIP_RESTRICTIONS));
+        bingoGameLogRecorder = new BingoGameLogRecorder("log", bingoGame, new Random(42));
+        bingoGameLogRecorder.start();
+    }
+
+    @Test
+    void getLogShouldContainPlayersChallengeModifiersAndRecordedSteps() throws UserInputException {
+        bingoGame.addShipUsed(SHIP);
+        BingoGameLog bingoGameLog = bingoGameLogRecorder.getLog();
+        assertEquals("log", bingoGameLog.name());
+        assertEquals(List.of(PLAYER_A, PLAYER_B), bingoGameLog.players());
+        assertEquals(List.of(ChallengeModifier.RANDOM_SHIP_RESTRICTIONS), bingoGameLog.challengeModifiers());
+        assertEquals(
+                List.of(new BingoGameLogEntry(
+                        new RecordedEventStep(new AddShipUsedEvent(SHIP)),
+                        Optional.of(bingoGame.toString()))),
+                bingoGameLog.entries());
+    }
+
+    @Test
+    void outputShouldOnlyBeRecordedAfterEndOfLevelAndLastStep() throws UserInputException {
+        bingoGame.addShipUsed(SHIP);
+        bingoGame.setRetryingIsAllowed(true);
+        bingoGame.doResetForCurrentLevel();
+        bingoGame.setRetryingIsAllowed(false);
+        String outputAfterReset = bingoGame.toString();
+        bingoGame.setRetryingIsAllowed(true);
+        List<Optional<String>> recordedOutputs =
+                bingoGameLogRecorder.getLog().entries().stream().map(BingoGameLogEntry::recordedOutput).toList();
+        assertEquals(
+                List.of(
+                        Optional.empty(),
+                        Optional.empty(),
+                        Optional.of(outputAfterReset),
+                        Optional.empty(),
+                        Optional.of(bingoGame.toString())),
+                recordedOutputs);
+    }
+
+    @Test
+    void undoneChangeShouldBeRecordedAsRestoredStateWhichIsReplayedConsistently() throws UserInputException {
+        bingoGameLogRecorder.stop();
+        BingoGameHistory bingoGameHistory = new BingoGameHistory(bingoGame);
+        bingoGameHistory.start();
+        bingoGameLogRecorder.start();
+        bingoGame.addShipUsed(SHIP);
+        bingoGame.setRetryingIsAllowed(true);
+        bingoGameHistory.undo();
+        bingoGameHistory.undo();
+        bingoGameHistory.redo();
+        bingoGame.addShipUsed(new Ship("Musashi"));
+        BingoGameLog bingoGameLog = bingoGameLogRecorder.getLog();
+        assertInstanceOf(RestoredStateStep.class, bingoGameLog.entries().get(2).step());
+        assertTrue(new BingoGameReplayer().replay(bingoGameLog).isConsistent());
+    }
+
+    @Test
+    void drawShipRestrictionShouldRecordSeedOfRandomGenerator() throws UserInputException {
+        long expectedSeed = new Random(42).nextLong();
+        ShipRestriction shipRestriction = bingoGameLogRecorder.drawShipRestriction(PLAYER_B, 5);
+        assertEquals(new RandomShipRestrictionGenerator(expectedSeed).getForNumber(5), shipRestriction);
+        List<BingoGameLogEntry> entries = bingoGameLogRecorder.getLog().entries();
+        assertEquals(1, entries.size());
+        assertEquals(new ShipRestrictionDrawStep(PLAYER_B, 5, expectedSeed), entries.getFirst().step());
+        assertEquals(shipRestriction, bingoGame.getShipRestrictionForPlayer(PLAYER_B).orElseThrow());
+    }
+
+    @Test
+    void drawShipRestrictionShouldNotRecordFailedDraw() throws UserInputException {
+        bingoGameLogRecorder.drawShipRestriction(PLAYER_A, 1);
+        assertThrows(UserInputException.class, () -> bingoGameLogRecorder.drawShipRestriction(PLAYER_A, 2));
+        bingoGame.addShipUsed(SHIP);
+        List<BingoGameLogEntry> entries = bingoGameLogRecorder.getLog().entries();
+        assertEquals(2, entries.size());
+        assertInstanceOf(RecordedEventStep.class, entries.getLast().step());
+    }
+
+    @Test
+    void replayShouldContinueFromRecordedCurrentState() throws UserInputException {
+        bingoGameLogRecorder.stop();
+        bingoGame.addShipUsed(SHIP);
+        bingoGameLogRecorder = new BingoGameLogRecorder("log", bingoGame);
+        bingoGameLogRecorder.recordCurrentState();
+        bingoGameLogRecorder.start();
+        bingoGame.setRetryingIsAllowed(true);
+        BingoGameLog bingoGameLog = bingoGameLogRecorder.getLog();
+        assertEquals(2, bingoGameLog.entries().size());
+        assertTrue(new BingoGameReplayer().replay(bingoGameLog).isConsistent());
+    }
+
+    @Test
+    void stopShouldEndRecording() throws UserInputException {
+        bingoGameLogRecorder.stop();
+        bingoGame.addShipUsed(SHIP);
+        assertTrue(bingoGameLogRecorder.getLog().entries().isEmpty());
+    }
+}
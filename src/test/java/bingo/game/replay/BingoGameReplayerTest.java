@@ -0,0 +1,153 @@
+package bingo.game.replay;
+
+import bingo.game.BingoGame;
+import bingo.game.BingoGameAction;
+import bingo.game.achievements.Achievement;
+import bingo.game.events.impl.ConfirmResultEvent;
+import bingo.game.events.impl.EndChallengeEvent;
+import bingo.game.input.UserInputException;
+import bingo.game.modifiers.ChallengeModifier;
+import bingo.game.players.Player;
+import bingo.game.replay.impl.RecordedEventStep;
+import bingo.game.restrictions.ShipRestriction;
+import bingo.game.results.BingoResult;
+import bingo.game.ribbons.Ribbon;
+import bingo.game.ships.MainArmamentType;
+import bingo.game.ships.Ship;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BingoGameReplayerTest {
+    private static final Player PLAYER_A = new Player("Player A");
+    private static final Player PLAYER_B = new Player("Player B");
+
+    private final BingoGameReplayer bingoGameReplayer = new BingoGameReplayer();
+
+    @Test
+    void replayShouldReproduceRecordedOutputOfEveryStep() throws UserInputException {
+        BingoGameLog bingoGameLog = recordRandomSession(7);
+        BingoGameReplayResult result = bingoGameReplayer.replay(bingoGameLog);
+        assertTrue(result.isConsistent());
+        assertEquals("session 7", result.logName());
+        assertEquals(bingoGameLog.entries().size(), result.numberOfStepsReplayed());
+    }
+
+    @Test
+    void replayShouldReportFirstStepWithDifferentOutput() throws UserInputException {
+        BingoGameLog bingoGameLog = recordRandomSession(3);
+        List<BingoGameLogEntry> entries = new ArrayList<>(bingoGameLog.entries());
+        int changedIndex = 0;
+        while (entries.get(changedIndex).recordedOutput().isEmpty()) {
+            changedIndex++;
+        }
+        BingoGameLogEntry changedEntry = entries.get(changedIndex);
+        entries.set(
+                changedIndex,
+                new BingoGameLogEntry(changedEntry.step(), changedEntry.recordedOutput().map(output -> output + "!")));
+        BingoGameReplayResult result = bingoGameReplayer.replay(withEntries(bingoGameLog, entries));
+        assertFalse(result.isConsistent());
+        assertEquals(changedIndex, result.numberOfStepsReplayed());
+        BingoGameReplayDivergence divergence = result.divergence().orElseThrow();
+        assertEquals(changedIndex, divergence.stepIndex());
+        assertTrue(divergence.description().startsWith("Output differs. Recorded: "));
+    }
+
+    @Test
+    void replayShouldReportStepWithActionWhichIsNotAllowed() throws UserInputException {
+        BingoGameLog bingoGameLog = recordRandomSession(5);
+        List<BingoGameLogEntry> entries = new ArrayList<>(bingoGameLog.entries());
+        RecordedEventStep step = new RecordedEventStep(new ConfirmResultEvent());
+        entries.addFirst(new BingoGameLogEntry(step, Optional.of("")));
+        BingoGameReplayResult result = bingoGameReplayer.replay(withEntries(bingoGameLog, entries));
+        assertEquals(
+                new BingoGameReplayDivergence(0, "%s is not allowed in the current state".formatted(step)),
+                result.divergence().orElseThrow());
+    }
+
+    @Test
+    void replayAllShouldReplayAllLogsAndReportDivergences() throws UserInputException {
+        List<BingoGameLog> bingoGameLogs = new ArrayList<>();
+        for (int seed = 0; seed < 200; seed++) {
+            bingoGameLogs.add(recordRandomSession(seed));
+        }
+        BingoGameLog firstLog = bingoGameLogs.getFirst();
+        List<BingoGameLogEntry> entries = new ArrayList<>(firstLog.entries());
+        entries.add(new BingoGameLogEntry(new RecordedEventStep(new EndChallengeEvent()), Optional.of("unexpected")));
+        bingoGameLogs.set(0, withEntries(firstLog, entries));
+        BingoGameReplayReport report = bingoGameReplayer.replayAll(bingoGameLogs);
+        assertEquals(200, report.results().size());
+        assertEquals(List.of(report.results().getFirst()), report.getDivergentResults());
+        long expectedNumberOfSteps = bingoGameLogs.stream().mapToLong(log -> log.entries().size()).sum() - 1;
+        assertEquals(expectedNumberOfSteps, report.getNumberOfStepsReplayed());
+        assertTrue(report.getStepsPerSecond() > 0);
+    }
+
+    @Test
+    void reportToStringShouldSummarizeThroughput() {
+        BingoGameReplayReport report = new BingoGameReplayReport(
+                List.of(new BingoGameReplayResult("log", 30, Optional.empty())),
+                Duration.ofMillis(500));
+        assertEquals(
+                "Replayed 1 logs with 30 steps in 500 ms (2.0 logs/s, 60.0 steps/s), 0 diverged",
+                report.toString());
+    }
+
+    private BingoGameLog withEntries(BingoGameLog bingoGameLog, List<BingoGameLogEntry> entries) {
+        return new BingoGameLog(
+                bingoGameLog.name(),
+                bingoGameLog.players(),
+                bingoGameLog.challengeModifiers(),
+                entries);
+    }
+
+    private BingoGameLog recordRandomSession(long seed) throws UserInputException {
+        Random random = new Random(seed);
+        BingoGame bingoGame = new BingoGame(
+                List.of(PLAYER_A, PLAYER_B),
+                List.of(ChallengeModifier.RANDOM_SHIP_RESTRICTIONS, ChallengeModifier.INCREASED_DIFFICULTY));
+        BingoGameLogRecorder bingoGameLogRecorder = new BingoGameLogRecorder("session " + seed, bingoGame, random);
+        bingoGameLogRecorder.start();
+        bingoGame.addShipUsed(new Ship("Ship " + seed));
+        for (int match = 0; match < 20; match++) {
+            for (Player player : bingoGame.getPlayers()) {
+                if (bingoGame.getShipRestrictionForPlayer(player).isEmpty()
+                        && bingoGame.actionIsAllowed(BingoGameAction.CHANGE_SHIP_RESTRICTION)) {
+                    bingoGameLogRecorder.drawShipRestriction(player, random.nextInt(100));
+                }
+            }
+            if (!bingoGame.actionIsAllowed(BingoGameAction.SUBMIT_RESULT)) {
+                break;
+            }
+            bingoGame.setRetryingIsAllowed(random.nextBoolean());
+            for (Player player : bingoGame.getPlayers()) {
+                ShipRestriction shipRestriction = bingoGame.getShipRestrictionForPlayer(player).orElseThrow();
+                bingoGame.submitBingoResultForPlayer(player, createRandomResult(shipRestriction, random));
+            }
+            bingoGame.confirmCurrentResult();
+        }
+        return bingoGameLogRecorder.getLog();
+    }
+
+    private BingoResult createRandomResult(ShipRestriction shipRestriction, Random random) {
+        List<MainArmamentType> allowedMainArmamentTypes = Arrays.stream(MainArmamentType.values())
+                .filter(shipRestriction::allowsMainArmamentType)
+                .toList();
+        BingoResult bingoResult =
+                new BingoResult(allowedMainArmamentTypes.get(random.nextInt(allowedMainArmamentTypes.size())));
+        bingoResult.addRibbonResult(Ribbon.MAIN_GUN_HIT, random.nextInt(300));
+        bingoResult.addRibbonResult(Ribbon.SET_ON_FIRE, random.nextInt(20));
+        bingoResult.addRibbonResult(Ribbon.DESTROYED, random.nextInt(5));
+        bingoResult.addAchievementResult(Achievement.ARSONIST, random.nextInt(2));
+        return bingoResult;
+    }
+}
@@ -2,17 +2,23 @@ package bingo.game.restrictions.generator;
 
 import bingo.game.input.UserInputException;
 import bingo.game.restrictions.ShipRestriction;
+import bingo.game.restrictions.impl.BannedMainArmamentType;
+import bingo.game.restrictions.impl.ForcedMainArmamentType;
+import bingo.game.ships.MainArmamentType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Random;
+import java.util.List;
 import java.util.Set;
+import java.util.random.RandomGenerator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -22,7 +28,7 @@ class RandomShipRestrictionGeneratorTest {
     private static final int NUMBER_OF_POSSIBLE_RESTRICTIONS = 8;
 
     @Mock
-    private Random mockedRandom;
+    private RandomGenerator.SplittableGenerator mockedRandomGenerator;
 
     @Test
     void getForNumberShouldReturnAllUniqueShipRestrictions() throws UserInputException {
@@ -58,9 +64,59 @@ class RandomShipRestrictionGeneratorTest {
         assertEquals("The number -1 is outside the allowed range (not a positive number)", exception.getMessage());
     }
 
+    @Test
+    void getForNumberShouldReturnTheSameShipRestrictionsForTheSameSeed() throws UserInputException {
+        RandomShipRestrictionGenerator randomShipRestrictionGenerator = new RandomShipRestrictionGenerator(42);
+        RandomShipRestrictionGenerator sameShipRestrictionGenerator = new RandomShipRestrictionGenerator(42);
+
+        for (int number = 0; number < 100; number++) {
+            assertEquals(
+                    randomShipRestrictionGenerator.getForNumber(number),
+                    sameShipRestrictionGenerator.getForNumber(number));
+        }
+    }
+
+    @Test
+    void splitShouldReturnGeneratorsWhichAreReproducibleFromTheSeed() throws UserInputException {
+        List<ShipRestriction> shipRestrictions = new ArrayList<>();
+        List<ShipRestriction> sameShipRestrictions = new ArrayList<>();
+        RandomShipRestrictionGenerator randomShipRestrictionGenerator = new RandomShipRestrictionGenerator(7);
+        RandomShipRestrictionGenerator sameShipRestrictionGenerator = new RandomShipRestrictionGenerator(7);
+
+        for (int split = 0; split < 10; split++) {
+            shipRestrictions.add(randomShipRestrictionGenerator.split().getForNumber(split));
+            sameShipRestrictions.add(sameShipRestrictionGenerator.split().getForNumber(split));
+        }
+
+        assertEquals(shipRestrictions, sameShipRestrictions);
+    }
+
+    @Test
+    void getForNumberShouldChooseFromTheGivenRestrictions() throws UserInputException {
+        List<ShipRestriction> possibleRestrictions = List.of(
+                new BannedMainArmamentType(MainArmamentType.AIRCRAFT),
+                new ForcedMainArmamentType(MainArmamentType.AIRCRAFT));
+        RandomShipRestrictionGenerator randomShipRestrictionGenerator =
+                new RandomShipRestrictionGenerator(possibleRestrictions, mockRandomNextIntWithOrigin());
+
+        assertSame(possibleRestrictions.get(0), randomShipRestrictionGenerator.getForNumber(4));
+        assertSame(possibleRestrictions.get(1), randomShipRestrictionGenerator.getForNumber(5));
+    }
+
+    @Test
+    void constructorShouldThrowIllegalArgumentExceptionWithoutRestrictions() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new RandomShipRestrictionGenerator(List.of(), mockedRandomGenerator));
+    }
+
     private RandomShipRestrictionGenerator mockRandomNextIntWithPredictableValues() {
-        when(mockedRandom.nextInt(any(Integer.class), any(Integer.class))).thenAnswer(invocationOnMock -> (
-                invocationOnMock.getArgument(1, Integer.class) - 1));
-        return new RandomShipRestrictionGenerator(mockedRandom);
+        return new RandomShipRestrictionGenerator(mockRandomNextIntWithOrigin());
+    }
+
+    private RandomGenerator.SplittableGenerator mockRandomNextIntWithOrigin() {
+        when(mockedRandomGenerator.nextInt(any(Integer.class), any(Integer.class))).thenAnswer(invocationOnMock -> (
+                invocationOnMock.getArgument(0, Integer.class)));
+        return mockedRandomGenerator;
     }
 }
@@ -41,6 +41,23 @@ class BingoResultBarsTest {
         assertThrows(IndexOutOfBoundsException.class, () -> bingoResultBars.getPointRequirementOfLevel(8));
     }
 
+    @Test
+    void getPointRequirementShouldSupportMoreThanSevenLevels() {
+        bingoResultBars = new BingoResultBars(1, 20);
+        assertEquals(20, bingoResultBars.getMaxLevel());
+        assertEquals(2100, bingoResultBars.getPointRequirementOfLevel(8));
+        assertEquals(4800, bingoResultBars.getPointRequirementOfLevel(17));
+        assertEquals(5700, bingoResultBars.getPointRequirementOfLevel(20));
+        assertEquals(1048576, bingoResultBars.getNumberOfSubsAsRewardForLevel(20));
+        assertThrows(IndexOutOfBoundsException.class, () -> bingoResultBars.getPointRequirementOfLevel(21));
+    }
+
+    @Test
+    void constructorShouldRejectUnsupportedMaxLevel() {
+        assertThrows(IllegalArgumentException.class, () -> new BingoResultBars(1, -1));
+        assertThrows(IllegalArgumentException.class, () -> new BingoResultBars(1, 31));
+    }
+
     @Test
     void getNumberOfSubsAsRewardShouldReturnCorrectAmount() {
         assertEquals(1, bingoResultBars.getNumberOfSubsAsRewardForLevel(0));
@@ -2,13 +2,35 @@ package bingo.game.results;
 
 import bingo.game.achievements.Achievement;
 import bingo.game.ribbons.Ribbon;
+import bingo.game.ribbons.RibbonResult;
 import bingo.game.ships.MainArmamentType;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class BingoResultTest {
+    private static final String LEGACY_SERIALIZED_BINGO_RESULT =
+            "rO0ABXNyAB5iaW5nby5nYW1lLnJlc3VsdHMuQmluZ29SZXN1bHS+HMSSfPeSawIAA0wAFWFjaGlldmVtZW50UmVzdWx0TGlzdHQA" +
+            "EExqYXZhL3V0aWwvTGlzdDtMABBtYWluQXJtYW1lbnRUeXBldAAjTGJpbmdvL2dhbWUvc2hpcHMvTWFpbkFybWFtZW50VHlwZTtM" +
+            "ABByaWJib25SZXN1bHRMaXN0cQB+AAF4cHNyABRqYXZhLnV0aWwuTGlua2VkTGlzdAwpU11KYIgiAwAAeHB3BAAAAAFzcgApYmlu" +
+            "Z28uZ2FtZS5hY2hpZXZlbWVudHMuQWNoaWV2ZW1lbnRSZXN1bHS9FEqP3q6AiAIAAkkABmFtb3VudEwAC2FjaGlldmVtZW50dAAl" +
+            "TGJpbmdvL2dhbWUvYWNoaWV2ZW1lbnRzL0FjaGlldmVtZW50O3hwAAAAAX5yACNiaW5nby5nYW1lLmFjaGlldmVtZW50cy5BY2hp" +
+            "ZXZlbWVudAAAAAAAAAAAEgAAeHIADmphdmEubGFuZy5FbnVtAAAAAAAAAAASAAB4cHQACEFSU09OSVNUeH5yACFiaW5nby5nYW1l" +
+            "LnNoaXBzLk1haW5Bcm1hbWVudFR5cGUAAAAAAAAAABIAAHhxAH4ACnQAEkxBUkdFX0NBTElCRVJfR1VOU3NxAH4ABHcEAAAAAnNy" +
+            "AB9iaW5nby5nYW1lLnJpYmJvbnMuUmliYm9uUmVzdWx0kp0elNmOeSQCAAJJAAZhbW91bnRMAAZyaWJib250ABtMYmluZ28vZ2Ft" +
+            "ZS9yaWJib25zL1JpYmJvbjt4cAAAAG5+cgAZYmluZ28uZ2FtZS5yaWJib25zLlJpYmJvbgAAAAAAAAAAEgAAeHEAfgAKdAAMTUFJ" +
+            "Tl9HVU5fSElUc3EAfgARAAAAC35xAH4AFHQAC1NFVF9PTl9GSVJFeA==";
 
     @Test
     void getMainArmamentTypeShouldReturnTheCorrectArmamentType() {
@@ -24,8 +46,8 @@ class BingoResultTest {
     void getPointValueShouldReturnCorrectValueForOneRibbonResult() {
         BingoResult result = new BingoResult(MainArmamentType.SMALL_CALIBER_GUNS);
         result.addRibbonResult(Ribbon.SPOTTED, 2);
-        assertEquals(1, result.getRibbonResultList().size());
-        assertTrue(result.getAchievementResultList().isEmpty());
+        assertEquals(1, result.getRibbonResults().size());
+        assertTrue(result.getAchievementResults().isEmpty());
         assertEquals(60, result.getPointValue());
     }
 
@@ -34,8 +56,8 @@ class BingoResultTest {
         BingoResult result = new BingoResult(MainArmamentType.SMALL_CALIBER_GUNS);
         result.addAchievementResult(Achievement.CLOSE_QUARTERS_EXPERT, 2);
         result.addAchievementResult(Achievement.CLOSE_QUARTERS_EXPERT, 1);
-        assertTrue(result.getRibbonResultList().isEmpty());
-        assertEquals(1, result.getAchievementResultList().size());
+        assertTrue(result.getRibbonResults().isEmpty());
+        assertEquals(1, result.getAchievementResults().size());
         assertEquals(25, result.getPointValue());
     }
 
@@ -44,8 +66,8 @@ class BingoResultTest {
         BingoResult result = new BingoResult(MainArmamentType.SMALL_CALIBER_GUNS);
         result.addRibbonResult(Ribbon.INCAPACITATION, 3);
         result.addRibbonResult(Ribbon.INCAPACITATION, 5);
-        assertEquals(1, result.getRibbonResultList().size());
-        assertTrue(result.getAchievementResultList().isEmpty());
+        assertEquals(1, result.getRibbonResults().size());
+        assertTrue(result.getAchievementResults().isEmpty());
         assertEquals(50, result.getPointValue());
     }
 
@@ -55,8 +77,8 @@ class BingoResultTest {
         result.addRibbonResult(Ribbon.SPOTTED, 6);
         result.addRibbonResult(Ribbon.TORPEDO_HIT, 4);
         result.addRibbonResult(Ribbon.CAUSED_FLOODING, 1);
-        assertEquals(3, result.getRibbonResultList().size());
-        assertTrue(result.getAchievementResultList().isEmpty());
+        assertEquals(3, result.getRibbonResults().size());
+        assertTrue(result.getAchievementResults().isEmpty());
         assertEquals(380, result.getPointValue());
     }
 
@@ -66,8 +88,8 @@ class BingoResultTest {
         result.addRibbonResult(Ribbon.DESTROYED, 5);
         result.addAchievementResult(Achievement.KRAKEN_UNLEASHED, 1);
         result.addAchievementResult(Achievement.DEVASTATING_STRIKE, 1);
-        assertEquals(1, result.getRibbonResultList().size());
-        assertEquals(2, result.getAchievementResultList().size());
+        assertEquals(1, result.getRibbonResults().size());
+        assertEquals(2, result.getAchievementResults().size());
         assertEquals(800, result.getPointValue());
     }
 
@@ -198,4 +220,98 @@ class BingoResultTest {
                 "Ribbon Bingo result: Torpedo hit: 20 * 20 points + Set on fire: 11 * 20 points + Spotted: 10 * 15 points + Bomb hit: 40 * 3 points = 890 points",
                 result.toString());
     }
+
+    @Test
+    void getRibbonResultShouldReturnTheStoredResultForTheGivenRibbon() {
+        BingoResult result = new BingoResult(MainArmamentType.SMALL_CALIBER_GUNS);
+        result.addRibbonResult(Ribbon.SPOTTED, 2);
+        result.addRibbonResult(Ribbon.SPOTTED, 4);
+        assertEquals(Optional.of(new RibbonResult(Ribbon.SPOTTED, 4)), result.getRibbonResult(Ribbon.SPOTTED));
+        assertTrue(result.getRibbonResult(Ribbon.TORPEDO_HIT).isEmpty());
+    }
+
+    @Test
+    void addRibbonResultShouldRemoveTheStoredResultForAmountZero() {
+        BingoResult result = new BingoResult(MainArmamentType.SMALL_CALIBER_GUNS);
+        result.addRibbonResult(Ribbon.SPOTTED, 2);
+        result.addRibbonResult(Ribbon.SPOTTED, 0);
+        assertTrue(result.getRibbonResult(Ribbon.SPOTTED).isEmpty());
+        assertTrue(result.getRibbonResults().isEmpty());
+        assertEquals(0, result.getPointValue());
+    }
+
+    @Test
+    void getAchievementResultShouldReturnTheStoredResultForTheGivenAchievement() {
+        BingoResult result = new BingoResult(MainArmamentType.SMALL_CALIBER_GUNS);
+        result.addAchievementResult(Achievement.ARSONIST, 1);
+        assertEquals(1, result.getAchievementResult(Achievement.ARSONIST).orElseThrow().amount());
+        assertTrue(result.getAchievementResult(Achievement.KRAKEN_UNLEASHED).isEmpty());
+    }
+
+    @Test
+    void resultViewsShouldBeReadOnly() {
+        BingoResult result = new BingoResult(MainArmamentType.SMALL_CALIBER_GUNS);
+        result.addRibbonResult(Ribbon.SPOTTED, 2);
+        result.addAchievementResult(Achievement.ARSONIST, 1);
+        assertThrows(UnsupportedOperationException.class, () -> result.getRibbonResults().clear());
+        assertThrows(UnsupportedOperationException.class, () -> result.getAchievementResults().clear());
+    }
+
+    @Test
+    void resultViewsShouldReflectLaterChanges() {
+        BingoResult result = new BingoResult(MainArmamentType.SMALL_CALIBER_GUNS);
+        Collection<RibbonResult> ribbonResults = result.getRibbonResults();
+        result.addRibbonResult(Ribbon.SPOTTED, 2);
+        assertEquals(1, ribbonResults.size());
+    }
+
+    @Test
+    void serializationShouldPreserveAllResults() throws IOException, ClassNotFoundException {
+        BingoResult result = new BingoResult(MainArmamentType.LARGE_CALIBER_GUNS);
+        result.addRibbonResult(Ribbon.MAIN_GUN_HIT, 110);
+        result.addRibbonResult(Ribbon.SET_ON_FIRE, 11);
+        result.addAchievementResult(Achievement.ARSONIST, 1);
+        BingoResult deserializedResult = deserialize(serialize(result));
+        assertEquals(result.getMainArmamentType(), deserializedResult.getMainArmamentType());
+        assertEquals(result.getPointValue(), deserializedResult.getPointValue());
+        assertEquals(result.toString(), deserializedResult.toString());
+    }
+
+    @Test
+    void deserializationShouldSupportTheLegacyListBasedFormat() throws IOException, ClassNotFoundException {
+        BingoResult result = deserialize(Base64.getDecoder().decode(LEGACY_SERIALIZED_BINGO_RESULT));
+        assertEquals(MainArmamentType.LARGE_CALIBER_GUNS, result.getMainArmamentType());
+        assertEquals(2, result.getRibbonResults().size());
+        assertEquals(1, result.getAchievementResults().size());
+        assertEquals(602, result.getPointValue());
+        assertEquals(
+                "Ribbon Bingo result: Main gun hit: 110 * 3 points + Set on fire: 11 * 20 points + Arsonist: 30 points + (Set on fire: 11 * 20 points) * 0.1 = 602 points",
+                result.toString());
+    }
+
+    @Test
+    void toStringMethodShouldReflectResultsAddedAfterAnEarlierCall() {
+        BingoResult result = new BingoResult(MainArmamentType.SMALL_CALIBER_GUNS);
+        result.addAchievementResult(Achievement.ARSONIST, 1);
+        assertEquals("Ribbon Bingo result: 30 points", result.toString());
+        result.addRibbonResult(Ribbon.SET_ON_FIRE, 10);
+        assertEquals(
+                "Ribbon Bingo result: Set on fire: 10 * 20 points + Arsonist: 30 points + (Set on fire: 10 * 20 points) * 0.1 = 250 points",
+                result.toString());
+        assertEquals(250, result.getPointValue());
+    }
+
+    private byte[] serialize(BingoResult result) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(result);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private BingoResult deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (BingoResult) objectInputStream.readObject();
+        }
+    }
 }
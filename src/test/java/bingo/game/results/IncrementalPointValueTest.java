@@ -0,0 +1,105 @@
+package bingo.game.results;
+
+import bingo.game.achievements.Achievement;
+import bingo.game.achievements.AchievementResult;
+import bingo.game.math.terms.Term;
+import bingo.game.math.terms.impl.Addition;
+import bingo.game.math.terms.impl.Equation;
+import bingo.game.math.terms.impl.Literal;
+import bingo.game.ribbons.Ribbon;
+import bingo.game.ribbons.RibbonResult;
+import bingo.game.ships.MainArmamentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IncrementalPointValueTest {
+
+    @Test
+    void getPointValueShouldReturnZeroWithoutAnyAmounts() {
+        assertEquals(0, new IncrementalPointValue(MainArmamentType.SMALL_CALIBER_GUNS).getPointValue());
+    }
+
+    @Test
+    void getPointValueShouldUsePointValueOverrides() {
+        IncrementalPointValue incrementalPointValue =
+                new IncrementalPointValue(MainArmamentType.EXTRA_LARGE_CALIBER_GUNS);
+        incrementalPointValue.setAmount(Ribbon.MAIN_GUN_HIT, 110);
+        incrementalPointValue.setAmount(Ribbon.CITADEL_HIT, 2);
+        assertEquals(600, incrementalPointValue.getPointValue());
+    }
+
+    @Test
+    void getPointValueShouldApplyAchievementBonusWhenRibbonIsSetAfterAchievement() {
+        IncrementalPointValue incrementalPointValue = new IncrementalPointValue(MainArmamentType.SMALL_CALIBER_GUNS);
+        incrementalPointValue.setAmount(Achievement.ARSONIST, 2);
+        assertEquals(60, incrementalPointValue.getPointValue());
+        incrementalPointValue.setAmount(Ribbon.SET_ON_FIRE, 10);
+        assertEquals(300, incrementalPointValue.getPointValue());
+    }
+
+    @Test
+    void getPointValueShouldApplyAchievementBonusWhenAchievementIsSetAfterRibbon() {
+        IncrementalPointValue incrementalPointValue = new IncrementalPointValue(MainArmamentType.AIRCRAFT);
+        incrementalPointValue.setAmount(Ribbon.SPOTTED, 10);
+        assertEquals(150, incrementalPointValue.getPointValue());
+        incrementalPointValue.setAmount(Achievement.COMBAT_SCOUT, 1);
+        assertEquals(300, incrementalPointValue.getPointValue());
+    }
+
+    @Test
+    void getPointValueShouldRemoveContributionsOfResetAmounts() {
+        IncrementalPointValue incrementalPointValue = new IncrementalPointValue(MainArmamentType.SMALL_CALIBER_GUNS);
+        incrementalPointValue.setAmount(Ribbon.DESTROYED, 5);
+        incrementalPointValue.setAmount(Achievement.KRAKEN_UNLEASHED, 1);
+        incrementalPointValue.setAmount(Ribbon.DESTROYED, 0);
+        assertEquals(30, incrementalPointValue.getPointValue());
+        incrementalPointValue.setAmount(Achievement.KRAKEN_UNLEASHED, -1);
+        assertEquals(0, incrementalPointValue.getPointValue());
+    }
+
+    @Test
+    void getPointValueShouldMatchCalculationTermForRandomUpdates() {
+        Random random = new Random(42);
+        Ribbon[] ribbons = Ribbon.values();
+        Achievement[] achievements = Achievement.values();
+        for (MainArmamentType mainArmamentType : MainArmamentType.values()) {
+            IncrementalPointValue incrementalPointValue = new IncrementalPointValue(mainArmamentType);
+            int[] ribbonAmounts = new int[ribbons.length];
+            int[] achievementAmounts = new int[achievements.length];
+            for (int update = 0; update < 10000; update++) {
+                int amount = random.nextInt(-2, 50);
+                if (random.nextBoolean()) {
+                    Ribbon ribbon = ribbons[random.nextInt(ribbons.length)];
+                    incrementalPointValue.setAmount(ribbon, amount);
+                    ribbonAmounts[ribbon.ordinal()] = Math.max(amount, 0);
+                } else {
+                    Achievement achievement = achievements[random.nextInt(achievements.length)];
+                    incrementalPointValue.setAmount(achievement, amount % 4);
+                    achievementAmounts[achievement.ordinal()] = Math.max(amount % 4, 0);
+                }
+                assertEquals(
+                        getPointValueOfCalculationTerm(mainArmamentType, ribbonAmounts, achievementAmounts),
+                        incrementalPointValue.getPointValue());
+            }
+        }
+    }
+
+    private long getPointValueOfCalculationTerm(
+            MainArmamentType mainArmamentType, int[] ribbonAmounts, int[] achievementAmounts) {
+        Term calculationTerm = new Literal(0);
+        for (Ribbon ribbon : Ribbon.values()) {
+            RibbonResult ribbonResult = new RibbonResult(ribbon, ribbonAmounts[ribbon.ordinal()]);
+            calculationTerm = new Addition(calculationTerm, ribbonResult.getAsTerm(mainArmamentType));
+        }
+        for (Achievement achievement : Achievement.values()) {
+            AchievementResult achievementResult =
+                    new AchievementResult(achievement, achievementAmounts[achievement.ordinal()]);
+            calculationTerm =
+                    new Addition(calculationTerm, achievementResult.getAsTerm(ribbonAmounts, mainArmamentType));
+        }
+        return (long) new Equation(calculationTerm).getValue();
+    }
+}
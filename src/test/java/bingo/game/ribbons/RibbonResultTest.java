@@ -3,6 +3,8 @@ package bingo.game.ribbons;
 import bingo.game.ships.MainArmamentType;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class RibbonResultTest {
@@ -53,4 +55,14 @@ class RibbonResultTest {
         assertEquals("Secondary hit: 110 points", resultD.getAsTerm(MainArmamentType.AIRCRAFT).getAsString());
         assertEquals("Torpedo hit: 5 * 20 points", resultE.getAsTerm(MainArmamentType.AIRCRAFT).getAsString());
     }
+
+    @Test
+    void getRibbonAmountsShouldIndexAmountsByOrdinal() {
+        int[] ribbonAmounts = RibbonResult.getRibbonAmounts(List.of(resultA, resultC));
+
+        assertEquals(Ribbon.values().length, ribbonAmounts.length);
+        assertEquals(11, ribbonAmounts[Ribbon.SET_ON_FIRE.ordinal()]);
+        assertEquals(30, ribbonAmounts[Ribbon.MAIN_GUN_HIT.ordinal()]);
+        assertEquals(0, ribbonAmounts[Ribbon.SPOTTED.ordinal()]);
+    }
 }
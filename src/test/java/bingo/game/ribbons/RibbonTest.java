@@ -55,6 +55,15 @@ class RibbonTest {
         assertEquals(15, Ribbon.SPOTTED.getPointValue(MainArmamentType.AIRCRAFT));
     }
 
+    @Test
+    void getPointValueShouldReturnBaseValueForAllMainArmamentTypesWithoutOverride() {
+        for (MainArmamentType mainArmamentType : MainArmamentType.values()) {
+            assertEquals(120, Ribbon.DESTROYED.getPointValue(mainArmamentType));
+            assertEquals(3, Ribbon.BOMB_HIT.getPointValue(mainArmamentType));
+            assertEquals(60, Ribbon.BUFF_PICKED_UP.getPointValue(mainArmamentType));
+        }
+    }
+
     @Test
     void toStringMethodShouldReturnCorrectDisplayText() {
         assertEquals("Citadel hit: 20 points", Ribbon.CITADEL_HIT.toString());
@@ -0,0 +1,107 @@
+package bingo.game.scoring;
+
+import bingo.game.input.UserInputException;
+import bingo.game.scoring.impl.CsvMatchResultFormat;
+import bingo.game.scoring.impl.JsonLinesMatchResultFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchScorerTest {
+    private final MatchResultScorer matchResultScorer = new MatchResultScorer();
+    private final BatchScorer batchScorer = new BatchScorer(ForkJoinPool.commonPool(), matchResultScorer, 7);
+
+    @Test
+    void scoreShouldWriteScoresInOrderOfInput() throws IOException, UserInputException {
+        StringBuilder input = new StringBuilder();
+        StringBuilder expectedOutput = new StringBuilder("line,id,points,explanation,error\n");
+        CsvMatchResultFormat csvFormat = new CsvMatchResultFormat("id,mainArmamentType,MAIN_GUN_HIT");
+        for (int row = 0; row < 500; row++) {
+            input.append("row %s,SMALL_CALIBER_GUNS,%s\n".formatted(row, row));
+            Map<String, String> fields =
+                    Map.of("id", "row " + row, "mainArmamentType", "SMALL_CALIBER_GUNS", "MAIN_GUN_HIT", "" + row);
+            expectedOutput.append(csvFormat.formatScore(matchResultScorer.score(row + 2, fields))).append('\n');
+        }
+        StringWriter output = new StringWriter();
+        BatchScoringReport report = batchScorer.score(readerOf(input.toString()), csvFormat, 1, output);
+        assertEquals(expectedOutput.toString(), output.toString());
+        assertEquals(500, report.numberOfRowsScored());
+        assertEquals(0, report.numberOfRowsFailed());
+    }
+
+    @Test
+    void scoreShouldCountFailedRowsAndSkipBlankLines() throws IOException {
+        String input = """
+                {"id": "a", "mainArmamentType": "AIRCRAFT", "BOMB_HIT": 12}
+
+                {"id": "b", "mainArmamentType": "AIRCRAFT", "BOMB_HIT": -1}
+                not json
+                """;
+        StringWriter output = new StringWriter();
+        BatchScoringReport report =
+                batchScorer.score(readerOf(input), new JsonLinesMatchResultFormat(), 0, output);
+        assertEquals(1, report.numberOfRowsScored());
+        assertEquals(2, report.numberOfRowsFailed());
+        assertEquals(3, report.getNumberOfRows());
+        List<String> lines = output.toString().lines().toList();
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"line\":1,\"id\":\"a\",\"points\":"));
+        assertEquals("{\"line\":3,\"id\":\"b\",\"error\":\"Field 'BOMB_HIT' must not be negative: -1\"}", lines.get(1));
+        assertEquals("{\"line\":4,\"id\":\"\",\"error\":\"Expected '{' at position 0\"}", lines.get(2));
+    }
+
+    @Test
+    void scoreShouldChooseFormatByFileExtension() throws IOException, UserInputException {
+        Path inputPath = Files.createTempFile("match-results", ".csv");
+        Path outputPath = Files.createTempFile("match-scores", ".csv");
+        try {
+            Files.writeString(inputPath, "id,mainArmamentType,DESTROYED\nfirst,TORPEDOES,2\n");
+            BatchScoringReport report = batchScorer.score(inputPath, outputPath);
+            assertEquals(1, report.numberOfRowsScored());
+            List<String> lines = Files.readAllLines(outputPath);
+            assertEquals("line,id,points,explanation,error", lines.get(0));
+            assertTrue(lines.get(1).startsWith("2,first,"));
+        } finally {
+            Files.deleteIfExists(inputPath);
+            Files.deleteIfExists(outputPath);
+        }
+    }
+
+    @Test
+    void scoreShouldRejectUnsupportedFileType() throws IOException {
+        Path inputPath = Files.createTempFile("match-results", ".txt");
+        Path outputPath = Files.createTempFile("match-scores", ".txt");
+        try {
+            Files.writeString(outputPath, "previous scores\n");
+            assertThrows(UserInputException.class, () -> batchScorer.score(inputPath, outputPath));
+            assertEquals("previous scores\n", Files.readString(outputPath));
+        } finally {
+            Files.deleteIfExists(inputPath);
+            Files.deleteIfExists(outputPath);
+        }
+    }
+
+    @Test
+    void reportShouldIncludeRowsPerSecond() {
+        BatchScoringReport report = new BatchScoringReport(1500, 500, Duration.ofSeconds(2));
+        assertEquals(1000, report.getRowsPerSecond());
+        assertEquals("Scored 2000 rows in 2000 ms (1000.0 rows/s), 500 failed", report.toString());
+    }
+
+    private static BufferedReader readerOf(String input) {
+        return new BufferedReader(new StringReader(input));
+    }
+}
@@ -0,0 +1,108 @@
+package bingo.game.scoring;
+
+import bingo.game.achievements.Achievement;
+import bingo.game.achievements.division.DivisionAchievement;
+import bingo.game.results.BingoResult;
+import bingo.game.results.division.SharedDivisionAchievements;
+import bingo.game.ribbons.Ribbon;
+import bingo.game.ships.MainArmamentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatchResultScorerTest {
+    private final MatchResultScorer matchResultScorer = new MatchResultScorer();
+
+    @Test
+    void scoreShouldMatchBingoResult() {
+        MatchScore matchScore = matchResultScorer.score(3, Map.of(
+                "id", "match 1",
+                "mainArmamentType", "large_caliber_guns",
+                "MAIN_GUN_HIT", "40",
+                "citadel_hit", " 2 ",
+                "DESTROYED", "",
+                "ARSONIST", "1"));
+        BingoResult bingoResult = new BingoResult(MainArmamentType.LARGE_CALIBER_GUNS);
+        bingoResult.addRibbonResult(Ribbon.MAIN_GUN_HIT, 40);
+        bingoResult.addRibbonResult(Ribbon.CITADEL_HIT, 2);
+        bingoResult.addAchievementResult(Achievement.ARSONIST, 1);
+        assertTrue(matchScore.isScored());
+        assertEquals(3, matchScore.lineNumber());
+        assertEquals("match 1", matchScore.id());
+        assertEquals(bingoResult.getPointValue(), matchScore.pointValue());
+        assertEquals(bingoResult.toString(), matchScore.explanation());
+    }
+
+    @Test
+    void scoreShouldAddSharedDivisionAchievements() {
+        MatchScore matchScore = matchResultScorer.score(1, Map.of(
+                "mainArmamentType", "TORPEDOES",
+                "TORPEDO_HIT", "3",
+                "numberOfPlayers", "2",
+                "STRIKE_TEAM", "1"));
+        BingoResult bingoResult = new BingoResult(MainArmamentType.TORPEDOES);
+        bingoResult.addRibbonResult(Ribbon.TORPEDO_HIT, 3);
+        SharedDivisionAchievements sharedDivisionAchievements = new SharedDivisionAchievements(2);
+        sharedDivisionAchievements.addAchievementResult(DivisionAchievement.STRIKE_TEAM, 1);
+        assertEquals(bingoResult.getPointValue() + sharedDivisionAchievements.getPointValue(), matchScore.pointValue());
+        assertEquals(bingoResult + "; " + sharedDivisionAchievements, matchScore.explanation());
+    }
+
+    @Test
+    void scoreShouldFailForMissingMainArmamentType() {
+        MatchScore matchScore = matchResultScorer.score(1, Map.of("id", "x", "MAIN_GUN_HIT", "4"));
+        assertFalse(matchScore.isScored());
+        assertEquals("x", matchScore.id());
+        assertEquals("Field 'mainArmamentType' is missing", matchScore.errorMessage().orElseThrow());
+    }
+
+    @Test
+    void scoreShouldFailForUnknownMainArmamentType() {
+        MatchScore matchScore = matchResultScorer.score(1, Map.of("mainArmamentType", "Lasers"));
+        assertEquals("Unknown main armament type: Lasers", matchScore.errorMessage().orElseThrow());
+    }
+
+    @Test
+    void scoreShouldFailForUnknownField() {
+        MatchScore matchScore = matchResultScorer.score(1, Map.of("mainArmamentType", "AIRCRAFT", "KILLS", "1"));
+        assertEquals("Unknown field: KILLS", matchScore.errorMessage().orElseThrow());
+    }
+
+    @Test
+    void scoreShouldFailForInvalidAmounts() {
+        MatchScore notAnInteger = matchResultScorer.score(1, Map.of("mainArmamentType", "AIRCRAFT", "SPOTTED", "x"));
+        assertEquals("Field 'SPOTTED' does not contain an integer: x", notAnInteger.errorMessage().orElseThrow());
+        MatchScore negative = matchResultScorer.score(1, Map.of("mainArmamentType", "AIRCRAFT", "SPOTTED", "-1"));
+        assertEquals("Field 'SPOTTED' must not be negative: -1", negative.errorMessage().orElseThrow());
+    }
+
+    @Test
+    void scoreShouldMatchAllFieldNamesCaseInsensitively() {
+        MatchScore matchScore = matchResultScorer.score(1, Map.of(
+                "ID", "match 2",
+                "MAINARMAMENTTYPE", "torpedoes",
+                "torpedo_hit", "3",
+                "NumberOfPlayers", "2",
+                "strike_team", "1"));
+        BingoResult bingoResult = new BingoResult(MainArmamentType.TORPEDOES);
+        bingoResult.addRibbonResult(Ribbon.TORPEDO_HIT, 3);
+        SharedDivisionAchievements sharedDivisionAchievements = new SharedDivisionAchievements(2);
+        sharedDivisionAchievements.addAchievementResult(DivisionAchievement.STRIKE_TEAM, 1);
+        assertTrue(matchScore.isScored());
+        assertEquals("match 2", matchScore.id());
+        assertEquals(bingoResult.getPointValue() + sharedDivisionAchievements.getPointValue(), matchScore.pointValue());
+    }
+
+    @Test
+    void scoreShouldFailForFieldGivenTwiceInDifferentCase() {
+        MatchScore matchScore = matchResultScorer.score(1, new TreeMap<>(Map.of(
+                "mainArmamentType", "AIRCRAFT",
+                "MAINARMAMENTTYPE", "TORPEDOES")));
+        assertEquals("Field 'mainArmamentType' is given twice", matchScore.errorMessage().orElseThrow());
+    }
+}
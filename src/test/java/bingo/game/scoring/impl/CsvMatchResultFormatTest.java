@@ -0,0 +1,51 @@
+package bingo.game.scoring.impl;
+
+import bingo.game.input.UserInputException;
+import bingo.game.scoring.MatchScore;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvMatchResultFormatTest {
+
+    @Test
+    void parseFieldsShouldMapValuesToFieldNamesOfHeader() throws UserInputException {
+        CsvMatchResultFormat csvFormat = new CsvMatchResultFormat("id, mainArmamentType ,SPOTTED");
+        assertEquals(
+                Map.of("id", "a, \"b\"", "mainArmamentType", "AIRCRAFT", "SPOTTED", ""),
+                csvFormat.parseFields("\"a, \"\"b\"\"\",AIRCRAFT,"));
+    }
+
+    @Test
+    void parseFieldsShouldRejectWrongNumberOfValues() throws UserInputException {
+        CsvMatchResultFormat csvFormat = new CsvMatchResultFormat("id,mainArmamentType");
+        UserInputException exception = assertThrows(UserInputException.class, () -> csvFormat.parseFields("a,b,c"));
+        assertEquals("Expected 2 values, but found 3", exception.getMessage());
+    }
+
+    @Test
+    void parseFieldsShouldRejectUnclosedQuote() throws UserInputException {
+        CsvMatchResultFormat csvFormat = new CsvMatchResultFormat("id,mainArmamentType");
+        assertThrows(UserInputException.class, () -> csvFormat.parseFields("\"a,b"));
+    }
+
+    @Test
+    void constructorShouldRejectInvalidHeader() {
+        assertThrows(UserInputException.class, () -> new CsvMatchResultFormat("id,,SPOTTED"));
+        assertThrows(UserInputException.class, () -> new CsvMatchResultFormat("id,SPOTTED,id"));
+    }
+
+    @Test
+    void formatScoreShouldQuoteValuesWhereNecessary() throws UserInputException {
+        CsvMatchResultFormat csvFormat = new CsvMatchResultFormat("id");
+        assertEquals(Optional.of("line,id,points,explanation,error"), csvFormat.getOutputHeader());
+        assertEquals(
+                "2,a,15,\"x, \"\"y\"\"\",",
+                csvFormat.formatScore(MatchScore.scored(2, "a", 15, "x, \"y\"")));
+        assertEquals("3,\"b,c\",,,failed", csvFormat.formatScore(MatchScore.failed(3, "b,c", "failed")));
+    }
+}
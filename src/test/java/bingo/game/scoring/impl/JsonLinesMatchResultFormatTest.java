@@ -0,0 +1,46 @@
+package bingo.game.scoring.impl;
+
+import bingo.game.input.UserInputException;
+import bingo.game.scoring.MatchScore;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonLinesMatchResultFormatTest {
+    private final JsonLinesMatchResultFormat jsonLinesFormat = new JsonLinesMatchResultFormat();
+
+    @Test
+    void parseFieldsShouldReadFlatObject() throws UserInputException {
+        assertEquals(
+                Map.of("id", "a \"quoted\" \u00e9\n", "SPOTTED", "3", "flag", "true", "ratio", "-1.5e2"),
+                jsonLinesFormat.parseFields(
+                        " { \"id\" : \"a \\\"quoted\\\" \\u00e9\\n\", \"SPOTTED\": 3, \"flag\": true, " +
+                                "\"ratio\": -1.5e2, \"missing\": null } "));
+        assertEquals(Map.of(), jsonLinesFormat.parseFields("{}"));
+    }
+
+    @Test
+    void parseFieldsShouldRejectInvalidObjects() {
+        assertThrows(UserInputException.class, () -> jsonLinesFormat.parseFields("[1, 2]"));
+        assertThrows(UserInputException.class, () -> jsonLinesFormat.parseFields("{\"id\": \"a\""));
+        assertThrows(UserInputException.class, () -> jsonLinesFormat.parseFields("{\"id\": {\"nested\": 1}}"));
+        assertThrows(UserInputException.class, () -> jsonLinesFormat.parseFields("{\"id\": 1, \"id\": 2}"));
+        assertThrows(UserInputException.class, () -> jsonLinesFormat.parseFields("{\"id\": \"\\x\"}"));
+        assertThrows(UserInputException.class, () -> jsonLinesFormat.parseFields("{} {}"));
+    }
+
+    @Test
+    void formatScoreShouldEscapeStrings() {
+        assertEquals(Optional.empty(), jsonLinesFormat.getOutputHeader());
+        assertEquals(
+                "{\"line\":5,\"id\":\"a\\\"b\",\"points\":12,\"explanation\":\"x\\\\y\\n\"}",
+                jsonLinesFormat.formatScore(MatchScore.scored(5, "a\"b", 12, "x\\y\n")));
+        assertEquals(
+                "{\"line\":6,\"id\":\"\",\"error\":\"bad\\u0001\"}",
+                jsonLinesFormat.formatScore(MatchScore.failed(6, "", "bad\u0001")));
+    }
+}
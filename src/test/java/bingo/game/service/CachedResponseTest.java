@@ -0,0 +1,36 @@
+package bingo.game.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachedResponseTest {
+
+    @Test
+    void ofShouldEncodeTextAndDeriveEntityTagFromContent() {
+        CachedResponse cachedResponse = CachedResponse.of("Größe", "text/plain");
+        assertArrayEquals("Größe".getBytes(StandardCharsets.UTF_8), cachedResponse.body());
+        assertEquals("text/plain", cachedResponse.contentType());
+        assertEquals(26, cachedResponse.entityTag().length());
+        assertEquals(cachedResponse.entityTag(), CachedResponse.of("Größe", "text/markdown").entityTag());
+        assertNotEquals(cachedResponse.entityTag(), CachedResponse.of("Grösse", "text/plain").entityTag());
+    }
+
+    @Test
+    void matchesShouldAcceptListedWeakAndWildcardEntityTags() {
+        CachedResponse cachedResponse = CachedResponse.of("table", "text/plain");
+        String entityTag = cachedResponse.entityTag();
+        assertTrue(cachedResponse.matches(entityTag));
+        assertTrue(cachedResponse.matches("\"other\", " + entityTag));
+        assertTrue(cachedResponse.matches("W/" + entityTag));
+        assertTrue(cachedResponse.matches("*"));
+        assertFalse(cachedResponse.matches("\"other\""));
+        assertFalse(cachedResponse.matches(null));
+    }
+}
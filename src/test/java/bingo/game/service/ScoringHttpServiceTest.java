@@ -0,0 +1,179 @@
+package bingo.game.service;
+
+import bingo.game.BingoGame;
+import bingo.game.input.UserInputException;
+import bingo.game.players.Player;
+import bingo.game.ribbons.Ribbon;
+import bingo.game.ships.Ship;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoringHttpServiceTest {
+
+    @Test
+    void serviceShouldOnlyListenOnLoopbackAddress() throws IOException {
+        ScoringHttpService scoringHttpService = new ScoringHttpService(0);
+        try {
+            assertTrue(scoringHttpService.getAddress().getAddress().isLoopbackAddress());
+        } finally {
+            scoringHttpService.stop();
+        }
+    }
+
+    @Test
+    void ruleTablesShouldBeServedWithEntityTags() throws IOException {
+        ScoringHttpService scoringHttpService = startService();
+        try {
+            HttpURLConnection connection = open(scoringHttpService, "/ribbons");
+            assertEquals(200, connection.getResponseCode());
+            assertEquals(Ribbon.getAllRibbonsListedAsString(), readBody(connection));
+            String entityTag = connection.getHeaderField("ETag");
+            HttpURLConnection revalidation = open(scoringHttpService, "/ribbons");
+            revalidation.setRequestProperty("If-None-Match", entityTag);
+            assertEquals(304, revalidation.getResponseCode());
+            assertEquals(entityTag, revalidation.getHeaderField("ETag"));
+        } finally {
+            scoringHttpService.stop();
+        }
+    }
+
+    @Test
+    void resultBarsShouldApplyPlayersAndModifiers() throws IOException {
+        ScoringHttpService scoringHttpService = startService();
+        try {
+            String defaultTable = get(scoringHttpService, "/result-bars");
+            assertTrue(defaultTable.contains("| 1 | 300 | 2 subs 🎁 |\n"));
+            String table = get(scoringHttpService, "/result-bars?players=2&modifiers=increased_difficulty,NO_HELP");
+            assertTrue(table.contains("| 1 | 540 | 2 subs 🎁 |\n"));
+            HttpURLConnection connection = open(scoringHttpService, "/result-bars?modifiers=UNKNOWN");
+            assertEquals(400, connection.getResponseCode());
+        } finally {
+            scoringHttpService.stop();
+        }
+    }
+
+    @Test
+    void gameShouldBeServedFromItsLatestSnapshot() throws IOException, UserInputException {
+        ScoringHttpService scoringHttpService = startService();
+        try {
+            assertEquals(404, open(scoringHttpService, "/game").getResponseCode());
+            BingoGame bingoGame = new BingoGame(List.of(new Player("Player A")), List.of());
+            scoringHttpService.serveGame(bingoGame);
+            HttpURLConnection connection = open(scoringHttpService, "/game");
+            assertEquals(200, connection.getResponseCode());
+            String body = readBody(connection);
+            assertEquals(bingoGame.toString().strip(), body.strip());
+            String entityTag = connection.getHeaderField("ETag");
+            HttpURLConnection revalidation = open(scoringHttpService, "/game");
+            revalidation.setRequestProperty("If-None-Match", entityTag);
+            assertEquals(304, revalidation.getResponseCode());
+
+            bingoGame.addShipUsed(new Ship("Yamato"));
+            bingoGame.setRetryingIsAllowed(true);
+
+            HttpURLConnection changedConnection = open(scoringHttpService, "/game");
+            changedConnection.setRequestProperty("If-None-Match", entityTag);
+            assertEquals(200, changedConnection.getResponseCode());
+            assertNotEquals(entityTag, changedConnection.getHeaderField("ETag"));
+            assertNotEquals(body, readBody(changedConnection));
+        } finally {
+            scoringHttpService.stop();
+        }
+    }
+
+    @Test
+    void scoreShouldReturnScoreOfPostedResult() throws IOException {
+        ScoringHttpService scoringHttpService = startService();
+        try {
+            HttpURLConnection connection =
+                    post(scoringHttpService, "{\"id\": \"m1\", \"mainArmamentType\": \"TORPEDOES\", \"DESTROYED\": 1}");
+            assertEquals(200, connection.getResponseCode());
+            assertTrue(readBody(connection).startsWith("{\"line\":1,\"id\":\"m1\",\"points\":"));
+            HttpURLConnection invalidConnection = post(scoringHttpService, "{\"mainArmamentType\": \"LASERS\"}");
+            assertEquals(400, invalidConnection.getResponseCode());
+        } finally {
+            scoringHttpService.stop();
+        }
+    }
+
+    @Test
+    void unknownPathsAndMethodsShouldBeRejected() throws IOException {
+        ScoringHttpService scoringHttpService = startService();
+        try {
+            assertEquals(404, open(scoringHttpService, "/unknown").getResponseCode());
+            HttpURLConnection connection = open(scoringHttpService, "/score");
+            assertEquals(405, connection.getResponseCode());
+            assertEquals("POST", connection.getHeaderField("Allow"));
+        } finally {
+            scoringHttpService.stop();
+        }
+    }
+
+    @Test
+    void serviceShouldHandleConcurrentRequests() throws IOException, InterruptedException, ExecutionException {
+        ScoringHttpService scoringHttpService = startService();
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> responseCodes = new ArrayList<>();
+            for (int request = 0; request < 200; request++) {
+                String path = request % 2 == 0 ? "/achievements" : "/result-bars?players=" + (request % 3 + 1);
+                responseCodes.add(executorService.submit(() -> open(scoringHttpService, path).getResponseCode()));
+            }
+            for (Future<Integer> responseCode : responseCodes) {
+                assertEquals(200, (int) responseCode.get());
+            }
+        } finally {
+            scoringHttpService.stop();
+        }
+    }
+
+    private static ScoringHttpService startService() throws IOException {
+        ScoringHttpService scoringHttpService = new ScoringHttpService(0);
+        scoringHttpService.start();
+        return scoringHttpService;
+    }
+
+    private static HttpURLConnection open(ScoringHttpService scoringHttpService, String pathAndQuery)
+            throws IOException {
+        int port = scoringHttpService.getAddress().getPort();
+        URI uri = URI.create("http://127.0.0.1:%s%s".formatted(port, pathAndQuery));
+        return (HttpURLConnection) uri.toURL().openConnection();
+    }
+
+    private static String get(ScoringHttpService scoringHttpService, String pathAndQuery) throws IOException {
+        HttpURLConnection connection = open(scoringHttpService, pathAndQuery);
+        assertEquals(200, connection.getResponseCode());
+        return readBody(connection);
+    }
+
+    private static HttpURLConnection post(ScoringHttpService scoringHttpService, String body) throws IOException {
+        HttpURLConnection connection = open(scoringHttpService, "/score");
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        try (OutputStream outputStream = connection.getOutputStream()) {
+            outputStream.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return connection;
+    }
+
+    private static String readBody(HttpURLConnection connection) throws IOException {
+        try (InputStream inputStream = connection.getInputStream()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
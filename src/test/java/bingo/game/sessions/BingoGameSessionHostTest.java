@@ -0,0 +1,233 @@
+package bingo.game.sessions;
+
+import bingo.game.BingoGame;
+import bingo.game.input.UserInputException;
+import bingo.game.modifiers.ChallengeModifier;
+import bingo.game.players.Player;
+import bingo.game.utility.BingoGameSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BingoGameSessionHostTest {
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+    private static final List<Player> PLAYERS = List.of(new Player("Player"));
+
+    private final AtomicLong currentTime = new AtomicLong();
+    private Path sessionDirectory;
+    private BingoGameSessionHost bingoGameSessionHost;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        sessionDirectory = Files.createTempDirectory("bingo-sessions");
+        bingoGameSessionHost = createHost();
+    }
+
+    private BingoGameSessionHost createHost() {
+        return new BingoGameSessionHost(
+                new BingoGameSerializer(),
+                sessionDirectory,
+                IDLE_TIMEOUT,
+                currentTime::get,
+                null);
+    }
+
+    @Test
+    void executeShouldApplyOperationToGameOfSession() throws UserInputException, IOException {
+        try {
+            bingoGameSessionHost.createSession("a", PLAYERS, List.of());
+            bingoGameSessionHost.createSession("b", PLAYERS, List.of(ChallengeModifier.NO_SAFETY_NET));
+            bingoGameSessionHost.execute("a", bingoGame -> setRetryingIsAllowed(bingoGame));
+            assertTrue(bingoGameSessionHost.execute("a", BingoGame::retryingIsAllowed));
+            assertFalse(bingoGameSessionHost.execute("b", BingoGame::retryingIsAllowed));
+        } finally {
+            deleteSessionDirectory();
+        }
+    }
+
+    @Test
+    void createSessionShouldRejectExistingAndInvalidSessionIds() throws UserInputException, IOException {
+        try {
+            bingoGameSessionHost.createSession("a", PLAYERS, List.of());
+            assertThrows(UserInputException.class, () -> bingoGameSessionHost.createSession("a", PLAYERS, List.of()));
+            assertThrows(
+                    UserInputException.class,
+                    () -> bingoGameSessionHost.createSession("../a", PLAYERS, List.of()));
+            assertThrows(UserInputException.class, () -> bingoGameSessionHost.execute("c", BingoGame::toString));
+        } finally {
+            deleteSessionDirectory();
+        }
+    }
+
+    @Test
+    void idleSessionsShouldBeEvictedAndReloadedOnAccess() throws UserInputException, IOException {
+        try {
+            bingoGameSessionHost.createSession("idle", PLAYERS, List.of());
+            bingoGameSessionHost.createSession("busy", PLAYERS, List.of());
+            bingoGameSessionHost.execute("idle", bingoGame -> setRetryingIsAllowed(bingoGame));
+            String expectedState = bingoGameSessionHost.execute("idle", BingoGame::toString);
+            currentTime.addAndGet(IDLE_TIMEOUT.toNanos());
+            bingoGameSessionHost.execute("busy", BingoGame::toString);
+            currentTime.incrementAndGet();
+            assertEquals(1, bingoGameSessionHost.evictIdleSessions());
+            assertTrue(Files.exists(sessionDirectory.resolve("idle.wrb")));
+            assertFalse(Files.exists(sessionDirectory.resolve("busy.wrb")));
+            assertEquals(1, bingoGameSessionHost.getMetrics().numberOfActiveSessions());
+            assertEquals(expectedState, bingoGameSessionHost.execute("idle", BingoGame::toString));
+            assertTrue(bingoGameSessionHost.execute("idle", BingoGame::retryingIsAllowed));
+            assertEquals(2, bingoGameSessionHost.getMetrics().numberOfActiveSessions());
+        } finally {
+            deleteSessionDirectory();
+        }
+    }
+
+    @Test
+    void loadedSessionShouldReportSizeOfSaveFileAndCountAsAccessed() throws UserInputException, IOException {
+        try {
+            bingoGameSessionHost.createSession("a", PLAYERS, List.of());
+            bingoGameSessionHost.execute("a", bingoGame -> setRetryingIsAllowed(bingoGame));
+            currentTime.addAndGet(IDLE_TIMEOUT.toNanos() + 1);
+            assertEquals(1, bingoGameSessionHost.evictIdleSessions());
+            long fileSize = Files.size(sessionDirectory.resolve("a.wrb"));
+            bingoGameSessionHost.execute("a", BingoGame::toString);
+            assertEquals(fileSize, bingoGameSessionHost.getMetrics().encodedSizePerActiveSession());
+            assertEquals(0, bingoGameSessionHost.evictIdleSessions());
+        } finally {
+            deleteSessionDirectory();
+        }
+    }
+
+    @Test
+    void scheduledEvictionShouldCountFailuresInsteadOfThrowing() throws UserInputException, IOException {
+        List<RuntimeException> exceptionsToThrow = new ArrayList<>(List.of(new IllegalStateException("Broken game")));
+        BingoGameSerializer failingSerializer = new BingoGameSerializer() {
+            @Override
+            public void saveSnapshot(byte[] snapshot, Path filePath) throws IOException {
+                if (!exceptionsToThrow.isEmpty()) {
+                    throw exceptionsToThrow.removeFirst();
+                }
+                throw new IOException("Disk is full");
+            }
+        };
+        BingoGameSessionHost failingHost =
+                new BingoGameSessionHost(failingSerializer, sessionDirectory, IDLE_TIMEOUT, currentTime::get, null);
+        try {
+            failingHost.createSession("idle", PLAYERS, List.of());
+            currentTime.addAndGet(IDLE_TIMEOUT.toNanos() + 1);
+            failingHost.evictIdleSessionsQuietly();
+            failingHost.evictIdleSessionsQuietly();
+            assertEquals(2, failingHost.getMetrics().numberOfFailedEvictions());
+            assertEquals(1, failingHost.getMetrics().numberOfActiveSessions());
+        } finally {
+            deleteSessionDirectory();
+        }
+    }
+
+    @Test
+    void closeShouldSaveSessionsForNextHost() throws UserInputException, IOException {
+        try {
+            bingoGameSessionHost.createSession("a", PLAYERS, List.of());
+            bingoGameSessionHost.execute("a", bingoGame -> setRetryingIsAllowed(bingoGame));
+            bingoGameSessionHost.close();
+            BingoGameSessionHost nextHost = createHost();
+            assertEquals(0, nextHost.getMetrics().numberOfSessions());
+            assertTrue(nextHost.execute("a", BingoGame::retryingIsAllowed));
+            assertEquals(1, nextHost.getMetrics().numberOfSessions());
+            assertThrows(UserInputException.class, () -> nextHost.createSession("a", PLAYERS, List.of()));
+        } finally {
+            deleteSessionDirectory();
+        }
+    }
+
+    @Test
+    void removeSessionShouldDeleteSavedGame() throws UserInputException, IOException {
+        try {
+            bingoGameSessionHost.createSession("a", PLAYERS, List.of());
+            bingoGameSessionHost.close();
+            bingoGameSessionHost.removeSession("a");
+            assertFalse(Files.exists(sessionDirectory.resolve("a.wrb")));
+            assertThrows(UserInputException.class, () -> bingoGameSessionHost.execute("a", BingoGame::toString));
+        } finally {
+            deleteSessionDirectory();
+        }
+    }
+
+    @Test
+    void getMetricsShouldCountOperationsSinceLastMetrics() throws UserInputException, IOException {
+        try {
+            bingoGameSessionHost.createSession("a", PLAYERS, List.of());
+            for (int operation = 0; operation < 10; operation++) {
+                bingoGameSessionHost.execute("a", BingoGame::toString);
+            }
+            currentTime.addAndGet(Duration.ofSeconds(2).toNanos());
+            BingoGameSessionMetrics metrics = bingoGameSessionHost.getMetrics();
+            assertEquals(1, metrics.numberOfSessions());
+            assertEquals(10, metrics.numberOfOperations());
+            assertEquals(5, metrics.operationsPerSecond());
+            currentTime.addAndGet(Duration.ofSeconds(1).toNanos());
+            assertEquals(0, bingoGameSessionHost.getMetrics().operationsPerSecond());
+            BingoGame bingoGame = bingoGameSessionHost.execute("a", game -> game);
+            int expectedEncodedSize = new BingoGameSerializer().createSnapshot(bingoGame).length;
+            assertEquals(expectedEncodedSize, metrics.encodedSizePerActiveSession());
+        } finally {
+            deleteSessionDirectory();
+        }
+    }
+
+    @Test
+    void concurrentOperationsOnManySessionsShouldAllBeApplied()
+            throws UserInputException, IOException, InterruptedException, ExecutionException {
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            int numberOfSessions = 50;
+            for (int session = 0; session < numberOfSessions; session++) {
+                bingoGameSessionHost.createSession("session-" + session, PLAYERS, List.of());
+            }
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int operation = 0; operation < 1000; operation++) {
+                String sessionId = "session-" + operation % numberOfSessions;
+                boolean retryingIsAllowed = operation % 2 == 0;
+                results.add(executorService.submit(() -> bingoGameSessionHost.execute(sessionId, bingoGame -> {
+                    bingoGame.setRetryingIsAllowed(retryingIsAllowed);
+                    return bingoGame.retryingIsAllowed() == retryingIsAllowed;
+                })));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+            assertEquals(1000, bingoGameSessionHost.getMetrics().numberOfOperations());
+        } finally {
+            deleteSessionDirectory();
+        }
+    }
+
+    private static Void setRetryingIsAllowed(BingoGame bingoGame) throws UserInputException {
+        bingoGame.setRetryingIsAllowed(true);
+        return null;
+    }
+
+    private void deleteSessionDirectory() throws IOException {
+        try (Stream<Path> filePaths = Files.list(sessionDirectory)) {
+            for (Path filePath : filePaths.toList()) {
+                Files.delete(filePath);
+            }
+        }
+        Files.delete(sessionDirectory);
+    }
+}
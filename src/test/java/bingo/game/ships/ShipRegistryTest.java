@@ -0,0 +1,71 @@
+package bingo.game.ships;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShipRegistryTest {
+    private ShipRegistry shipRegistry;
+
+    @BeforeEach
+    void setup() {
+        shipRegistry = new ShipRegistry();
+    }
+
+    @Test
+    void addShouldRejectShipWithSameNameIgnoringCase() {
+        assertTrue(shipRegistry.add(new Ship("Yamato")));
+        assertFalse(shipRegistry.add(new Ship("YAMATO")));
+        assertFalse(shipRegistry.add(new Ship("yamato")));
+        assertEquals(1, shipRegistry.getShips().size());
+        assertEquals("Yamato", shipRegistry.getShips().iterator().next().name());
+    }
+
+    @Test
+    void containsShouldIgnoreCase() {
+        shipRegistry.add(new Ship("Shimakaze"));
+        assertTrue(shipRegistry.contains(new Ship("shimakaze")));
+        assertFalse(shipRegistry.contains(new Ship("Yamato")));
+    }
+
+    @Test
+    void removeShouldOnlyRemoveTheExactShip() {
+        shipRegistry.add(new Ship("Shimakaze"));
+        assertFalse(shipRegistry.remove(new Ship("shimakaze")));
+        assertTrue(shipRegistry.remove(new Ship("Shimakaze")));
+        assertTrue(shipRegistry.getShips().isEmpty());
+        assertFalse(shipRegistry.contains(new Ship("Shimakaze")));
+    }
+
+    @Test
+    void getShipsShouldKeepInsertionOrderAfterRemoval() {
+        shipRegistry.add(new Ship("Ship A"));
+        shipRegistry.add(new Ship("Ship B"));
+        shipRegistry.add(new Ship("Ship C"));
+        shipRegistry.remove(new Ship("Ship B"));
+        shipRegistry.add(new Ship("Ship B"));
+        Iterator<Ship> shipIterator = shipRegistry.getShips().iterator();
+        assertEquals("Ship A", shipIterator.next().name());
+        assertEquals("Ship C", shipIterator.next().name());
+        assertEquals("Ship B", shipIterator.next().name());
+        assertFalse(shipIterator.hasNext());
+    }
+
+    @Test
+    void getShipsShouldReturnImmutableListUnaffectedByLaterChanges() {
+        shipRegistry.add(new Ship("Ship A"));
+        List<Ship> ships = shipRegistry.getShips();
+        shipRegistry.add(new Ship("Ship B"));
+        shipRegistry.remove(new Ship("Ship A"));
+        assertEquals(List.of(new Ship("Ship A")), ships);
+        assertEquals(List.of(new Ship("Ship B")), shipRegistry.getShips());
+        assertThrows(UnsupportedOperationException.class, ships::clear);
+    }
+}
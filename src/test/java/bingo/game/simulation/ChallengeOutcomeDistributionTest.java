@@ -0,0 +1,73 @@
+package bingo.game.simulation;
+
+import bingo.game.BingoGameState;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ChallengeOutcomeDistributionTest {
+
+    @Test
+    void recordShouldCountChallengeInEveryHistogram() {
+        ChallengeOutcomeDistribution distribution = new ChallengeOutcomeDistribution();
+        distribution.record(BingoGameState.CHALLENGE_ENDED_SUCCESSFULLY, 7, 134, 7);
+        distribution.record(BingoGameState.CHALLENGE_ENDED_UNSUCCESSFULLY, 2, 1, 3);
+        assertEquals(2, distribution.getNumberOfChallenges());
+        assertEquals(10, distribution.getNumberOfMatches());
+        assertEquals(1, distribution.getNumberOfChallengesWithFinalState(BingoGameState.CHALLENGE_ENDED_SUCCESSFULLY));
+        assertEquals(0, distribution.getNumberOfChallengesWithFinalState(BingoGameState.CHALLENGE_ENDED_VOLUNTARILY));
+        assertEquals(1, distribution.getNumberOfChallengesEndingOnLevel(2));
+        assertEquals(1, distribution.getNumberOfChallengesPaying(134));
+        assertEquals(0, distribution.getNumberOfChallengesPaying(100_000));
+        assertEquals(67.5, distribution.getMeanSubsPaid());
+        assertEquals(5, distribution.getMeanMatchesPlayed());
+    }
+
+    @Test
+    void recordShouldGrowHistogramForLargeRewards() {
+        ChallengeOutcomeDistribution distribution = new ChallengeOutcomeDistribution();
+        distribution.record(BingoGameState.CHALLENGE_ENDED_SUCCESSFULLY, 7, 5000, 40);
+        assertEquals(1, distribution.getNumberOfChallengesPaying(5000));
+        assertEquals(5000, distribution.getSubsPaidPercentile(1));
+    }
+
+    @Test
+    void mergeShouldAddAllCounts() {
+        ChallengeOutcomeDistribution distribution = new ChallengeOutcomeDistribution();
+        distribution.record(BingoGameState.CHALLENGE_ENDED_VOLUNTARILY, 3, 4, 2);
+        ChallengeOutcomeDistribution otherDistribution = new ChallengeOutcomeDistribution();
+        otherDistribution.record(BingoGameState.CHALLENGE_ENDED_VOLUNTARILY, 3, 4, 2);
+        otherDistribution.record(BingoGameState.CHALLENGE_ENDED_SUCCESSFULLY, 7, 1000, 9);
+        assertEquals(distribution, distribution.merge(otherDistribution));
+        assertEquals(3, distribution.getNumberOfChallenges());
+        assertEquals(13, distribution.getNumberOfMatches());
+        assertEquals(2, distribution.getNumberOfChallengesEndingOnLevel(3));
+        assertEquals(2, distribution.getNumberOfChallengesWithFinalState(BingoGameState.CHALLENGE_ENDED_VOLUNTARILY));
+        assertEquals(1, distribution.getNumberOfChallengesPaying(1000));
+    }
+
+    @Test
+    void getSubsPaidPercentileShouldReturnSmallestRewardCoveringFraction() {
+        ChallengeOutcomeDistribution distribution = new ChallengeOutcomeDistribution();
+        for (int subsPaid = 1; subsPaid <= 100; subsPaid++) {
+            distribution.record(BingoGameState.CHALLENGE_ENDED_UNSUCCESSFULLY, 1, subsPaid, 1);
+        }
+        assertEquals(1, distribution.getSubsPaidPercentile(0));
+        assertEquals(50, distribution.getSubsPaidPercentile(0.5));
+        assertEquals(99, distribution.getSubsPaidPercentile(0.99));
+        assertEquals(100, distribution.getSubsPaidPercentile(1));
+        assertThrows(IllegalArgumentException.class, () -> distribution.getSubsPaidPercentile(1.5));
+    }
+
+    @Test
+    void toStringShouldSummarizeDistribution() {
+        ChallengeOutcomeDistribution distribution = new ChallengeOutcomeDistribution();
+        distribution.record(BingoGameState.CHALLENGE_ENDED_SUCCESSFULLY, 7, 134, 7);
+        distribution.record(BingoGameState.CHALLENGE_ENDED_UNSUCCESSFULLY, 1, 1, 1);
+        assertEquals(
+                "2 challenges, 4.00 matches and 67.50 subs on average, median 1 subs, 99th percentile 134 subs. " +
+                        "Final levels: 1: 1 7: 1",
+                distribution.toString());
+    }
+}
@@ -0,0 +1,204 @@
+package bingo.game.simulation;
+
+import bingo.game.BingoGame;
+import bingo.game.achievements.Achievement;
+import bingo.game.modifiers.ChallengeModifier;
+import bingo.game.ribbons.Ribbon;
+import bingo.game.ships.MainArmamentType;
+import bingo.game.simulation.impl.RibbonCountSampler;
+import bingo.game.utility.BingoGameDependencyInjector;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+
+import static bingo.game.BingoGameState.CHALLENGE_ENDED_SUCCESSFULLY;
+import static bingo.game.BingoGameState.CHALLENGE_ENDED_UNSUCCESSFULLY;
+import static bingo.game.BingoGameState.CHALLENGE_ENDED_VOLUNTARILY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChallengeSimulatorTest {
+    private static final long ENOUGH_POINTS_FOR_ANY_LEVEL = 1_000_000;
+
+    private final ChallengeSimulator challengeSimulator =
+            new ChallengeSimulator(ForkJoinPool.commonPool(), new BingoGameDependencyInjector(), 100);
+
+    @Test
+    void successfulChallengesShouldPayHighestRewardAndUnusedExtraLife() {
+        ChallengeOutcomeDistribution distribution = challengeSimulator.simulate(
+                new SimulationSettings(1, () -> randomGenerator -> ENOUGH_POINTS_FOR_ANY_LEVEL),
+                List.of(),
+                1000,
+                1);
+        assertEquals(1000, distribution.getNumberOfChallenges());
+        assertEquals(1000, distribution.getNumberOfChallengesWithFinalState(CHALLENGE_ENDED_SUCCESSFULLY));
+        assertEquals(1000, distribution.getNumberOfChallengesEndingOnLevel(BingoGame.MAX_LEVEL));
+        assertEquals(1000, distribution.getNumberOfChallengesPaying(134));
+        assertEquals(7, distribution.getMeanMatchesPlayed());
+    }
+
+    @Test
+    void challengeModifiersShouldMultiplyRewardAndDisableExtraLives() {
+        ChallengeOutcomeDistribution distribution = challengeSimulator.simulate(
+                new SimulationSettings(1, () -> randomGenerator -> ENOUGH_POINTS_FOR_ANY_LEVEL),
+                List.of(ChallengeModifier.NO_SAFETY_NET, ChallengeModifier.NO_HELP),
+                10,
+                1);
+        assertEquals(10, distribution.getNumberOfChallengesPaying(256));
+    }
+
+    @Test
+    void disallowedChallengeModifiersShouldBeIgnored() {
+        ChallengeOutcomeDistribution distribution = challengeSimulator.simulate(
+                new SimulationSettings(2, () -> randomGenerator -> ENOUGH_POINTS_FOR_ANY_LEVEL),
+                List.of(ChallengeModifier.NO_HELP),
+                10,
+                1);
+        assertEquals(10, distribution.getNumberOfChallengesPaying(134));
+    }
+
+    @Test
+    void failedChallengesShouldPayRewardForParticipating() {
+        ChallengeOutcomeDistribution distribution = challengeSimulator.simulate(
+                new SimulationSettings(1, () -> randomGenerator -> 800),
+                List.of(),
+                10,
+                1);
+        assertEquals(10, distribution.getNumberOfChallengesWithFinalState(CHALLENGE_ENDED_UNSUCCESSFULLY));
+        assertEquals(10, distribution.getNumberOfChallengesEndingOnLevel(4));
+        assertEquals(10, distribution.getNumberOfChallengesPaying(1));
+        assertEquals(4, distribution.getMeanMatchesPlayed());
+    }
+
+    @Test
+    void pointsOfAllPlayersShouldCount() {
+        ChallengeOutcomeDistribution distribution = challengeSimulator.simulate(
+                new SimulationSettings(3, () -> randomGenerator -> 400),
+                List.of(),
+                10,
+                1);
+        assertEquals(10, distribution.getNumberOfChallengesEndingOnLevel(3));
+    }
+
+    @Test
+    void sharedDivisionAchievementsShouldCount() {
+        ChallengeOutcomeDistribution distribution = challengeSimulator.simulate(
+                new SimulationSettings(2, DivisionAchievementSampler::new),
+                List.of(),
+                10,
+                1);
+        assertEquals(10, distribution.getNumberOfChallengesWithFinalState(CHALLENGE_ENDED_SUCCESSFULLY));
+        assertEquals(10, distribution.getNumberOfChallengesEndingOnLevel(BingoGame.MAX_LEVEL));
+    }
+
+    @Test
+    void extraLifeShouldBeConsumedForFailedMatch() {
+        ChallengeOutcomeDistribution distribution = challengeSimulator.simulate(
+                new SimulationSettings(1, () -> new SequenceSampler(2000, 2000, 2000, 2000, 2000, 2000, 0, 2000)),
+                List.of(),
+                10,
+                1);
+        assertEquals(10, distribution.getNumberOfChallengesWithFinalState(CHALLENGE_ENDED_SUCCESSFULLY));
+        assertEquals(10, distribution.getNumberOfChallengesPaying(128));
+        assertEquals(8, distribution.getMeanMatchesPlayed());
+    }
+
+    @Test
+    void playersShouldEndChallengeVoluntarilyOnConfiguredLevel() {
+        SimulationSettings settings = new SimulationSettings(
+                1,
+                () -> randomGenerator -> ENOUGH_POINTS_FOR_ANY_LEVEL,
+                0,
+                3);
+        ChallengeOutcomeDistribution distribution = challengeSimulator.simulate(settings, List.of(), 10, 1);
+        assertEquals(10, distribution.getNumberOfChallengesWithFinalState(CHALLENGE_ENDED_VOLUNTARILY));
+        assertEquals(10, distribution.getNumberOfChallengesEndingOnLevel(3));
+        assertEquals(10, distribution.getNumberOfChallengesPaying(4));
+        ChallengeOutcomeDistribution distributionWithoutGivingUp =
+                challengeSimulator.simulate(settings, List.of(ChallengeModifier.NO_GIVING_UP), 10, 1);
+        assertEquals(10, distributionWithoutGivingUp.getNumberOfChallengesWithFinalState(CHALLENGE_ENDED_SUCCESSFULLY));
+    }
+
+    @Test
+    void resultShouldNotDependOnNumberOfThreads() {
+        SimulationSettings settings =
+                new SimulationSettings(2, ChallengeSimulatorTest::createRibbonCountSampler, 0.2, 6);
+        ChallengeOutcomeDistribution distribution = challengeSimulator.simulate(settings, List.of(), 5000, 42);
+        ChallengeSimulator sequentialSimulator =
+                new ChallengeSimulator(new ForkJoinPool(1), new BingoGameDependencyInjector(), 100);
+        ChallengeOutcomeDistribution sequentialDistribution =
+                sequentialSimulator.simulate(settings, List.of(), 5000, 42);
+        assertEquals(5000, distribution.getNumberOfChallenges());
+        assertEquals(distribution.toString(), sequentialDistribution.toString());
+        assertEquals(distribution.getMeanSubsPaid(), sequentialDistribution.getMeanSubsPaid());
+    }
+
+    @Test
+    void allModifierCombinationsShouldBeSimulated() {
+        SimulationSettings settings = new SimulationSettings(1, ChallengeSimulatorTest::createRibbonCountSampler);
+        Map<List<ChallengeModifier>, ChallengeOutcomeDistribution> distributionByCombination =
+                challengeSimulator.simulateAllModifierCombinations(settings, 200, 3);
+        assertEquals(32, distributionByCombination.size());
+        assertTrue(distributionByCombination.containsKey(List.of()));
+        distributionByCombination.forEach((combination, distribution) -> {
+            assertFalse(combination.contains(ChallengeModifier.DOUBLE_DIFFICULTY_INCREASE));
+            assertEquals(200, distribution.getNumberOfChallenges());
+        });
+    }
+
+    @Test
+    void getAllModifierCombinationsShouldOnlyContainAllowedModifiers() {
+        List<List<ChallengeModifier>> combinations = ChallengeSimulator.getAllModifierCombinations(3);
+        assertEquals(32, combinations.size());
+        assertEquals(List.of(), combinations.getFirst());
+        assertEquals(5, combinations.getLast().size());
+        assertTrue(combinations.stream().noneMatch(combination -> combination.contains(ChallengeModifier.NO_HELP)));
+    }
+
+    @Test
+    void simulateShouldRejectNegativeNumberOfChallenges() {
+        SimulationSettings settings = new SimulationSettings(1, ChallengeSimulatorTest::createRibbonCountSampler);
+        assertThrows(IllegalArgumentException.class, () -> challengeSimulator.simulate(settings, List.of(), -1, 1));
+    }
+
+    private static MatchPointSampler createRibbonCountSampler() {
+        return new RibbonCountSampler(
+                MainArmamentType.LARGE_CALIBER_GUNS,
+                Map.of(Ribbon.MAIN_GUN_HIT, 60.0, Ribbon.DESTROYED, 1.2, Ribbon.SET_ON_FIRE, 3.0),
+                Map.of(Achievement.FIRST_BLOOD, 0.1));
+    }
+
+    private static class DivisionAchievementSampler implements MatchPointSampler {
+
+        @Override
+        public long samplePointValue(RandomGenerator randomGenerator) {
+            return 0;
+        }
+
+        @Override
+        public long sampleSharedDivisionPointValue(RandomGenerator randomGenerator, int numberOfPlayers) {
+            return ENOUGH_POINTS_FOR_ANY_LEVEL;
+        }
+    }
+
+    private static class SequenceSampler implements MatchPointSampler {
+        private final long[] pointValues;
+        private int nextIndex;
+
+        private SequenceSampler(long... pointValues) {
+            this.pointValues = pointValues;
+        }
+
+        @Override
+        public long samplePointValue(RandomGenerator randomGenerator) {
+            long pointValue = pointValues[nextIndex];
+            nextIndex = (nextIndex + 1) % pointValues.length;
+            return pointValue;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package bingo.game.simulation.impl;
+
+import bingo.game.achievements.Achievement;
+import bingo.game.achievements.division.DivisionAchievement;
+import bingo.game.ribbons.Ribbon;
+import bingo.game.ships.MainArmamentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RibbonCountSamplerTest {
+    private static final int NUMBER_OF_SAMPLES = 20_000;
+
+    @Test
+    void samplePointValueShouldReturnZeroWithoutRibbonsOrAchievements() {
+        RibbonCountSampler sampler = new RibbonCountSampler(MainArmamentType.TORPEDOES, Map.of(), Map.of());
+        assertEquals(0, sampler.samplePointValue(new SplittableRandom(1)));
+    }
+
+    @Test
+    void samplePointValueShouldMatchMeanAmountOfRibbons() {
+        RibbonCountSampler sampler =
+                new RibbonCountSampler(MainArmamentType.SMALL_CALIBER_GUNS, Map.of(Ribbon.DESTROYED, 2.0), Map.of());
+        double expectedMean = 2.0 * Ribbon.DESTROYED.getPointValue(MainArmamentType.SMALL_CALIBER_GUNS);
+        assertEquals(expectedMean, getMeanPointValue(sampler), expectedMean * 0.05);
+    }
+
+    @Test
+    void samplePointValueShouldIncludeAchievements() {
+        RibbonCountSampler sampler = new RibbonCountSampler(
+                MainArmamentType.SMALL_CALIBER_GUNS,
+                Map.of(),
+                Map.of(Achievement.SOLO_WARRIOR, 0.5));
+        double expectedMean = 0.5 * Achievement.SOLO_WARRIOR.getFlatPointValue();
+        assertEquals(expectedMean, getMeanPointValue(sampler), expectedMean * 0.05);
+    }
+
+    @Test
+    void sampleSharedDivisionPointValueShouldMatchMeanAmountOfDivisionAchievements() {
+        RibbonCountSampler sampler = new RibbonCountSampler(
+                MainArmamentType.SMALL_CALIBER_GUNS,
+                Map.of(),
+                Map.of(),
+                Map.of(DivisionAchievement.STRIKE_TEAM, 0.5));
+        SplittableRandom random = new SplittableRandom(5);
+        long totalPointValue = 0;
+        for (int sample = 0; sample < NUMBER_OF_SAMPLES; sample++) {
+            totalPointValue += sampler.sampleSharedDivisionPointValue(random, 2);
+        }
+        double expectedMean = 0.5 * DivisionAchievement.STRIKE_TEAM.getPointValue(2);
+        assertEquals(expectedMean, (double) totalPointValue / NUMBER_OF_SAMPLES, expectedMean * 0.05);
+    }
+
+    @Test
+    void sampleSharedDivisionPointValueShouldNotDrawWithoutDivisionAchievements() {
+        RibbonCountSampler sampler = new RibbonCountSampler(MainArmamentType.TORPEDOES, Map.of(), Map.of());
+        SplittableRandom random = new SplittableRandom(1);
+        assertEquals(0, sampler.sampleSharedDivisionPointValue(random, 3));
+        assertEquals(new SplittableRandom(1).nextLong(), random.nextLong());
+    }
+
+    @Test
+    void samplePointValueShouldBeReproducibleForSameSeed() {
+        Map<Ribbon, Double> meanAmountByRibbon = Map.of(Ribbon.MAIN_GUN_HIT, 50.0, Ribbon.SET_ON_FIRE, 2.0);
+        Map<Achievement, Double> meanAmountByAchievement = Map.of(Achievement.ARSONIST, 0.3);
+        MainArmamentType mainArmamentType = MainArmamentType.LARGE_CALIBER_GUNS;
+        RibbonCountSampler sampler =
+                new RibbonCountSampler(mainArmamentType, meanAmountByRibbon, meanAmountByAchievement);
+        RibbonCountSampler otherSampler =
+                new RibbonCountSampler(mainArmamentType, meanAmountByRibbon, meanAmountByAchievement);
+        SplittableRandom random = new SplittableRandom(9);
+        SplittableRandom otherRandom = new SplittableRandom(9);
+        for (int sample = 0; sample < 100; sample++) {
+            long pointValue = sampler.samplePointValue(random);
+            assertTrue(pointValue >= 0);
+            assertEquals(pointValue, otherSampler.samplePointValue(otherRandom));
+        }
+    }
+
+    @Test
+    void constructorShouldRejectNegativeMeanAmount() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new RibbonCountSampler(MainArmamentType.AIRCRAFT, Map.of(Ribbon.BOMB_HIT, -1.0), Map.of()));
+    }
+
+    private double getMeanPointValue(RibbonCountSampler sampler) {
+        SplittableRandom random = new SplittableRandom(5);
+        long totalPointValue = 0;
+        for (int sample = 0; sample < NUMBER_OF_SAMPLES; sample++) {
+            totalPointValue += sampler.samplePointValue(random);
+        }
+        return (double) totalPointValue / NUMBER_OF_SAMPLES;
+    }
+}
@@ -0,0 +1,69 @@
+package bingo.game.utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AppendOnlyListTest {
+
+    @Test
+    void withAddedShouldKeepTheOriginalList() {
+        AppendOnlyList<String> empty = AppendOnlyList.of();
+        AppendOnlyList<String> one = empty.withAdded("A");
+        AppendOnlyList<String> two = one.withAdded("B");
+        assertTrue(empty.isEmpty());
+        assertEquals(List.of("A"), one);
+        assertEquals(List.of("A", "B"), two);
+    }
+
+    @Test
+    void listsAppendedToTheSameListShouldNotSeeEachOther() {
+        AppendOnlyList<String> base = AppendOnlyList.<String>of().withAdded("A");
+        AppendOnlyList<String> first = base.withAdded("B");
+        AppendOnlyList<String> second = base.withAdded("C");
+        AppendOnlyList<String> third = first.withAdded("D");
+        assertEquals(List.of("A", "B"), first);
+        assertEquals(List.of("A", "C"), second);
+        assertEquals(List.of("A", "B", "D"), third);
+        assertEquals(List.of("A"), base);
+    }
+
+    @Test
+    void withAddedShouldGrowBeyondTheInitialCapacity() {
+        AppendOnlyList<Integer> list = AppendOnlyList.of();
+        List<AppendOnlyList<Integer>> lists = new ArrayList<>();
+        for (int index = 0; index < 100; index++) {
+            lists.add(list);
+            list = list.withAdded(index);
+        }
+        assertEquals(100, list.size());
+        for (int index = 0; index < 100; index++) {
+            assertEquals(Integer.valueOf(index), list.get(index));
+            assertEquals(index, lists.get(index).size());
+        }
+    }
+
+    @Test
+    void withRemovedShouldRemoveTheElementFromACopy() {
+        AppendOnlyList<String> list = AppendOnlyList.copyOf(List.of("A", "B", "C"));
+        AppendOnlyList<String> removed = list.withRemoved("B");
+        assertEquals(List.of("A", "C"), removed);
+        assertEquals(List.of("A", "B", "C"), list);
+        assertEquals(List.of("A", "C", "D"), removed.withAdded("D"));
+        assertSame(list, list.withRemoved("D"));
+    }
+
+    @Test
+    void listShouldBeUnmodifiable() {
+        AppendOnlyList<String> list = AppendOnlyList.copyOf(List.of("A"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("B"));
+        assertThrows(UnsupportedOperationException.class, list::clear);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+    }
+}
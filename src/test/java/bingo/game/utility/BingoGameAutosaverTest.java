@@ -0,0 +1,249 @@
+package bingo.game.utility;
+
+import bingo.game.BingoGame;
+import bingo.game.input.UserInputException;
+import bingo.game.players.Player;
+import bingo.game.ships.Ship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BingoGameAutosaverTest {
+    private static final byte[] RECORD_A = {1, 2, 3};
+    private static final byte[] RECORD_B = {4, 5};
+
+    private final BingoGameSerializer bingoGameSerializer = new BingoGameSerializer();
+    private final List<Runnable> submittedTasks = new ArrayList<>();
+    private final List<Object> autosaveEvents = new CopyOnWriteArrayList<>();
+    private final BingoGameAutosaver.AutosaveListener autosaveListener = new BingoGameAutosaver.AutosaveListener() {
+        @Override
+        public void autosaveSucceeded(Path filePath, Duration latency) {
+            autosaveEvents.add(filePath);
+        }
+
+        @Override
+        public void autosaveFailed(Path filePath, IOException exception) {
+            autosaveEvents.add(exception);
+        }
+    };
+    private BingoGame bingoGame;
+    private Path directory;
+    private Path filePath;
+
+    @BeforeEach
+    void setup() throws UserInputException, IOException {
+        bingoGame = new BingoGame(List.of(new Player("Player A")), List.of());
+        directory = Files.createTempDirectory("autosave");
+        filePath = directory.resolve("game.wrb");
+    }
+
+    @Test
+    void requestSaveShouldCoalesceRequestsMadeWhileWriterIsPending() throws IOException, UserInputException {
+        BingoGameAutosaver bingoGameAutosaver = createAutosaverWithManualExecutor();
+        try {
+            bingoGameAutosaver.requestSave(bingoGame);
+            bingoGame.addShipUsed(new Ship("Yamato"));
+            bingoGameAutosaver.requestSave(bingoGame);
+            bingoGameAutosaver.requestAppend(RECORD_A);
+            bingoGame.addShipUsed(new Ship("Shimakaze"));
+            byte[] expectedSnapshot = bingoGameSerializer.createSnapshot(bingoGame);
+            bingoGameAutosaver.requestSave(bingoGame);
+            assertEquals(1, submittedTasks.size());
+            submittedTasks.getFirst().run();
+            assertEquals(List.of(filePath), autosaveEvents);
+            assertArrayEquals(expectedSnapshot, Files.readAllBytes(filePath));
+            assertDirectoryContainsOnlyFile();
+        } finally {
+            deleteDirectory();
+        }
+    }
+
+    @Test
+    void requestAppendShouldWriteRecordsAfterSnapshotInOrder() throws IOException {
+        BingoGameAutosaver bingoGameAutosaver = createAutosaverWithManualExecutor();
+        try {
+            bingoGameAutosaver.requestSave(bingoGame);
+            bingoGameAutosaver.requestAppend(RECORD_A);
+            submittedTasks.getFirst().run();
+            bingoGameAutosaver.requestAppend(RECORD_B);
+            bingoGameAutosaver.requestAppend(RECORD_A);
+            assertEquals(2, submittedTasks.size());
+            submittedTasks.getLast().run();
+            ByteArrayOutputStream expectedBytes = new ByteArrayOutputStream();
+            expectedBytes.writeBytes(bingoGameSerializer.createSnapshot(bingoGame));
+            expectedBytes.writeBytes(RECORD_A);
+            expectedBytes.writeBytes(RECORD_B);
+            expectedBytes.writeBytes(RECORD_A);
+            assertArrayEquals(expectedBytes.toByteArray(), Files.readAllBytes(filePath));
+            assertEquals(List.of(filePath, filePath), autosaveEvents);
+        } finally {
+            deleteDirectory();
+        }
+    }
+
+    @Test
+    void requestAppendShouldReportFailureIfFileDoesNotExist() throws IOException, InterruptedException {
+        BingoGameAutosaver bingoGameAutosaver = new BingoGameAutosaver(filePath, autosaveListener);
+        try {
+            bingoGameAutosaver.requestAppend(RECORD_A);
+            bingoGameAutosaver.awaitPendingSaves();
+            assertEquals(1, autosaveEvents.size());
+            assertInstanceOf(IOException.class, autosaveEvents.getFirst());
+        } finally {
+            deleteDirectory();
+        }
+    }
+
+    @Test
+    void requestAppendShouldBeRejectedAfterFailedWriteUntilSnapshotIsRequested() throws IOException {
+        BingoGameAutosaver bingoGameAutosaver = createAutosaverWithManualExecutor();
+        try {
+            assertTrue(bingoGameAutosaver.requestAppend(RECORD_A));
+            submittedTasks.getFirst().run();
+            assertInstanceOf(IOException.class, autosaveEvents.getFirst());
+            assertFalse(bingoGameAutosaver.requestAppend(RECORD_B));
+            bingoGameAutosaver.requestSave(bingoGame);
+            assertTrue(bingoGameAutosaver.requestAppend(RECORD_A));
+            submittedTasks.getLast().run();
+            ByteArrayOutputStream expectedBytes = new ByteArrayOutputStream();
+            expectedBytes.writeBytes(bingoGameSerializer.createSnapshot(bingoGame));
+            expectedBytes.writeBytes(RECORD_A);
+            assertArrayEquals(expectedBytes.toByteArray(), Files.readAllBytes(filePath));
+        } finally {
+            deleteDirectory();
+        }
+    }
+
+    @Test
+    void failedWriteShouldKeepSnapshotAndRecordsRequestedMeanwhile() throws IOException, UserInputException {
+        BingoGame changedGame = new BingoGame(List.of(new Player("Player A")), List.of());
+        changedGame.addShipUsed(new Ship("Yamato"));
+        List<BingoGameAutosaver> autosavers = new ArrayList<>();
+        BingoGameSerializer serializerFailingOnce = new BingoGameSerializer() {
+            private boolean appendHasFailed;
+
+            @Override
+            public void appendRecords(byte[] records, Path filePath) throws IOException {
+                if (appendHasFailed) {
+                    super.appendRecords(records, filePath);
+                    return;
+                }
+                appendHasFailed = true;
+                autosavers.getFirst().requestSave(changedGame);
+                autosavers.getFirst().requestAppend(RECORD_B);
+                throw new IOException("Disk is full");
+            }
+        };
+        autosavers.add(new BingoGameAutosaver(
+                serializerFailingOnce, filePath, submittedTasks::add, autosaveListener));
+        try {
+            autosavers.getFirst().requestSave(bingoGame);
+            autosavers.getFirst().requestAppend(RECORD_A);
+            submittedTasks.getFirst().run();
+            ByteArrayOutputStream expectedBytes = new ByteArrayOutputStream();
+            expectedBytes.writeBytes(bingoGameSerializer.createSnapshot(changedGame));
+            expectedBytes.writeBytes(RECORD_B);
+            assertArrayEquals(expectedBytes.toByteArray(), Files.readAllBytes(filePath));
+            assertEquals(2, autosaveEvents.size());
+            assertInstanceOf(IOException.class, autosaveEvents.getFirst());
+            assertTrue(autosavers.getFirst().requestAppend(RECORD_A));
+        } finally {
+            deleteDirectory();
+        }
+    }
+
+    @Test
+    void awaitPendingSavesShouldWaitForBackgroundWriter() throws IOException, InterruptedException {
+        BingoGameAutosaver bingoGameAutosaver = new BingoGameAutosaver(filePath, autosaveListener);
+        try {
+            for (int i = 0; i < 10; i++) {
+                bingoGameAutosaver.requestSave(bingoGame);
+            }
+            bingoGameAutosaver.awaitPendingSaves();
+            assertTrue(!autosaveEvents.isEmpty() && autosaveEvents.size() <= 10);
+            assertEquals(bingoGame.toString(), bingoGameSerializer.loadGame(filePath.toString()).toString());
+            assertDirectoryContainsOnlyFile();
+        } catch (ClassNotFoundException exception) {
+            throw new AssertionError(exception);
+        } finally {
+            deleteDirectory();
+        }
+    }
+
+    @Test
+    void requestSaveShouldReportUnexpectedErrorOfSerializerAsFailure() throws IOException {
+        BingoGameSerializer failingSerializer = new BingoGameSerializer() {
+            @Override
+            public void saveSnapshot(byte[] snapshot, Path filePath) {
+                throw new IllegalStateException("Disk is gone");
+            }
+        };
+        BingoGameAutosaver bingoGameAutosaver =
+                new BingoGameAutosaver(failingSerializer, filePath, submittedTasks::add, autosaveListener);
+        try {
+            bingoGameAutosaver.requestSave(bingoGame);
+            submittedTasks.getFirst().run();
+            assertEquals(1, autosaveEvents.size());
+            IOException exception = assertInstanceOf(IOException.class, autosaveEvents.getFirst());
+            assertInstanceOf(IllegalStateException.class, exception.getCause());
+        } finally {
+            deleteDirectory();
+        }
+    }
+
+    @Test
+    void requestSaveShouldStartNewWriterAfterListenerThrew() throws IOException, InterruptedException {
+        BingoGameAutosaver.AutosaveListener throwingListener = new BingoGameAutosaver.AutosaveListener() {
+            @Override
+            public void autosaveSucceeded(Path filePath, Duration latency) {
+                throw new IllegalStateException("Listener is broken");
+            }
+
+            @Override
+            public void autosaveFailed(Path filePath, IOException exception) {
+            }
+        };
+        BingoGameAutosaver bingoGameAutosaver =
+                new BingoGameAutosaver(bingoGameSerializer, filePath, submittedTasks::add, throwingListener);
+        try {
+            bingoGameAutosaver.requestSave(bingoGame);
+            assertThrows(IllegalStateException.class, () -> submittedTasks.getFirst().run());
+            bingoGameAutosaver.awaitPendingSaves();
+            bingoGameAutosaver.requestSave(bingoGame);
+            assertEquals(2, submittedTasks.size());
+        } finally {
+            deleteDirectory();
+        }
+    }
+
+    private BingoGameAutosaver createAutosaverWithManualExecutor() {
+        return new BingoGameAutosaver(bingoGameSerializer, filePath, submittedTasks::add, autosaveListener);
+    }
+
+    private void assertDirectoryContainsOnlyFile() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of(filePath), files.toList());
+        }
+    }
+
+    private void deleteDirectory() throws IOException {
+        Files.deleteIfExists(filePath);
+        Files.delete(directory);
+    }
+}
@@ -0,0 +1,225 @@
+package bingo.game.utility;
+
+import bingo.game.BingoGame;
+import bingo.game.achievements.Achievement;
+import bingo.game.input.UserInputException;
+import bingo.game.modifiers.ChallengeModifier;
+import bingo.game.players.Player;
+import bingo.game.restrictions.impl.ForcedMainArmamentType;
+import bingo.game.results.BingoResult;
+import bingo.game.ribbons.Ribbon;
+import bingo.game.ships.MainArmamentType;
+import bingo.game.ships.Ship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BingoGameJournalTest {
+    private static final Player PLAYER_A = new Player("Player A");
+    private static final Player PLAYER_B = new Player("Player B");
+
+    private final BingoGameSerializer bingoGameSerializer = new BingoGameSerializer();
+    private final BingoGameAutosaver.AutosaveListener autosaveListener = new BingoGameAutosaver.AutosaveListener() {
+        @Override
+        public void autosaveSucceeded(Path filePath, Duration latency) {
+        }
+
+        @Override
+        public void autosaveFailed(Path filePath, IOException exception) {
+            throw new AssertionError(exception);
+        }
+    };
+    private BingoGame bingoGame;
+
+    @BeforeEach
+    void setup() throws UserInputException {
+        bingoGame = new BingoGame(
+                List.of(PLAYER_A, PLAYER_B),
+                List.of(ChallengeModifier.RANDOM_SHIP_RESTRICTIONS));
+    }
+
+    @Test
+    void loadGameShouldReplayAllRecordedChanges() throws Exception {
+        Path filePath = Files.createTempFile("bingo-game", ".wrb");
+        try {
+            BingoGameAutosaver bingoGameAutosaver = new BingoGameAutosaver(filePath, autosaveListener);
+            new BingoGameJournal(bingoGame, bingoGameAutosaver).start();
+            long sizeOfSnapshot = awaitSize(bingoGameAutosaver);
+            playUntilUnconfirmedResult();
+            assertTrue(awaitSize(bingoGameAutosaver) > sizeOfSnapshot);
+            assertGameIsRecovered(filePath);
+            bingoGame.confirmCurrentResult();
+            bingoGame.removeShipUsed(new Ship("Yamato"));
+            awaitSize(bingoGameAutosaver);
+            assertGameIsRecovered(filePath);
+        } finally {
+            Files.delete(filePath);
+        }
+    }
+
+    @Test
+    void loadGameShouldIgnorePartiallyWrittenRecord() throws Exception {
+        Path filePath = Files.createTempFile("bingo-game", ".wrb");
+        try {
+            BingoGameAutosaver bingoGameAutosaver = new BingoGameAutosaver(filePath, autosaveListener);
+            new BingoGameJournal(bingoGame, bingoGameAutosaver).start();
+            playUntilUnconfirmedResult();
+            String expectedGame = bingoGame.toString();
+            long sizeBeforeLastEvent = awaitSize(bingoGameAutosaver);
+            bingoGame.confirmCurrentResult();
+            awaitSize(bingoGameAutosaver);
+            byte[] bytes = Files.readAllBytes(filePath);
+            Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+            assertEquals(expectedGame, bingoGameSerializer.loadGame(filePath.toString()).toString());
+            assertTrue(bytes.length > sizeBeforeLastEvent);
+        } finally {
+            Files.delete(filePath);
+        }
+    }
+
+    @Test
+    void journalShouldCompactFileAfterThreshold() throws Exception {
+        Path filePath = Files.createTempFile("bingo-game", ".wrb");
+        try {
+            BingoGameAutosaver bingoGameAutosaver = new BingoGameAutosaver(filePath, autosaveListener);
+            new BingoGameJournal(bingoGame, bingoGameAutosaver, 3).start();
+            bingoGame.addShipUsed(new Ship("Yamato"));
+            bingoGame.addShipUsed(new Ship("Shimakaze"));
+            assertTrue(awaitSize(bingoGameAutosaver) > bingoGameSerializer.createSnapshot(bingoGame).length);
+            bingoGame.addShipUsed(new Ship("Montana"));
+            assertEquals(bingoGameSerializer.createSnapshot(bingoGame).length, awaitSize(bingoGameAutosaver));
+            assertGameIsRecovered(filePath);
+        } finally {
+            Files.delete(filePath);
+        }
+    }
+
+    @Test
+    void stopShouldEndRecordingOfChanges() throws Exception {
+        Path filePath = Files.createTempFile("bingo-game", ".wrb");
+        try {
+            BingoGameAutosaver bingoGameAutosaver = new BingoGameAutosaver(filePath, autosaveListener);
+            BingoGameJournal bingoGameJournal = new BingoGameJournal(bingoGame, bingoGameAutosaver);
+            bingoGameJournal.start();
+            long sizeOfSnapshot = awaitSize(bingoGameAutosaver);
+            bingoGameJournal.stop();
+            bingoGame.addShipUsed(new Ship("Yamato"));
+            assertEquals(sizeOfSnapshot, awaitSize(bingoGameAutosaver));
+        } finally {
+            Files.delete(filePath);
+        }
+    }
+
+    @Test
+    void nextChangeShouldReplaceFileWithSnapshotAfterFailedAppend() throws Exception {
+        Path filePath = Files.createTempFile("bingo-game", ".wrb");
+        List<IOException> failures = new ArrayList<>();
+        BingoGameSerializer serializerFailingOnce = new BingoGameSerializer() {
+            private boolean appendHasFailed;
+
+            @Override
+            public void appendRecords(byte[] records, Path filePath) throws IOException {
+                if (!appendHasFailed) {
+                    appendHasFailed = true;
+                    Files.write(filePath, Arrays.copyOf(records, records.length / 2), StandardOpenOption.APPEND);
+                    throw new IOException("Disk is full");
+                }
+                super.appendRecords(records, filePath);
+            }
+        };
+        try {
+            BingoGameAutosaver bingoGameAutosaver =
+                    new BingoGameAutosaver(serializerFailingOnce, filePath, Runnable::run, collecting(failures));
+            new BingoGameJournal(bingoGame, bingoGameAutosaver).start();
+            bingoGame.addShipUsed(new Ship("Yamato"));
+            assertEquals(1, failures.size());
+            bingoGame.addShipUsed(new Ship("Shimakaze"));
+            assertEquals(bingoGameSerializer.createSnapshot(bingoGame).length, Files.size(filePath));
+            bingoGame.addShipUsed(new Ship("Montana"));
+            assertGameIsRecovered(filePath);
+            assertEquals(1, failures.size());
+        } finally {
+            Files.delete(filePath);
+        }
+    }
+
+    @Test
+    void failedCompactionShouldBeReportedInsteadOfThrown() throws Exception {
+        Path filePath = Files.createTempFile("bingo-game", ".wrb");
+        List<IOException> failures = new ArrayList<>();
+        BingoGameSerializer serializerFailingAfterStart = new BingoGameSerializer() {
+            private int numberOfSnapshots;
+
+            @Override
+            public byte[] createSnapshot(BingoGame bingoGame) throws IOException {
+                if (++numberOfSnapshots == 2) {
+                    throw new IOException("Out of memory");
+                }
+                return super.createSnapshot(bingoGame);
+            }
+        };
+        try {
+            BingoGameAutosaver bingoGameAutosaver =
+                    new BingoGameAutosaver(serializerFailingAfterStart, filePath, Runnable::run, collecting(failures));
+            new BingoGameJournal(bingoGame, bingoGameAutosaver, 1).start();
+            bingoGame.addShipUsed(new Ship("Yamato"));
+            assertEquals(1, failures.size());
+            bingoGame.addShipUsed(new Ship("Shimakaze"));
+            assertGameIsRecovered(filePath);
+            assertEquals(1, failures.size());
+        } finally {
+            Files.delete(filePath);
+        }
+    }
+
+    private BingoGameAutosaver.AutosaveListener collecting(List<IOException> failures) {
+        return new BingoGameAutosaver.AutosaveListener() {
+            @Override
+            public void autosaveSucceeded(Path filePath, Duration latency) {
+            }
+
+            @Override
+            public void autosaveFailed(Path filePath, IOException exception) {
+                failures.add(exception);
+            }
+        };
+    }
+
+    private void playUntilUnconfirmedResult() throws UserInputException {
+        bingoGame.addShipUsed(new Ship("Yamato"));
+        bingoGame.addShipUsed(new Ship("Shimakaze"));
+        bingoGame.setShipRestrictionForPlayer(PLAYER_A, new ForcedMainArmamentType(MainArmamentType.TORPEDOES));
+        bingoGame.setShipRestrictionForPlayer(PLAYER_B, new ForcedMainArmamentType(MainArmamentType.AIRCRAFT));
+        bingoGame.setRetryingIsAllowed(true);
+        BingoResult bingoResult = new BingoResult(MainArmamentType.TORPEDOES);
+        bingoResult.addRibbonResult(Ribbon.TORPEDO_HIT, 10);
+        bingoResult.addAchievementResult(Achievement.DOUBLE_STRIKE, 1);
+        bingoGame.submitBingoResultForPlayer(PLAYER_A, bingoResult);
+        bingoGame.submitBingoResultForPlayer(PLAYER_B, new BingoResult(MainArmamentType.AIRCRAFT));
+    }
+
+    private long awaitSize(BingoGameAutosaver bingoGameAutosaver) throws IOException, InterruptedException {
+        bingoGameAutosaver.awaitPendingSaves();
+        return Files.size(bingoGameAutosaver.getFilePath());
+    }
+
+    private void assertGameIsRecovered(Path filePath) throws IOException, ClassNotFoundException {
+        BingoGame recoveredGame = bingoGameSerializer.loadGame(filePath.toString());
+        assertEquals(bingoGame.toString(), recoveredGame.toString());
+        assertEquals(List.copyOf(bingoGame.getShipsUsed()), List.copyOf(recoveredGame.getShipsUsed()));
+        assertEquals(bingoGame.getAllowedActions(), recoveredGame.getAllowedActions());
+        assertEquals(bingoGame.getCurrentLevel(), recoveredGame.getCurrentLevel());
+        assertEquals(bingoGame.retryingIsAllowed(), recoveredGame.retryingIsAllowed());
+    }
+}
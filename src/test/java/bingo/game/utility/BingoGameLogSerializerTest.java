@@ -0,0 +1,112 @@
+package bingo.game.utility;
+
+import bingo.game.achievements.Achievement;
+import bingo.game.events.impl.AddShipUsedEvent;
+import bingo.game.events.impl.ConfirmResultEvent;
+import bingo.game.events.impl.SubmitBingoResultEvent;
+import bingo.game.modifiers.ChallengeModifier;
+import bingo.game.players.Player;
+import bingo.game.replay.BingoGameLog;
+import bingo.game.replay.BingoGameLogEntry;
+import bingo.game.replay.impl.RecordedEventStep;
+import bingo.game.replay.impl.RestoredStateStep;
+import bingo.game.replay.impl.ShipRestrictionDrawStep;
+import bingo.game.results.BingoResult;
+import bingo.game.ribbons.Ribbon;
+import bingo.game.ships.MainArmamentType;
+import bingo.game.ships.Ship;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BingoGameLogSerializerTest {
+    private static final Player PLAYER_A = new Player("Player A");
+    private static final Player PLAYER_B = new Player("Player B");
+
+    private final BingoGameLogSerializer bingoGameLogSerializer = new BingoGameLogSerializer();
+
+    @Test
+    void readLogShouldReturnWrittenLog() throws IOException {
+        BingoGameLog bingoGameLog = createLog();
+        BingoGameLog restoredLog = readLog(writeLog(bingoGameLog));
+        assertEquals(bingoGameLog.name(), restoredLog.name());
+        assertEquals(bingoGameLog.players(), restoredLog.players());
+        assertEquals(bingoGameLog.challengeModifiers(), restoredLog.challengeModifiers());
+        assertEquals(bingoGameLog.entries().size(), restoredLog.entries().size());
+        assertEquals(bingoGameLog.entries().get(0), restoredLog.entries().get(0));
+        assertEquals(bingoGameLog.entries().get(1), restoredLog.entries().get(1));
+        RecordedEventStep recordedEventStep =
+                assertInstanceOf(RecordedEventStep.class, restoredLog.entries().get(2).step());
+        SubmitBingoResultEvent event = assertInstanceOf(SubmitBingoResultEvent.class, recordedEventStep.event());
+        assertEquals(PLAYER_B, event.player());
+        assertEquals(Optional.of("Ribbon Bingo result"), restoredLog.entries().get(2).recordedOutput());
+        assertEquals(bingoGameLog.entries().get(3), restoredLog.entries().get(3));
+        assertEquals(bingoGameLog.entries().get(4), restoredLog.entries().get(4));
+    }
+
+    @Test
+    void loadLogShouldReturnSavedLog() throws IOException {
+        BingoGameLog bingoGameLog = createLog();
+        Path filePath = Files.createTempFile("bingo-game", ".wrbl");
+        try {
+            bingoGameLogSerializer.saveLog(bingoGameLog, filePath);
+            assertEquals(bingoGameLog.entries().get(1), bingoGameLogSerializer.loadLog(filePath).entries().get(1));
+        } finally {
+            Files.delete(filePath);
+        }
+    }
+
+    @Test
+    void readLogShouldRejectUnknownHeader() {
+        assertThrows(StreamCorruptedException.class, () -> readLog(new byte[]{0, 0, 0, 0, 1}));
+    }
+
+    @Test
+    void readLogShouldRejectUnsupportedFormatVersion() throws IOException {
+        byte[] bytes = writeLog(createLog());
+        bytes[4] = 9;
+        StreamCorruptedException exception = assertThrows(StreamCorruptedException.class, () -> readLog(bytes));
+        assertEquals("Unsupported game log format version 9", exception.getMessage());
+    }
+
+    private BingoGameLog createLog() {
+        BingoResult bingoResult = new BingoResult(MainArmamentType.AIRCRAFT);
+        bingoResult.addRibbonResult(Ribbon.TORPEDO_HIT, 4);
+        bingoResult.addAchievementResult(Achievement.DOUBLE_STRIKE, 1);
+        return new BingoGameLog(
+                "archived session",
+                List.of(PLAYER_A, PLAYER_B),
+                List.of(ChallengeModifier.RANDOM_SHIP_RESTRICTIONS),
+                List.of(
+                        new BingoGameLogEntry(
+                                new RecordedEventStep(new AddShipUsedEvent(new Ship("Hakuryu"))),
+                                Optional.empty()),
+                        new BingoGameLogEntry(new ShipRestrictionDrawStep(PLAYER_B, 17, -123456789L), Optional.of("B")),
+                        new BingoGameLogEntry(
+                                new RecordedEventStep(new SubmitBingoResultEvent(PLAYER_B, bingoResult)),
+                                Optional.of("Ribbon Bingo result")),
+                        new BingoGameLogEntry(new RestoredStateStep(new byte[]{1, 2, 3}), Optional.empty()),
+                        new BingoGameLogEntry(new RecordedEventStep(new ConfirmResultEvent()), Optional.of(""))));
+    }
+
+    private byte[] writeLog(BingoGameLog bingoGameLog) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        bingoGameLogSerializer.writeLog(bingoGameLog, byteArrayOutputStream);
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private BingoGameLog readLog(byte[] bytes) throws IOException {
+        return bingoGameLogSerializer.readLog(new ByteArrayInputStream(bytes));
+    }
+}
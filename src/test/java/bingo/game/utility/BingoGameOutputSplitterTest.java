@@ -3,7 +3,9 @@ package bingo.game.utility;
 import bingo.game.input.UserInputException;
 import org.junit.jupiter.api.Test;
 
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -130,8 +132,80 @@ class BingoGameOutputSplitterTest {
         assertEquals(EXPECTED_COMBINED_TEXT, splitOutputAsString);
     }
 
+    @Test
+    void shouldSplitEveryParagraphByLength() throws UserInputException {
+        String inputString = DUMMY_STRING_WITH_EXACTLY_500_CHARACTERS.concat(REST_OF_DUMMY_STRING)
+                .concat(STRING_STARTING_WITH_DOUBLE_LINE_BREAK)
+                .concat("\n\n")
+                .concat(DUMMY_STRING_WITH_EXACTLY_500_CHARACTERS)
+                .concat(REST_OF_DUMMY_STRING);
+        List<String> splitOutput = bingoGameOutputSplitter.process(inputString);
+        assertEquals(
+                List.of(
+                        DUMMY_STRING_WITH_EXACTLY_500_CHARACTERS,
+                        REST_OF_DUMMY_STRING.substring(1),
+                        STRING_STARTING_WITH_DOUBLE_LINE_BREAK.substring(2),
+                        DUMMY_STRING_WITH_EXACTLY_500_CHARACTERS,
+                        REST_OF_DUMMY_STRING.substring(1)),
+                splitOutput);
+    }
+
+    @Test
+    void shouldPairLineBreaksFromTheEndOfEachRun() throws UserInputException {
+        List<String> splitOutput = bingoGameOutputSplitter.process("A\n\n\nB\n\n\n\nC\n\n");
+        assertEquals(List.of("A\n", "B", "", "C", ""), splitOutput);
+    }
+
+    @Test
+    void shouldSplitLikeRecursiveSplitterForLargeOutputs() throws UserInputException {
+        Random random = new Random(7);
+        List<String> fragments = List.of(". ", " + ", "points", " ", "✅", "Witherer: 3000 * 30");
+        for (int round = 0; round < 20; round++) {
+            StringBuilder stringBuilder = new StringBuilder();
+            while (stringBuilder.length() < 100_000) {
+                stringBuilder.append(fragments.get(random.nextInt(fragments.size())));
+            }
+            String inputString = stringBuilder.toString();
+            assertEquals(RecursiveSplitter.process(inputString), bingoGameOutputSplitter.process(inputString));
+        }
+    }
+
     private static String getResultStringForPlayer(String playerName) {
         return "%s's Ribbon Bingo result: Kraken Unleashed: 3000 * (30 points + (Destroyed: 3000 * 120 points) * 0.2) + Combat Scout: 3000 * (60 points + (Spotted: 3000 * 30 points) * 0.6) + Witherer: 3000 * (30 points + (Set on fire: 3000 * 20 points) * 0.3 + (Caused flooding: 3000 * 40 points) * 0.3) + AA Defense Expert: 3000 * (45 points + (Aircraft shot down: 3000 * 10 points) * 0.3 + (Shot down by fighter: 3000 * 10 points) * 0.3) = dummy result. ".formatted(
                 playerName);
     }
+
+    /**
+     * The previous recursive implementation, which the single pass has to match.
+     */
+    private static class RecursiveSplitter {
+
+        static List<String> process(String bingoGameOutput) throws UserInputException {
+            int lastIndexOfDoubleLineBreak = bingoGameOutput.lastIndexOf("\n\n");
+            if (lastIndexOfDoubleLineBreak != -1) {
+                List<String> splitOutput =
+                        new LinkedList<>(process(bingoGameOutput.substring(0, lastIndexOfDoubleLineBreak)));
+                splitOutput.add(bingoGameOutput.substring(lastIndexOfDoubleLineBreak + 2));
+                return splitOutput;
+            }
+            if (bingoGameOutput.length() <= 500) {
+                return List.of(bingoGameOutput);
+            }
+            for (String searchString : List.of(". ", " +")) {
+                int indexOfSpace = searchString.indexOf(" ");
+                int lastIndexOfSearchString = bingoGameOutput.length();
+                while (lastIndexOfSearchString + indexOfSpace > 500) {
+                    lastIndexOfSearchString =
+                            bingoGameOutput.lastIndexOf(searchString, lastIndexOfSearchString - 1);
+                }
+                if (lastIndexOfSearchString != -1) {
+                    List<String> splitOutput = new LinkedList<>();
+                    splitOutput.add(bingoGameOutput.substring(0, lastIndexOfSearchString + indexOfSpace));
+                    splitOutput.addAll(process(bingoGameOutput.substring(lastIndexOfSearchString + indexOfSpace + 1)));
+                    return splitOutput;
+                }
+            }
+            throw new UserInputException("Internal error: Could not find any appropriate index to split the output");
+        }
+    }
 }
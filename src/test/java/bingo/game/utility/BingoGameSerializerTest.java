@@ -0,0 +1,203 @@
+package bingo.game.utility;
+
+import bingo.game.BingoGame;
+import bingo.game.achievements.Achievement;
+import bingo.game.achievements.division.DivisionAchievement;
+import bingo.game.input.UserInputException;
+import bingo.game.modifiers.ChallengeModifier;
+import bingo.game.players.Player;
+import bingo.game.restrictions.impl.BannedMainArmamentType;
+import bingo.game.restrictions.impl.ForcedMainArmamentType;
+import bingo.game.results.BingoResult;
+import bingo.game.results.division.SharedDivisionAchievements;
+import bingo.game.ribbons.Ribbon;
+import bingo.game.ships.MainArmamentType;
+import bingo.game.ships.Ship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BingoGameSerializerTest {
+    private static final Player PLAYER_A = new Player("Player A");
+    private static final Player PLAYER_B = new Player("Player B");
+    private static final int LEVEL_INDEX_OF_NEW_SINGLE_PLAYER_GAME = 21;
+
+    private final BingoGameSerializer bingoGameSerializer = new BingoGameSerializer();
+    private BingoGame bingoGame;
+
+    @BeforeEach
+    void setup() throws UserInputException {
+        bingoGame = new BingoGame(
+                List.of(PLAYER_A, PLAYER_B),
+                List.of(ChallengeModifier.RANDOM_SHIP_RESTRICTIONS, ChallengeModifier.INCREASED_DIFFICULTY));
+        bingoGame.addShipUsed(new Ship("Yamato"));
+        bingoGame.addShipUsed(new Ship("Shimakaze"));
+        bingoGame.setShipRestrictionForPlayer(PLAYER_A, new BannedMainArmamentType(MainArmamentType.TORPEDOES));
+        bingoGame.setShipRestrictionForPlayer(
+                PLAYER_B,
+                new ForcedMainArmamentType(MainArmamentType.LARGE_CALIBER_GUNS));
+        BingoResult bingoResult = new BingoResult(MainArmamentType.LARGE_CALIBER_GUNS);
+        bingoResult.addRibbonResult(Ribbon.MAIN_GUN_HIT, 110);
+        bingoResult.addRibbonResult(Ribbon.SET_ON_FIRE, 11);
+        bingoResult.addAchievementResult(Achievement.ARSONIST, 1);
+        bingoGame.submitBingoResultForPlayer(PLAYER_B, bingoResult);
+        SharedDivisionAchievements sharedDivisionAchievements = new SharedDivisionAchievements(2);
+        sharedDivisionAchievements.addAchievementResult(DivisionAchievement.STRIKE_TEAM, 1);
+        bingoGame.submitSharedDivisionAchievements(sharedDivisionAchievements);
+    }
+
+    @Test
+    void readGameShouldRestoreGameWrittenInCompactFormat() throws IOException, ClassNotFoundException {
+        BingoGame restoredGame = readGame(writeGame(bingoGame));
+        assertGamesAreEqual(bingoGame, restoredGame);
+    }
+
+    @Test
+    void readGameShouldRestoreGameWithUnconfirmedMatchResult()
+            throws IOException, ClassNotFoundException, UserInputException {
+        BingoResult bingoResult = new BingoResult(MainArmamentType.SMALL_CALIBER_GUNS);
+        bingoResult.addRibbonResult(Ribbon.DESTROYED, 10);
+        bingoGame.submitBingoResultForPlayer(PLAYER_A, bingoResult);
+        bingoGame.setRetryingIsAllowed(true);
+        BingoGame restoredGame = readGame(writeGame(bingoGame));
+        assertGamesAreEqual(bingoGame, restoredGame);
+        bingoGame.confirmCurrentResult();
+        restoredGame.confirmCurrentResult();
+        assertGamesAreEqual(bingoGame, restoredGame);
+    }
+
+    @Test
+    void readGameShouldRestoreGameAfterLevelUp() throws IOException, ClassNotFoundException, UserInputException {
+        BingoResult bingoResult = new BingoResult(MainArmamentType.SMALL_CALIBER_GUNS);
+        bingoResult.addRibbonResult(Ribbon.DESTROYED, 10);
+        bingoGame.submitBingoResultForPlayer(PLAYER_A, bingoResult);
+        bingoGame.confirmCurrentResult();
+        BingoGame restoredGame = readGame(writeGame(bingoGame));
+        assertEquals(2, restoredGame.getCurrentLevel());
+        assertGamesAreEqual(bingoGame, restoredGame);
+    }
+
+    @Test
+    void readGameShouldRestoreGameWrittenWithJavaSerialization() throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(bingoGame);
+        }
+        BingoGame restoredGame = readGame(byteArrayOutputStream.toByteArray());
+        assertGamesAreEqual(bingoGame, restoredGame);
+    }
+
+    @Test
+    void writeGameShouldBeMuchSmallerThanJavaSerialization() throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(bingoGame);
+        }
+        int compactSize = writeGame(bingoGame).length;
+        assertTrue(compactSize * 10 < byteArrayOutputStream.size());
+    }
+
+    @Test
+    void readGameShouldRejectUnknownHeader() {
+        byte[] bytes = {1, 2, 3, 4, 1};
+        assertThrows(StreamCorruptedException.class, () -> readGame(bytes));
+    }
+
+    @Test
+    void readGameShouldRejectUnsupportedFormatVersion() throws IOException {
+        byte[] bytes = writeGame(bingoGame);
+        bytes[4] = 2;
+        StreamCorruptedException exception = assertThrows(StreamCorruptedException.class, () -> readGame(bytes));
+        assertEquals("Unsupported save format version 2", exception.getMessage());
+    }
+
+    @Test
+    void readGameShouldRejectLevelOutOfRange() throws IOException, UserInputException {
+        byte[] bytes = writeGame(new BingoGame(List.of(PLAYER_A), List.of()));
+        int levelIndex = LEVEL_INDEX_OF_NEW_SINGLE_PLAYER_GAME;
+        assertEquals(BingoGame.START_LEVEL, bytes[levelIndex]);
+        for (int invalidLevel : new int[]{0, BingoGame.MAX_LEVEL + 1}) {
+            bytes[levelIndex] = (byte) invalidLevel;
+            InvalidObjectException exception = assertThrows(InvalidObjectException.class, () -> readGame(bytes));
+            assertEquals(
+                    "Invalid level %s, which must be between 1 and %s".formatted(invalidLevel, BingoGame.MAX_LEVEL),
+                    exception.getMessage());
+        }
+    }
+
+    @Test
+    void saveGameAndLoadGameShouldUseTheGivenFile() throws IOException, ClassNotFoundException {
+        Path file = Files.createTempFile("bingo-game", ".wrb");
+        try {
+            bingoGameSerializer.saveGame(bingoGame, file.toString());
+            assertGamesAreEqual(bingoGame, bingoGameSerializer.loadGame(file.toString()));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void saveSnapshotShouldReplaceExistingFileWithoutLeavingTemporaryFiles() throws IOException {
+        Path directory = Files.createTempDirectory("bingo-game");
+        Path file = directory.resolve("game.wrb");
+        try {
+            Files.writeString(file, "previous content that is longer than the snapshot");
+            byte[] snapshot = bingoGameSerializer.createSnapshot(bingoGame);
+            bingoGameSerializer.saveSnapshot(snapshot, file);
+            assertArrayEquals(snapshot, Files.readAllBytes(file));
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(List.of(file), files.toList());
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            Files.delete(directory);
+        }
+    }
+
+    private byte[] writeGame(BingoGame bingoGame) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        bingoGameSerializer.writeGame(bingoGame, byteArrayOutputStream);
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private BingoGame readGame(byte[] bytes) throws IOException, ClassNotFoundException {
+        return bingoGameSerializer.readGame(new ByteArrayInputStream(bytes));
+    }
+
+    private void assertGamesAreEqual(BingoGame expectedGame, BingoGame actualGame) {
+        assertEquals(expectedGame.toString(), actualGame.toString());
+        assertEquals(expectedGame.getPlayers(), actualGame.getPlayers());
+        assertEquals(expectedGame.getChallengeModifiers(), actualGame.getChallengeModifiers());
+        assertEquals(List.copyOf(expectedGame.getShipsUsed()), List.copyOf(actualGame.getShipsUsed()));
+        assertEquals(expectedGame.getAllowedActions(), actualGame.getAllowedActions());
+        assertEquals(expectedGame.getCurrentLevel(), actualGame.getCurrentLevel());
+        assertEquals(expectedGame.retryingIsAllowed(), actualGame.retryingIsAllowed());
+        for (Player player : expectedGame.getPlayers()) {
+            try {
+                assertEquals(
+                        expectedGame.getShipRestrictionForPlayer(player),
+                        actualGame.getShipRestrictionForPlayer(player));
+                assertEquals(
+                        expectedGame.getBingoResultForPlayer(player).map(BingoResult::toString),
+                        actualGame.getBingoResultForPlayer(player).map(BingoResult::toString));
+            } catch (UserInputException exception) {
+                throw new AssertionError(exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package bingo.game.utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChatMessageSinkTest {
+    private static final String SENTENCE = "This is one sentence of many. ";
+
+    private final List<String> messages = new ArrayList<>();
+
+    @Test
+    void shouldPassOnMessagesBeforeTheSinkIsClosed() {
+        ChatMessageSink chatMessageSink = new ChatMessageSink(100, messages::add);
+        for (int index = 0; index < 5; index++) {
+            chatMessageSink.append(SENTENCE);
+        }
+
+        assertEquals(List.of(SENTENCE.repeat(3).stripTrailing()), messages);
+    }
+
+    @Test
+    void shouldSplitAtDoubleLineBreaksAndKeepOddLineBreaks() {
+        ChatMessageSink chatMessageSink = new ChatMessageSink(messages::add);
+
+        chatMessageSink.append("A\n").append("\n\nB\n").append("\n\n\nC\n\n").close();
+
+        assertEquals(List.of("A\n", "B", "", "C", ""), messages);
+    }
+
+    @Test
+    void shouldSplitEveryParagraphByLength() {
+        ChatMessageSink chatMessageSink = new ChatMessageSink(10, messages::add);
+
+        chatMessageSink.append("1 + 2 + 3 + 4\n\n5 + 6 + 7 + 8").close();
+
+        assertEquals(List.of("1 + 2 + 3", "+ 4", "5 + 6 + 7", "+ 8"), messages);
+    }
+
+    @Test
+    void shouldWaitForTheCharacterAfterAPlusSignAtTheEndOfAMessage() {
+        ChatMessageSink chatMessageSink = new ChatMessageSink(10, messages::add);
+
+        chatMessageSink.append("12 + 45678 ");
+        assertTrue(messages.isEmpty());
+        chatMessageSink.append("+ 1").close();
+
+        assertEquals(List.of("12 + 45678", "+ 1"), messages);
+    }
+
+    @Test
+    void shouldSplitTheSameWayWhenTextIsAppendedInPieces() {
+        Random random = new Random(11);
+        List<String> fragments = List.of(". ", " + ", "\nx", "points", " ", "✅", "Witherer: 3000 * 30");
+        for (int round = 0; round < 20; round++) {
+            StringBuilder stringBuilder = new StringBuilder();
+            while (stringBuilder.length() < 20_000) {
+                stringBuilder.append(fragments.get(random.nextInt(fragments.size())));
+            }
+            String text = stringBuilder.toString();
+            List<String> messagesOfWholeText = new ArrayList<>();
+            new ChatMessageSink(messagesOfWholeText::add).append(text).close();
+            messages.clear();
+            ChatMessageSink chatMessageSink = new ChatMessageSink(messages::add);
+            int index = 0;
+            while (index < text.length()) {
+                int endOfPiece = Math.min(text.length(), index + random.nextInt(50));
+                chatMessageSink.append(text.subSequence(index, endOfPiece));
+                index = endOfPiece;
+            }
+            chatMessageSink.close();
+
+            assertEquals(messagesOfWholeText, messages);
+        }
+    }
+
+    @Test
+    void shouldMeasureMessagesInCodePoints() {
+        ChatMessageSink chatMessageSink = new ChatMessageSink(10, MessageLengthUnit.CODE_POINTS, messages::add);
+
+        chatMessageSink.append("\uD83E\uDE99\uD83E\uDE99\uD83E\uDE99 + \uD83E\uDE99\uD83E\uDE99 + 1").close();
+
+        assertEquals(List.of("\uD83E\uDE99\uD83E\uDE99\uD83E\uDE99 + \uD83E\uDE99\uD83E\uDE99", "+ 1"), messages);
+    }
+
+    @Test
+    void shouldMeasureMessagesInUtf8Bytes() {
+        ChatMessageSink chatMessageSink = new ChatMessageSink(24, MessageLengthUnit.UTF_8_BYTES, messages::add);
+
+        chatMessageSink.append("✅ Done. ❤️ Love. \uD83E\uDE99 Coin. ➡️ Next. ").close();
+
+        assertEquals(List.of("✅ Done. ❤️ Love.", "\uD83E\uDE99 Coin. ➡️ Next. "), messages);
+        messages.forEach(message -> assertTrue(message.getBytes(UTF_8).length <= 24));
+    }
+
+    @Test
+    void shouldNotSplitBeforeCharacterWhichExtendsTheGraphemeCluster() {
+        ChatMessageSink chatMessageSink = new ChatMessageSink(10, MessageLengthUnit.CODE_POINTS, messages::add);
+
+        chatMessageSink.append("One. \u0301x. Two + three").close();
+
+        assertEquals(List.of("One. \u0301x.", "Two", "+ three"), messages);
+    }
+
+    @Test
+    void shouldKeepEveryMessageWithinTheByteBudgetAndEveryGraphemeClusterIntact() {
+        Random random = new Random(13);
+        List<String> fragments = List.of(". ", " + ", "\nx", "points", " ", "✅", "❤️", "\uD83E\uDE99", "➡️", "é");
+        for (int round = 0; round < 20; round++) {
+            StringBuilder stringBuilder = new StringBuilder();
+            while (stringBuilder.length() < 20_000) {
+                stringBuilder.append(fragments.get(random.nextInt(fragments.size())));
+            }
+            String text = stringBuilder.toString();
+            messages.clear();
+            ChatMessageSink chatMessageSink = new ChatMessageSink(200, MessageLengthUnit.UTF_8_BYTES, messages::add);
+            int index = 0;
+            while (index < text.length()) {
+                int endOfPiece = Math.min(text.length(), index + random.nextInt(50));
+                chatMessageSink.append(text.subSequence(index, endOfPiece));
+                index = endOfPiece;
+            }
+            chatMessageSink.close();
+
+            for (String message : messages) {
+                assertTrue(message.getBytes(UTF_8).length <= 200);
+                assertFalse(message.startsWith("\uFE0F"));
+                assertFalse(!message.isEmpty() && Character.isLowSurrogate(message.charAt(0)));
+                assertFalse(!message.isEmpty() && Character.isHighSurrogate(message.charAt(message.length() - 1)));
+            }
+            assertEquals(text.replaceAll("\\s", ""), String.join("", messages).replaceAll("\\s", ""));
+        }
+    }
+
+    @Test
+    void shouldThrowIllegalStateExceptionWhenTextCannotBeSplit() {
+        ChatMessageSink chatMessageSink = new ChatMessageSink(10, messages::add);
+        chatMessageSink.append("Short. 12345678901234567890");
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, chatMessageSink::close);
+
+        assertEquals("Could not find any appropriate index to split the output", exception.getMessage());
+        assertEquals(List.of("Short."), messages);
+    }
+}
@@ -0,0 +1,138 @@
+package bingo.game.utility;
+
+import bingo.game.ships.MainArmamentType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactDataInputTest {
+
+    @Test
+    void readVarIntShouldReturnWrittenValues() throws IOException {
+        int[] values = {0, 1, 127, 128, 300, 16383, 16384, Integer.MAX_VALUE, -1, Integer.MIN_VALUE};
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        CompactDataOutput output = new CompactDataOutput(new DataOutputStream(byteArrayOutputStream));
+        for (int value : values) {
+            output.writeVarInt(value);
+        }
+        CompactDataInput input = createInput(byteArrayOutputStream.toByteArray());
+        for (int value : values) {
+            assertEquals(value, input.readVarInt());
+        }
+    }
+
+    @Test
+    void writeVarIntShouldUseOneByteForSmallValues() throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        CompactDataOutput output = new CompactDataOutput(new DataOutputStream(byteArrayOutputStream));
+        output.writeVarInt(127);
+        assertEquals(1, byteArrayOutputStream.size());
+        output.writeVarInt(128);
+        assertEquals(3, byteArrayOutputStream.size());
+    }
+
+    @Test
+    void readShouldReturnWrittenStringsLongsBooleansAndEnums() throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        CompactDataOutput output = new CompactDataOutput(new DataOutputStream(byteArrayOutputStream));
+        output.writeString("Shimakaze 島風");
+        output.writeString("");
+        output.writeLong(Long.MIN_VALUE);
+        output.writeBoolean(true);
+        output.writeBoolean(false);
+        output.writeEnum(MainArmamentType.AIRCRAFT);
+        CompactDataInput input = createInput(byteArrayOutputStream.toByteArray());
+        assertEquals("Shimakaze 島風", input.readString());
+        assertEquals("", input.readString());
+        assertEquals(Long.MIN_VALUE, input.readLong());
+        assertTrue(input.readBoolean());
+        assertFalse(input.readBoolean());
+        assertEquals(MainArmamentType.AIRCRAFT, input.readEnum(MainArmamentType.class));
+    }
+
+    @Test
+    void readVarIntShouldRejectOverlongEncoding() {
+        CompactDataInput input = createInput(new byte[]{-1, -1, -1, -1, -1, 1});
+        assertThrows(StreamCorruptedException.class, input::readVarInt);
+    }
+
+    @Test
+    void readVarIntShouldThrowEofExceptionForTruncatedInput() {
+        CompactDataInput input = createInput(new byte[]{-1});
+        assertThrows(EOFException.class, input::readVarInt);
+    }
+
+    @Test
+    void readSizeShouldRejectNegativeSize() {
+        CompactDataInput input = createInput(new byte[]{-1, -1, -1, -1, 15});
+        assertThrows(StreamCorruptedException.class, input::readSize);
+    }
+
+    @Test
+    void readVarIntShouldRejectBitsBeyondThirtyTwoBits() {
+        CompactDataInput input = createInput(new byte[]{-1, -1, -1, -1, 0x1F});
+        StreamCorruptedException exception = assertThrows(StreamCorruptedException.class, input::readVarInt);
+        assertEquals("Variable-length integer does not fit into 32 bits", exception.getMessage());
+    }
+
+    @Test
+    void readSizeShouldRejectSizeAboveMaximum() throws IOException {
+        CompactDataInput input = createInput(encodeVarInt(CompactDataInput.MAX_SIZE + 1));
+        StreamCorruptedException exception = assertThrows(StreamCorruptedException.class, input::readSize);
+        assertEquals(
+                "Invalid size %s, which must be between 0 and %s".formatted(
+                        CompactDataInput.MAX_SIZE + 1,
+                        CompactDataInput.MAX_SIZE),
+                exception.getMessage());
+        assertEquals(CompactDataInput.MAX_SIZE, createInput(encodeVarInt(CompactDataInput.MAX_SIZE)).readSize());
+    }
+
+    @Test
+    void readBytesShouldRejectLengthAboveMaximumBeforeAllocating() throws IOException {
+        CompactDataInput input = createInput(encodeVarInt(Integer.MAX_VALUE));
+        assertThrows(StreamCorruptedException.class, input::readBytes);
+    }
+
+    @Test
+    void readStringShouldRejectLengthAboveMaximum() throws IOException {
+        CompactDataInput input = createInput(encodeVarInt(CompactDataInput.MAX_STRING_LENGTH_IN_BYTES + 1));
+        assertThrows(StreamCorruptedException.class, input::readString);
+    }
+
+    @Test
+    void readStringShouldThrowEofExceptionForTruncatedString() throws IOException {
+        CompactDataInput input = createInput(encodeVarInt(10));
+        assertThrows(EOFException.class, input::readString);
+    }
+
+    @Test
+    void readEnumShouldRejectUnknownOrdinal() {
+        CompactDataInput input = createInput(new byte[]{(byte) MainArmamentType.values().length});
+        StreamCorruptedException exception =
+                assertThrows(StreamCorruptedException.class, () -> input.readEnum(MainArmamentType.class));
+        assertEquals(
+                "Invalid ordinal %s for MainArmamentType".formatted(MainArmamentType.values().length),
+                exception.getMessage());
+    }
+
+    private byte[] encodeVarInt(int value) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        new CompactDataOutput(new DataOutputStream(byteArrayOutputStream)).writeVarInt(value);
+        return byteArrayOutputStream.toByteArray();
+    }
+
+        private CompactDataInput createInput(byte[] bytes) {
+        return new CompactDataInput(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+}
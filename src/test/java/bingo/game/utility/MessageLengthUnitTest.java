@@ -0,0 +1,31 @@
+package bingo.game.utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MessageLengthUnitTest {
+    private static final List<String> TEXTS = List.of("", "Destroyed: 5", "é", "✅", "❤️", "🪙", "x➡️y🪙");
+
+    @Test
+    void utf16CodeUnitsShouldMatchTheLengthOfTheText() {
+        TEXTS.forEach(text -> assertEquals(text.length(), MessageLengthUnit.UTF_16_CODE_UNITS.getLengthOf(text)));
+    }
+
+    @Test
+    void codePointsShouldMatchTheNumberOfCodePoints() {
+        TEXTS.forEach(text -> assertEquals(
+                text.codePointCount(0, text.length()),
+                MessageLengthUnit.CODE_POINTS.getLengthOf(text)));
+    }
+
+    @Test
+    void utf8BytesShouldMatchTheLengthOfTheEncodedText() {
+        TEXTS.forEach(text -> assertEquals(
+                text.getBytes(UTF_8).length,
+                MessageLengthUnit.UTF_8_BYTES.getLengthOf(text)));
+    }
+}